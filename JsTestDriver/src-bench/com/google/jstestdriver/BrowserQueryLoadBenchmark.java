@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.jstestdriver.SlaveBrowser.BrowserState;
+import com.google.jstestdriver.browser.BrowserIdStrategy;
+import com.google.jstestdriver.config.ExecutionType;
+import com.google.jstestdriver.hooks.FileInfoScheme;
+import com.google.jstestdriver.hooks.ServerListener;
+import com.google.jstestdriver.model.NullPathPrefix;
+import com.google.jstestdriver.runner.RunnerType;
+import com.google.jstestdriver.server.JstdTestCaseStore;
+import com.google.jstestdriver.util.NullStopWatch;
+
+import org.joda.time.Instant;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load benchmark for the browser query round trip. Simulates a growing number
+ * of captured browsers polling /query for commands, and reports the number of
+ * server threads and the latency between queuing a command and the browser
+ * receiving it, for both the blocking and the async query connector.
+ *
+ * Not run as part of the test suite, run with:
+ * ant benchmark -Dbenchmark=com.google.jstestdriver.BrowserQueryLoadBenchmark [-Dbenchmark.args=rounds]
+ */
+public class BrowserQueryLoadBenchmark {
+
+  private static final int PORT = 4230;
+  private static final int[] BROWSER_COUNTS = {10, 20, 40, 80};
+
+  public static void main(String[] args) throws Exception {
+    int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+    System.out.println("mode      browsers  server-threads  avg-latency-ms  max-latency-ms");
+    for (int browsers : BROWSER_COUNTS) {
+      run(false, browsers, rounds);
+      run(true, browsers, rounds);
+    }
+  }
+
+  private static void run(boolean async, int browserCount, int rounds) throws Exception {
+    CapturedBrowsers browsers = new CapturedBrowsers(new BrowserIdStrategy(new TimeImpl()));
+    JsTestDriverServerImpl server = new JsTestDriverServerImpl(PORT, PORT + 1,
+        new JstdTestCaseStore(),
+        browsers,
+        SlaveBrowser.TIMEOUT,
+        new NullPathPrefix(),
+        Sets.<ServerListener>newHashSet(),
+        Collections.<FileInfoScheme>emptySet(),
+        ExecutionType.INTERACTIVE,
+        false,
+        async,
+        false);
+    server.start();
+
+    final List<SlaveBrowser> slaves = Lists.newArrayList();
+    for (int i = 0; i < browserCount; i++) {
+      SlaveBrowser slave = new SlaveBrowser(new TimeImpl(), String.valueOf(i), new BrowserInfo(),
+          -1, new NullPathPrefix(), "quirks", RunnerType.CLIENT, BrowserState.READY,
+          new Instant(0));
+      slave.setDequeueTimeout(2, TimeUnit.SECONDS);
+      browsers.addSlave(slave);
+      slaves.add(slave);
+    }
+
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final AtomicLong totalLatency = new AtomicLong();
+    final AtomicLong maxLatency = new AtomicLong();
+    final CountDownLatch received = new CountDownLatch(browserCount * rounds);
+    List<Thread> pollers = Lists.newArrayList();
+    for (final SlaveBrowser slave : slaves) {
+      Thread poller = new Thread() {
+        @Override
+        public void run() {
+          HttpServer client = new HttpServer(new NullStopWatch());
+          String url = "http://localhost:" + PORT + "/query/" + slave.getId();
+          while (running.get()) {
+            String command = client.post(url, ImmutableMap.of("done", "true"));
+            if (command.startsWith("{")) {
+              continue; // noop
+            }
+            long latency = System.nanoTime() - Long.parseLong(command);
+            totalLatency.addAndGet(latency);
+            long max;
+            while (latency > (max = maxLatency.get())
+                && !maxLatency.compareAndSet(max, latency)) {
+            }
+            received.countDown();
+          }
+        }
+      };
+      poller.setDaemon(true);
+      poller.start();
+      pollers.add(poller);
+    }
+
+    int peakThreads = 0;
+    for (int round = 0; round < rounds; round++) {
+      Thread.sleep(100); // let the browsers park.
+      peakThreads = Math.max(peakThreads, countServerThreads());
+      for (SlaveBrowser slave : slaves) {
+        slave.createCommand(String.valueOf(System.nanoTime()));
+      }
+    }
+    received.await(30, TimeUnit.SECONDS);
+    running.set(false);
+    for (SlaveBrowser slave : slaves) {
+      slave.createCommand("{}"); // release parked queries.
+    }
+    for (Thread poller : pollers) {
+      poller.join(5000);
+    }
+    server.stop();
+
+    long count = browserCount * rounds - received.getCount();
+    System.out.println(String.format("%-8s  %8d  %14d  %14.2f  %14.2f",
+        async ? "async" : "blocking",
+        browserCount,
+        peakThreads,
+        count == 0 ? 0 : totalLatency.get() / (count * 1e6),
+        maxLatency.get() / 1e6));
+  }
+
+  /** Counts the server threads held by a browser query waiting for a command. */
+  private static int countServerThreads() {
+    int count = 0;
+    for (StackTraceElement[] stack : Thread.getAllStackTraces().values()) {
+      for (StackTraceElement element : stack) {
+        if (element.getClassName().equals(SlaveBrowser.class.getName())
+            && element.getMethodName().equals("dequeueCommand")) {
+          count++;
+          break;
+        }
+      }
+    }
+    return count;
+  }
+}
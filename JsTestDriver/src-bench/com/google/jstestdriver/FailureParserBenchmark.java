@@ -0,0 +1,155 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.jstestdriver.FailureParser.Failure;
+import com.google.jstestdriver.Response.ResponseType;
+import com.google.jstestdriver.model.NullPathPrefix;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the client side cost of a mass failure run, where every test
+ * fails with the same deep stack: generating the results, then either
+ * reading only their outcome, as a summary does, or reading every failure,
+ * as the xml reports do. Reading every failure costs what a summary cost when
+ * the failures were parsed as the results arrived. The failure parsing is
+ * also compared with parsing that compiles the stack pattern on every call,
+ * as the parser used to.
+ *
+ * Not run as part of the test suite, run with:
+ * ant benchmark -Dbenchmark=com.google.jstestdriver.FailureParserBenchmark [-Dbenchmark.args=failures]
+ */
+public class FailureParserBenchmark {
+
+  private static final int RESULTS_PER_RESPONSE = 100;
+  private static final int STACK_DEPTH = 20;
+
+  public static void main(String[] args) throws Exception {
+    int failures = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+    Gson gson = new Gson();
+    StringBuilder stack = new StringBuilder();
+    for (int line = 0; line < STACK_DEPTH; line++) {
+      stack.append(line % 2 == 0
+          ? "at http://localhost:9876/static/runner.js:" + line
+          : "at http://localhost:9876/test/src/widget.js:" + line).append('\n');
+    }
+    String failure = "[{\"name\":\"TypeError\",\"message\":\"dependency is undefined\","
+        + "\"stack\":" + gson.toJson(stack.toString()) + "}]";
+    List<Response> responses = Lists.newArrayList();
+    for (int i = 0; i < failures / RESULTS_PER_RESPONSE; i++) {
+      List<TestResult> results = Lists.newArrayList();
+      for (int j = 0; j < RESULTS_PER_RESPONSE; j++) {
+        results.add(new TestResult(null, "error", failure, "", "TestCase" + i, "test" + j, 1f));
+      }
+      Response response = new Response();
+      response.setType(ResponseType.TEST_RESULT.name());
+      response.setResponse(gson.toJson(results));
+      response.setBrowser(new BrowserInfo());
+      responses.add(response);
+    }
+    FailureParser parser = new FailureParser(new NullPathPrefix());
+    TestResultGenerator generator = new TestResultGenerator(parser);
+
+    System.out.println(failures + " failures with " + STACK_DEPTH + " line stacks");
+    System.out.println("run                 ms     MB allocated");
+    for (int pass = 0; pass < 3; pass++) { // the first pass warms up.
+      System.gc();
+      long allocatedBefore = allocatedBytes();
+      long start = System.nanoTime();
+      int failed = 0;
+      for (Response response : responses) {
+        for (TestResult result : generator.getTestResults(response)) {
+          failed += result.getResult() == TestResult.Result.passed ? 0 : 1;
+        }
+      }
+      print(pass, "summary, lazy", start, allocatedBefore);
+
+      System.gc();
+      allocatedBefore = allocatedBytes();
+      start = System.nanoTime();
+      for (Response response : responses) {
+        for (TestResult result : generator.getTestResults(response)) {
+          failed += result.getParsedMessage().length() + result.getStack().length();
+        }
+      }
+      print(pass, "summary, eager", start, allocatedBefore);
+
+      System.gc();
+      allocatedBefore = allocatedBytes();
+      start = System.nanoTime();
+      for (int i = 0; i < failures; i++) {
+        failed += parser.parse(failure).size();
+      }
+      print(pass, "parse", start, allocatedBefore);
+
+      System.gc();
+      allocatedBefore = allocatedBytes();
+      start = System.nanoTime();
+      for (int i = 0; i < failures; i++) {
+        failed += parseCompilingEachTime(gson, failure);
+      }
+      print(pass, "parse, compiling", start, allocatedBefore);
+      if (failed == 0) {
+        System.out.println(); // keeps the work from being optimized away.
+      }
+    }
+  }
+
+  /** How the parser parsed failures, before caching its pattern. */
+  private static int parseCompilingEachTime(Gson gson, String failure) {
+    Pattern pattern = Pattern.compile("http://[^/]*/*" + "/static/", Pattern.CASE_INSENSITIVE);
+    Collection<JsException> exceptions = gson.fromJson(failure,
+        new TypeToken<Collection<JsException>>() {}.getType());
+    List<Failure> failures = Lists.newArrayListWithExpectedSize(exceptions.size());
+    for (JsException exception : exceptions) {
+      String message = String.format("%s: %s", exception.getName(), exception.getMessage());
+      List<String> stack = Lists.newLinkedList();
+      for (String l : exception.getStack().split("\n")) {
+        if (!pattern.matcher(l).find()) {
+          stack.add(l);
+        }
+      }
+      failures.add(new Failure(message, stack));
+    }
+    return failures.size();
+  }
+
+  private static void print(int pass, String name, long start, long allocatedBefore) {
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedBytes() - allocatedBefore;
+    if (pass > 0) {
+      System.out.println(String.format("%-17s %6d  %8.1f",
+          name, elapsed / 1000000, allocated / (1024.0 * 1024.0)));
+    }
+  }
+
+  /** Bytes allocated by the current thread, where the JVM supports it. */
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(
+          Thread.currentThread().getId());
+    }
+    return 0;
+  }
+}
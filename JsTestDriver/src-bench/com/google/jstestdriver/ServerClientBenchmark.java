@@ -0,0 +1,111 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.google.jstestdriver.browser.BrowserIdStrategy;
+import com.google.jstestdriver.config.ExecutionType;
+import com.google.jstestdriver.hooks.FileInfoScheme;
+import com.google.jstestdriver.hooks.ServerListener;
+import com.google.jstestdriver.model.NullPathPrefix;
+import com.google.jstestdriver.server.JstdTestCaseStore;
+import com.google.jstestdriver.util.NullStopWatch;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Compares the client side cost of talking to the server through
+ * {@link HttpServer} and {@link PooledHttpServer}: requests per second and
+ * bytes allocated per request, for the small gets and posts a test run is made
+ * of (heartbeats, browser listings) and for a file sized post
+ * (the heartbeat handler ignores the padding).
+ *
+ * Not run as part of the test suite, run with:
+ * ant benchmark -Dbenchmark=com.google.jstestdriver.ServerClientBenchmark [-Dbenchmark.args=requests]
+ */
+public class ServerClientBenchmark {
+
+  private static final int PORT = 4234;
+  private static final String BASE_URL = "http://localhost:" + PORT;
+
+  public static void main(String[] args) throws Exception {
+    int requests = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    JsTestDriverServerImpl server = new JsTestDriverServerImpl(PORT, PORT + 1,
+        new JstdTestCaseStore(),
+        new CapturedBrowsers(new BrowserIdStrategy(new TimeImpl())),
+        SlaveBrowser.TIMEOUT,
+        new NullPathPrefix(),
+        Sets.<ServerListener>newHashSet(),
+        Collections.<FileInfoScheme>emptySet(),
+        ExecutionType.INTERACTIVE,
+        false);
+    server.start();
+    try {
+      Map<String, Server> clients = ImmutableMap.<String, Server>of(
+          "http", new HttpServer(new NullStopWatch()),
+          "pooled", new PooledHttpServer(new NullStopWatch(), false),
+          "pooled+gzip", new PooledHttpServer(new NullStopWatch(), true));
+      StringBuilder file = new StringBuilder();
+      while (file.length() < 64 * 1024) {
+        file.append("TestCase('Test', {testA: function() { assertTrue(true); }});\n");
+      }
+      String data = file.toString();
+
+      System.out.println("client       request    req/sec   bytes/req");
+      for (int pass = 0; pass < 2; pass++) { // the first pass warms up.
+        for (Map.Entry<String, Server> client : clients.entrySet()) {
+          run(pass, client.getKey(), "fetch", client.getValue(), requests, null);
+          run(pass, client.getKey(), "post", client.getValue(), requests, "");
+          run(pass, client.getKey(), "post-64k", client.getValue(), requests / 10, data);
+        }
+      }
+    } finally {
+      server.stop();
+    }
+  }
+
+  private static void run(int pass, String name, String request, Server client, int requests,
+      String data) {
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < requests; i++) {
+      if (data == null) {
+        client.fetch(BASE_URL + "/hello");
+      } else {
+        client.post(BASE_URL + "/heartbeat", ImmutableMap.of("id", "1", "data", data));
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedBytes() - allocatedBefore;
+    if (pass > 0) {
+      System.out.println(String.format("%-11s  %-8s  %8.0f  %10d",
+          name, request, requests / (elapsed / 1e9), allocated / requests));
+    }
+  }
+
+  /** Bytes allocated by the current thread, where the JVM supports it. */
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(
+          Thread.currentThread().getId());
+    }
+    return 0;
+  }
+}
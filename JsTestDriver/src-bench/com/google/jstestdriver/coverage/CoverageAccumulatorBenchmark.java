@@ -0,0 +1,147 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.coverage;
+
+import com.google.common.collect.Lists;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Compares the {@link CoverageAccumulator} with the queue of
+ * {@link FileCoverage}s it replaced, aggregated when written: time and bytes
+ * allocated to add the coverage of every test and write it.
+ *
+ * Not run as part of the test suite, run with:
+ * ant benchmark -Dbenchmark=com.google.jstestdriver.coverage.CoverageAccumulatorBenchmark [-Dbenchmark.args=tests]
+ */
+public class CoverageAccumulatorBenchmark {
+
+  private static final int FILES = 20;
+  private static final int LINES = 100;
+
+  public static void main(String[] args) {
+    int tests = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    // every test reports every file, as the browser does.
+    List<List<FileCoverage>> results = Lists.newArrayList();
+    for (int test = 0; test < tests; test++) {
+      List<FileCoverage> result = Lists.newArrayList();
+      for (int fileId = 0; fileId < FILES; fileId++) {
+        List<CoveredLine> lines = Lists.newLinkedList();
+        for (int line = 1; line <= LINES; line++) {
+          lines.add(new CoveredLine(line, (test + line) % 3));
+        }
+        result.add(new FileCoverage(fileId, lines));
+      }
+      results.add(result);
+    }
+    System.out.println(tests + " tests of " + FILES + " files of " + LINES + " lines");
+    System.out.println("accumulator  add ms  write ms  MB allocated");
+    for (int pass = 0; pass < 2; pass++) { // the first pass warms up.
+      run(pass, "queue", new QueueAccumulator(), results);
+      run(pass, "dense", new DenseAccumulator(), results);
+    }
+  }
+
+  private static void run(int pass, String name, Accumulator accumulator,
+      List<List<FileCoverage>> results) {
+    System.gc();
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+    for (List<FileCoverage> result : results) {
+      accumulator.add(result);
+    }
+    long added = System.nanoTime();
+    accumulator.write(new NullCoverageWriter());
+    long written = System.nanoTime();
+    long allocated = allocatedBytes() - allocatedBefore;
+    if (pass > 0) {
+      System.out.println(String.format("%-11s  %6d  %8d  %12.1f", name,
+          (added - start) / 1000000, (written - added) / 1000000, allocated / 1e6));
+    }
+  }
+
+  /** Bytes allocated by the current thread, where the JVM supports it. */
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(
+          Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  private interface Accumulator {
+    void add(Collection<FileCoverage> coverage);
+    void write(CoverageWriter writer);
+  }
+
+  private static class DenseAccumulator implements Accumulator {
+    private final CoverageAccumulator accumulator = new CoverageAccumulator();
+
+    public void add(Collection<FileCoverage> coverage) {
+      accumulator.add("browser", coverage);
+    }
+
+    public void write(CoverageWriter writer) {
+      accumulator.write(writer);
+    }
+  }
+
+  /** The accumulator as it was: everything queued, and aggregated when written. */
+  private static class QueueAccumulator implements Accumulator {
+    private final ConcurrentLinkedQueue<FileCoverage> fileCoverages =
+        new ConcurrentLinkedQueue<FileCoverage>();
+
+    public void add(Collection<FileCoverage> coverage) {
+      fileCoverages.addAll(coverage);
+    }
+
+    public void write(CoverageWriter writer) {
+      List<FileCoverage> rawCoverage = new LinkedList<FileCoverage>(fileCoverages);
+      Collections.sort(rawCoverage);
+      FileCoverage last = rawCoverage.get(0);
+      for (FileCoverage fileCoverage : rawCoverage.subList(1, rawCoverage.size())) {
+        FileCoverage aggregate = last.aggegrate(fileCoverage);
+        if (aggregate == null) {
+          last.write(writer);
+          last = fileCoverage;
+        } else {
+          last = aggregate;
+        }
+      }
+      last.write(writer);
+    }
+  }
+
+  private static class NullCoverageWriter implements CoverageWriter {
+    public void writeRecordStart(Integer fileId) {
+    }
+
+    public void writeRecordEnd() {
+    }
+
+    public void writeCoverage(int lineNumber, int executedNumber) {
+    }
+
+    public void flush() {
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.gson.Gson;
+import com.google.jstestdriver.BrowserResponseQueue.LogOverflow;
+import com.google.jstestdriver.Response.ResponseType;
+import com.google.jstestdriver.protocol.BrowserLog;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.TimeUnit;
+
+public class BrowserResponseQueueTest extends TestCase {
+
+  public void testWaitsForTheClientToMakeRoom() throws Exception {
+    final BrowserResponseQueue queue = new BrowserResponseQueue(1, LogOverflow.BLOCK, 10000);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+    Thread client = new Thread() {
+      @Override
+      public void run() {
+        try {
+          Thread.sleep(50);
+          queue.poll(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          // ends the test.
+        }
+      }
+    };
+    client.start();
+    long start = System.currentTimeMillis();
+
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+    assertTrue(System.currentTimeMillis() - start >= 40);
+    assertEquals(1, queue.size());
+    client.join();
+  }
+
+  public void testRefusesWhenTheClientNeverCollects() throws Exception {
+    BrowserResponseQueue queue = new BrowserResponseQueue(1, LogOverflow.BLOCK, 10);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+
+    assertFalse(queue.offer(message(ResponseType.TEST_RESULT)));
+    assertEquals(1, queue.size());
+  }
+
+  public void testDropsLogsWhenFull() throws Exception {
+    BrowserResponseQueue queue = new BrowserResponseQueue(1, LogOverflow.DROP, 10000);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+
+    // dropped, not refused: the browser doesn't post them again.
+    assertTrue(queue.offer(message(ResponseType.LOG)));
+    assertTrue(queue.offer(message(ResponseType.LOG)));
+    assertEquals(1, queue.size());
+    assertEquals(2, queue.getDroppedLogCount());
+    queue.poll(0, TimeUnit.SECONDS);
+    assertTrue(queue.offer(message(ResponseType.LOG)));
+    assertEquals(ResponseType.LOG, queue.poll(0, TimeUnit.SECONDS).getResponse().getResponseType());
+  }
+
+  public void testCoalescesDroppedLogsOnceThereIsRoom() throws Exception {
+    BrowserResponseQueue queue = new BrowserResponseQueue(2, LogOverflow.COALESCE, 10000);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+    assertTrue(queue.offer(message(ResponseType.LOG)));
+    for (int i = 0; i < 5; i++) {
+      assertTrue(queue.offer(message(ResponseType.LOG)));
+    }
+    queue.poll(0, TimeUnit.SECONDS);
+    queue.poll(0, TimeUnit.SECONDS);
+
+    assertTrue(queue.offer(new StreamMessage(true, response(ResponseType.TEST_RESULT))));
+    Response coalesced = queue.poll(0, TimeUnit.SECONDS).getResponse();
+    assertEquals(ResponseType.LOG, coalesced.getResponseType());
+    BrowserLog log = coalesced.parseResponse(new Gson(), coalesced.getGsonType());
+    assertTrue(log.getMessage(), log.getMessage().contains("5 log messages were dropped"));
+    assertTrue(queue.poll(0, TimeUnit.SECONDS).isLast());
+  }
+
+  public void testTheLastResponseWaitsEvenWhenItIsALog() throws Exception {
+    BrowserResponseQueue queue = new BrowserResponseQueue(1, LogOverflow.DROP, 20);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+    long start = System.currentTimeMillis();
+
+    assertTrue(queue.offer(new StreamMessage(true, response(ResponseType.LOG))));
+    assertTrue(System.currentTimeMillis() - start >= 15);
+    assertEquals(0, queue.getDroppedLogCount());
+  }
+
+  public void testTheLastResponseReachesTheReaderWhenTheQueueIsFull() throws Exception {
+    BrowserResponseQueue queue = new BrowserResponseQueue(1, LogOverflow.BLOCK, 10);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+
+    assertTrue(queue.offer(new StreamMessage(true, response(ResponseType.TEST_RESULT))));
+
+    assertEquals(2, queue.size());
+    assertFalse(queue.poll(0, TimeUnit.SECONDS).isLast());
+    StreamMessage last = queue.poll(0, TimeUnit.SECONDS);
+    assertTrue(last.isLast());
+    assertEquals(ResponseType.TEST_RESULT, last.getResponse().getResponseType());
+  }
+
+  public void testARefusedResponseCanBeOfferedAgain() throws Exception {
+    BrowserResponseQueue queue = new BrowserResponseQueue(1, LogOverflow.BLOCK, 10);
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+    assertFalse(queue.offer(message(ResponseType.TEST_RESULT)));
+    queue.poll(0, TimeUnit.SECONDS);
+
+    assertTrue(queue.offer(message(ResponseType.TEST_RESULT)));
+    assertTrue(queue.offer(new StreamMessage(true, response(ResponseType.TEST_RESULT))));
+    assertEquals(ResponseType.TEST_RESULT,
+        queue.poll(0, TimeUnit.SECONDS).getResponse().getResponseType());
+    assertTrue(queue.poll(0, TimeUnit.SECONDS).isLast());
+  }
+
+  private StreamMessage message(ResponseType type) {
+    return new StreamMessage(false, response(type));
+  }
+
+  private Response response(ResponseType type) {
+    return new Response(type.name(), "{}", new BrowserInfo(), "", 0);
+  }
+}
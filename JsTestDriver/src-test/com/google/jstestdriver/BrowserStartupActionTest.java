@@ -92,6 +92,16 @@ public class BrowserStartupActionTest extends TestCase {
         JstdTestCase testCase) {
     }
 
+    public boolean awaitBrowserReady(String browserId, long timeoutMillis) {
+      for (BrowserInfo info : capturedBrowsers) {
+        if (browserId.equals(String.valueOf(info.getId()))
+            && info.serverReceivedHeartbeat() && info.browserReady()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
     public String getNextBrowserId() {
       return nextId;
     }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Lists;
+import com.google.gson.JsonElement;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+import java.util.Map;
+
+public class BundleLineMapperTest extends TestCase {
+
+  private static final String MAP = "{\"files\":["
+      + "{\"fileSrc\":\"/test/a.js\",\"start\":2,\"lines\":10},"
+      + "{\"fileSrc\":\"/test/b.js\",\"start\":14,\"lines\":5}]}";
+
+  public void testMapsBundleLines() throws Exception {
+    FakeServer server = new FakeServer(MAP);
+    BundleLineMapper mapper = new BundleLineMapper(server);
+    mapper.prefetch(Lists.newArrayList(
+        failure("at foo (http://localhost:9876/test/.bundle/id/4.js:4)"),
+        failure("bar@http://localhost:9876/test/.bundle/id/4.js:14")));
+
+    assertEquals("at foo (http://localhost:9876/test/a.js:3)",
+        mapper.map("at foo (http://localhost:9876/test/.bundle/id/4.js:4)"));
+    assertEquals("bar@http://localhost:9876/test/b.js:1",
+        mapper.map("bar@http://localhost:9876/test/.bundle/id/4.js:14"));
+    assertEquals(Lists.newArrayList("http://localhost:9876/test/.bundle/id/4.json"),
+        server.fetched);
+  }
+
+  public void testLeavesOtherLinesAlone() throws Exception {
+    BundleLineMapper mapper = new BundleLineMapper(new FakeServer(MAP));
+    mapper.prefetch(Lists.newArrayList(failure("at http://localhost:9876/test/.bundle/id/4.js:1")));
+
+    assertEquals("at http://localhost:9876/test/c.js:4",
+        mapper.map("at http://localhost:9876/test/c.js:4"));
+    // the tracker call after a.js
+    assertEquals("at http://localhost:9876/test/.bundle/id/4.js:12",
+        mapper.map("at http://localhost:9876/test/.bundle/id/4.js:12"));
+  }
+
+  public void testMappingNeverFetches() throws Exception {
+    FakeServer server = new FakeServer(MAP);
+    BundleLineMapper mapper = new BundleLineMapper(server);
+
+    assertEquals("at http://localhost:9876/test/.bundle/id/4.js:4",
+        mapper.map("at http://localhost:9876/test/.bundle/id/4.js:4"));
+    assertTrue(server.fetched.isEmpty());
+  }
+
+  public void testMissingMapIsNotKept() throws Exception {
+    FakeServer server = new FakeServer(null);
+    BundleLineMapper mapper = new BundleLineMapper(server);
+    mapper.prefetch(Lists.newArrayList(
+        failure("at http://localhost:9876/test/.bundle/id/4.js:4"),
+        failure("at http://localhost:9876/test/.bundle/id/4.js:5")));
+
+    assertEquals("at http://localhost:9876/test/.bundle/id/4.js:4",
+        mapper.map("at http://localhost:9876/test/.bundle/id/4.js:4"));
+    assertEquals(1, server.fetched.size());
+
+    mapper.prefetch(Lists.newArrayList(failure("at http://localhost:9876/test/.bundle/id/4.js:4")));
+    assertEquals(2, server.fetched.size());
+  }
+
+  public void testKeepsOnlyTheMostRecentMaps() throws Exception {
+    FakeServer server = new FakeServer(MAP);
+    BundleLineMapper mapper = new BundleLineMapper(server);
+    for (int version = 0; version <= BundleLineMapper.MAX_MAPS; version++) {
+      mapper.prefetch(Lists.newArrayList(
+          failure("at http://localhost:9876/test/.bundle/id/" + version + ".js:4")));
+    }
+
+    assertEquals("at http://localhost:9876/test/.bundle/id/0.js:4",
+        mapper.map("at http://localhost:9876/test/.bundle/id/0.js:4"));
+    assertEquals("at http://localhost:9876/test/a.js:3",
+        mapper.map("at http://localhost:9876/test/.bundle/id/1.js:4"));
+  }
+
+  /** A raw failure, as the browser sends it. */
+  private String failure(String stack) {
+    return "[{\"name\":\"Error\",\"message\":\"failed\",\"stack\":\"" + stack + "\"}]";
+  }
+
+  private static class FakeServer implements Server {
+    private final String map;
+    final List<String> fetched = Lists.newArrayList();
+
+    FakeServer(String map) {
+      this.map = map;
+    }
+
+    public String fetch(String url) {
+      fetched.add(url);
+      if (map == null) {
+        throw new RuntimeException("404");
+      }
+      return map;
+    }
+
+    public void fetchLines(String url, LineProcessor processor) {
+      throw new UnsupportedOperationException();
+    }
+
+    public String post(String url, Map<String, String> params) {
+      throw new UnsupportedOperationException();
+    }
+
+    public String postJson(String url, JsonElement json) {
+      throw new UnsupportedOperationException();
+    }
+
+    public String startSession(String baseUrl, String id) {
+      throw new UnsupportedOperationException();
+    }
+
+    public void stopSession(String baseUrl, String id, String sessionId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+public class CachingFileReaderTest extends TestCase {
+
+  private static final long MODIFIED = 1000000;
+
+  private File file;
+  private int reads;
+  private final FileReader countingReader = new FileReader() {
+    public String readFile(String path) {
+      reads++;
+      return new SimpleFileReader().readFile(path);
+    }
+  };
+
+  @Override
+  protected void setUp() throws Exception {
+    file = File.createTempFile("cached", ".js");
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    file.delete();
+  }
+
+  public void testUnchangedFilesAreReadOnce() throws Exception {
+    write("var a;", MODIFIED);
+    CachingFileReader reader = new CachingFileReader(countingReader);
+
+    assertEquals("var a;", reader.readFile(file.getPath()));
+    assertEquals("var a;", reader.readFile(file.getPath()));
+    assertEquals(1, reads);
+  }
+
+  public void testChangedFilesAreReadAgain() throws Exception {
+    write("var a;", MODIFIED);
+    CachingFileReader reader = new CachingFileReader(countingReader);
+    reader.readFile(file.getPath());
+
+    write("var b;", MODIFIED + 1000);
+    assertEquals("var b;", reader.readFile(file.getPath()));
+    assertEquals(2, reads);
+  }
+
+  public void testRecentlyModifiedFilesAreNotKept() throws Exception {
+    write("var a;", System.currentTimeMillis());
+    CachingFileReader reader = new CachingFileReader(countingReader);
+    reader.readFile(file.getPath());
+    reader.readFile(file.getPath());
+
+    assertEquals(2, reads);
+  }
+
+  private void write(String content, long modified) throws IOException {
+    FileWriter writer = new FileWriter(file);
+    try {
+      writer.write(content);
+    } finally {
+      writer.close();
+    }
+    file.setLastModified(modified);
+  }
+}
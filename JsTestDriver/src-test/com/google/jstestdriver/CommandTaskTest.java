@@ -60,7 +60,7 @@ public class CommandTaskTest extends TestCase {
     browserInfo.setId(Long.parseLong(id));
     browserInfo.setUploadSize(10);
     server.expect(baseUrl + "cmd?listBrowsers", gson.toJson(Lists.newArrayList(browserInfo)));
-    server.expect(baseUrl + "cmd?id=1", "{\"response\":{\"response\":\"response\","
+    server.expect(baseUrl + "cmd?id=1&stream=true&protocol=2", "{\"response\":{\"response\":\"response\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error\",\"executionTime\":123},"
         + "\"last\":true}");
 
@@ -94,7 +94,7 @@ public class CommandTaskTest extends TestCase {
     server.expect(baseUrl + "fileSet?POST?{id=1, data=" + gson.toJson(testCase)
       + ", action=browserFileCheck}", gson.toJson(new BrowserFileSet()));
     server.expect(baseUrl + "cmd?POST?{data={mooh}, id=1}", "");
-    server.expect(baseUrl + "cmd?id=1", "{\"response\":{\"response\":\"response\","
+    server.expect(baseUrl + "cmd?id=1&stream=true&protocol=2", "{\"response\":{\"response\":\"response\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error\",\"executionTime\":123},"
         + "\"last\":true}");
     BrowserInfo browserInfo = new BrowserInfo();
@@ -159,7 +159,7 @@ public class CommandTaskTest extends TestCase {
     resetParams.put("id", "1");
     resetParams.put("data", gson.toJson(cmd));
 
-    server.expect(baseUrl + "cmd?id=1", "{\"response\":{\"response\":\"response\","
+    server.expect(baseUrl + "cmd?id=1&stream=true&protocol=2", "{\"response\":{\"response\":\"response\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error\",\"executionTime\":123},"
         + "\"last\":true}");
     server.expect(
@@ -175,10 +175,10 @@ public class CommandTaskTest extends TestCase {
     server.expect(url, "{\"response\":{\"response\":\"response\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error\",\"executionTime\":123},"
         + "\"last\":true}");
-    server.expect(baseUrl + "cmd?id=1",
+    server.expect(baseUrl + "cmd?id=1&stream=true&protocol=2",
         "{\"response\":" + createLoadedFilesResponseString() + ", \"last\":true}");
     server.expect(baseUrl + "cmd?POST?{data={mooh}, id=1}", "");
-    server.expect(baseUrl + "cmd?id=1", "{\"response\":{\"response\":\"response\","
+    server.expect(baseUrl + "cmd?id=1&stream=true&protocol=2", "{\"response\":{\"response\":\"response\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error\",\"executionTime\":123},"
         + "\"last\":true}");
     Map<String, String> params = new LinkedHashMap<String, String>();
@@ -237,6 +237,7 @@ public class CommandTaskTest extends TestCase {
             server,
             baseUrl,
             fileLoader,
+            new SimpleFileReader(),
             filter,
             schemes,
             prefix));
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Lists;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+public class DirectoryIndexTest extends TestCase {
+
+  private static final long MODIFIED = 1000000;
+
+  private File root;
+
+  @Override
+  protected void setUp() throws Exception {
+    root = File.createTempFile("index", "JsTestDriver");
+    root.delete();
+    root.mkdir();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(root);
+  }
+
+  public void testFindsEverythingUnderTheRoot() throws Exception {
+    createFile("a.js");
+    createFile("sub/b.js");
+    createFile("sub/deeper/c.js");
+
+    assertEquals(Lists.newArrayList("/a.js", "/sub", "/sub/b.js", "/sub/deeper",
+        "/sub/deeper/c.js"), sorted(new DirectoryIndex(1).find(root)));
+  }
+
+  public void testMissingRootIsEmpty() throws Exception {
+    assertTrue(new DirectoryIndex(1).find(new File(root, "missing")).isEmpty());
+  }
+
+  public void testChangesAreFoundAfterRefresh() throws Exception {
+    createFile("a.js");
+    DirectoryIndex index = new DirectoryIndex(1);
+    index.find(root);
+    createFile("b.js");
+    assertEquals(Lists.newArrayList("/a.js"), sorted(index.find(root)));
+
+    index.refresh();
+    assertEquals(Lists.newArrayList("/a.js", "/b.js"), sorted(index.find(root)));
+  }
+
+  public void testUnchangedDirectoriesAreNotListedAgain() throws Exception {
+    createFile("sub/a.js");
+    File sub = new File(root, "sub");
+    sub.setLastModified(MODIFIED);
+    DirectoryIndex index = new DirectoryIndex(1);
+    index.find(root);
+
+    // a change the modification time doesn't show.
+    createFile("sub/b.js");
+    sub.setLastModified(MODIFIED);
+    index.refresh();
+    assertEquals(Lists.newArrayList("/sub", "/sub/a.js"), sorted(index.find(root)));
+  }
+
+  public void testWideTreesAreListedInParallel() throws Exception {
+    for (int i = 0; i < DirectoryIndex.PARALLEL_THRESHOLD * 2; i++) {
+      createFile("dir" + i + "/nested/file" + i + ".js");
+    }
+    assertEquals(sorted(new DirectoryIndex(1).find(root)),
+        sorted(new DirectoryIndex(4).find(root)));
+    assertEquals(DirectoryIndex.PARALLEL_THRESHOLD * 6, new DirectoryIndex(4).find(root).size());
+  }
+
+  private void createFile(String path) throws IOException {
+    File file = new File(root, path);
+    file.getParentFile().mkdirs();
+    file.createNewFile();
+  }
+
+  private List<String> sorted(List<String> paths) {
+    List<String> sorted = Lists.newArrayList(paths);
+    Collections.sort(sorted);
+    return sorted;
+  }
+
+  private void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
@@ -15,6 +15,8 @@
  */
 package com.google.jstestdriver;
 
+import com.google.jstestdriver.output.TestResultHolder;
+
 import junit.framework.TestCase;
 
 /**
@@ -36,4 +38,40 @@ public class FailureCheckerActionTest extends TestCase {
       // success
     }
   }
+
+  public void testBrowserWithoutTestsFailsWhenResultsAreNotRetained() throws Exception {
+    BrowserInfo ran = browser(1L);
+    BrowserInfo idle = browser(2L);
+    TestResultHolder holder = new TestResultHolder(false);
+    holder.onFileLoad(ran, new FileResult());
+    holder.onFileLoad(idle, new FileResult());
+    holder.onTestComplete(new TestResult(ran, "passed", "", "", "testCase", "testName", 1));
+    FailureCheckerAction action = new FailureCheckerAction(new FailureAccumulator(), holder);
+
+    try {
+      action.run(null);
+      fail("Expected an exception to be thrown");
+    } catch (FailureException e) {
+      assertEquals(idle + " had no tests executed.", e.getMessage());
+    }
+  }
+
+  public void testBrowserWithoutResultsPassesWhenResultsAreRetained() throws Exception {
+    BrowserInfo ran = browser(1L);
+    BrowserInfo loadedOnly = browser(2L);
+    TestResultHolder holder = new TestResultHolder();
+    holder.onFileLoad(ran, new FileResult());
+    holder.onFileLoad(loadedOnly, new FileResult());
+    holder.onTestComplete(new TestResult(ran, "passed", "", "", "testCase", "testName", 1));
+    FailureCheckerAction action = new FailureCheckerAction(new FailureAccumulator(), holder);
+
+    assertNull(action.run(null));
+  }
+
+  private BrowserInfo browser(Long id) {
+    BrowserInfo browser = new BrowserInfo();
+    browser.setId(id);
+    browser.setName("browser" + id);
+    return browser;
+  }
 }
@@ -104,6 +104,16 @@ final public class FakeJsTestDriverClient implements JsTestDriverClient {
     }
   }
 
+  public boolean awaitBrowserReady(String browserId, long timeoutMillis) {
+    for (BrowserInfo info : browsers) {
+      if (browserId.equals(String.valueOf(info.getId()))
+          && info.serverReceivedHeartbeat() && info.browserReady()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public String getNextBrowserId() {
     return null;
   }
@@ -47,4 +47,30 @@ public class FileInfoTest extends TestCase {
     assertTrue("A different length means replace", longer.shouldReplaceWith(shorter));
     */
   }
+
+  public void testShouldReplaceWithDigest() throws Exception {
+    FileInfo oldFile =
+        new FileInfo("a/b/c/file.js", 0, -1, false, false, null, "a/b/c/file.js", "abc");
+    FileInfo touched =
+        new FileInfo("a/b/c/file.js", 10, -1, false, false, null, "a/b/c/file.js", "abc");
+    FileInfo changed =
+        new FileInfo("a/b/c/file.js", 0, -1, false, false, null, "a/b/c/file.js", "def");
+
+    assertFalse("Same digest means noreplace", oldFile.shouldReplaceWith(touched));
+    assertTrue("A different digest means replace", oldFile.shouldReplaceWith(changed));
+    assertTrue("Without a digest the timestamp decides",
+        oldFile.withDigest(null).shouldReplaceWith(touched));
+  }
+
+  public void testDigest() throws Exception {
+    assertEquals("da39a3ee5e6b4b0d3255bfef95601890afd80709", FileInfo.digest(""));
+    FileInfo file = new FileInfo("a.js", 0, -1, false, false, null, "a.js");
+    FileInfo digested = file.digestFile(new FileReader() {
+      public String readFile(String path) {
+        return "var a;";
+      }
+    });
+    assertEquals(FileInfo.digest("var a;"), digested.getDigest());
+    assertFalse("The content is not kept", digested.isLoaded());
+  }
 }
@@ -33,6 +33,7 @@ import junit.framework.TestCase;
 import org.joda.time.Instant;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -77,6 +78,36 @@ public class FileSetRequestHandlerTest extends TestCase {
             browserFileCheck.handle(browser, gson.toJson(testCaseToRun)));
   }
 
+  public void testBrowserCheckOfLoadedFilesIsEmpty() throws Exception {
+    final BrowserInfo browserInfo = new BrowserInfo();
+    browserInfo.setName("firefox");
+    final SlaveBrowser browser =
+        new SlaveBrowser(new MockTime(0), "1", browserInfo, 100, null, CaptureHandler.QUIRKS,
+            RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    List<FileInfo> files = Lists.newArrayList();
+    for (int i = 0; i < 100; i++) {
+      files.add(new FileInfo("f" + i + ".js", 1, -1, false, false, null, "f" + i + ".js",
+          "digest" + i));
+    }
+    browser.addFiles(files, new LoadedFiles());
+    Gson gson = new Gson();
+    final BrowserFileCheck browserFileCheck = new BrowserFileCheck(gson);
+
+    JstdTestCase unchanged = new JstdTestCase(files, Collections.<FileInfo>emptyList(),
+        Collections.<FileInfo>emptyList(), "one");
+    assertEquals(new BrowserFileSet(),
+        browserFileCheck.handle(browser, gson.toJson(unchanged)));
+
+    List<FileInfo> changed = Lists.newArrayList(files.subList(0, 50));
+    FileInfo edited = new FileInfo("f7.js", 1, -1, false, false, null, "f7.js", "edited");
+    changed.set(7, edited);
+    JstdTestCase smaller = new JstdTestCase(changed, Collections.<FileInfo>emptyList(),
+        Collections.<FileInfo>emptyList(), "one");
+    BrowserFileSet delta = browserFileCheck.handle(browser, gson.toJson(smaller));
+    assertEquals(Lists.newArrayList(edited), delta.getFilesToUpload());
+    assertEquals(files.subList(50, 100), delta.getExtraFiles());
+  }
+
   public void testUploadFilesToServer() throws Exception {
     final String fileOne = "one.js";
     final String fileTwo = "two.js";
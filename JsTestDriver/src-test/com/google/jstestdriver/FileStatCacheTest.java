@@ -0,0 +1,165 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Lists;
+import com.google.jstestdriver.hooks.FileInfoScheme;
+import com.google.jstestdriver.model.JstdTestCase;
+import com.google.jstestdriver.model.NullPathPrefix;
+import com.google.jstestdriver.util.NullStopWatch;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class FileStatCacheTest extends TestCase {
+
+  private static final long MODIFIED = 1000000;
+
+  private File directory;
+  private File file;
+
+  @Override
+  protected void setUp() throws Exception {
+    directory = File.createTempFile("stats", "");
+    directory.delete();
+    directory.mkdir();
+    file = new File(new File(directory, "cache"), "digests.properties");
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(directory);
+  }
+
+  public void testKeptBetweenRuns() throws Exception {
+    String path = source("a b=c.js").getPath();
+    FileStatCache cache = new FileStatCache(file.getPath());
+    cache.put(fileInfo(path, MODIFIED, 10), "abc");
+    cache.save();
+
+    FileStatCache nextRun = new FileStatCache(file.getPath());
+    assertEquals("abc", nextRun.getDigested(fileInfo(path, MODIFIED, 10)).getDigest());
+    assertNull(nextRun.getDigested(fileInfo("/other.js", MODIFIED, 10)));
+  }
+
+  public void testDropsFilesThatNoLongerExist() throws Exception {
+    File kept = source("kept.js");
+    File removed = source("removed.js");
+    FileStatCache cache = new FileStatCache(file.getPath());
+    cache.put(fileInfo(kept.getPath(), MODIFIED, 10), "abc");
+    cache.put(fileInfo(removed.getPath(), MODIFIED, 10), "def");
+    removed.delete();
+    cache.save();
+
+    FileStatCache nextRun = new FileStatCache(file.getPath());
+    assertNotNull(nextRun.getDigested(fileInfo(kept.getPath(), MODIFIED, 10)));
+    assertNull(nextRun.getDigested(fileInfo(removed.getPath(), MODIFIED, 10)));
+  }
+
+  public void testLeavesNoTemporaryFiles() throws Exception {
+    FileStatCache cache = new FileStatCache(file.getPath());
+    cache.put(fileInfo(source("a.js").getPath(), MODIFIED, 10), "abc");
+    cache.save();
+
+    assertTrue(file.isFile());
+    assertEquals(1, file.getParentFile().list().length);
+  }
+
+  public void testChangedFilesAreNotKnown() throws Exception {
+    FileStatCache cache = new FileStatCache("");
+    cache.put(fileInfo("/a.js", MODIFIED, 10), "abc");
+
+    assertNull(cache.getDigested(fileInfo("/a.js", MODIFIED + 1, 10)));
+    assertNull(cache.getDigested(fileInfo("/a.js", MODIFIED, 11)));
+  }
+
+  public void testRecentlyModifiedFilesAreNotKept() throws Exception {
+    FileStatCache cache = new FileStatCache("");
+    long now = System.currentTimeMillis();
+    cache.put(fileInfo("/a.js", now, 10), "abc");
+
+    assertNull(cache.getDigested(fileInfo("/a.js", now, 10)));
+  }
+
+  public void testPatchedAndRemoteFilesAreNotKept() throws Exception {
+    FileStatCache cache = new FileStatCache("");
+    FileInfo patched = fileInfo("/a.js", MODIFIED, 10);
+    patched.addPatch(fileInfo("/patch.js", MODIFIED, 10));
+    cache.put(patched, "abc");
+    cache.put(fileInfo("http://host/a.js", MODIFIED, 10), "abc");
+
+    assertNull(cache.getDigested(fileInfo("/a.js", MODIFIED, 10)));
+    assertNull(cache.getDigested(fileInfo("http://host/a.js", MODIFIED, 10)));
+  }
+
+  public void testUnchangedCacheIsNotWritten() throws Exception {
+    FileStatCache cache = new FileStatCache(file.getPath());
+    cache.getDigested(fileInfo("/a.js", MODIFIED, 10));
+    cache.save();
+
+    assertFalse(file.exists());
+  }
+
+  public void testUploaderOnlyReadsUnknownFiles() throws Exception {
+    FileInfo known = fileInfo(source("known.js").getPath(), MODIFIED, 10);
+    FileInfo unknown = fileInfo(source("unknown.js").getPath(), MODIFIED, 10);
+    FileStatCache cache = new FileStatCache(file.getPath());
+    cache.put(known, "abc");
+    final List<String> read = Lists.newArrayList();
+    FileUploader uploader = new FileUploader(new NullStopWatch(), new MockServer() {
+      @Override
+      public String post(String url, Map<String, String> params) {
+        return "[]";
+      }
+    }, "http://localhost", null, new FileReader() {
+      public String readFile(String path) {
+        read.add(path);
+        return "";
+      }
+    }, new DefaultFileFilter(), Collections.<FileInfoScheme>emptySet(), new NullPathPrefix(),
+        cache);
+
+    uploader.determineServerFileSet(Collections.singletonList(new JstdTestCase(
+        Lists.newArrayList(known, unknown), Collections.<FileInfo>emptyList(),
+        Collections.<FileInfo>emptyList(), "one")));
+
+    assertEquals(Lists.newArrayList(unknown.getFilePath()), read);
+  }
+
+  private File source(String name) throws Exception {
+    File source = new File(directory, name);
+    source.createNewFile();
+    return source;
+  }
+
+  private void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+
+  private FileInfo fileInfo(String path, long modified, long length) {
+    return new FileInfo(path, modified, length, false, false, null, path);
+  }
+}
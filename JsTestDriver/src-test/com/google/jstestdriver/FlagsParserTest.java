@@ -110,4 +110,27 @@ public class FlagsParserTest extends TestCase {
       assertEquals("Option \"--port\" takes an operand" + message.toString(), e.getMessage());
     }
   }
+
+  public void testGzipRequiresKeepAlive() throws Exception {
+    try {
+      new Args4jFlagsParser().parseArgument(new String[]{"--gzip"});
+      fail("expected InvalidFlagException");
+    } catch (InvalidFlagException e) {
+      assertEquals("Option \"--gzip\" requires \"--keepAlive\"", e.getMessage());
+    }
+    Flags flags = new Args4jFlagsParser().parseArgument(new String[]{"--gzip", "--keepAlive"});
+    assertTrue(flags.getGzip());
+  }
+
+  public void testDefaultTestDurationsArePerConfiguration() throws Exception {
+    Flags one = new Args4jFlagsParser().parseArgument(new String[]{"--config", "one/jsTestDriver.conf"});
+    Flags other = new Args4jFlagsParser().parseArgument(new String[]{"--config", "two/jsTestDriver.conf"});
+    Flags again = new Args4jFlagsParser().parseArgument(new String[]{"--config", "one/jsTestDriver.conf"});
+    assertFalse(one.getTestDurations().equals(other.getTestDurations()));
+    assertEquals(one.getTestDurations(), again.getTestDurations());
+
+    Flags explicit = new Args4jFlagsParser().parseArgument(
+        new String[]{"--config", "one/jsTestDriver.conf", "--testDurations", "durations.properties"});
+    assertEquals("durations.properties", explicit.getTestDurations());
+  }
 }
@@ -79,6 +79,11 @@ public class FlagsTest extends TestCase {
       assertNotNull(flags.getBrowser());
       assertFalse(flags.getReset());
       assertNotNull(flags.getTests());
+      // plugin post processors need not be thread safe.
+      assertEquals(1, flags.getLoaderThreads());
+      // private to the user rather than shared in the temporary directory.
+      assertTrue(flags.getStatCache(),
+          flags.getStatCache().startsWith(System.getProperty("user.home")));
     } catch (InvalidFlagException    e) {
       fail("Unexpected exception thrown: " + e);
     }
@@ -25,6 +25,7 @@ import junit.framework.TestCase;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.inject.Provider;
 import com.google.jstestdriver.browser.BrowserFileSet;
 import com.google.jstestdriver.hooks.FileInfoScheme;
@@ -101,7 +102,7 @@ public class JsTestDriverClientTest extends TestCase {
     server.expect("http://localhost/fileSet?POST?{data=[], action=serverFileCheck}", "[]");
     server.expect("http://localhost/cmd?POST?{data={\"command\":\"execute\","
         + "\"parameters\":[\"cmd\"]}, id=1}", "");
-    server.expect("http://localhost/cmd?id=1", "{\"response\":"
+    server.expect("http://localhost/cmd?id=1&stream=true&protocol=2", "{\"response\":"
         + "{\"response\":\"1\",\"browser\":{\"name\":\"browser1\"},"
         + "\"error\":\"error1\",\"executionTime\":3},\"last\":true}");
 
@@ -109,7 +110,7 @@ public class JsTestDriverClientTest extends TestCase {
     server.expect("http://localhost/fileSet?POST?{id=2, fileSet=[]}", "");
     server.expect("http://localhost/cmd?POST?{data={\"command\":\"execute\","
         + "\"parameters\":[\"cmd\"]}, id=2}", "");
-    server.expect("http://localhost/cmd?id=2", "{\"response\":"
+    server.expect("http://localhost/cmd?id=2&stream=true&protocol=2", "{\"response\":"
         + "{\"response\":\"2\",\"browser\":{\"name\":\"browser2\"},"
         + "\"error\":\"error2\",\"executionTime\":6},\"last\":true}");
 
@@ -119,6 +120,7 @@ public class JsTestDriverClientTest extends TestCase {
             new DefaultFileFilter(),
             null,
             null,
+            null,
             stopWatch,
             ImmutableSet.<FileInfoScheme>of(new HttpFileInfoScheme()),
             new NullPathPrefix());
@@ -146,6 +148,45 @@ public class JsTestDriverClientTest extends TestCase {
     assertEquals(6L, response.getExecutionTime());
   }
 
+  public void testAwaitBrowserReady() throws Exception {
+    MockServer server = new MockServer();
+    server.expect("http://localhost/cmd?awaitBrowserReady=1&timeout=10", "{\"captured\":false}");
+    server.expect("http://localhost/cmd?awaitBrowserReady=1&timeout=10", "{\"captured\":true}");
+    JsTestDriverClient client = new JsTestDriverClientImpl(null, "http://localhost",
+        server, false, null, new NullStopWatch());
+
+    assertFalse(client.awaitBrowserReady("1", 10));
+    assertTrue(client.awaitBrowserReady("1", 10));
+  }
+
+  public void testAwaitBrowserReadyOnAServerThatCantWait() throws Exception {
+    MockServer server = new MockServer();
+    server.expect("http://localhost/cmd?awaitBrowserReady=1&timeout=10", "");
+    JsTestDriverClient client = new JsTestDriverClientImpl(null, "http://localhost",
+        server, false, null, new NullStopWatch());
+
+    try {
+      client.awaitBrowserReady("1", 10);
+      fail("expected an empty body to be unsupported");
+    } catch (ServerCannotWaitException e) {
+      // expected
+    }
+  }
+
+  public void testAwaitBrowserReadyReportsUnexpectedAnswers() throws Exception {
+    MockServer server = new MockServer();
+    server.expect("http://localhost/cmd?awaitBrowserReady=1&timeout=10", "false");
+    JsTestDriverClient client = new JsTestDriverClientImpl(null, "http://localhost",
+        server, false, null, new NullStopWatch());
+
+    try {
+      client.awaitBrowserReady("1", 10);
+      fail("expected a bare boolean to be reported");
+    } catch (JsonParseException e) {
+      // expected
+    }
+  }
+
   public void testGetListOfClients() throws Exception {
     MockServer server = new MockServer();
     server.expect("http://localhost/cmd?listBrowsers", "["
@@ -153,7 +194,7 @@ public class JsTestDriverClientTest extends TestCase {
         + "{\"id\":1, \"name\":\"name1\", \"version\":\"ver1\", \"os\":\"os1\"}]");
     final NullStopWatch stopWatch = new NullStopWatch();
     CommandTaskFactory commandTaskFactory =
-        new CommandTaskFactory(new DefaultFileFilter(), null, new Provider<HeartBeatManager>() {
+        new CommandTaskFactory(new DefaultFileFilter(), null, null, new Provider<HeartBeatManager>() {
           @Override
           public HeartBeatManager get() {
             return new HeartBeatManagerStub();
@@ -204,12 +245,13 @@ public class JsTestDriverClientTest extends TestCase {
 
     server.expect("http://localhost/cmd?POST?{data={\"command\":\"runTests\","
         + "\"parameters\":[\"[\\\"all\\\"]\",\"false\",\"\"]}, id=" + id + "}", "");
-    server.expect("http://localhost/cmd?id=1", "{\"response\":{\"response\":\"PASSED\","
+    server.expect("http://localhost/cmd?id=1&stream=true&protocol=2", "{\"response\":{\"response\":\"PASSED\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error2\",\"executionTime\":123},"
         + "\"last\":true}");
     final NullStopWatch stopWatch = new NullStopWatch();
     CommandTaskFactory commandTaskFactory =
-        new CommandTaskFactory(new DefaultFileFilter(), new MockFileLoader(), new Provider<HeartBeatManager>() {
+        new CommandTaskFactory(new DefaultFileFilter(), new MockFileLoader(),
+            new SimpleFileReader(), new Provider<HeartBeatManager>() {
           @Override
           public HeartBeatManager get() {
             return new HeartBeatManagerStub();
@@ -241,7 +283,7 @@ public class JsTestDriverClientTest extends TestCase {
     browserInfo.setId(Long.parseLong(id));
     browserInfo.setUploadSize(10);
     server.expect("http://localhost/cmd?listBrowsers", gson.toJson(Lists.newArrayList(browserInfo)));
-    server.expect("http://localhost/cmd?id=1", "{\"response\":{\"response\":\"PASSED\","
+    server.expect("http://localhost/cmd?id=1&stream=true&protocol=2", "{\"response\":{\"response\":\"PASSED\","
         + "\"browser\":{\"name\":\"browser\"},\"error\":\"error2\",\"executionTime\":123},"
         + "\"last\":true}");
     final NullStopWatch stopWatch = new NullStopWatch();
@@ -250,6 +292,7 @@ public class JsTestDriverClientTest extends TestCase {
     CommandTaskFactory commandTaskFactory =
         new CommandTaskFactory(filter,
             new MockFileLoader(),
+            new SimpleFileReader(),
             new Provider<HeartBeatManager>() {
           @Override
           public HeartBeatManager get() {
@@ -15,21 +15,25 @@
  */
 package com.google.jstestdriver;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.jstestdriver.SlaveBrowser.BrowserState;
 import com.google.jstestdriver.browser.BrowserIdStrategy;
 import com.google.jstestdriver.config.ExecutionType;
 import com.google.jstestdriver.hooks.FileInfoScheme;
 import com.google.jstestdriver.hooks.ServerListener;
 import com.google.jstestdriver.model.NullPathPrefix;
 import com.google.jstestdriver.runner.RunnerMode;
+import com.google.jstestdriver.runner.RunnerType;
 import com.google.jstestdriver.server.JstdTestCaseStore;
 import com.google.jstestdriver.util.NullStopWatch;
 
 import junit.framework.TestCase;
 
+import org.joda.time.Instant;
 import org.mortbay.jetty.bio.SocketConnector;
 import org.mortbay.jetty.servlet.Context;
 import org.mortbay.jetty.servlet.ServletHolder;
@@ -69,6 +73,21 @@ public class JsTestDriverServerTest extends TestCase {
     return server;
   }
 
+  private JsTestDriverServerImpl createAsyncServer() {
+    server = new JsTestDriverServerImpl(4224, 4225,
+        new JstdTestCaseStore(),
+        browsers,
+        SlaveBrowser.TIMEOUT,
+        new NullPathPrefix(),
+        Sets.<ServerListener>newHashSet(new TestListener()),
+        Collections.<FileInfoScheme>emptySet(),
+        ExecutionType.INTERACTIVE,
+        false,
+        true,
+        false);
+    return server;
+  }
+
   @Override
   protected void tearDown() throws Exception {
     if (server != null) {
@@ -132,6 +151,7 @@ public class JsTestDriverServerTest extends TestCase {
             new DefaultFileFilter(),
             null,
             null,
+            null,
             stopWatch,
            ImmutableSet.<FileInfoScheme>of(new HttpFileInfoScheme()),
            new NullPathPrefix()),
@@ -220,6 +240,36 @@ public class JsTestDriverServerTest extends TestCase {
     server.stop();
   }
 
+  public void testParkedQueryResumesOnCommand() throws Exception {
+    createAsyncServer();
+    server.start();
+    final SlaveBrowser slave = new SlaveBrowser(new TimeImpl(), "1", new BrowserInfo(),
+        SlaveBrowser.TIMEOUT, new NullPathPrefix(), "quirks", RunnerType.CLIENT,
+        BrowserState.READY, new Instant(0));
+    browsers.addSlave(slave);
+    Thread enqueue = new Thread() {
+      @Override public void run() {
+        try {
+          while (slave.getParkedQueryCount() == 0) {
+            Thread.sleep(10);
+          }
+        } catch (InterruptedException e) {
+          return;
+        }
+        slave.createCommand("command");
+      }
+    };
+    enqueue.start();
+    long start = System.currentTimeMillis();
+    HttpServer client = new HttpServer(new NullStopWatch());
+    String command = client.post("http://localhost:4224/query/1",
+        ImmutableMap.of("done", "true"));
+    enqueue.join();
+    assertEquals("command", command);
+    assertTrue(System.currentTimeMillis() - start < 5000);
+    assertEquals(0, slave.getParkedQueryCount());
+  }
+
   private final class TestListener implements ServerListener {
     public boolean stopped;
     public boolean started;
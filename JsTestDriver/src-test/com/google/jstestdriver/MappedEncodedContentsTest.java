@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+public class MappedEncodedContentsTest extends TestCase {
+
+  private File directory;
+
+  @Override
+  protected void setUp() throws Exception {
+    directory = File.createTempFile("spill", "test");
+    directory.delete();
+    directory.mkdir();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    for (File file : directory.listFiles()) {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  public void testStoresEncodedContent() throws Exception {
+    MappedEncodedContents contents = new MappedEncodedContents(directory, 16);
+    ByteBuffer one = contents.store("\u00e9t\u00e9");
+    ByteBuffer two = contents.store("two");
+
+    assertEquals("\u00e9t\u00e9", decode(one));
+    assertEquals("two", decode(two));
+    assertTrue(one.isReadOnly());
+  }
+
+  public void testDeletesUnusedSegments() throws Exception {
+    MappedEncodedContents contents = new MappedEncodedContents(directory, 16);
+    ByteBuffer first = contents.store("0123456789");
+    ByteBuffer second = contents.store("0123456789");
+    assertEquals(2, directory.listFiles().length);
+
+    contents.release(first);
+    assertEquals("the first segment is not used anymore", 1, directory.listFiles().length);
+    contents.release(second);
+    assertEquals("the current segment is kept", 1, directory.listFiles().length);
+    assertEquals("large", decode(contents.store("large content for a segment")).substring(0, 5));
+  }
+
+  private String decode(ByteBuffer buffer) throws Exception {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return new String(bytes, "UTF-8");
+  }
+}
@@ -43,6 +43,14 @@ public class MockServer implements Server {
     return get(url);
   }
 
+  public void fetchLines(String url, LineProcessor processor) {
+    for (String line : get(url).split("\n")) {
+      if (line.length() > 0 && !processor.processLine(line)) {
+        return;
+      }
+    }
+  }
+
   public String post(String url, Map<String, String> params) {
     return get(url + "?POST?" + params);
   }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.jstestdriver.Server.LineProcessor;
+import com.google.jstestdriver.util.NullStopWatch;
+
+import junit.framework.TestCase;
+
+import org.mortbay.jetty.bio.SocketConnector;
+import org.mortbay.jetty.servlet.Context;
+import org.mortbay.jetty.servlet.ServletHolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class PooledHttpServerTest extends TestCase {
+
+  private static final int PORT = 4232;
+  private static final String URL = "http://localhost:" + PORT + "/echo";
+
+  private org.mortbay.jetty.Server jetty;
+  private final Set<Integer> remotePorts = Sets.newHashSet();
+
+  @Override
+  protected void setUp() throws Exception {
+    SocketConnector connector = new SocketConnector();
+    connector.setPort(PORT);
+    jetty = new org.mortbay.jetty.Server();
+    jetty.addConnector(connector);
+    Context context = new Context(jetty, "/", Context.SESSIONS);
+    context.addServlet(new ServletHolder(new HttpServlet() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected void service(HttpServletRequest request, HttpServletResponse response)
+          throws IOException {
+        synchronized (remotePorts) {
+          remotePorts.add(request.getRemotePort());
+        }
+        String echo = request.getParameter("echo");
+        if ("gzip".equals(request.getHeader("Accept-Encoding"))) {
+          response.setHeader("Content-Encoding", "gzip");
+          OutputStream out = new GZIPOutputStream(response.getOutputStream());
+          out.write(echo.getBytes("UTF-8"));
+          out.close();
+        } else {
+          response.getOutputStream().write(echo.getBytes("UTF-8"));
+        }
+      }
+    }), "/echo");
+    context.addServlet(new ServletHolder(new HttpServlet() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected void service(HttpServletRequest request, HttpServletResponse response)
+          throws IOException {
+        // more than is buffered, so the stream is still open after the first line.
+        StringBuilder lines = new StringBuilder("one\n");
+        for (int i = 0; i < 10000; i++) {
+          lines.append("line ").append(i).append('\n');
+        }
+        response.getOutputStream().write(lines.toString().getBytes("UTF-8"));
+      }
+    }), "/lines");
+    jetty.start();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    jetty.stop();
+  }
+
+  public void testReusesConnections() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), false);
+    for (int i = 0; i < 10; i++) {
+      assertEquals("ping" + i, server.fetch(URL + "?echo=ping" + i));
+      assertEquals("\u00e9" + i,
+          server.post(URL, ImmutableMap.of("echo", "\u00e9" + i)));
+    }
+    assertEquals(1, remotePorts.size());
+  }
+
+  public void testAcceptsGzippedResponses() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), true);
+    assertEquals("zipped", server.fetch(URL + "?echo=zipped"));
+  }
+
+  public void testFetchLinesStopsWhenProcessed() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), false);
+    final List<String> lines = Lists.newArrayList();
+    server.fetchLines(URL + "?echo=one%0A%0Atwo%0Athree", new LineProcessor() {
+      public boolean processLine(String line) {
+        lines.add(line);
+        return !"two".equals(line);
+      }
+    });
+    assertEquals(Lists.newArrayList("one", "two"), lines);
+    assertEquals("again", server.fetch(URL + "?echo=again"));
+  }
+
+  public void testFailsWhenNoConnectionIsFree() throws Exception {
+    final PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), false, 1, 100);
+    final List<String> errors = Lists.newArrayList();
+    // the stream holds the only connection while its lines are processed.
+    server.fetchLines("http://localhost:" + PORT + "/lines", new LineProcessor() {
+      public boolean processLine(String line) {
+        try {
+          server.fetch(URL + "?echo=two");
+        } catch (RuntimeException e) {
+          errors.add(e.getCause().getMessage());
+        }
+        return false;
+      }
+    });
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0), errors.get(0).contains("--keepAliveConnections"));
+    assertEquals("three", server.fetch(URL + "?echo=three"));
+    server.shutdown();
+  }
+
+  public void testErrorStatusFails() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), false);
+    try {
+      server.fetch("http://localhost:" + PORT + "/missing");
+      fail("expected an error");
+    } catch (RuntimeException e) {
+      // expected
+    }
+  }
+}
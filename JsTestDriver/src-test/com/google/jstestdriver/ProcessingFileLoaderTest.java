@@ -17,9 +17,12 @@
 package com.google.jstestdriver;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import junit.framework.TestCase;
 
@@ -149,4 +152,61 @@ public class ProcessingFileLoaderTest extends TestCase {
     assertEquals(info.getTimestamp(), actual.get(0).getTimestamp());
     assertEquals(info.isServeOnly(), actual.get(0).isServeOnly());
   }
+
+  public void testLoadFilesInParallelKeepsOrder() throws Exception {
+    final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+    FileReader reader = new FileReader() {
+      public String readFile(String file) {
+        threads.add(Thread.currentThread().getName());
+        try {
+          // the first files are the slowest to read.
+          Thread.sleep(file.length() % 3);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return "data " + file;
+      }
+    };
+    FileLoadPostProcessor processor = new FileLoadPostProcessor() {
+      public FileInfo process(FileInfo file) {
+        return file.load(file.getData() + " processed", file.getTimestamp());
+      }
+    };
+    List<FileInfo> files = new ArrayList<FileInfo>();
+    for (int i = 0; i < 50; i++) {
+      files.add(new FileInfo("foo" + i + ".js", 1234, -1, false, false, null, "foo" + i + ".js"));
+    }
+
+    List<FileInfo> actual = new ProcessingFileLoader(reader, Collections.singleton(processor),
+        new com.google.jstestdriver.util.NullStopWatch(), 4).loadFiles(files, false);
+
+    assertEquals(files.size(), actual.size());
+    for (int i = 0; i < files.size(); i++) {
+      assertEquals(files.get(i).getFilePath(), actual.get(i).getFilePath());
+      assertEquals("data foo" + i + ".js processed", actual.get(i).getData());
+    }
+    assertTrue(threads.size() > 1);
+  }
+
+  public void testLoadFilesInParallelRethrowsFailures() throws Exception {
+    FileReader reader = new FileReader() {
+      public String readFile(String file) {
+        if (file.equals("foo3.js")) {
+          throw new IllegalStateException("can't read " + file);
+        }
+        return "data";
+      }
+    };
+    List<FileInfo> files = new ArrayList<FileInfo>();
+    for (int i = 0; i < 10; i++) {
+      files.add(new FileInfo("foo" + i + ".js", 1234, -1, false, false, null, "foo" + i + ".js"));
+    }
+    try {
+      new ProcessingFileLoader(reader, Collections.<FileLoadPostProcessor>emptySet(),
+          new com.google.jstestdriver.util.NullStopWatch(), 4).loadFiles(files, false);
+      fail("expected the read failure");
+    } catch (IllegalStateException e) {
+      assertEquals("can't read foo3.js", e.getMessage());
+    }
+  }
 }
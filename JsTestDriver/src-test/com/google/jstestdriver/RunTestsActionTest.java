@@ -81,6 +81,29 @@ public class RunTestsActionTest extends TestCase {
     client.assertTestRun(expected);
   }
 
+  public void testShardRunsItsTestsAndReportsAsBrowser() throws Exception {
+    final ResponseStreamStub stream = new ResponseStreamStub();
+    final List<String> shardTests = Lists.<String> newArrayList("TestCase.testNomable");
+    final String browserId = "2";
+    final BrowserInfo reportAs = new BrowserInfo();
+    reportAs.setId(1L);
+
+    final RunTestsAction action =
+        new RunTestsAction(new FakeResponseStreamFactory(stream),
+            Lists.<String> newArrayList("TestCase.testNomable", "TestCase.testNotNomable"),
+            false, Collections.<TestsPreProcessor> emptySet(), new NullStopWatch())
+        .shard(shardTests, reportAs);
+    final FakeJsTestDriverClient client = new FakeJsTestDriverClient(Collections.<BrowserInfo>emptyList());
+    ResponseStream shardStream = action.run(browserId, client, null, null);
+    final BrowserInfo browser = new BrowserInfo();
+    browser.setId(2L);
+    shardStream.stream(new Response("TEST_RESULT", "[]", browser, null, 0));
+
+    client.assertTestRun(
+        new FakeJsTestDriverClient.TestRun(browserId, shardStream, shardTests, false));
+    assertSame(reportAs, stream.last.getBrowser());
+  }
+
   private static final class FakeResponseStreamFactory implements ResponseStreamFactory {
 
     private final ResponseStreamStub stream;
@@ -107,7 +130,10 @@ public class RunTestsActionTest extends TestCase {
   }
 
   private static final class ResponseStreamStub implements ResponseStream {
+    Response last;
+
     public void stream(Response response) {
+      last = response;
     }
 
     public void finish() {
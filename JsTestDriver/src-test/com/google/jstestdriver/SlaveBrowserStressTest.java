@@ -0,0 +1,183 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Lists;
+import com.google.jstestdriver.Response.ResponseType;
+import com.google.jstestdriver.SlaveBrowser.BrowserState;
+import com.google.jstestdriver.commands.NoopCommand;
+import com.google.jstestdriver.runner.RunnerType;
+import com.google.jstestdriver.server.handlers.CaptureHandler;
+
+import junit.framework.TestCase;
+
+import org.joda.time.Instant;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hammers one browser from many threads, the way the /query, /fileSet and
+ * /heartbeat handlers do under load, and checks that no update is lost and no
+ * reader fails.
+ */
+public class SlaveBrowserStressTest extends TestCase {
+
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 500;
+
+  private final List<Throwable> failures =
+      Collections.synchronizedList(Lists.<Throwable>newArrayList());
+
+  private SlaveBrowser browser;
+
+  @Override
+  protected void setUp() throws Exception {
+    browser = new SlaveBrowser(new TimeImpl(), "1", new BrowserInfo(), SlaveBrowser.TIMEOUT,
+        null, CaptureHandler.QUIRKS, RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    browser.setDequeueTimeout(1, TimeUnit.MILLISECONDS);
+  }
+
+  public void testFileSetUpdatesAreNotLost() throws Exception {
+    final AtomicInteger iterated = new AtomicInteger();
+    run(new Worker() {
+      public void work(int thread, int i) {
+        String path = "/" + thread + "/" + i + ".js";
+        if (i % 2 == 0) {
+          FileSource source = new FileSource(path, path, i, 10);
+          browser.addFileResults(Lists.newArrayList(new FileResult(source, true, "")));
+        } else {
+          browser.addFiles(Lists.newArrayList(new FileInfo(path, i, -1, false, false, null, path)),
+              null);
+        }
+        // what BrowserFileCheck and the home page do with the set.
+        for (FileInfo file : browser.getFileSet()) {
+          iterated.incrementAndGet();
+          file.getDisplayPath();
+        }
+        browser.hasFileLoadErrors();
+        browser.heartBeat();
+      }
+    });
+
+    Set<FileInfo> files = browser.getFileSet();
+    assertEquals(THREADS * ITERATIONS, files.size());
+    for (int thread = 0; thread < THREADS; thread++) {
+      for (int i = 0; i < ITERATIONS; i++) {
+        String path = "/" + thread + "/" + i + ".js";
+        assertTrue(path, files.contains(new FileInfo(path, i, -1, false, false, null, path)));
+      }
+    }
+    assertFalse(browser.hasFileLoadErrors());
+    assertTrue(iterated.get() > 0);
+  }
+
+  public void testResetsDuringUpdatesLeaveAConsistentSet() throws Exception {
+    run(new Worker() {
+      public void work(int thread, int i) {
+        if (thread == 0 && i % 10 == 0) {
+          browser.resetFileSet();
+        }
+        String path = "/" + thread + "/" + i + ".js";
+        FileSource source = new FileSource(path, path, i, 10);
+        browser.addFileResults(Lists.newArrayList(new FileResult(source, i % 100 != 99, "")));
+        int size = 0;
+        for (FileInfo file : browser.getFileSet()) {
+          size++;
+        }
+        if (size > THREADS * ITERATIONS) {
+          throw new AssertionError("Too many files: " + size);
+        }
+      }
+    });
+    browser.resetFileSet();
+    assertTrue(browser.getFileSet().isEmpty());
+    assertFalse(browser.hasFileLoadErrors());
+  }
+
+  public void testEachCommandIsDequeuedOnce() throws Exception {
+    final ConcurrentMap<String, Boolean> dequeued = new ConcurrentHashMap<String, Boolean>();
+    final AtomicInteger created = new AtomicInteger();
+    run(new Worker() {
+      public void work(int thread, int i) {
+        if (thread % 2 == 0) {
+          browser.createCommand(thread + ":" + i);
+          created.incrementAndGet();
+          browser.heartBeat();
+        } else {
+          Command command = browser.dequeueCommand();
+          if (!(command instanceof NoopCommand)
+              && dequeued.put(command.getCommand(), true) != null) {
+            throw new AssertionError("Dequeued twice: " + command);
+          }
+          browser.getCommandRunning();
+          browser.addResponse(new Response(ResponseType.TEST_RESULT.name(), "{}",
+              browser.getBrowserInfo(), "", 0L), true);
+          browser.getResponse();
+          browser.isAlive();
+        }
+      }
+    });
+    Command command;
+    while (!((command = browser.dequeueCommand()) instanceof NoopCommand)) {
+      assertNull(command.toString(), dequeued.put(command.getCommand(), true));
+    }
+    assertEquals(created.get(), dequeued.size());
+    assertEquals(BrowserState.HEARTBEAT, browser.getState());
+  }
+
+  private interface Worker {
+    void work(int thread, int iteration) throws Exception;
+  }
+
+  /** Runs the worker on all threads at once, and fails with the first failure. */
+  private void run(final Worker worker) throws Exception {
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(THREADS);
+    for (int t = 0; t < THREADS; t++) {
+      final int thread = t;
+      new Thread("stress-" + thread) {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            for (int i = 0; i < ITERATIONS; i++) {
+              worker.work(thread, i);
+            }
+          } catch (Throwable e) {
+            failures.add(e);
+          } finally {
+            done.countDown();
+          }
+        }
+      }.start();
+    }
+    start.countDown();
+    assertTrue("Timed out", done.await(60, TimeUnit.SECONDS));
+    if (!failures.isEmpty()) {
+      AssertionError error = new AssertionError(failures.size() + " failures, first: "
+          + failures.get(0));
+      error.initCause(failures.get(0));
+      throw error;
+    }
+  }
+}
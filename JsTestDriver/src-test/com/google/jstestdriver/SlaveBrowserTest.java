@@ -15,12 +15,17 @@
  */
 package com.google.jstestdriver;
 
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 import junit.framework.TestCase;
 
 import org.joda.time.Instant;
+import org.mortbay.util.ajax.WaitingContinuation;
 
 import com.google.common.collect.Lists;
 import com.google.jstestdriver.SlaveBrowser.BrowserState;
+import com.google.jstestdriver.commands.NoopCommand;
 import com.google.jstestdriver.model.NullPathPrefix;
 import com.google.jstestdriver.runner.RunnerType;
 import com.google.jstestdriver.server.handlers.CaptureHandler;
@@ -161,4 +166,114 @@ public class SlaveBrowserTest extends TestCase {
     assertTrue(browser.getFileSet().contains(fileSource.toFileInfo(null)));
     assertTrue(browser.hasFileLoadErrors());
   }
+
+  public void testResetFileSetClearsLoadErrors() throws Exception {
+    SlaveBrowser browser = new SlaveBrowser(new MockTime(0),
+        "1",
+        new BrowserInfo(),
+        SlaveBrowser.TIMEOUT,
+        null,
+        CaptureHandler.QUIRKS,
+        RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    FileSource fileSource = new FileSource("/foo.js", "/foo/bar.js", 10, 100);
+    browser.addFileResults(Lists.newArrayList(new FileResult(fileSource, false, "")));
+    Set<FileInfo> loaded = browser.getFileSet();
+    browser.resetFileSet();
+    assertFalse(browser.hasFileLoadErrors());
+    assertTrue(browser.getFileSet().isEmpty());
+    assertEquals(1, loaded.size());
+  }
+
+  public void testHeartBeatKeepsReadyBrowserReady() throws Exception {
+    SlaveBrowser browser = new SlaveBrowser(new MockTime(0),
+        "1",
+        new BrowserInfo(),
+        SlaveBrowser.TIMEOUT,
+        null,
+        CaptureHandler.QUIRKS,
+        RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    browser.heartBeat();
+    assertEquals(BrowserState.HEARTBEAT, browser.getState());
+    browser.ready();
+    browser.heartBeat();
+    assertEquals(BrowserState.READY, browser.getState());
+  }
+
+  public void testDequeueCommandWithContinuationReturnsQueuedCommand() throws Exception {
+    SlaveBrowser browser = new SlaveBrowser(new MockTime(0),
+        "1",
+        new BrowserInfo(),
+        SlaveBrowser.TIMEOUT,
+        null,
+        CaptureHandler.QUIRKS,
+        RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    browser.createCommand("command");
+    WaitingContinuation continuation = new WaitingContinuation(browser);
+    assertEquals(new Command("command"), browser.dequeueCommand(continuation));
+    assertFalse(continuation.isPending());
+    assertEquals(new Command("command"), browser.getCommandRunning());
+  }
+
+  public void testDequeueCommandWithContinuationParksUntilCommandCreated() throws Exception {
+    final SlaveBrowser browser = new SlaveBrowser(new MockTime(0),
+        "1",
+        new BrowserInfo(),
+        SlaveBrowser.TIMEOUT,
+        null,
+        CaptureHandler.QUIRKS,
+        RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    Thread enqueue = new Thread() {
+      @Override
+      public void run() {
+        try {
+          while (browser.getParkedQueryCount() == 0) {
+            Thread.sleep(10);
+          }
+        } catch (InterruptedException e) {
+          return;
+        }
+        browser.createCommand("command");
+      }
+    };
+    enqueue.start();
+    assertEquals(new Command("command"),
+        browser.dequeueCommand(new WaitingContinuation(browser)));
+    enqueue.join();
+    assertEquals(0, browser.getParkedQueryCount());
+  }
+
+  public void testDequeueCommandWithContinuationTimesOut() throws Exception {
+    SlaveBrowser browser = new SlaveBrowser(new MockTime(0),
+        "1",
+        new BrowserInfo(),
+        SlaveBrowser.TIMEOUT,
+        null,
+        CaptureHandler.QUIRKS,
+        RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    browser.setDequeueTimeout(10, TimeUnit.MILLISECONDS);
+    assertEquals(new NoopCommand(), browser.dequeueCommand(new WaitingContinuation(browser)));
+    assertEquals(0, browser.getParkedQueryCount());
+    assertFalse(browser.isCommandRunning());
+  }
+
+  public void testLastResponseIsQueuedWhenTheQueueIsFull() throws Exception {
+    SlaveBrowser browser = new SlaveBrowser(new MockTime(0),
+        "1",
+        new BrowserInfo(),
+        40,
+        null,
+        CaptureHandler.QUIRKS,
+        RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    browser.setQueueCapacity(1, BrowserResponseQueue.LogOverflow.BLOCK);
+    Response response = new Response(Response.ResponseType.TEST_RESULT.name(), "{}",
+        new BrowserInfo(), "", 0);
+    browser.addResponse(response, false);
+    long start = System.currentTimeMillis();
+
+    browser.addResponse(response, true);
+
+    assertTrue(System.currentTimeMillis() - start < SlaveBrowser.RESPONSE_QUEUE_WAIT);
+    assertFalse(browser.pollResponse(0, TimeUnit.SECONDS).isLast());
+    assertTrue(browser.pollResponse(0, TimeUnit.SECONDS).isLast());
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.jstestdriver.Response.ResponseType;
+
+public class StreamMessageReaderTest extends TestCase {
+  private final Gson gson = new Gson();
+
+  public void testReadsStreamedMessages() throws Exception {
+    MockServer server = new MockServer();
+    server.expect("http://localhost/cmd?id=1&stream=true&protocol=2",
+        message("one", false) + "\n\n" + message("two", true) + "\n");
+    List<String> received = Lists.newArrayList();
+
+    StreamMessage last = new StreamMessageReader(server).read("http://localhost", "1",
+        new RecordingHandler(received));
+
+    assertEquals(Lists.newArrayList("one", "two"), received);
+    assertEquals("two", last.getResponse().getResponse());
+  }
+
+  public void testRefetchesFromNonStreamingServer() throws Exception {
+    MockServer server = new MockServer();
+    server.expect("http://localhost/cmd?id=1&stream=true&protocol=2", message("one", false));
+    server.expect("http://localhost/cmd?id=1&stream=true&protocol=2", message("two", true));
+    List<String> received = Lists.newArrayList();
+
+    new StreamMessageReader(server).read("http://localhost", "1", new RecordingHandler(received));
+
+    assertEquals(Lists.newArrayList("one", "two"), received);
+  }
+
+  private String message(String response, boolean last) {
+    return gson.toJson(new StreamMessage(last,
+        new Response(ResponseType.TEST_RESULT.name(), response, new BrowserInfo(), "", 0)));
+  }
+
+  private static final class RecordingHandler implements StreamMessageReader.MessageHandler {
+    private final List<String> received;
+
+    public RecordingHandler(List<String> received) {
+      this.received = received;
+    }
+
+    public boolean handle(StreamMessage message) {
+      received.add(message.getResponse().getResponse());
+      return message.isLast();
+    }
+  }
+}
@@ -15,10 +15,12 @@ package com.google.jstestdriver;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import junit.framework.TestCase;
 
 import com.google.gson.Gson;
+import com.google.jstestdriver.FailureParser.Failure;
 import com.google.jstestdriver.Response.ResponseType;
 import com.google.jstestdriver.model.NullPathPrefix;
 
@@ -50,4 +52,40 @@ public class TestResultGeneratorTest extends TestCase {
     assertEquals(expected.getTestName(), actual.getTestName());
     assertEquals(expected.getTestCaseName(), actual.getTestCaseName());
   }
+
+  public void testFailuresAreParsedWhenFirstRead() throws Exception {
+    final List<String> parsed = new ArrayList<String>();
+    final List<String> prefetched = new ArrayList<String>();
+    FailureParser parser = new FailureParser(new NullPathPrefix()) {
+      @Override
+      public void prefetch(Iterable<String> failures) {
+        for (String failure : failures) {
+          prefetched.add(failure);
+        }
+      }
+
+      @Override
+      public List<Failure> parse(String failure) {
+        parsed.add(failure);
+        return super.parse(failure);
+      }
+    };
+    String failure = "[{\"name\":\"Error\",\"message\":\"boom\",\"stack\":\"at a\\nat b\"}]";
+    Collection<TestResult> results = new ArrayList<TestResult>();
+    results.add(
+        new TestResult(new BrowserInfo(), "failed", failure, "log", "testCase", "TestName", 0f));
+    Response response = new Response();
+    response.setType(ResponseType.TEST_RESULT.name());
+    response.setResponse(new Gson().toJson(results));
+    response.setBrowser(new BrowserInfo());
+
+    TestResult actual = new TestResultGenerator(parser).getTestResults(response).iterator().next();
+    assertTrue(parsed.isEmpty());
+    assertEquals(1, prefetched.size());
+
+    assertEquals("Error: boom", actual.getParsedMessage());
+    String newLine = System.getProperty("line.separator");
+    assertEquals("at a" + newLine + "at b" + newLine + newLine, actual.getStack());
+    assertEquals(1, parsed.size());
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.inject.Binder;
+import com.google.inject.Module;
+import com.google.jstestdriver.config.CmdLineFlagsFactory;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+public class WarmDriverTest extends TestCase {
+
+  private File config;
+  private WarmDriver warmDriver;
+
+  @Override
+  protected void setUp() throws Exception {
+    config = File.createTempFile("jsTestDriver", ".conf");
+    write("load:\n  - a.js\n");
+    warmDriver = new WarmDriver(new Module() {
+      public void configure(Binder binder) {
+      }
+    });
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    config.delete();
+  }
+
+  public void testKeepsTheDriverOfTheSameCommandLine() throws Exception {
+    String[] args = args("--tests", "all");
+    JsTestDriver first = warmDriver.get(args, new CmdLineFlagsFactory().create(args));
+
+    assertSame(first, warmDriver.get(args, new CmdLineFlagsFactory().create(args)));
+  }
+
+  public void testBuildsAgainForAnotherCommandLine() throws Exception {
+    String[] all = args("--tests", "all");
+    String[] one = args("--tests", "one");
+    JsTestDriver first = warmDriver.get(all, new CmdLineFlagsFactory().create(all));
+
+    assertNotSame(first, warmDriver.get(one, new CmdLineFlagsFactory().create(one)));
+  }
+
+  public void testBuildsAgainWhenTheConfigurationChanges() throws Exception {
+    String[] args = args("--tests", "all");
+    JsTestDriver first = warmDriver.get(args, new CmdLineFlagsFactory().create(args));
+    write("load:\n  - a.js\n  - b.js\n");
+    config.setLastModified(config.lastModified() - 2000);
+
+    assertNotSame(first, warmDriver.get(args, new CmdLineFlagsFactory().create(args)));
+  }
+
+  private String[] args(String... flags) {
+    String[] args = new String[flags.length + 2];
+    args[0] = "--config";
+    args[1] = config.getAbsolutePath();
+    System.arraycopy(flags, 0, args, 2, flags.length);
+    return args;
+  }
+
+  private void write(String contents) throws IOException {
+    FileWriter writer = new FileWriter(config);
+    try {
+      writer.write(contents);
+    } finally {
+      writer.close();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011 Google Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import com.google.jstestdriver.JsTestDriverClientImpl;
+import com.google.jstestdriver.MockServer;
+import com.google.jstestdriver.model.JstdTestCase;
+import com.google.jstestdriver.util.NullStopWatch;
+
+public class BrowserControlTest extends TestCase {
+
+  /** A server from before the wait, which answers it with an empty body. */
+  private static final class OldServer extends MockServer {
+    int waits = 0;
+
+    @Override
+    public String fetch(String url) {
+      if (url.startsWith("http://localhost/cmd?awaitBrowserReady=")) {
+        waits++;
+        return "";
+      }
+      return super.fetch(url);
+    }
+  }
+
+  private static final class BrowserRunnerStub implements BrowserRunner {
+    public void startBrowser(String serverAddress) {
+    }
+
+    public void stopBrowser() {
+    }
+
+    public int getTimeout() {
+      return 10;
+    }
+
+    public int getNumStartupTries() {
+      return 1;
+    }
+
+    public long getHeartbeatTimeout() {
+      return 10;
+    }
+
+    public int getUploadSize() {
+      return 0;
+    }
+  }
+
+  public void testPollsAServerThatCantWait() throws Exception {
+    OldServer server = new OldServer();
+    server.expect("http://localhost/cmd?listBrowsers", "[]");
+    server.expect("http://localhost/cmd?listBrowsers",
+        "[{\"id\":1, \"serverReceivedHeartbeat\":true, \"ready\":true}]");
+    BrowserControl control = new BrowserControl(new BrowserRunnerStub(), "http://localhost",
+        new NullStopWatch(),
+        new JsTestDriverClientImpl(null, "http://localhost", server, false, null,
+            new NullStopWatch()),
+        Collections.<JstdTestCase>emptyList(), 1);
+
+    assertEquals("1", control.captureBrowser("1"));
+    assertEquals(1, server.waits);
+  }
+
+  public void testReportsAServerThatFailsTheWait() throws Exception {
+    MockServer server = new MockServer() {
+      @Override
+      public String fetch(String url) {
+        if (url.startsWith("http://localhost/cmd?awaitBrowserReady=")) {
+          throw new RuntimeException("500");
+        }
+        return super.fetch(url);
+      }
+    };
+    BrowserControl control = new BrowserControl(new BrowserRunnerStub(), "http://localhost",
+        new NullStopWatch(),
+        new JsTestDriverClientImpl(null, "http://localhost", server, false, null,
+            new NullStopWatch()),
+        Collections.<JstdTestCase>emptyList(), 1);
+
+    try {
+      control.captureBrowser("1");
+      fail("expected the failure to be reported rather than polled around");
+    } catch (RuntimeException e) {
+      assertEquals("500", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.CapturedBrowsers;
+import com.google.jstestdriver.MockTime;
+import com.google.jstestdriver.SlaveBrowser;
+import com.google.jstestdriver.SlaveBrowser.BrowserState;
+import com.google.jstestdriver.runner.RunnerType;
+import com.google.jstestdriver.server.handlers.CaptureHandler;
+
+import junit.framework.TestCase;
+
+import org.joda.time.Instant;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class BrowserReadyWaiterTest extends TestCase {
+
+  private final CapturedBrowsers capturedBrowsers =
+      new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+  private final BrowserReadyWaiter waiter = new BrowserReadyWaiter(capturedBrowsers);
+
+  public void testTimesOutWhenNotReady() throws Exception {
+    capturedBrowsers.addSlave(createSlave("1"));
+
+    assertFalse(waiter.awaitReady("1", 10, TimeUnit.MILLISECONDS));
+    assertFalse(waiter.awaitReady("2", 10, TimeUnit.MILLISECONDS));
+  }
+
+  public void testWakesOnReady() throws Exception {
+    final SlaveBrowser slave = createSlave("1");
+    final CountDownLatch waiting = new CountDownLatch(1);
+    Thread browser = new Thread() {
+      @Override
+      public void run() {
+        try {
+          waiting.await();
+          capturedBrowsers.addSlave(slave);
+          slave.heartBeat();
+          slave.ready();
+          capturedBrowsers.browserReady(slave);
+        } catch (InterruptedException e) {
+          // done
+        }
+      }
+    };
+    browser.start();
+
+    long start = System.nanoTime();
+    waiting.countDown();
+    assertTrue(waiter.awaitReady("1", 10, TimeUnit.SECONDS));
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    browser.join();
+  }
+
+  public void testReadyBrowserDoesNotWait() throws Exception {
+    SlaveBrowser slave = createSlave("1");
+    capturedBrowsers.addSlave(slave);
+    slave.heartBeat();
+    slave.ready();
+
+    assertTrue(waiter.awaitReady("1", 0, TimeUnit.MILLISECONDS));
+  }
+
+  private SlaveBrowser createSlave(String id) {
+    BrowserInfo info = new BrowserInfo();
+    info.setId(Long.parseLong(id));
+    return new SlaveBrowser(new MockTime(0), id, info, SlaveBrowser.TIMEOUT, null,
+        CaptureHandler.QUIRKS, RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FilenameFilter;
+
+public class TestCaseDurationsTest extends TestCase {
+
+  private File file;
+
+  @Override
+  protected void setUp() throws Exception {
+    file = File.createTempFile("durations", ".properties");
+    file.delete();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    file.delete();
+  }
+
+  public void testAveragesWithHistory() throws Exception {
+    TestCaseDurations durations = new TestCaseDurations("");
+    assertEquals(TestCaseDurations.UNKNOWN, durations.get("a"));
+    durations.record("a", 100);
+    assertEquals(100, durations.get("a"));
+    durations.record("a", 300);
+    assertEquals(200, durations.get("a"));
+  }
+
+  public void testKeptBetweenRuns() throws Exception {
+    TestCaseDurations durations = new TestCaseDurations(file.getPath());
+    durations.record("path/to/a_test.js", 100);
+    durations.record("b=c", 20);
+    durations.save();
+
+    TestCaseDurations nextRun = new TestCaseDurations(file.getPath());
+    assertEquals(100, nextRun.get("path/to/a_test.js"));
+    assertEquals(20, nextRun.get("b=c"));
+    assertEquals(TestCaseDurations.UNKNOWN, nextRun.get("d"));
+    assertEquals(1, file.getParentFile().list(new FilenameFilter() {
+      public boolean accept(File dir, String name) {
+        return name.startsWith(file.getName());
+      }
+    }).length);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import com.google.common.collect.Lists;
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.FileInfo;
+import com.google.jstestdriver.browser.TestSharder.Shard;
+import com.google.jstestdriver.model.JstdTestCase;
+
+import junit.framework.TestCase;
+
+import java.util.Collections;
+import java.util.List;
+
+public class TestSharderTest extends TestCase {
+
+  private final BrowserInfo chrome1 = browser(1, "Chrome");
+  private final BrowserInfo chrome2 = browser(2, "Chrome");
+  private final BrowserInfo firefox = browser(3, "Firefox");
+  private final BrowserInfo chrome3 = browser(4, "Chrome");
+  private final TestCaseDurations durations = new TestCaseDurations("");
+
+  public void testSplitsTestNamesAcrossBrowsersOfTheSameType() throws Exception {
+    List<JstdTestCase> testCases = Lists.<JstdTestCase>newArrayList(testCase("default"));
+    List<String> tests = Lists.newArrayList("A.testA", "A.testB", "B", "C.testC");
+
+    List<Shard> shards = new TestSharder(durations).shard(
+        Lists.newArrayList(chrome2, firefox, chrome1), testCases, tests);
+
+    assertEquals(3, shards.size());
+    assertShard(shards.get(0), chrome1, chrome1, testCases, Lists.newArrayList("A.testA", "B"));
+    assertShard(shards.get(1), chrome2, chrome1, testCases,
+        Lists.newArrayList("A.testB", "C.testC"));
+    assertShard(shards.get(2), firefox, firefox, testCases, tests);
+  }
+
+  public void testSharesTestCasesSlowestFirstWhenRunningAll() throws Exception {
+    JstdTestCase one = testCase("one");
+    JstdTestCase two = testCase("two");
+    JstdTestCase three = testCase("three");
+    durations.record("one", 10);
+    durations.record("two", 300);
+    List<String> tests = Lists.newArrayList("all");
+
+    List<Shard> shards = new TestSharder(durations).shard(
+        Lists.newArrayList(chrome1, chrome2, chrome3, browser(5, "Chrome")),
+        Lists.<JstdTestCase>newArrayList(one, two, three), tests);
+
+    // the fourth browser has nothing left to run.
+    assertEquals(3, shards.size());
+    assertSame(chrome1, shards.get(0).getBrowser());
+    assertSame(chrome2, shards.get(1).getBrowser());
+    assertSame(chrome3, shards.get(2).getBrowser());
+    for (Shard shard : shards) {
+      assertSame(chrome1, shard.getReportAs());
+      assertSame(shards.get(0).getTestCases(), shard.getTestCases());
+      assertEquals(tests, shard.getTests());
+    }
+    // test cases that never ran may be the slowest.
+    assertEquals(Lists.<JstdTestCase>newArrayList(three, two, one),
+        drain(shards.get(0).getTestCases()));
+  }
+
+  public void testSingleTestCaseRunsOnOneBrowser() throws Exception {
+    List<JstdTestCase> testCases = Lists.<JstdTestCase>newArrayList(testCase("default"));
+    List<String> tests = Lists.newArrayList("all");
+
+    List<Shard> shards = new TestSharder(durations).shard(
+        Lists.newArrayList(chrome2, chrome1), testCases, tests);
+
+    assertEquals(1, shards.size());
+    assertShard(shards.get(0), chrome1, chrome1, testCases, tests);
+  }
+
+  public void testWithoutTestsSplitsTestCases() throws Exception {
+    JstdTestCase one = testCase("one");
+    JstdTestCase two = testCase("two");
+
+    List<Shard> shards = new TestSharder(durations).shard(
+        Lists.newArrayList(chrome1, chrome2), Lists.<JstdTestCase>newArrayList(one, two), null);
+
+    assertEquals(2, shards.size());
+    assertSame(shards.get(0).getTestCases(), shards.get(1).getTestCases());
+    assertNull(shards.get(1).getTests());
+    assertEquals(Lists.<JstdTestCase>newArrayList(one, two), drain(shards.get(1).getTestCases()));
+  }
+
+  private void assertShard(Shard shard, BrowserInfo browser, BrowserInfo reportAs,
+      List<JstdTestCase> testCases, List<String> tests) {
+    assertSame(browser, shard.getBrowser());
+    assertSame(reportAs, shard.getReportAs());
+    assertEquals(testCases, drain(shard.getTestCases()));
+    assertEquals(tests, shard.getTests());
+  }
+
+  private List<JstdTestCase> drain(TestCaseQueue queue) {
+    List<JstdTestCase> testCases = Lists.newArrayList();
+    for (JstdTestCase testCase = queue.next(); testCase != null; testCase = queue.next()) {
+      testCases.add(testCase);
+    }
+    return testCases;
+  }
+
+  private BrowserInfo browser(long id, String name) {
+    BrowserInfo browser = new BrowserInfo();
+    browser.setId(id);
+    browser.setName(name);
+    browser.setVersion("1.0");
+    browser.setOs("Linux");
+    return browser;
+  }
+
+  private JstdTestCase testCase(String id) {
+    return new JstdTestCase(Collections.<FileInfo>emptyList(),
+        Lists.newArrayList(new FileInfo(id + ".js", 0, -1, false, false, null, id + ".js")),
+        Collections.<FileInfo>emptyList(), id);
+  }
+}
@@ -591,6 +591,22 @@ public class PathResolverTest extends TestCase {
     assertEquals(file, result);
   }
 
+  public void testFilesAddedBeforeARefreshAreFound() throws Exception {
+    File codeDir = createTmpSubDir("code", tmpDirs.iterator().next());
+    createTmpFile(codeDir, "a.js");
+    PathResolver pathResolver = new PathResolver(tmpDirs,
+        Collections.<FileParsePostProcessor>emptySet(), new DisplayPathSanitizer());
+    Set<FileInfo> glob = Sets.newHashSet(
+        new FileInfo("code/*.js", -1, -1, false, false, null, "code/*.js"));
+
+    assertEquals(1, pathResolver.resolve(glob).size());
+    createTmpFile(codeDir, "b.js");
+    // the listing is reused within one configuration load.
+    assertEquals(1, pathResolver.resolve(glob).size());
+    pathResolver.refresh();
+    assertEquals(2, pathResolver.resolve(glob).size());
+  }
+
   public void testWindowsFileSeperator() throws Exception {
     try {
       File baseDir = createTmpSubDir("base", tmpDirs.iterator().next());
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.coverage;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+
+public class CachingInstrumentorTest extends TestCase {
+
+  private static final String SOURCE = "var a = 1;\nif (a) {\n  a = 2;\n}\n";
+
+  private File root;
+
+  @Override
+  protected void setUp() throws Exception {
+    root = File.createTempFile("instrumentation", "cache");
+    root.delete();
+    root.mkdir();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(root);
+  }
+
+  public void testCachedCodeIsInstrumentedForTheCurrentFileId() throws Exception {
+    InstrumentationCache cache = new InstrumentationCache(root, CodeInstrumentor.VERSION, 1024 * 1024);
+    CoverageNameMapper firstRun = new CoverageNameMapper();
+    new CachingInstrumentor(new CodeInstrumentor(firstRun), firstRun, cache)
+        .instrument(new Code("foo.js", SOURCE));
+
+    // another run loads the files in another order.
+    CoverageNameMapper secondRun = new CoverageNameMapper();
+    for (int i = 0; i < 12; i++) {
+      secondRun.map("other" + i + ".js");
+    }
+    InstrumentedCode cached = new CachingInstrumentor(new CodeInstrumentor(secondRun), secondRun,
+        cache).instrument(new Code("foo.js", SOURCE));
+
+    CoverageNameMapper expectedRun = new CoverageNameMapper();
+    for (int i = 0; i < 12; i++) {
+      expectedRun.map("other" + i + ".js");
+    }
+    InstrumentedCode expected = new CodeInstrumentor(expectedRun)
+        .instrument(new Code("foo.js", SOURCE));
+    assertEquals(expected.getFileId(), cached.getFileId());
+    assertEquals(expected.getExecutableLines(), cached.getExecutableLines());
+    assertEquals(expected.getInstrumentedCode(), cached.getInstrumentedCode());
+  }
+
+  public void testChangedSourceIsInstrumentedAgain() throws Exception {
+    InstrumentationCache cache = new InstrumentationCache(root, CodeInstrumentor.VERSION, 1024 * 1024);
+    CoverageNameMapper mapper = new CoverageNameMapper();
+    CachingInstrumentor instrumentor =
+        new CachingInstrumentor(new CodeInstrumentor(mapper), mapper, cache);
+    instrumentor.instrument(new Code("foo.js", SOURCE));
+
+    InstrumentedCode changed = instrumentor.instrument(new Code("foo.js", SOURCE + "a = 3;\n"));
+
+    assertTrue(changed.getInstrumentedCode().contains("a = 3;"));
+    assertTrue(changed.getExecutableLines().contains(5));
+  }
+
+  private void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
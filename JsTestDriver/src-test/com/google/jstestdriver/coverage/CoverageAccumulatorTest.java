@@ -74,6 +74,46 @@ public class CoverageAccumulatorTest extends TestCase {
     coverageWriter.assertLines(expected);
   }
 
+  public void testAddsConcurrently() throws Exception {
+    final CoverageAccumulator accumulator = new CoverageAccumulator();
+    Thread[] browsers = new Thread[4];
+    for (int i = 0; i < browsers.length; i++) {
+      final String browserId = "browser" + i;
+      browsers[i] = new Thread() {
+        @Override
+        public void run() {
+          for (int test = 0; test < 1000; test++) {
+            accumulator.add(browserId, Arrays.asList(
+                new FileCoverage(test % 200, Lists.newArrayList(new CoveredLine(1, 1),
+                                                                new CoveredLine(2 + test % 7, 0)))));
+          }
+        }
+      };
+      browsers[i].start();
+    }
+    for (Thread browser : browsers) {
+      browser.join();
+    }
+    CoverageWriterFake coverageWriter = new CoverageWriterFake();
+
+    accumulator.write(coverageWriter);
+
+    assertEquals(200, coverageWriter.coveredLines.size());
+    for (int fileId = 0; fileId < 200; fileId++) {
+      FileCoverage coverage = coverageWriter.coveredLines.get(fileId);
+      assertEquals(Integer.valueOf(fileId), coverage.getFileId());
+      // each browser reports every file 5 times.
+      assertEquals(new CoveredLine(1, 20), coverage.getLines().get(0));
+    }
+  }
+
+  public void testIgnoresUnknownFiles() throws Exception {
+    CoverageAccumulator accumulator = new CoverageAccumulator();
+    accumulator.add("ff", Arrays.asList(
+        new FileCoverage(-1, Lists.newArrayList(new CoveredLine(1, 1)))));
+    assertEquals(new CoverageAccumulator(), accumulator);
+  }
+
   private final class CoverageWriterFake implements CoverageWriter {
     List<CoveredLine> lines = new LinkedList<CoveredLine>();
     List<FileCoverage> coveredLines = new ArrayList<FileCoverage>();
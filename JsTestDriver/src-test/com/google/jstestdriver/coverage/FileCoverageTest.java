@@ -76,4 +76,49 @@ public class FileCoverageTest extends TestCase {
  
     assertEquals(expected, coverages);
   }
+
+  public void testDeserializeCoveragesIntoAccumulator() throws Exception {
+    CoverageAccumulator accumulator = new CoverageAccumulator();
+    FileCoverageDeserializer deserializer = new FileCoverageDeserializer();
+    deserializer.deserializeCoverages(
+        "[[1,[[0,1],[1, 1], [2,0]]], [2,[[0,12]]], [3,[]]]", "ff", accumulator);
+    deserializer.deserializeCoverages(" [ [1, [[1,2]] ] ] ", "ff", accumulator);
+    deserializer.deserializeCoverages("[]", "ff", accumulator);
+
+    CoverageAccumulator expected = new CoverageAccumulator();
+    expected.add("ff", Lists.newArrayList(
+        new FileCoverage(1, Lists.newArrayList(new CoveredLine(0, 1),
+                                               new CoveredLine(1, 3),
+                                               new CoveredLine(2, 0))),
+        new FileCoverage(2, Lists.newArrayList(new CoveredLine(0, 12)))));
+    assertEquals(expected, accumulator);
+  }
+
+  public void testDeserializeManyLinesIntoAccumulator() throws Exception {
+    StringBuilder coverage = new StringBuilder("[[4,[");
+    List<CoveredLine> lines = Lists.newArrayList();
+    for (int line = 0; line < 1000; line++) {
+      coverage.append(line == 0 ? "" : ",").append("[").append(line).append(",").append(line % 5)
+          .append("]");
+      lines.add(new CoveredLine(line, line % 5));
+    }
+    coverage.append("]]]");
+    CoverageAccumulator accumulator = new CoverageAccumulator();
+
+    new FileCoverageDeserializer().deserializeCoverages(coverage, "ff", accumulator);
+
+    CoverageAccumulator expected = new CoverageAccumulator();
+    expected.add("ff", Lists.newArrayList(new FileCoverage(4, lines)));
+    assertEquals(expected, accumulator);
+  }
+
+  public void testDeserializeMalformedCoverage() throws Exception {
+    try {
+      new FileCoverageDeserializer().deserializeCoverages(
+          "[[1,[[0,1],[1,]]]]", "ff", new CoverageAccumulator());
+      fail("expected a format error");
+    } catch (RuntimeException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("unrecognized format"));
+    }
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.coverage;
+
+import com.google.common.collect.Lists;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+
+public class InstrumentationCacheTest extends TestCase {
+
+  private File root;
+
+  @Override
+  protected void setUp() throws Exception {
+    root = File.createTempFile("instrumentation", "cache");
+    root.delete();
+    root.mkdir();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    delete(root);
+  }
+
+  public void testStoresInstrumentedCode() throws Exception {
+    InstrumentationCache cache = new InstrumentationCache(root, "1", 1024 * 1024);
+    assertNull(cache.get("abc", "foo.js"));
+
+    cache.put("abc", new InstrumentedCode(3, "foo.js", Lists.newArrayList(1, 4), "a\n\u00e9"));
+    InstrumentedCode cached =
+        new InstrumentationCache(root, "1", 1024 * 1024).get("abc", "bar.js");
+
+    assertEquals(Integer.valueOf(3), cached.getFileId());
+    assertEquals("bar.js", cached.getPath());
+    assertEquals(Lists.newArrayList(1, 4), cached.getExecutableLines());
+    assertEquals("a\n\u00e9", cached.getInstrumentedCode());
+  }
+
+  public void testKeepsOtherVersionsApart() throws Exception {
+    InstrumentationCache one = new InstrumentationCache(root, "1", 1024);
+    one.put("abc", code(10));
+    InstrumentationCache two = new InstrumentationCache(root, "2", 1024);
+    two.put("def", code(10));
+
+    assertNull(two.get("abc", "foo.js"));
+    // a run with the other version may still be using it.
+    assertNotNull(one.get("abc", "foo.js"));
+  }
+
+  public void testLeavesNoTemporaryFiles() throws Exception {
+    InstrumentationCache cache = new InstrumentationCache(root, "1", 1024);
+    cache.put("abc", code(10));
+    cache.put("abc", code(20));
+
+    File directory = new File(root, InstrumentationCache.DIRECTORY + "/1");
+    assertEquals(Lists.newArrayList("abc.lcov"), Lists.newArrayList(directory.list()));
+  }
+
+  public void testKeepsOtherDirectoriesOfTheRoot() throws Exception {
+    File unrelated = new File(root, "unrelated");
+    unrelated.mkdir();
+    File file = new File(unrelated, "file.txt");
+    file.createNewFile();
+
+    new InstrumentationCache(root, "1", 1024).put("abc", code(10));
+
+    assertTrue(file.exists());
+    assertTrue(new File(root, InstrumentationCache.DIRECTORY + "/1/abc.lcov").exists());
+  }
+
+  public void testEvictsLeastRecentlyUsed() throws Exception {
+    InstrumentationCache cache = new InstrumentationCache(root, "1", 350);
+    cache.put("one", code(100));
+    cache.put("two", code(100));
+    cache.put("three", code(100));
+    // file times have a precision of a second on some file systems.
+    new File(root, InstrumentationCache.DIRECTORY + "/1/one.lcov").setLastModified(System.currentTimeMillis() - 20000);
+    new File(root, InstrumentationCache.DIRECTORY + "/1/two.lcov").setLastModified(System.currentTimeMillis() - 30000);
+    new File(root, InstrumentationCache.DIRECTORY + "/1/three.lcov").setLastModified(System.currentTimeMillis() - 10000);
+    assertNotNull(cache.get("two", "foo.js"));
+
+    cache.put("four", code(100));
+
+    assertNull(cache.get("one", "foo.js"));
+    assertNull(cache.get("three", "foo.js"));
+    assertNotNull(cache.get("two", "foo.js"));
+    assertNotNull(cache.get("four", "foo.js"));
+  }
+
+  public void testDisabledWithoutSize() throws Exception {
+    InstrumentationCache cache = new InstrumentationCache(root, "1", 0);
+    cache.put("abc", code(10));
+    assertNull(cache.get("abc", "foo.js"));
+  }
+
+  private InstrumentedCode code(int length) {
+    StringBuilder code = new StringBuilder();
+    while (code.length() < length) {
+      code.append(';');
+    }
+    return new InstrumentedCode(1, "foo.js", Lists.<Integer>newArrayList(), code.toString());
+  }
+
+  private void delete(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
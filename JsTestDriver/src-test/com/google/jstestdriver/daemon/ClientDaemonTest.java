@@ -0,0 +1,143 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.daemon;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Module;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ClientDaemonTest extends TestCase {
+
+  private static final int PORT = 4237;
+
+  private final List<Module> warmStates = Lists.newArrayList();
+  private final List<PrintStream> processStreams = Lists.newArrayList();
+  private File tokenFile;
+  private ClientDaemon daemon;
+  private Thread serving;
+
+  @Override
+  protected void setUp() throws Exception {
+    tokenFile = File.createTempFile("daemon", ".token");
+    daemon = new ClientDaemon(PORT, tokenFile, new ClientDaemon.Runner() {
+      public int run(String[] args, Module warmState, PrintStream out, PrintStream err) {
+        warmStates.add(warmState);
+        processStreams.add(System.out);
+        processStreams.add(System.err);
+        out.print("ran " + Arrays.asList(args));
+        err.print("warnings");
+        return args.length;
+      }
+    }, 200);
+    daemon.start();
+    serving = new Thread() {
+      @Override
+      public void run() {
+        daemon.serve();
+      }
+    };
+    serving.start();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    daemon.stop();
+    serving.join(1000);
+    tokenFile.delete();
+  }
+
+  public void testStreamsTheRunBack() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    Integer status = new DaemonClient(PORT, tokenFile).submit(
+        new String[] {"--tests", "all"}, new PrintStream(out), new PrintStream(err));
+
+    assertEquals(Integer.valueOf(2), status);
+    assertEquals("ran [--tests, all]", out.toString());
+    assertEquals("warnings", err.toString());
+  }
+
+  public void testLeavesTheProcessStreamsAlone() throws Exception {
+    PrintStream ignored = new PrintStream(new ByteArrayOutputStream());
+    new DaemonClient(PORT, tokenFile).submit(new String[0], ignored, ignored);
+
+    assertEquals(2, processStreams.size());
+    assertSame(System.out, processStreams.get(0));
+    assertSame(System.err, processStreams.get(1));
+  }
+
+  public void testKeepsTheStateBetweenRuns() throws Exception {
+    PrintStream ignored = new PrintStream(new ByteArrayOutputStream());
+    DaemonClient client = new DaemonClient(PORT, tokenFile);
+    client.submit(new String[0], ignored, ignored);
+    client.submit(new String[0], ignored, ignored);
+
+    assertEquals(2, warmStates.size());
+    assertNotNull(warmStates.get(0));
+    assertSame(warmStates.get(0), warmStates.get(1));
+  }
+
+  public void testRefusesClientsWithoutTheToken() throws Exception {
+    File otherToken = File.createTempFile("other", ".token");
+    try {
+      ByteArrayOutputStream err = new ByteArrayOutputStream();
+      assertNull(new DaemonClient(PORT, otherToken).submit(new String[0],
+          new PrintStream(new ByteArrayOutputStream()), new PrintStream(err)));
+      assertTrue(warmStates.isEmpty());
+    } finally {
+      otherToken.delete();
+    }
+  }
+
+  public void testIdleConnectionDoesNotBlockTheNextRun() throws Exception {
+    Socket idle = new Socket(InetAddress.getByName(null), PORT);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Integer> status = executor.submit(new Callable<Integer>() {
+        public Integer call() throws Exception {
+          PrintStream ignored = new PrintStream(new ByteArrayOutputStream());
+          return new DaemonClient(PORT, tokenFile).submit(new String[0], ignored, ignored);
+        }
+      });
+
+      assertEquals(Integer.valueOf(0), status.get(5, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+      idle.close();
+    }
+  }
+
+  public void testNoDaemon() throws Exception {
+    daemon.stop();
+    PrintStream ignored = new PrintStream(new ByteArrayOutputStream());
+    assertNull(new DaemonClient(PORT, tokenFile).submit(new String[0], ignored, ignored));
+  }
+}
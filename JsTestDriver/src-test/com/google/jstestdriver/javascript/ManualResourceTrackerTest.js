@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011 Google Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+var ManualResourceTrackerTest = TestCase("ManualResourceTrackerTest");
+
+
+ManualResourceTrackerTest.prototype.setUp = function() {
+  var loads = this.loads_ = [];
+  this.loader_ = {
+    beginLoad : function(file, onFileLoaded, opt_firstLine) {
+      loads.push(['begin', file.fileSrc, opt_firstLine]);
+      this.onFileLoaded = onFileLoaded;
+      this.file = file;
+    },
+    endLoad : function(file) {
+      loads.push(['end', file.fileSrc]);
+      this.onFileLoaded(new jstestdriver.FileResult(file, true, '', 0));
+    },
+    beginBundle : function(onError) {
+      this.onBundleError = onError;
+    }
+  };
+  this.tracker_ = new jstestdriver.ManualResourceTracker(
+      function(json) { return eval('(' + json + ')'); },
+      null,
+      null,
+      null,
+      this.loader_);
+};
+
+
+ManualResourceTrackerTest.prototype.testStartResourceLoadPassesFirstLine = function() {
+  this.tracker_.startResourceLoad('{"fileSrc":"/test/a.js"}', 2);
+  this.tracker_.finishResourceLoad('{"fileSrc":"/test/a.js"}');
+
+  assertEquals('/test/a.js', this.loads_[0][1]);
+  assertEquals(2, this.loads_[0][2]);
+  assertEquals(1, this.tracker_.getResults().length);
+};
+
+
+ManualResourceTrackerTest.prototype.testFinishBundleReportsFilesTheBundleDidNotReach = function() {
+  this.tracker_.startBundle('[{"fileSrc":"/test/a.js"},{"fileSrc":"/test/b.js"},' +
+      '{"fileSrc":"/test/c.js"}]', '[2,5,8]');
+  this.tracker_.startResourceLoad('{"fileSrc":"/test/a.js"}', 2);
+  this.tracker_.finishResourceLoad('{"fileSrc":"/test/a.js"}');
+  this.tracker_.startResourceLoad('{"fileSrc":"/test/b.js"}', 5);
+  // b.js throws, and the rest of the bundle doesn't run.
+  this.loader_.onFileLoaded(
+      new jstestdriver.FileResult(this.loader_.file, false, 'error', 0));
+
+  this.tracker_.finishBundle();
+
+  var results = this.tracker_.getResults();
+  assertEquals(3, results.length);
+  assertTrue(results[0].success);
+  assertFalse(results[1].success);
+  assertEquals('/test/c.js', results[2].file.fileSrc);
+  assertFalse(results[2].success);
+  assertEquals('error loading file: /test/c.js: not loaded, the bundle stopped at /test/b.js',
+      results[2].message);
+  assertEquals(3, this.loads_.length);
+};
+
+
+ManualResourceTrackerTest.prototype.testFinishBundleReportsTheFileThatFailedToParse = function() {
+  this.tracker_.startBundle('[{"fileSrc":"/test/a.js"},{"fileSrc":"/test/b.js"},' +
+      '{"fileSrc":"/test/c.js"}]', '[2,5,8]');
+  this.loader_.onBundleError('SyntaxError', 6);
+
+  this.tracker_.finishBundle();
+
+  var results = this.tracker_.getResults();
+  assertEquals(3, results.length);
+  assertEquals('/test/b.js', results[0].file.fileSrc);
+  assertEquals('error loading file: /test/b.js:2: SyntaxError', results[0].message);
+  assertEquals('/test/a.js', results[1].file.fileSrc);
+  assertEquals('error loading file: /test/a.js: not loaded, the bundle stopped at /test/b.js',
+      results[1].message);
+  assertEquals('/test/c.js', results[2].file.fileSrc);
+  assertFalse(results[2].success);
+  assertEquals(0, this.loads_.length);
+};
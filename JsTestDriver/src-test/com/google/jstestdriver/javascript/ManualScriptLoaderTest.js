@@ -98,3 +98,30 @@ ManualScriptLoaderTest.prototype.testBeginLoadAndComplete = function() {
   assertEquals(this.src_.fileSrc, this.testCaseManager_.removed);
   assertEquals(this.src_.fileSrc, this.testCaseManager_.updated);
 };
+
+
+ManualScriptLoaderTest.prototype.testBundleErrorIsReportedAgainstLoadingFile = function() {
+  this.loader_.beginLoad(this.src_, this.onFinish_, 12);
+  this.now_.currentTime++;
+  this.win_.onerror('error', 'http://localhost/test/.bundle/default/3.js', 21);
+
+  var result = new jstestdriver.FileResult(
+      this.src_,
+      false,
+      'error loading file: /test/foo.js:10: error',
+      1);
+
+  assertEquals(result, this.onFinish_.result);
+};
+
+
+ManualScriptLoaderTest.prototype.testBundleErrorBeforeAnyFileIsPassedOn = function() {
+  var errors = [];
+  this.loader_.beginBundle(function(msg, line) {
+    errors.push([msg, line]);
+  });
+  this.win_.onerror('SyntaxError', 'http://localhost/test/.bundle/default/3.js', 21);
+
+  assertEquals([['SyntaxError', 21]], errors);
+  assertEquals(jstestdriver.EMPTY_FUNC, this.win_.onerror);
+};
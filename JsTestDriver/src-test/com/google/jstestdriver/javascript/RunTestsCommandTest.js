@@ -59,5 +59,5 @@ RunTestsCommandTest.prototype.testCallPluginOnTestResultAdded = function() {
   executor.addTestResult(result);
   executor.sendTestResults();
   assertNotNull(testResponse);
-  assertEquals(JSON.stringify([expected]), testResponse.response);
+  assertEquals(JSON.stringify([expected]), JSON.stringify(testResponse.data));
 };
\ No newline at end of file
@@ -113,6 +113,28 @@ StreamingServiceTest.prototype.testStreamOutOfOrderAndClose = function() {
 };
 
 
+StreamingServiceTest.prototype.testPostsRefusedResponsesAgain = function() {
+  function callback() {}
+  var response = new jstestdriver.Response('test', '1', {}, null);
+
+  this.streamingService.stream(response, callback);
+  var streamPost = this.posts.pop();
+
+  this.streamingService.streamRefused([streamPost.data.responseId]);
+  var retryPost = this.posts.pop();
+  assertNotNull("A refused response should be posted again", retryPost);
+  assertEquals(callback, retryPost.callback);
+  assertEquals(response, retryPost.data.response);
+  assertEquals(streamPost.data.responseId, retryPost.data.responseId);
+  assertTrue(this.streamingService.hasOpenResponses());
+
+  this.streamingService.streamAcknowledged([streamPost.data.responseId]);
+  assertFalse(this.streamingService.hasOpenResponses());
+  this.streamingService.streamRefused([streamPost.data.responseId]);
+  assertEquals("Acknowledged responses are not posted again", 0, this.posts.length);
+};
+
+
 StreamingServiceTest.prototype.testClose = function() {
   function callback() {}
   var finalResponse = new jstestdriver.Response('test', '3', {}, null);
@@ -120,3 +142,81 @@ StreamingServiceTest.prototype.testClose = function() {
   var closePost = this.posts.pop();
   assertNotNull('final response should be sent immediately', closePost);
 };
+
+
+StreamingServiceTest.prototype.testBatchesTestResults = function() {
+  var timeouts = [];
+  this.streamingService.setTimeout_ = function(func, timeout) {
+    timeouts.push(func);
+  };
+  function callback() {}
+  var resultOne = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.TEST_RESULT, '1', {}, null);
+  var resultTwo = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.TEST_RESULT, '2', {}, null);
+
+  this.streamingService.stream(resultOne, callback);
+  this.streamingService.stream(resultTwo, callback);
+  assertEquals("Only the batch window should be waiting", 1, timeouts.length);
+
+  timeouts.shift()();
+  timeouts.shift()();
+  assertEquals(1, this.posts.length);
+  var batch = this.posts.pop().data.responses;
+  assertEquals(2, batch.length);
+  assertEquals(resultOne, batch[0].response);
+  assertEquals(resultTwo, batch[1].response);
+  assertFalse(batch[0].done);
+  assertNotEquals("Every response needs its own id",
+                  batch[0].responseId, batch[1].responseId);
+  assertTrue(this.streamingService.hasOpenResponses());
+
+  this.streamingService.streamAcknowledged(
+      [batch[0].responseId, batch[1].responseId]);
+  assertFalse(this.streamingService.hasOpenResponses());
+};
+
+
+StreamingServiceTest.prototype.testOtherResponsesFlushTheBatch = function() {
+  var timeouts = [];
+  this.streamingService.setTimeout_ = function(func, timeout) {
+    timeouts.push(func);
+  };
+  function callback() {}
+  var result = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.TEST_RESULT, '1', {}, null);
+  var log = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.LOG, '2', {}, null);
+
+  this.streamingService.stream(result, callback);
+  this.streamingService.stream(log, callback);
+  timeouts.pop()();
+
+  var batch = this.posts.pop().data.responses;
+  assertEquals(2, batch.length);
+  assertEquals(result, batch[0].response);
+  assertEquals(log, batch[1].response);
+};
+
+
+StreamingServiceTest.prototype.testFullBatchIsPostedAtOnce = function() {
+  this.streamingService.batchSize_ = 2;
+  this.streamingService.setTimeout_ = function(func, timeout) {
+    if (timeout == 1) {
+      func();
+    }
+  };
+  function callback() {}
+  for (var i = 0; i < 3; i++) {
+    this.streamingService.stream(new jstestdriver.Response(
+        jstestdriver.RESPONSE_TYPES.TEST_RESULT, String(i), {}, null), callback);
+  }
+
+  assertEquals(1, this.posts.length);
+  assertEquals(2, this.posts.pop().data.responses.length);
+
+  this.streamingService.close(
+      new jstestdriver.Response('test', '3', {}, null), callback);
+  assertEquals("Closing posts the rest of the batch first",
+               '2', this.posts.shift().data.response.response);
+};
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.gson.JsonObject;
+
+import junit.framework.TestCase;
+
+public class MetricsRegistryTest extends TestCase {
+
+  public void testCountersAreKeptByNameAndLabels() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("requests", "handler", "a").increment();
+    registry.counter("requests", "handler", "a").add(2);
+    registry.counter("requests", "handler", "b").increment();
+
+    assertEquals(3, registry.counter("requests", "handler", "a").getCount());
+    assertEquals(1, registry.counter("requests", "handler", "b").getCount());
+    assertEquals(2, registry.getMetrics().size());
+  }
+
+  public void testWritesTextFormat() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("requests_total", "handler", "Home").increment();
+    registry.counter("requests_total", "handler", "Say \"hi\"\n").increment();
+    registry.gauge("requests", new Gauge() {
+      public long getValue() {
+        return 7;
+      }
+    });
+    Histogram histogram = registry.histogram("wait_millis");
+    histogram.observe(0);
+    histogram.observe(3);
+    histogram.observe(20000);
+
+    StringBuilder text = new StringBuilder();
+    registry.writeText(text);
+    assertEquals("# TYPE requests_total counter\n"
+        + "requests_total{handler=\"Home\"} 1\n"
+        + "requests_total{handler=\"Say \\\"hi\\\"\\n\"} 1\n"
+        + "# TYPE requests gauge\n"
+        + "requests 7\n"
+        + "# TYPE wait_millis histogram\n"
+        + "wait_millis_bucket{le=\"1\"} 1\n"
+        + "wait_millis_bucket{le=\"2\"} 1\n"
+        + "wait_millis_bucket{le=\"5\"} 2\n"
+        + "wait_millis_bucket{le=\"10\"} 2\n"
+        + "wait_millis_bucket{le=\"25\"} 2\n"
+        + "wait_millis_bucket{le=\"50\"} 2\n"
+        + "wait_millis_bucket{le=\"100\"} 2\n"
+        + "wait_millis_bucket{le=\"250\"} 2\n"
+        + "wait_millis_bucket{le=\"500\"} 2\n"
+        + "wait_millis_bucket{le=\"1000\"} 2\n"
+        + "wait_millis_bucket{le=\"2500\"} 2\n"
+        + "wait_millis_bucket{le=\"5000\"} 2\n"
+        + "wait_millis_bucket{le=\"10000\"} 2\n"
+        + "wait_millis_bucket{le=\"+Inf\"} 3\n"
+        + "wait_millis_sum 20003\n"
+        + "wait_millis_count 3\n", text.toString());
+  }
+
+  public void testWritesJson() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("requests_total", "handler", "Home").add(4);
+    registry.histogram("wait_millis", "browser", "1").observe(30);
+
+    JsonObject json = registry.toJson();
+    JsonObject counter = json.getAsJsonArray("metrics").get(0).getAsJsonObject();
+    assertEquals("requests_total", counter.get("name").getAsString());
+    assertEquals("counter", counter.get("type").getAsString());
+    assertEquals("Home", counter.getAsJsonObject("labels").get("handler").getAsString());
+    assertEquals(4, counter.get("value").getAsLong());
+    JsonObject histogram = json.getAsJsonArray("metrics").get(1).getAsJsonObject();
+    assertEquals("histogram", histogram.get("type").getAsString());
+    assertEquals(1, histogram.get("count").getAsLong());
+    assertEquals(30, histogram.get("sum").getAsLong());
+    assertEquals(0, histogram.getAsJsonObject("buckets").get("25").getAsLong());
+    assertEquals(1, histogram.getAsJsonObject("buckets").get("50").getAsLong());
+  }
+
+  public void testRemovedMetricsAreNotWritten() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.gauge("depth", new Gauge() {
+      public long getValue() {
+        return 1;
+      }
+    }, "browser", "1");
+    registry.remove("depth", "browser", "1");
+
+    StringBuilder text = new StringBuilder();
+    registry.writeText(text);
+    assertEquals("", text.toString());
+  }
+
+  public void testNameIsOneType() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("requests");
+    try {
+      registry.histogram("requests");
+      fail("expected IllegalStateException");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  public void testLabelsArePairs() throws Exception {
+    try {
+      new MetricsRegistry().counter("requests", "handler");
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.CapturedBrowsers;
+import com.google.jstestdriver.MockTime;
+import com.google.jstestdriver.SlaveBrowser;
+import com.google.jstestdriver.SlaveBrowser.BrowserState;
+import com.google.jstestdriver.browser.BrowserIdStrategy;
+import com.google.jstestdriver.runner.RunnerType;
+import com.google.jstestdriver.server.JstdTestCaseStore;
+import com.google.jstestdriver.server.handlers.CaptureHandler;
+
+import junit.framework.TestCase;
+
+import org.joda.time.Instant;
+
+import java.util.concurrent.TimeUnit;
+
+public class ServerMetricsTest extends TestCase {
+
+  public void testBrowserMetricsFollowCapture() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    CapturedBrowsers capturedBrowsers =
+        new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    new ServerMetrics(registry, capturedBrowsers, new JstdTestCaseStore());
+    SlaveBrowser slave = new SlaveBrowser(new MockTime(0), "1", new BrowserInfo(),
+        SlaveBrowser.TIMEOUT, null, CaptureHandler.QUIRKS, RunnerType.CLIENT,
+        BrowserState.CAPTURED, new Instant(0));
+    slave.setDequeueTimeout(0, TimeUnit.MILLISECONDS);
+
+    capturedBrowsers.addSlave(slave);
+    slave.createCommand("command");
+    slave.dequeueCommand();
+    slave.dequeueCommand();
+
+    StringBuilder text = new StringBuilder();
+    registry.writeText(text);
+    assertTrue(text.toString(), text.indexOf("jstd_captured_browsers 1\n") != -1);
+    assertTrue(text.toString(),
+        text.indexOf("jstd_browser_command_queue_depth{browser=\"1\"} 0\n") != -1);
+    assertTrue(text.toString(), text.indexOf("jstd_store_files 0\n") != -1);
+    assertEquals(2, registry.histogram(ServerMetrics.DEQUEUE_WAIT, "browser", "1").getCount());
+
+    capturedBrowsers.removeSlave("1");
+    text = new StringBuilder();
+    registry.writeText(text);
+    assertEquals(text.toString(), -1, text.indexOf("browser=\"1\""));
+  }
+
+  public void testCaptureToReadyIsRecordedOnce() throws Exception {
+    MetricsRegistry registry = new MetricsRegistry();
+    CapturedBrowsers capturedBrowsers =
+        new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    new ServerMetrics(registry, capturedBrowsers, new JstdTestCaseStore());
+    SlaveBrowser slave = new SlaveBrowser(new MockTime(0), "1", new BrowserInfo(),
+        SlaveBrowser.TIMEOUT, null, CaptureHandler.QUIRKS, RunnerType.CLIENT,
+        BrowserState.CAPTURED, new Instant(0));
+
+    capturedBrowsers.addSlave(slave);
+    slave.ready();
+    slave.ready();
+
+    assertEquals(1, registry.histogram(ServerMetrics.CAPTURE_TO_READY).getCount());
+  }
+}
@@ -48,12 +48,29 @@ public class DefaultListenerTest extends TestCase {
     printer.finish();
     assertEquals(".FE" + NEW_LINE +
         "Total 3 tests (Passed: 1; Fails: 1; Errors: 1) (6.00 ms)" + NEW_LINE +
+        "  Test times: p50 2.00 ms; p90 3.00 ms; p99 3.00 ms; max 3.00 ms (C.f)" + NEW_LINE +
         "  TB 1 os: Run 3 tests (Passed: 1; Fails: 1; Errors 1) (6.00 ms)" + NEW_LINE +
         "    B.e failed (2.00 ms): abc" + NEW_LINE + "      stack" + NEW_LINE + NEW_LINE +
         "    C.f error (3.00 ms): abc" + NEW_LINE + "      stack" + NEW_LINE + NEW_LINE,
         buf.toString());
   }
 
+  public void testPrintsTailOfTestTimes() throws Exception {
+    DefaultListener printer = new DefaultListener(out, false);
+    BrowserInfo browser = new BrowserInfo();
+
+    browser.setName("TB");
+    browser.setVersion("1");
+    browser.setOs("os");
+    for (int i = 100; i > 0; i--) {
+      printer.onTestComplete(testResult(browser, "passed", "", "", "A", "t" + i, i));
+    }
+    printer.finish();
+    assertTrue(buf.toString(), buf.toString().contains(
+        "  Test times: p50 50.00 ms; p90 90.00 ms; p99 99.00 ms; max 100.00 ms (A.t100)"
+        + NEW_LINE));
+  }
+
   public void testEachTestPrintsDotAndWrapsLongLine() throws Exception {
     DefaultListener printer = new DefaultListener(out, false);
     BrowserInfo browser = new BrowserInfo();
@@ -81,6 +98,7 @@ public class DefaultListenerTest extends TestCase {
     printer.finish();
     assertEquals("." + NEW_LINE +
         "Total 1 tests (Passed: 1; Fails: 0; Errors: 0) (1.00 ms)" + NEW_LINE +
+        "  Test times: p50 1.00 ms; p90 1.00 ms; p99 1.00 ms; max 1.00 ms (A.d)" + NEW_LINE +
         "  TB 1 os: Run 1 tests (Passed: 1; Fails: 0; Errors 0) (1.00 ms)" + NEW_LINE +
         "    A.d passed (1.00 ms)" + NEW_LINE +
         "      [LOG] some log" + NEW_LINE, buf.toString());
@@ -98,6 +116,7 @@ public class DefaultListenerTest extends TestCase {
     assertEquals("TB 1 os [PASSED] A.d" + NEW_LINE +
         "  [LOG] some log" + NEW_LINE +
         "Total 1 tests (Passed: 1; Fails: 0; Errors: 0) (1.00 ms)" + NEW_LINE +
+        "  Test times: p50 1.00 ms; p90 1.00 ms; p99 1.00 ms; max 1.00 ms (A.d)" + NEW_LINE +
         "  TB 1 os: Run 1 tests (Passed: 1; Fails: 0; Errors 0) (1.00 ms)" + NEW_LINE,
         buf.toString());
   }
@@ -118,6 +137,7 @@ public class DefaultListenerTest extends TestCase {
     printer.finish();
     assertEquals(".FE" + NEW_LINE +
         "Total 3 tests (Passed: 1; Fails: 1; Errors: 1) (6.00 ms)" + NEW_LINE +
+        "  Test times: p50 2.00 ms; p90 3.00 ms; p99 3.00 ms; max 3.00 ms (C.f)" + NEW_LINE +
         "  TB 1 os: Run 3 tests (Passed: 1; Fails: 1; Errors 1) (6.00 ms)" + NEW_LINE +
         "    A.d passed (1.00 ms)" + NEW_LINE +
         "      [LOG] some log" + NEW_LINE +
@@ -162,6 +182,7 @@ public class DefaultListenerTest extends TestCase {
         "TB 1 os [ERROR] C.f" + NEW_LINE +
         "  [LOG] error log" + NEW_LINE +
         "Total 3 tests (Passed: 1; Fails: 1; Errors: 1) (6.00 ms)" + NEW_LINE +
+        "  Test times: p50 2.00 ms; p90 3.00 ms; p99 3.00 ms; max 3.00 ms (C.f)" + NEW_LINE +
         "  TB 1 os: Run 3 tests (Passed: 1; Fails: 1; Errors 1) (6.00 ms)" + NEW_LINE +
         "    B.e failed (2.00 ms): abc" + NEW_LINE +
         "      stack" + NEW_LINE + NEW_LINE +
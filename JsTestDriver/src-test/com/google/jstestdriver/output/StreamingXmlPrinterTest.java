@@ -0,0 +1,141 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.output;
+
+import static com.google.jstestdriver.TestResult.Result.error;
+import static com.google.jstestdriver.TestResult.Result.failed;
+import static com.google.jstestdriver.TestResult.Result.passed;
+import static java.io.File.createTempFile;
+import static java.util.Arrays.asList;
+
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.TestResult;
+
+import junit.framework.TestCase;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+public class StreamingXmlPrinterTest extends TestCase {
+  File tempFile;
+  BrowserInfo firefox = makeBrowser("Firefox", "Linux", "2.5", 1);
+  BrowserInfo firefox2 = makeBrowser("Firefox", "Linux", "2.5", 2);
+  BrowserInfo safari = makeBrowser("Safari", "MacIntel", "3", 3);
+
+  String stdout = "Some standard out\n logging ]]> <done>";
+  TestResult firefoxPassed1 =
+      new TestResult(firefox, passed.toString(), "", stdout, "testCase1", "test1", 1.0f);
+  TestResult firefoxPassed2 =
+      new TestResult(firefox2, passed.toString(), "", "", "testCase1", "test1", 2.0f);
+  TestResult firefoxFailed3 =
+      new TestResult(firefox, failed.toString(), "{\"message\":\"a < b & c\"}", "", "testCase1",
+          "test2", 1.0f);
+  TestResult safariError1 =
+      new TestResult(safari, error.toString(), "", "", "testCase1", "test4", 4.0f);
+  TestResult safariPassed1 =
+      new TestResult(safari, passed.toString(), "", "", "testCase2", "test4", 4.0f);
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    tempFile = createTempFile(getName(), "tmp");
+    tempFile.delete();
+    tempFile.mkdirs();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    super.tearDown();
+    for (File file : tempFile.listFiles()) {
+      file.delete();
+    }
+    tempFile.delete();
+  }
+
+  public void testWritesTheSameFilesAsTheXmlPrinter() throws Exception {
+    StreamingXmlPrinter printer =
+        new StreamingXmlPrinter(tempFile.getAbsolutePath(), new FileNameFormatter());
+    for (TestResult testResult : asList(firefoxPassed1, firefoxPassed2, firefoxFailed3,
+        safariError1, safariPassed1)) {
+      printer.onTestComplete(testResult);
+    }
+    printer.writeXmlReportFiles();
+    String[] files = tempFile.list();
+
+    assertEquals(4, files.length);
+    Arrays.sort(files);
+    assertEquals("TEST-Firefox_25_Linux.testCase1.xml", files[0]);
+    assertEquals("TEST-Firefox_25_Linux_2.testCase1.xml", files[1]);
+    assertEquals("TEST-Safari_3_MacIntel.testCase1.xml", files[2]);
+    assertEquals("TEST-Safari_3_MacIntel.testCase2.xml", files[3]);
+
+    Element suite = parse(files[0]);
+    assertEquals("Firefox_25_Linux.testCase1", suite.getAttribute("name"));
+    assertEquals("2", suite.getAttribute("tests"));
+    assertEquals("1", suite.getAttribute("failures"));
+    assertEquals("0", suite.getAttribute("errors"));
+    NodeList testCases = suite.getElementsByTagName("testcase");
+    assertEquals(2, testCases.getLength());
+    assertEquals(stdout, ((Element) testCases.item(0))
+        .getElementsByTagName("system-out").item(0).getTextContent());
+    Element failure = (Element) suite.getElementsByTagName("failure").item(0);
+    assertEquals("a < b & c", failure.getAttribute("message"));
+
+    assertEquals("1", parse(files[2]).getAttribute("errors"));
+  }
+
+  public void testReportsAreWellFormedBeforeTheRunFinishes() throws Exception {
+    StreamingXmlPrinter printer =
+        new StreamingXmlPrinter(tempFile.getAbsolutePath(), new FileNameFormatter());
+    printer.onTestComplete(firefoxPassed1);
+    printer.finish();
+    printer.onTestComplete(firefoxFailed3);
+
+    Element suite = parse("TEST-Firefox_25_Linux.testCase1.xml");
+    assertEquals(2, suite.getElementsByTagName("testcase").getLength());
+    assertEquals("the totals of the last finish", "1", suite.getAttribute("tests"));
+    assertEquals("0", suite.getAttribute("failures"));
+  }
+
+  public void testWritesNothingWithoutAnOutputDirectory() throws Exception {
+    StreamingXmlPrinter printer = new StreamingXmlPrinter("", new FileNameFormatter());
+    printer.onTestComplete(firefoxPassed1);
+    printer.finish();
+
+    assertEquals(0, tempFile.list().length);
+  }
+
+  private Element parse(String fileName) throws Exception {
+    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(new File(tempFile, fileName));
+    return document.getDocumentElement();
+  }
+
+  private BrowserInfo makeBrowser(String name, String os, String version, long id) {
+    BrowserInfo info = new BrowserInfo();
+    info.setName(name);
+    info.setOs(os);
+    info.setVersion(version);
+    info.setId(id);
+    return info;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.protocol;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.LoadedFiles;
+import com.google.jstestdriver.Response;
+import com.google.jstestdriver.Response.ResponseType;
+import com.google.jstestdriver.StreamMessage;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+
+public class WireProtocolTest extends TestCase {
+
+  private final WireProtocol protocol = new WireProtocol();
+  private final Gson gson = new Gson();
+
+  public void testDecodesLegacyResponse() throws Exception {
+    Response response = protocol.decodeResponse("{\"type\":\"LOG\",\"response\":"
+        + "\"{\\\"source\\\":\\\"hi\\\"}\",\"browser\":{\"id\":3},\"executionTime\":5}");
+
+    assertEquals(ResponseType.LOG, response.getResponseType());
+    assertEquals("{\"source\":\"hi\"}", response.getResponse());
+    assertNull(response.getData());
+    assertNull(response.getEncoded());
+    assertEquals(Long.valueOf(3), response.getBrowser().getId());
+    assertEquals(5, response.getExecutionTime());
+    BrowserLog log = response.parseResponse(gson, response.getGsonType());
+    assertEquals("hi", log.getSource());
+  }
+
+  public void testDecodesTypedPayloadOnce() throws Exception {
+    String posted =
+        "{\"type\":\"FILE_LOAD_RESULT\",\"data\":{\"loadedFiles\":[]},\"browser\":{\"id\":3}}";
+    Response response = protocol.decodeResponse(posted);
+
+    assertEquals(ResponseType.FILE_LOAD_RESULT, response.getResponseType());
+    assertEquals(posted, response.getEncoded());
+    LoadedFiles files = response.parseResponse(gson, response.getGsonType());
+    assertTrue(files.getLoadedFiles().isEmpty());
+  }
+
+  public void testDecodesBatchesInOrder() throws Exception {
+    Map<String, Response> responses = protocol.decodeResponses("["
+        + "{\"done\":false,\"responseId\":12,\"response\":{\"type\":\"TEST_RESULT\",\"data\":[]}},"
+        + "{\"done\":false,\"responseId\":11,\"response\":{\"type\":\"LOG\",\"response\":\"{}\"}}]");
+
+    assertEquals(Lists.newArrayList("12", "11"), Lists.newArrayList(responses.keySet()));
+    assertEquals(ResponseType.TEST_RESULT, responses.get("12").getResponseType());
+    assertEquals("{\"type\":\"TEST_RESULT\",\"data\":[]}", responses.get("12").getEncoded());
+    assertEquals("{}", responses.get("11").getResponse());
+  }
+
+  public void testEncodesTypedPayloadForLegacyClients() throws Exception {
+    Response response = protocol.decodeResponse(
+        "{\"type\":\"TEST_RESULT\",\"data\":[{\"testName\":\"testA\"}]}");
+    response.setBrowser(browser());
+
+    StreamMessage message = gson.fromJson(
+        protocol.encodeMessage(new StreamMessage(true, response), 1), StreamMessage.class);
+
+    assertTrue(message.isLast());
+    assertEquals("[{\"testName\":\"testA\"}]", message.getResponse().getResponse());
+    assertEquals("Chrome", message.getResponse().getBrowser().getName());
+  }
+
+  public void testRoundTripsServerResponses() throws Exception {
+    Response response = new Response(ResponseType.COMMAND_RESULT.name(), "not \"json\"",
+        browser(), "error", 7);
+
+    StreamMessage message =
+        protocol.decodeMessage(protocol.encodeMessage(new StreamMessage(false, response), 2));
+
+    assertFalse(message.isLast());
+    assertEquals(response, message.getResponse());
+  }
+
+  public void testDecodesLegacyMessages() throws Exception {
+    Response response = new Response(ResponseType.LOG.name(), "{}", browser(), "", 0);
+
+    StreamMessage message =
+        protocol.decodeMessage(gson.toJson(new StreamMessage(true, response)));
+
+    assertTrue(message.isLast());
+    assertEquals(response, message.getResponse());
+  }
+
+  public void testVersion() throws Exception {
+    assertEquals(1, WireProtocol.version(null));
+    assertEquals(1, WireProtocol.version("x"));
+    assertEquals(2, WireProtocol.version("2"));
+  }
+
+  private BrowserInfo browser() {
+    BrowserInfo browser = new BrowserInfo();
+    browser.setId(3L);
+    browser.setName("Chrome");
+    return browser;
+  }
+}
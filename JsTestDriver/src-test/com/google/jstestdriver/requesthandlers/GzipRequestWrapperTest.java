@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.requesthandlers;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.JsonPrimitive;
+import com.google.jstestdriver.PooledHttpServer;
+import com.google.jstestdriver.util.NullStopWatch;
+
+import junit.framework.TestCase;
+
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.bio.SocketConnector;
+import org.mortbay.jetty.servlet.Context;
+import org.mortbay.jetty.servlet.ServletHolder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class GzipRequestWrapperTest extends TestCase {
+
+  private static final int PORT = 4233;
+  private static final String URL = "http://localhost:" + PORT + "/echo?id=1";
+
+  private Server jetty;
+  private boolean gzipped;
+
+  @Override
+  protected void setUp() throws Exception {
+    SocketConnector connector = new SocketConnector();
+    connector.setPort(PORT);
+    jetty = new Server();
+    jetty.addConnector(connector);
+    Context context = new Context(jetty, "/", Context.SESSIONS);
+    context.addServlet(new ServletHolder(new HttpServlet() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected void service(HttpServletRequest request, HttpServletResponse response)
+          throws IOException {
+        gzipped = GzipRequestWrapper.isGzipped(request);
+        if (gzipped) {
+          request = new GzipRequestWrapper(request);
+        }
+        String data = request.getParameter("data");
+        if (data == null) {
+          BufferedReader reader = request.getReader();
+          data = reader.readLine();
+        }
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(request.getParameter("id") + ":" + data);
+      }
+    }), "/echo");
+    jetty.start();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    jetty.stop();
+  }
+
+  public void testSmallBodiesAreNotCompressed() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), true);
+    assertEquals("1:small", server.post(URL, ImmutableMap.of("data", "small")));
+    assertFalse(gzipped);
+  }
+
+  public void testDecodesGzippedForm() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), true);
+    String data = largeString();
+    assertEquals("1:" + data, server.post(URL, ImmutableMap.of("data", data)));
+    assertTrue(gzipped);
+  }
+
+  public void testInflatesGzippedBody() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), true);
+    String data = largeString();
+    assertEquals("1:\"" + data + "\"", server.postJson(URL, new JsonPrimitive(data)));
+    assertTrue(gzipped);
+  }
+
+  public void testRepeatedParameterReturnsFirstValue() throws Exception {
+    PooledHttpServer server = new PooledHttpServer(new NullStopWatch(), true);
+    String data = largeString();
+    assertEquals("1:" + data, server.post(URL + "&id=2", ImmutableMap.of("data", data)));
+    assertTrue(gzipped);
+  }
+
+  private String largeString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 500; i++) {
+      builder.append("var a").append(i).append(" = '\u00e9&';");
+    }
+    return builder.toString();
+  }
+}
@@ -22,11 +22,14 @@ import static org.easymock.EasyMock.expect;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.util.Providers;
+import com.google.jstestdriver.metrics.Histogram;
+import com.google.jstestdriver.metrics.MetricsRegistry;
 
 import junit.framework.TestCase;
 
 import org.easymock.EasyMock;
 import org.easymock.IMocksControl;
+import org.mortbay.jetty.RetryRequest;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -51,6 +54,8 @@ public class RequestDispatcherTest extends TestCase {
 
   private UnsupportedMethodErrorSender sender;
   
+  private MetricsRegistry metrics;
+
   private RequestDispatcher dispatcher;
 
   @Override
@@ -70,6 +75,7 @@ public class RequestDispatcherTest extends TestCase {
 
     sender = control.createMock(UnsupportedMethodErrorSender.class);
     
+    metrics = new MetricsRegistry();
     dispatcher = new RequestDispatcher(
         request,
         response,
@@ -78,24 +84,77 @@ public class RequestDispatcherTest extends TestCase {
             one, Providers.of(handlerOne),
             two, Providers.of(handlerTwo)),
         gatewayConfiguration,
-        sender);
+        sender,
+        metrics);
   }
 
   public void testDispatch_GET() throws Exception {
     expect(request.getMethod()).andReturn("GET");
     expect(request.getRequestURI()).andReturn("/one/two").anyTimes();
+    expect(request.getAttribute(RequestDispatcher.START_ATTRIBUTE)).andReturn(null);
+    /*expect*/ handlerOne.handleIt();
+
+    control.replay();
+
+    dispatcher.dispatch();
+
+    control.verify();
+  }
+
+  public void testDispatch_countsRequestsByHandler() throws Exception {
+    expect(request.getMethod()).andReturn("GET").times(2);
+    expect(request.getRequestURI()).andReturn("/one/two").anyTimes();
+    expect(request.getAttribute(RequestDispatcher.START_ATTRIBUTE)).andReturn(null).times(2);
+    /*expect*/ handlerOne.handleIt();
+    EasyMock.expectLastCall().times(2);
+
+    control.replay();
+
+    dispatcher.dispatch();
+    dispatcher.dispatch();
+
+    control.verify();
+    String handler = handlerOne.getClass().getSimpleName();
+    assertEquals(2, metrics.counter("jstd_requests_total", "handler", handler).getCount());
+    assertEquals(2, metrics.histogram("jstd_request_millis", "handler", handler).getCount());
+  }
+
+  public void testDispatch_recordsASuspendedRequestOnceItCompletes() throws Exception {
+    long start = System.nanoTime() - 50 * 1000 * 1000L;
+    expect(request.getMethod()).andReturn("GET").times(2);
+    expect(request.getRequestURI()).andReturn("/one/two").anyTimes();
+    expect(request.getAttribute(RequestDispatcher.START_ATTRIBUTE)).andReturn(start);
+    /*expect*/ handlerOne.handleIt();
+    EasyMock.expectLastCall().andThrow(new RetryRequest());
+    /*expect*/ request.setAttribute(RequestDispatcher.START_ATTRIBUTE, start);
+    expect(request.getAttribute(RequestDispatcher.START_ATTRIBUTE)).andReturn(start);
     /*expect*/ handlerOne.handleIt();
 
     control.replay();
 
+    try {
+      dispatcher.dispatch();
+      fail("expected the request to be suspended");
+    } catch (RetryRequest e) {
+      // expected
+    }
+    String handler = handlerOne.getClass().getSimpleName();
+    assertEquals(0, metrics.counter("jstd_requests_total", "handler", handler).getCount());
+    assertEquals(0, metrics.histogram("jstd_request_millis", "handler", handler).getCount());
+
     dispatcher.dispatch();
 
     control.verify();
+    assertEquals(1, metrics.counter("jstd_requests_total", "handler", handler).getCount());
+    Histogram latency = metrics.histogram("jstd_request_millis", "handler", handler);
+    assertEquals(1, latency.getCount());
+    assertTrue("the parked time is part of the latency", latency.getSum() >= 50);
   }
 
   public void testDispatch_POST() throws Exception {
     expect(request.getMethod()).andReturn("POST");
     expect(request.getRequestURI()).andReturn("/a/b").anyTimes();
+    expect(request.getAttribute(RequestDispatcher.START_ATTRIBUTE)).andReturn(null);
     /*expect*/ handlerTwo.handleIt();
 
     control.replay();
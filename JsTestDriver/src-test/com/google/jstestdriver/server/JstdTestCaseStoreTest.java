@@ -18,11 +18,15 @@ package com.google.jstestdriver.server;
 
 import com.google.common.collect.Lists;
 import com.google.jstestdriver.FileInfo;
+import com.google.jstestdriver.FileStorage;
+import com.google.jstestdriver.ServedFile;
 import com.google.jstestdriver.model.JstdTestCase;
 import com.google.jstestdriver.model.JstdTestCaseDelta;
 
 import junit.framework.TestCase;
 
+import java.nio.ByteBuffer;
+
 /**
  * @author corysmith@google.com (Cory Smith)
  *
@@ -93,4 +97,137 @@ public class JstdTestCaseStoreTest extends TestCase {
     assertEquals("The data will be updated for test case two", contents,
         store.getCase(testCaseIdTwo).getTests().get(0).getData());
   }
+
+  public void testTouchedFileWithSameDigestIsNotUploaded() throws Exception {
+    String contents = "var foo;";
+    String digest = FileInfo.digest(contents);
+    FileInfo one = new FileInfo("foo.js", 1, -1, false, false, null, "foo.js", digest);
+    JstdTestCaseStore store = new JstdTestCaseStore();
+    store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(one), Lists.<FileInfo>newArrayList(), "1"));
+    store.applyDelta(new JstdTestCaseDelta(
+        Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(one.load(contents, 1)),
+        Lists.<FileInfo>newArrayList()));
+
+    FileInfo touched = new FileInfo("foo.js", 2, -1, false, false, null, "foo.js", digest);
+    JstdTestCaseDelta delta = store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(touched), Lists.<FileInfo>newArrayList(), "2"));
+
+    assertTrue(delta.getTests().isEmpty());
+    assertEquals(contents, store.getCase("2").getTests().get(0).getData());
+  }
+
+  public void testSharedContentIsStoredOnce() throws Exception {
+    String contents = "var lib;";
+    String digest = FileInfo.digest(contents);
+    FileInfo lib = new FileInfo("a/lib.js", 1, -1, false, false, null, "a/lib.js", digest);
+    JstdTestCaseStore store = new JstdTestCaseStore();
+    store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(lib),
+        Lists.<FileInfo>newArrayList(), Lists.<FileInfo>newArrayList(), "1"));
+    store.applyDelta(new JstdTestCaseDelta(
+        Lists.<FileInfo>newArrayList(lib.load(contents, 1)),
+        Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList()));
+
+    FileInfo copy = new FileInfo("b/lib.js", 5, -1, false, false, null, "b/lib.js", digest);
+    JstdTestCaseDelta delta = store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(copy),
+        Lists.<FileInfo>newArrayList(), Lists.<FileInfo>newArrayList(), "2"));
+
+    assertTrue("known content is not uploaded again", delta.getDependencies().isEmpty());
+    assertSame(store.getFileContent("a/lib.js"), store.getFileContent("b/lib.js"));
+  }
+
+  public void testChangedDigestIsUploaded() throws Exception {
+    FileInfo one = new FileInfo("foo.js", 1, -1, false, false, null, "foo.js",
+        FileInfo.digest("var foo;"));
+    JstdTestCaseStore store = new JstdTestCaseStore();
+    store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(one), Lists.<FileInfo>newArrayList(), "1"));
+    store.applyDelta(new JstdTestCaseDelta(
+        Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(one.load("var foo;", 1)),
+        Lists.<FileInfo>newArrayList()));
+
+    FileInfo changed = new FileInfo("foo.js", 1, -1, false, false, null, "foo.js",
+        FileInfo.digest("var bar;"));
+    JstdTestCaseDelta delta = store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(changed), Lists.<FileInfo>newArrayList(), "1"));
+
+    assertEquals(Lists.newArrayList(changed), delta.getTests());
+  }
+
+  public void testEncodedStorageKeepsContentOffTheCases() throws Exception {
+    for (FileStorage storage : new FileStorage[] {FileStorage.OFF_HEAP, FileStorage.MAPPED}) {
+      String contents = "var \u00e9;";
+      FileInfo one = new FileInfo("foo.js", 1, -1, false, false, null, "foo.js");
+      JstdTestCaseStore store = new JstdTestCaseStore(storage);
+      store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+          Lists.<FileInfo>newArrayList(one), Lists.<FileInfo>newArrayList(), "1"));
+      store.applyDelta(new JstdTestCaseDelta(
+          Lists.<FileInfo>newArrayList(),
+          Lists.<FileInfo>newArrayList(one.load(contents, 1)),
+          Lists.<FileInfo>newArrayList()));
+
+      FileInfo stored = store.getCase("1").getTests().get(0);
+      assertTrue(stored.isLoaded());
+      assertEquals("", stored.getData());
+      assertEquals(contents, store.getFileContent("foo.js"));
+      ByteBuffer body = store.getFileBody("foo.js");
+      byte[] bytes = new byte[body.remaining()];
+      body.get(bytes);
+      assertEquals(contents, new String(bytes, "UTF-8"));
+
+      store.applyDelta(new JstdTestCaseDelta(
+          Lists.<FileInfo>newArrayList(),
+          Lists.<FileInfo>newArrayList(one.load("var bar;", 2)),
+          Lists.<FileInfo>newArrayList()));
+      assertEquals("var bar;", store.getFileContent("foo.js"));
+    }
+  }
+
+  public void testServedFileIsKeptPerVersion() throws Exception {
+    FileInfo one = new FileInfo("foo.js", 1, -1, false, false, "var foo;", "foo.js");
+    JstdTestCaseStore store = new JstdTestCaseStore();
+    store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(one), Lists.<FileInfo>newArrayList(), "1"));
+
+    ServedFile served = store.getServedFile("foo.js");
+    assertSame(served, store.getServedFile("foo.js"));
+    assertEquals("W/\"" + FileInfo.digest("var foo;") + "\"", served.getETag());
+
+    store.applyDelta(new JstdTestCaseDelta(
+        Lists.<FileInfo>newArrayList(),
+        Lists.<FileInfo>newArrayList(one.load("var bar;", 2)),
+        Lists.<FileInfo>newArrayList()));
+    ServedFile changed = store.getServedFile("foo.js");
+    assertNotSame(served, changed);
+    assertFalse(changed.matches(served.getETag()));
+    assertEquals("var bar;", changed.getData());
+  }
+
+  public void testEncodedFilesWithoutDigestHaveTheirOwnETag() throws Exception {
+    for (FileStorage storage : new FileStorage[] {FileStorage.OFF_HEAP, FileStorage.MAPPED}) {
+      FileInfo foo = new FileInfo("foo.js", 1, -1, false, false, null, "foo.js");
+      FileInfo bar = new FileInfo("bar.js", 1, -1, false, false, null, "bar.js");
+      JstdTestCaseStore store = new JstdTestCaseStore(storage);
+      store.addCase(new JstdTestCase(Lists.<FileInfo>newArrayList(),
+          Lists.<FileInfo>newArrayList(foo, bar), Lists.<FileInfo>newArrayList(), "1"));
+      store.applyDelta(new JstdTestCaseDelta(
+          Lists.<FileInfo>newArrayList(),
+          Lists.<FileInfo>newArrayList(foo.load("var foo;", 1), bar.load("var bar;", 1)),
+          Lists.<FileInfo>newArrayList()));
+
+      ServedFile fooServed = store.getServedFile("foo.js");
+      ServedFile barServed = store.getServedFile("bar.js");
+      assertEquals("W/\"" + FileInfo.digest("var foo;") + "\"", fooServed.getETag());
+      assertFalse(fooServed.getETag().equals(barServed.getETag()));
+
+      store.applyDelta(new JstdTestCaseDelta(
+          Lists.<FileInfo>newArrayList(),
+          Lists.<FileInfo>newArrayList(foo.load("var changed;", 2)),
+          Lists.<FileInfo>newArrayList()));
+      assertFalse(store.getServedFile("foo.js").matches(fooServed.getETag()));
+    }
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.server;
+
+import com.google.common.collect.Lists;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.jstestdriver.FileInfo;
+import com.google.jstestdriver.FilesCache;
+import com.google.jstestdriver.model.JstdTestCase;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class TestCaseBundleTest extends TestCase {
+
+  public void testLineMap() throws Exception {
+    TestCaseBundle.Builder builder = new TestCaseBundle.Builder("id", 3);
+    assertEquals(2, builder.getNextContentLine());
+    builder.add("/test/a.js", "start(a);", "var a;\nvar b;\n", "finish(a);");
+    assertEquals(6, builder.getNextContentLine());
+    builder.add("/test/b.js", "start(b);", "var c; // no newline", "finish(b);");
+    TestCaseBundle bundle = builder.build();
+
+    assertEquals(".bundle/id/3.js", bundle.getPath());
+    assertEquals(".bundle/id/3.json", bundle.getMapPath());
+    assertEquals(2, bundle.getFileCount());
+    assertEquals(Arrays.asList(2, 6), bundle.getFirstLines());
+    assertEquals("start(a);\nvar a;\nvar b;\nfinish(a);\n"
+        + "start(b);\nvar c; // no newline\nfinish(b);\n", bundle.getScript().getData());
+    JsonArray files = new JsonParser().parse(bundle.getMap().getData()).getAsJsonObject()
+        .getAsJsonArray("files");
+    assertFile("/test/a.js", 2, 2, files.get(0).getAsJsonObject());
+    assertFile("/test/b.js", 6, 1, files.get(1).getAsJsonObject());
+  }
+
+  public void testStoreServesCurrentBundle() throws Exception {
+    JstdTestCaseStore store = new JstdTestCaseStore();
+    store.addCase(testCase("a"));
+    TestCaseBundle bundle = new TestCaseBundle.Builder("id", store.getVersion())
+        .add("/test/a.js", "", "var a;", "").build();
+    store.putBundle(bundle);
+
+    assertSame(bundle, store.getBundle("id"));
+    assertEquals("\nvar a;\n\n", store.getServedFile(bundle.getPath()).getData());
+    assertNotNull(store.getServedFile(bundle.getMapPath()));
+    try {
+      store.getServedFile(TestCaseBundle.DIRECTORY + "id/" + (bundle.getVersion() + 1) + ".js");
+      fail("expected a missing file");
+    } catch (FilesCache.MissingFileException e) {
+      // expected
+    }
+  }
+
+  public void testStoreDropsBundleOnChange() throws Exception {
+    JstdTestCaseStore store = new JstdTestCaseStore();
+    store.addCase(testCase("a"));
+    TestCaseBundle bundle = new TestCaseBundle.Builder("id", store.getVersion())
+        .add("/test/a.js", "", "var a;", "").build();
+    store.putBundle(bundle);
+
+    store.addCase(testCase("b"));
+    assertNull(store.getBundle("id"));
+    try {
+      store.getServedFile(bundle.getPath());
+      fail("expected a missing file");
+    } catch (FilesCache.MissingFileException e) {
+      // expected
+    }
+    // built from the old version, while the store changed.
+    store.putBundle(bundle);
+    assertNull(store.getBundle("id"));
+  }
+
+  private JstdTestCase testCase(String data) {
+    return new JstdTestCase(
+        Lists.newArrayList(new FileInfo("/a.js", 1, -1, false, false, data, "a.js")),
+        Collections.<FileInfo>emptyList(), Collections.<FileInfo>emptyList(), "id");
+  }
+
+  private void assertFile(String fileSrc, int start, int lines, JsonObject file) {
+    assertEquals(fileSrc, file.get("fileSrc").getAsString());
+    assertEquals(start, file.get("start").getAsInt());
+    assertEquals(lines, file.get("lines").getAsInt());
+  }
+}
@@ -33,6 +33,7 @@ import org.joda.time.Instant;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.BrowserResponseQueue;
 import com.google.jstestdriver.CapturedBrowsers;
 import com.google.jstestdriver.Command;
 import com.google.jstestdriver.FileInfo;
@@ -49,6 +50,7 @@ import com.google.jstestdriver.JsonCommand.CommandType;
 import com.google.jstestdriver.Response.ResponseType;
 import com.google.jstestdriver.browser.BrowserIdStrategy;
 import com.google.jstestdriver.protocol.BrowserStreamAcknowledged;
+import com.google.jstestdriver.protocol.BrowserStreamRefused;
 import com.google.jstestdriver.runner.RunnerType;
 
 /**
@@ -259,4 +261,87 @@ public class BrowserQueryResponseHandlerTest extends TestCase {
 
     assertEquals(0, fileInfos.size());
   }
+
+  public void testTypedFileLoadResultIsRelayedAsPosted() throws Exception {
+    CapturedBrowsers browsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    String id = "1";
+    SlaveBrowser slave =
+        new SlaveBrowser(new TimeImpl(), id, new BrowserInfo(), 20, null, CaptureHandler.QUIRKS,
+            RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+
+    browsers.addSlave(slave);
+    BrowserQueryResponseHandler handler =
+        new BrowserQueryResponseHandler(null, null, browsers, streamedResponses);
+    List<FileResult> fileResults = Lists.newArrayList(
+        new FileResult(new FileSource("/test/filename1.js", "filename1.js", 123, -1), true, ""));
+    String posted = "{\"type\":\"FILE_LOAD_RESULT\",\"data\":"
+        + gson.toJson(new LoadedFiles(fileResults)) + "}";
+
+    handler.service(id, posted, "", null, writer);
+
+    assertEquals("filename1.js", slave.getFileSet().iterator().next().getFilePath());
+    assertEquals(posted, slave.getResponse().getResponse().getEncoded());
+  }
+
+  public void testBatchedResponsesAreAcknowledgedTogether() throws Exception {
+    CapturedBrowsers browsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    String id = "1";
+    SlaveBrowser slave =
+        new SlaveBrowser(new TimeImpl(), id, new BrowserInfo(), 20, null, CaptureHandler.QUIRKS,
+            RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+
+    browsers.addSlave(slave);
+    BrowserQueryResponseHandler handler =
+        new BrowserQueryResponseHandler(null, null, browsers, streamedResponses);
+    slave.createCommand("awaitingResponse");
+    slave.dequeueCommand();
+    slave.createCommand("BrowserCommand");
+
+    handler.serviceBatch(id, "["
+        + "{\"done\":false,\"responseId\":1,\"response\":{\"type\":\"TEST_RESULT\",\"data\":[]}},"
+        + "{\"done\":false,\"responseId\":2,\"response\":{\"type\":\"TEST_RESULT\",\"data\":[]}}]",
+        writer);
+
+    assertEquals(gson.toJson(new BrowserStreamAcknowledged(Lists.newArrayList("1", "2"))),
+        out.toString());
+    assertFalse(slave.getResponse().isLast());
+    assertFalse(slave.getResponse().isLast());
+    assertEquals("BrowserCommand", slave.dequeueCommand().getCommand());
+  }
+
+  public void testResponsesWithoutRoomAreNotAcknowledged() throws Exception {
+    CapturedBrowsers browsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    String id = "1";
+    SlaveBrowser slave =
+        new SlaveBrowser(new TimeImpl(), id, new BrowserInfo(), 20, null, CaptureHandler.QUIRKS,
+            RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    slave.setQueueCapacity(1, BrowserResponseQueue.LogOverflow.BLOCK);
+    browsers.addSlave(slave);
+    BrowserQueryResponseHandler handler =
+        new BrowserQueryResponseHandler(null, null, browsers, streamedResponses);
+    String result = "{\"type\":\"TEST_RESULT\",\"data\":[]}";
+
+    handler.service(id, result, "false", "1", writer);
+    assertEquals(gson.toJson(new BrowserStreamAcknowledged(Lists.newArrayList("1"))),
+        out.toString());
+    out.reset();
+    // the queue is full, the client hasn't collected the first response.
+    handler.serviceBatch(id, "["
+        + "{\"done\":false,\"responseId\":2,\"response\":" + result + "}]", writer);
+    assertEquals(gson.toJson(new BrowserStreamRefused(Lists.newArrayList("2"))),
+        out.toString());
+    assertEquals(Lists.newArrayList("1"), streamedResponses.get(slave));
+    out.reset();
+
+    assertFalse(slave.getResponse().isLast());
+    handler.service(id, result, "false", "2", writer);
+    assertEquals(gson.toJson(new BrowserStreamAcknowledged(Lists.newArrayList("1", "2"))),
+        out.toString());
+    out.reset();
+    // a response posted again after it was received is only queued once.
+    handler.service(id, result, "false", "2", writer);
+    assertEquals(gson.toJson(new BrowserStreamAcknowledged(Lists.newArrayList("1", "2"))),
+        out.toString());
+    assertEquals(1, slave.getResponseQueueDepth());
+  }
 }
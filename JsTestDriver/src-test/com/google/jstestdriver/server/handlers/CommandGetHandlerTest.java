@@ -42,6 +42,8 @@ import com.google.jstestdriver.StreamMessage;
 import com.google.jstestdriver.Time;
 import com.google.jstestdriver.TimeImpl;
 import com.google.jstestdriver.browser.BrowserIdStrategy;
+import com.google.jstestdriver.browser.BrowserReadyWaiter;
+import com.google.jstestdriver.protocol.WireProtocol;
 import com.google.jstestdriver.runner.RunnerType;
 
 /**
@@ -58,7 +60,8 @@ public class CommandGetHandlerTest extends TestCase {
             RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
 
     capturedBrowsers.addSlave(slave);
-    CommandGetHandler handler = new CommandGetHandler(null, null, new Gson(), capturedBrowsers);
+    CommandGetHandler handler = new CommandGetHandler(null, null, new Gson(), capturedBrowsers,
+        new BrowserReadyWaiter(capturedBrowsers));
 
     assertEquals(new Gson().toJson(Lists.newArrayList(slave.getBrowserInfo())),
       handler.listBrowsers());
@@ -80,12 +83,54 @@ public class CommandGetHandlerTest extends TestCase {
             RunnerType.BROWSER, BrowserState.CAPTURED, new Instant(0));
     capturedBrowsers.addSlave(slave2);
 
-    CommandGetHandler handler = new CommandGetHandler(null, null, new Gson(), capturedBrowsers);
+    CommandGetHandler handler = new CommandGetHandler(null, null, new Gson(), capturedBrowsers,
+        new BrowserReadyWaiter(capturedBrowsers));
 
     assertEquals(new Gson().toJson(Lists.newArrayList(slave1.getBrowserInfo())),
       handler.listBrowsers());
   }
 
+  public void testAwaitBrowserReady() throws Exception {
+    CapturedBrowsers capturedBrowsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    BrowserInfo browserInfo = new BrowserInfo();
+    browserInfo.setId(1L);
+    SlaveBrowser slave =
+        new SlaveBrowser(new TimeImpl(), "1", browserInfo, 20, null, CaptureHandler.QUIRKS,
+            RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    capturedBrowsers.addSlave(slave);
+    CommandGetHandler handler = new CommandGetHandler(null, null, new Gson(), capturedBrowsers,
+        new BrowserReadyWaiter(capturedBrowsers));
+
+    assertFalse(handler.awaitBrowserReady("1", "10"));
+    slave.heartBeat();
+    slave.ready();
+    capturedBrowsers.browserReady(slave);
+    assertTrue(handler.awaitBrowserReady("1", "10"));
+  }
+
+  public void testAwaitBrowserReadyAnswersWithJson() throws Exception {
+    CapturedBrowsers capturedBrowsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    CharArrayWriter out = new CharArrayWriter();
+    PrintWriter writer = new PrintWriter(out);
+
+    IMocksControl control = EasyMock.createControl();
+
+    HttpServletResponse response = control.createMock(HttpServletResponse.class);
+    expect(response.getWriter()).andReturn(writer).anyTimes();
+    HttpServletRequest request = control.createMock(HttpServletRequest.class);
+    expect(request.getParameter("listBrowsers")).andReturn(null);
+    expect(request.getParameter("nextBrowserId")).andReturn(null);
+    expect(request.getParameter("awaitBrowserReady")).andReturn("1").anyTimes();
+    expect(request.getParameter("timeout")).andReturn("10");
+    control.replay();
+
+    CommandGetHandler handler = new CommandGetHandler(request, response, new Gson(),
+        capturedBrowsers, new BrowserReadyWaiter(capturedBrowsers));
+    handler.handleIt();
+    assertEquals("{\"captured\":false}", out.toString());
+    control.verify();
+  }
+
   public void testBrowserPanic() throws Exception {
     CapturedBrowsers capturedBrowsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
     BrowserInfo browserInfo = new BrowserInfo();
@@ -102,7 +147,10 @@ public class CommandGetHandlerTest extends TestCase {
     HttpServletRequest request = control.createMock(HttpServletRequest.class);
     expect(request.getParameter("listBrowsers")).andReturn(null);
     expect(request.getParameter("nextBrowserId")).andReturn(null);
+    expect(request.getParameter("awaitBrowserReady")).andReturn(null);
+    expect(request.getParameter("stream")).andReturn(null);
     expect(request.getParameter("id")).andReturn(browserInfo.getId().toString());
+    expect(request.getParameter("protocol")).andReturn(null);
     control.replay();
 
     SlaveBrowser slave = new SlaveBrowser(new Time() {
@@ -116,9 +164,97 @@ public class CommandGetHandlerTest extends TestCase {
     slave.addResponse(new Response(ResponseType.LOG.name(), "", browserInfo, "", -1), true);
     capturedBrowsers.addSlave(slave);
     Gson gson = new Gson();
-    CommandGetHandler handler = new CommandGetHandler(request, response, gson, capturedBrowsers);
+    CommandGetHandler handler = new CommandGetHandler(request, response, gson, capturedBrowsers,
+        new BrowserReadyWaiter(capturedBrowsers));
     handler.handleIt();
     assertEquals(ResponseType.BROWSER_PANIC, gson.fromJson(out.toString(), StreamMessage.class)
         .getResponse().getResponseType());
   }
+
+  public void testStreamResponses() throws Exception {
+    CapturedBrowsers capturedBrowsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    BrowserInfo browserInfo = new BrowserInfo();
+    browserInfo.setId(1L);
+
+    CharArrayWriter out = new CharArrayWriter();
+    PrintWriter writer = new PrintWriter(out);
+
+    IMocksControl control = EasyMock.createControl();
+
+    HttpServletResponse response = control.createMock(HttpServletResponse.class);
+    response.setCharacterEncoding("UTF-8");
+    expect(response.getWriter()).andReturn(writer).anyTimes();
+    HttpServletRequest request = control.createMock(HttpServletRequest.class);
+    expect(request.getParameter("listBrowsers")).andReturn(null);
+    expect(request.getParameter("nextBrowserId")).andReturn(null);
+    expect(request.getParameter("awaitBrowserReady")).andReturn(null);
+    expect(request.getParameter("stream")).andReturn("true");
+    expect(request.getParameter("id")).andReturn(browserInfo.getId().toString());
+    expect(request.getParameter("protocol")).andReturn(null);
+    control.replay();
+
+    SlaveBrowser slave = new SlaveBrowser(new TimeImpl(), "1", browserInfo, SlaveBrowser.TIMEOUT,
+        null, CaptureHandler.QUIRKS, RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    slave.heartBeat();
+    slave.addResponse(new Response(ResponseType.LOG.name(), "log", browserInfo, "", -1), false);
+    slave.addResponse(
+        new Response(ResponseType.TEST_RESULT.name(), "result", browserInfo, "", -1), true);
+    capturedBrowsers.addSlave(slave);
+    Gson gson = new Gson();
+    CommandGetHandler handler = new CommandGetHandler(request, response, gson, capturedBrowsers,
+        new BrowserReadyWaiter(capturedBrowsers));
+    handler.handleIt();
+    String[] lines = out.toString().split("\n");
+    assertEquals(2, lines.length);
+    StreamMessage log = gson.fromJson(lines[0], StreamMessage.class);
+    assertEquals("log", log.getResponse().getResponse());
+    assertFalse(log.isLast());
+    StreamMessage result = gson.fromJson(lines[1], StreamMessage.class);
+    assertEquals("result", result.getResponse().getResponse());
+    assertTrue(result.isLast());
+    control.verify();
+  }
+
+  public void testStreamsVersion2ResponsesAsTheBrowserEncodedThem() throws Exception {
+    CapturedBrowsers capturedBrowsers = new CapturedBrowsers(new BrowserIdStrategy(new MockTime(0)));
+    BrowserInfo browserInfo = new BrowserInfo();
+    browserInfo.setId(1L);
+    browserInfo.setName("Chrome");
+
+    CharArrayWriter out = new CharArrayWriter();
+    PrintWriter writer = new PrintWriter(out);
+
+    IMocksControl control = EasyMock.createControl();
+
+    HttpServletResponse response = control.createMock(HttpServletResponse.class);
+    response.setCharacterEncoding("UTF-8");
+    expect(response.getWriter()).andReturn(writer).anyTimes();
+    HttpServletRequest request = control.createMock(HttpServletRequest.class);
+    expect(request.getParameter("listBrowsers")).andReturn(null);
+    expect(request.getParameter("nextBrowserId")).andReturn(null);
+    expect(request.getParameter("awaitBrowserReady")).andReturn(null);
+    expect(request.getParameter("stream")).andReturn("true");
+    expect(request.getParameter("id")).andReturn(browserInfo.getId().toString());
+    expect(request.getParameter("protocol")).andReturn("2");
+    control.replay();
+
+    SlaveBrowser slave = new SlaveBrowser(new TimeImpl(), "1", browserInfo, SlaveBrowser.TIMEOUT,
+        null, CaptureHandler.QUIRKS, RunnerType.CLIENT, BrowserState.CAPTURED, new Instant(0));
+    slave.heartBeat();
+    String posted = "{\"type\":\"TEST_RESULT\",\"data\":[{\"testName\":\"testA\"}],"
+        + "\"browser\":{\"id\":1}}";
+    slave.addResponse(new WireProtocol().decodeResponse(posted), true);
+    capturedBrowsers.addSlave(slave);
+    Gson gson = new Gson();
+    CommandGetHandler handler = new CommandGetHandler(request, response, gson, capturedBrowsers,
+        new BrowserReadyWaiter(capturedBrowsers));
+    handler.handleIt();
+    String line = out.toString().trim();
+    assertTrue(line, line.endsWith(",\"response\":" + posted + "}"));
+    StreamMessage message = new WireProtocol().decodeMessage(line);
+    assertTrue(message.isLast());
+    assertEquals("Chrome", message.getResponse().getBrowser().getName());
+    assertEquals("[{\"testName\":\"testA\"}]", message.getResponse().getResponse());
+    control.verify();
+  }
 }
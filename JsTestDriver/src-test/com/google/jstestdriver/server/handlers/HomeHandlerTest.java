@@ -81,6 +81,7 @@ public class HomeHandlerTest extends TestCase {
         + "<div>Id: 1<br/>Name: browser<br/>Version: 1.0"
         + "<br/>Operating System: OS<br/>In use.<br/>RunnerType CLIENT <br/>"
         + "Currently waiting...<br/>"
+        + "Queued: 0 commands, 0 responses; 0 logs dropped<br/>"
         + "<input type='button' value='List Files' onclick=\"toggle('f1')\"/>"
         + "<ul style='display:none' id='f1'></ul>"
         + "<input type='button' value='Show Responses' "
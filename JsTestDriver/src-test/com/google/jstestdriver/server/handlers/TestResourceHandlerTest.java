@@ -17,8 +17,10 @@ package com.google.jstestdriver.server.handlers;
 
 import com.google.common.collect.Lists;
 import com.google.jstestdriver.FileInfo;
+import com.google.jstestdriver.FileStorage;
 import com.google.jstestdriver.config.ExecutionType;
 import com.google.jstestdriver.model.JstdTestCase;
+import com.google.jstestdriver.model.JstdTestCaseDelta;
 import com.google.jstestdriver.server.JstdTestCaseStore;
 
 import junit.framework.TestCase;
@@ -27,11 +29,16 @@ import org.easymock.EasyMock;
 import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormatterBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.text.DateFormat;
 import java.util.Collections;
+import java.util.zip.GZIPInputStream;
 
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 /**
@@ -77,4 +84,159 @@ public class TestResourceHandlerTest extends TestCase {
     handler.service("dummytoo.js", writer);
     assertEquals("more data", out.toString());
   }
+
+  public void testServeEncodedFile() throws Exception {
+    HttpServletRequest request = EasyMock.createMock(HttpServletRequest.class);
+    EasyMock.expect(request.getPathInfo()).andReturn("/dummy.js");
+    HttpServletResponse response = EasyMock.createMock(HttpServletResponse.class);
+    response.setCharacterEncoding("UTF-8");
+    response.setContentType(StaticResourceHandler.MIME_TYPE_MAP.get("js"));
+    response.setHeader(EasyMock.eq("ETag"), EasyMock.<String>anyObject());
+    response.setHeader("Vary", "Accept-Encoding");
+    response.setContentLength(5);
+    EasyMock.expect(response.getOutputStream()).andReturn(outputStream());
+    EasyMock.expect(request.getHeader("If-None-Match")).andReturn(null);
+    EasyMock.expect(request.getDateHeader("If-Modified-Since")).andReturn(-1L);
+    EasyMock.expect(request.getHeader("Accept-Encoding")).andReturn(null).anyTimes();
+    EasyMock.replay(request, response);
+
+    JstdTestCaseStore store = new JstdTestCaseStore(FileStorage.OFF_HEAP);
+    store.addCase(new JstdTestCase(
+        Lists.newArrayList(
+            new FileInfo("dummy.js", -1, -1, false, false, "d\u00e4ta", "dummy.js")),
+        Collections.<FileInfo>emptyList(),
+        Collections.<FileInfo>emptyList(),
+            "id"));
+    new TestResourceHandler(request, response, store).handleIt();
+
+    assertEquals("d\u00e4ta", out.toString("UTF-8"));
+    EasyMock.verify(request, response);
+  }
+
+  public void testNotModifiedWhenETagMatches() throws Exception {
+    JstdTestCaseStore store = storeWith("dummy.js", 20, "data");
+    String etag = store.getServedFile("dummy.js").getETag();
+    HttpServletRequest request = request("/dummy.js", "If-None-Match", "\"other\", " + etag);
+    HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+    response.setHeader("ETag", etag);
+    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    EasyMock.replay(request, response);
+
+    new TestResourceHandler(request, response, store).handleIt();
+
+    EasyMock.verify(response);
+    assertEquals(0, out.size());
+  }
+
+  public void testNotModifiedSinceTimestamp() throws Exception {
+    JstdTestCaseStore store = storeWith("dummy.js", 20500, "data");
+    HttpServletRequest request = EasyMock.createNiceMock(HttpServletRequest.class);
+    EasyMock.expect(request.getPathInfo()).andReturn("/dummy.js");
+    EasyMock.expect(request.getDateHeader("If-Modified-Since")).andReturn(20000L);
+    HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+    response.setDateHeader("Last-Modified", 20500);
+    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    EasyMock.replay(request, response);
+
+    new TestResourceHandler(request, response, store).handleIt();
+
+    EasyMock.verify(response);
+  }
+
+  public void testServesChangedFile() throws Exception {
+    JstdTestCaseStore store = storeWith("dummy.js", 20, "data");
+    String etag = store.getServedFile("dummy.js").getETag();
+    store.applyDelta(new JstdTestCaseDelta(
+        Lists.<FileInfo>newArrayList(
+            new FileInfo("dummy.js", 21, -1, false, false, "new data", "dummy.js")),
+        Collections.<FileInfo>emptyList(),
+        Collections.<FileInfo>emptyList()));
+    HttpServletRequest request = request("/dummy.js", "If-None-Match", etag);
+    HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+    EasyMock.expect(response.getWriter()).andReturn(writer);
+    EasyMock.replay(request, response);
+
+    new TestResourceHandler(request, response, store).handleIt();
+
+    assertEquals("new data", out.toString());
+  }
+
+  public void testServesGzippedWhenAccepted() throws Exception {
+    for (FileStorage storage : FileStorage.values()) {
+      StringBuilder data = new StringBuilder();
+      while (data.length() < 4096) {
+        data.append("assertTrue(true);\n");
+      }
+      JstdTestCaseStore store = storeWith("dummy.js", 20, data.toString(), storage);
+      HttpServletRequest request = request("/dummy.js", "Accept-Encoding", "deflate, gzip;q=0.8");
+      HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+      response.setHeader("Content-Encoding", "gzip");
+      EasyMock.expect(response.getOutputStream()).andReturn(outputStream());
+      EasyMock.replay(request, response);
+
+      out.reset();
+      new TestResourceHandler(request, response, store).handleIt();
+
+      EasyMock.verify(response);
+      assertEquals(data.toString(), gunzip(out.toByteArray()));
+    }
+  }
+
+  public void testServesPlainWhenGzipRefused() throws Exception {
+    StringBuilder data = new StringBuilder();
+    while (data.length() < 4096) {
+      data.append("assertTrue(true);\n");
+    }
+    JstdTestCaseStore store = storeWith("dummy.js", 20, data.toString());
+    HttpServletRequest request = request("/dummy.js", "Accept-Encoding", "gzip;q=0");
+    HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+    EasyMock.expect(response.getWriter()).andReturn(writer);
+    EasyMock.replay(request, response);
+
+    new TestResourceHandler(request, response, store).handleIt();
+
+    assertEquals(data.toString(), out.toString());
+  }
+
+  private JstdTestCaseStore storeWith(String path, long timestamp, String data) {
+    return storeWith(path, timestamp, data, FileStorage.HEAP);
+  }
+
+  private JstdTestCaseStore storeWith(String path, long timestamp, String data,
+      FileStorage storage) {
+    JstdTestCaseStore store = new JstdTestCaseStore(storage);
+    store.addCase(new JstdTestCase(
+        Lists.newArrayList(new FileInfo(path, timestamp, -1, false, false, data, path)),
+        Collections.<FileInfo>emptyList(),
+        Collections.<FileInfo>emptyList(),
+        "id"));
+    return store;
+  }
+
+  private HttpServletRequest request(String pathInfo, String header, String value) {
+    HttpServletRequest request = EasyMock.createNiceMock(HttpServletRequest.class);
+    EasyMock.expect(request.getPathInfo()).andReturn(pathInfo);
+    EasyMock.expect(request.getHeader(header)).andReturn(value).anyTimes();
+    EasyMock.expect(request.getDateHeader("If-Modified-Since")).andReturn(-1L).anyTimes();
+    return request;
+  }
+
+  private ServletOutputStream outputStream() {
+    return new ServletOutputStream() {
+      @Override
+      public void write(int b) {
+        out.write(b);
+      }
+    };
+  }
+
+  private String gunzip(byte[] bytes) throws Exception {
+    InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+    ByteArrayOutputStream inflated = new ByteArrayOutputStream();
+    int read;
+    while ((read = in.read()) != -1) {
+      inflated.write(read);
+    }
+    return inflated.toString("UTF-8");
+  }
 }
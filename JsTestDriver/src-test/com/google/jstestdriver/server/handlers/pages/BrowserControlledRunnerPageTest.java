@@ -31,6 +31,6 @@ public class BrowserControlledRunnerPageTest extends TestCase {
   public void testRenderWithPrefix() throws Exception {
     new PrefixTester().testPrefixes(new BrowserControlledRunnerPage(new TestFileUtil(new JstdTestCaseStore(),
       new NullPathPrefix(),
-      Collections.<FileInfoScheme>emptySet(), new Gson())));
+      Collections.<FileInfoScheme>emptySet(), new Gson(), false)));
   }
 }
@@ -34,6 +34,6 @@ public class StandaloneRunnerPageTest extends TestCase {
     new PrefixTester().testPrefixes(new BrowserControlledRunnerPage(
         new TestFileUtil(new JstdTestCaseStore(),
             new NullPathPrefix(),
-            Collections.<FileInfoScheme>emptySet(), new Gson())));
+            Collections.<FileInfoScheme>emptySet(), new Gson(), false)));
   }
 }
@@ -49,7 +49,7 @@ public class TestFileUtilTest extends TestCase {
       new FileInfo("/bar.js", 0, 0, false, false, null, "bar.js"),
       new FileInfo("http://somehost/bar.js", 0, 0, false, false, null, "http://somehost/bar.js")
       ),
-      new NullPathPrefix(), defaultSchemes, new Gson());
+      new NullPathPrefix(), defaultSchemes, new Gson(), false);
 
     final List<String> paths = Lists.newArrayList();
 
@@ -69,7 +69,7 @@ public class TestFileUtilTest extends TestCase {
     TestFileUtil testFileUtil = new TestFileUtil(createFileCache(
       new FileInfo("C:\\Sagitta\\Main\\Source\\Web\\Sagitta.Web.JavaScriptTests\\lib\\jasmine\\jasmine.js",
         0, 0, false, false, null, "/test/lib/jasmine/jasmine.js")),
-      new NullPathPrefix(), defaultSchemes, new Gson());
+      new NullPathPrefix(), defaultSchemes, new Gson(), false);
 
     StringWriter writer = new StringWriter();
     HtmlWriter htmlWriter = new HtmlWriter(writer, new NullPathPrefix());
@@ -102,7 +102,7 @@ public class TestFileUtilTest extends TestCase {
       new FileInfo(unhandledPath, 0, 0, false, false, null, unhandledPath),
       new FileInfo("http://somehost/bar.js", 0, 0, false, false, null, "http://somehost/bar.js")
       ),
-      new NullPathPrefix(), schemes, new Gson());
+      new NullPathPrefix(), schemes, new Gson(), false);
 
     final List<String> paths = Lists.newArrayList();
 
@@ -116,6 +116,69 @@ public class TestFileUtilTest extends TestCase {
     assertEquals(Lists.newArrayList("/test/foo.js","/test/bar.js"), paths);
   }
 
+  public void testBundlesLeadingScripts() throws Exception {
+    Set<FileInfoScheme> defaultSchemes = Sets.<FileInfoScheme>newHashSet(new HttpFileInfoScheme());
+    JstdTestCaseStore store = createFileCache(
+        new FileInfo("/foo.js", 0, 0, false, false, "var foo;", "foo.js"),
+        new FileInfo("/bar.js", 0, 0, false, false, "var bar;", "bar.js"),
+        new FileInfo("/strict.js", 0, 0, false, false, "/* c */\n'use strict';", "strict.js"),
+        new FileInfo("/baz.js", 0, 0, false, false, "var baz;", "baz.js"));
+    TestFileUtil testFileUtil =
+        new TestFileUtil(store, new NullPathPrefix(), defaultSchemes, new Gson(), true);
+
+    final List<String> paths = Lists.newArrayList();
+    final List<String> scripts = Lists.newArrayList();
+    HtmlWriter writer = new HtmlWriter(new StringWriter(), new NullPathPrefix()) {
+      @Override
+      public HtmlWriter writeExternalScript(String path) {
+        paths.add(path);
+        return this;
+      }
+
+      @Override
+      public HtmlWriter writeScript(String script) {
+        scripts.add(script);
+        return this;
+      }
+    };
+    testFileUtil.writeTestFiles(writer, TESTCASE_ID);
+
+    String bundlePath = store.getBundle(TESTCASE_ID).getPath();
+    assertEquals(Lists.newArrayList("/test/" + bundlePath, "/test/strict.js", "/test/baz.js"),
+        paths);
+    assertTrue(scripts.get(0), scripts.get(0).startsWith(
+        "jstestdriver.manualResourceTracker.startBundle('[{\"fileSrc\":\"/test/foo.js\""));
+    assertTrue(scripts.get(0), scripts.get(0).endsWith("', '[2,5]')"));
+    assertEquals("jstestdriver.manualResourceTracker.finishBundle()", scripts.get(1));
+    String bundle = store.getServedFile(bundlePath).getData();
+    assertTrue(bundle, bundle.contains("var foo;\n"));
+    assertFalse(bundle, bundle.contains("use strict"));
+
+    testFileUtil.writeTestFiles(writer, TESTCASE_ID);
+    assertEquals("/test/" + bundlePath, paths.get(3));
+  }
+
+  public void testLoadsScriptsOneByOneUnlessBundling() throws Exception {
+    Set<FileInfoScheme> defaultSchemes = Sets.<FileInfoScheme>newHashSet(new HttpFileInfoScheme());
+    JstdTestCaseStore store = createFileCache(
+        new FileInfo("/foo.js", 0, 0, false, false, "var foo;", "foo.js"),
+        new FileInfo("/bar.js", 0, 0, false, false, "var bar;", "bar.js"));
+    TestFileUtil testFileUtil =
+        new TestFileUtil(store, new NullPathPrefix(), defaultSchemes, new Gson(), false);
+
+    final List<String> paths = Lists.newArrayList();
+    testFileUtil.writeTestFiles(new HtmlWriter(new StringWriter(), new NullPathPrefix()) {
+      @Override
+      public HtmlWriter writeExternalScript(String path) {
+        paths.add(path);
+        return this;
+      }
+    }, TESTCASE_ID);
+
+    assertEquals(Lists.newArrayList("/test/foo.js", "/test/bar.js"), paths);
+    assertNull(store.getBundle(TESTCASE_ID));
+  }
+
   private JstdTestCaseStore createFileCache(FileInfo... files) {
     JstdTestCaseStore store = new JstdTestCaseStore();
     store.addCase(new JstdTestCase(Lists.newArrayList(files), Collections.<FileInfo>emptyList(), Collections.<FileInfo>emptyList(), TESTCASE_ID));
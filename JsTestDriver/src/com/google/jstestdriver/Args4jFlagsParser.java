@@ -104,6 +104,12 @@ public class Args4jFlagsParser implements FlagsParser {
       cmdLineParser.printUsage(stream);
       throw new InvalidFlagException("", stream.toString());
     }
+    if (flags.getGzip() && !flags.getKeepAlive()) {
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      cmdLineParser.printUsage(stream);
+      throw new InvalidFlagException("Option \"--gzip\" requires \"--keepAlive\"",
+          stream.toString());
+    }
     return flags;
   }
 }
@@ -25,8 +25,8 @@ public class BrowserInfo {
   private String version;
   private String os;
   private Integer uploadSize = FileUploader.CHUNK_SIZE;
-  private boolean serverReceivedHeartbeat;
-  private boolean ready = false;
+  private volatile boolean serverReceivedHeartbeat;
+  private volatile boolean ready = false;
 
   public void setId(Long id) {
     this.id = id;
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.gson.Gson;
+import com.google.jstestdriver.Response.ResponseType;
+import com.google.jstestdriver.protocol.BrowserLog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the responses of a browser until the client collects them. The queue
+ * is bounded: a browser adding to a full queue waits a little for the client
+ * to catch up, which holds back the acknowledgement of its post, and so its
+ * stream. A response still without room is refused: its acknowledgement is
+ * withheld, and the browser posts it again before it ends the stream.
+ *
+ * Log messages can be given up instead of waiting for: either dropped, or
+ * coalesced into a single log counting them once there is room again. The
+ * last response of a stream is never given up, as the client reads until it
+ * gets it: it goes over the bound if it has to.
+ */
+public class BrowserResponseQueue {
+
+  /** What to do with a log message from a browser when its queue is full. */
+  public static enum LogOverflow {
+    /** Wait for room, as for any other response. */
+    BLOCK,
+    /** Drop it, and report how many were dropped once there is room. */
+    COALESCE,
+    /** Drop it. */
+    DROP
+  }
+
+  /** The capacity that stands for no bound. */
+  public static final int UNBOUNDED = 0;
+
+  private static final Logger logger = LoggerFactory.getLogger(BrowserResponseQueue.class);
+
+  private final Gson gson = new Gson();
+  private final LinkedList<StreamMessage> messages = new LinkedList<StreamMessage>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final int capacity;
+  private final LogOverflow logOverflow;
+  private final long maxWaitMillis;
+  /** Logs dropped since the last coalesced log. */
+  private final AtomicInteger pendingDroppedLogs = new AtomicInteger();
+  private final AtomicLong droppedLogs = new AtomicLong();
+  private volatile BrowserInfo lastDroppedBrowser;
+
+  /**
+   * @param capacity the most responses held, or {@link #UNBOUNDED}.
+   * @param maxWaitMillis how long a response waits for room before it is
+   *        dropped, so that a client that went away doesn't hold the request
+   *        of the browser. Keep it well under the browser timeout, as the
+   *        browser doesn't heartbeat while it waits.
+   */
+  public BrowserResponseQueue(int capacity, LogOverflow logOverflow, long maxWaitMillis) {
+    this.capacity = capacity;
+    this.logOverflow = logOverflow;
+    this.maxWaitMillis = maxWaitMillis;
+  }
+
+  /**
+   * Adds a response, waiting for room when the queue is full.
+   * @return false if the response was refused, and has to be posted again. A
+   *         log given up by the {@link LogOverflow} is not refused.
+   */
+  public boolean offer(StreamMessage message) throws InterruptedException {
+    Response response = message.getResponse();
+    boolean log = !message.isLast() && response.getResponseType() == ResponseType.LOG;
+    offerCoalescedLog();
+    if (log && logOverflow != LogOverflow.BLOCK) {
+      if (!add(message, 0, false)) {
+        droppedLogs.incrementAndGet();
+        pendingDroppedLogs.incrementAndGet();
+        lastDroppedBrowser = response.getBrowser();
+      }
+      return true;
+    }
+    if (!add(message, maxWaitMillis, message.isLast())) {
+      logger.warn("Refused a {} response from {}, the client didn't collect the responses"
+          + " in {} ms", new Object[] {response.getResponseType(), response.getBrowser(),
+          maxWaitMillis});
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @param force adds the message over the bound once the wait is over.
+   * @return false if the message wasn't added.
+   */
+  private boolean add(StreamMessage message, long waitMillis, boolean force)
+      throws InterruptedException {
+    long nanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+    lock.lock();
+    try {
+      while (isFull() && nanos > 0) {
+        nanos = notFull.awaitNanos(nanos);
+      }
+      if (isFull() && !force) {
+        return false;
+      }
+      messages.add(message);
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isFull() {
+    return capacity != UNBOUNDED && messages.size() >= capacity;
+  }
+
+  /** Reports the logs dropped so far, if there is room for it. */
+  private void offerCoalescedLog() {
+    if (logOverflow != LogOverflow.COALESCE || pendingDroppedLogs.get() == 0) {
+      return;
+    }
+    synchronized (pendingDroppedLogs) {
+      int dropped = pendingDroppedLogs.get();
+      if (dropped == 0) {
+        return;
+      }
+      BrowserLog log = new BrowserLog();
+      log.setSource("jstestdriver");
+      log.setMessage(dropped + " log messages were dropped while the client was behind.");
+      log.setBrowser(lastDroppedBrowser);
+      StreamMessage coalesced = new StreamMessage(false, new Response(ResponseType.LOG.name(),
+          gson.toJson(log), lastDroppedBrowser, "", 0));
+      try {
+        if (add(coalesced, 0, false)) {
+          pendingDroppedLogs.addAndGet(-dropped);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  public StreamMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lock();
+    try {
+      while (messages.isEmpty()) {
+        if (nanos <= 0) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      StreamMessage message = messages.removeFirst();
+      notFull.signal();
+      return message;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** @return the number of responses waiting for the client. */
+  public int size() {
+    lock.lock();
+    try {
+      return messages.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** @return the number of log messages given up since the browser was captured. */
+  public long getDroppedLogCount() {
+    return droppedLogs.get();
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      messages.clear();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    pendingDroppedLogs.set(0);
+  }
+
+  @Override
+  public String toString() {
+    lock.lock();
+    try {
+      return messages.toString();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
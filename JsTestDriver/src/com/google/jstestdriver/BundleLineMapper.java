@@ -0,0 +1,187 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Sets;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps the lines of stack traces through a test case bundle back to the files
+ * that were bundled, using the line map served next to the bundle. The maps
+ * are fetched as the failures arrive, so that mapping, when the failures are
+ * parsed, never waits on the server. Only the maps of the most recent
+ * bundles are kept.
+ *
+ * @see com.google.jstestdriver.server.TestCaseBundle
+ */
+@Singleton
+public class BundleLineMapper {
+  private static final Logger logger = LoggerFactory.getLogger(BundleLineMapper.class);
+  /** Origin, path to the test resources, bundle and line. */
+  private static final Pattern BUNDLE_LINE =
+      Pattern.compile("(https?://[^/\\s]+)(\\S*/test/)(\\.bundle/\\S+?)\\.js:(\\d+)");
+  /** Each version of a bundle has its own map, the old ones aren't asked for again. */
+  static final int MAX_MAPS = 32;
+
+  private final Server server;
+  private final Map<String, LineMap> maps = new LinkedHashMap<String, LineMap>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, LineMap> eldest) {
+      return size() > MAX_MAPS;
+    }
+  };
+
+  @Inject
+  public BundleLineMapper(Server server) {
+    this.server = server;
+  }
+
+  /**
+   * Fetches the line maps of the bundles the raw failures go through, unless
+   * they are already kept. Each map is fetched at most once per call.
+   */
+  public void prefetch(Iterable<String> failures) {
+    Set<String> urls = Sets.newLinkedHashSet();
+    for (String failure : failures) {
+      if (failure == null || failure.indexOf(".bundle/") == -1) {
+        continue;
+      }
+      Matcher matcher = BUNDLE_LINE.matcher(failure);
+      while (matcher.find()) {
+        urls.add(mapUrl(matcher));
+      }
+    }
+    for (String url : urls) {
+      if (getLineMap(url) == null) {
+        LineMap map = fetch(url);
+        if (map != null) {
+          synchronized (maps) {
+            maps.put(url, map);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the stack line, with its bundle location replaced by the location in
+   *         the original file, or unchanged when it isn't in a bundle or the map
+   *         of the bundle wasn't fetched.
+   */
+  public String map(String stackLine) {
+    if (stackLine.indexOf(".bundle/") == -1) {
+      return stackLine;
+    }
+    Matcher matcher = BUNDLE_LINE.matcher(stackLine);
+    StringBuffer mapped = new StringBuffer();
+    while (matcher.find()) {
+      LineMap map = getLineMap(mapUrl(matcher));
+      String location = map == null ? null
+          : map.locate(matcher.group(1), Integer.parseInt(matcher.group(4)));
+      matcher.appendReplacement(mapped,
+          Matcher.quoteReplacement(location == null ? matcher.group() : location));
+    }
+    matcher.appendTail(mapped);
+    return mapped.toString();
+  }
+
+  private static String mapUrl(Matcher matcher) {
+    return matcher.group(1) + matcher.group(2) + matcher.group(3) + ".json";
+  }
+
+  private LineMap getLineMap(String url) {
+    synchronized (maps) {
+      return maps.get(url);
+    }
+  }
+
+  /**
+   * A bundle is replaced as soon as its files change, its map may be gone.
+   * @return the map, or null when it couldn't be fetched.
+   */
+  private LineMap fetch(String url) {
+    try {
+      JsonArray files = new JsonParser().parse(server.fetch(url)).getAsJsonObject()
+          .getAsJsonArray("files");
+      int[] starts = new int[files.size()];
+      int[] lengths = new int[files.size()];
+      String[] fileSrcs = new String[files.size()];
+      int i = 0;
+      for (JsonElement element : files) {
+        JsonObject file = element.getAsJsonObject();
+        starts[i] = file.get("start").getAsInt();
+        lengths[i] = file.get("lines").getAsInt();
+        fileSrcs[i++] = file.get("fileSrc").getAsString();
+      }
+      return new LineMap(starts, lengths, fileSrcs);
+    } catch (RuntimeException e) {
+      logger.debug("No line map at {}", url, e);
+      return null;
+    }
+  }
+
+  /** The first line and the length of each file in a bundle, in order. */
+  private static class LineMap {
+    private final int[] starts;
+    private final int[] lengths;
+    private final String[] fileSrcs;
+
+    LineMap(int[] starts, int[] lengths, String[] fileSrcs) {
+      this.starts = starts;
+      this.lengths = lengths;
+      this.fileSrcs = fileSrcs;
+    }
+
+    /** @return the location of a line of the bundle, or null if it isn't in a file. */
+    String locate(String origin, int line) {
+      int low = 0;
+      int high = starts.length - 1;
+      int found = -1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (starts[mid] <= line) {
+          found = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      if (found == -1 || line >= starts[found] + lengths[found]) {
+        // a tracker call between the files.
+        return null;
+      }
+      String fileSrc = fileSrcs[found];
+      return (fileSrc.startsWith("/") ? origin + fileSrc : fileSrc) + ":"
+          + (line - starts[found] + 1);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import java.io.File;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link FileReader} that keeps the content of the files it read, and reads
+ * a file again only when its modification time or length changed. Meant for
+ * processes that run many times over the same files.
+ */
+public class CachingFileReader implements FileReader {
+
+  /**
+   * A file modified this recently may be modified again within the precision
+   * of its modification time, without the time changing. Its content is not kept.
+   */
+  static final long RACY_MILLIS = 2000;
+
+  /** Past this many files, the kept contents are dropped rather than grow. */
+  static final int MAX_FILES = 20000;
+
+  private final FileReader reader;
+  private final ConcurrentMap<String, Content> contents =
+      new ConcurrentHashMap<String, Content>();
+
+  public CachingFileReader(FileReader reader) {
+    this.reader = reader;
+  }
+
+  public String readFile(String file) {
+    File onDisk = new File(file);
+    long modified = onDisk.lastModified();
+    long length = onDisk.length();
+    Content content = contents.get(file);
+    if (content != null && content.modified == modified && content.length == length) {
+      return content.data;
+    }
+    String data = reader.readFile(file);
+    if (modified == 0 || System.currentTimeMillis() - modified < RACY_MILLIS) {
+      contents.remove(file);
+    } else {
+      if (contents.size() >= MAX_FILES) {
+        contents.clear();
+      }
+      contents.put(file, new Content(modified, length, data));
+    }
+    return data;
+  }
+
+  private static class Content {
+    final long modified;
+    final long length;
+    final String data;
+
+    Content(long modified, long length, String data) {
+      this.modified = modified;
+      this.length = length;
+      this.data = data;
+    }
+  }
+}
@@ -17,6 +17,8 @@ package com.google.jstestdriver;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.jstestdriver.BrowserResponseQueue.LogOverflow;
 import com.google.jstestdriver.browser.BrowserCaptureEvent;
 import com.google.jstestdriver.browser.BrowserCaptureEvent.Event;
 import com.google.jstestdriver.browser.BrowserIdStrategy;
@@ -40,10 +42,25 @@ public class CapturedBrowsers extends Observable {
 
   private final Map<String, SlaveBrowser> slaves = new ConcurrentHashMap<String, SlaveBrowser>();
   private final BrowserIdStrategy idStrategy;
-  
-  @Inject
+  private final int queueCapacity;
+  private final LogOverflow logOverflow;
+
   public CapturedBrowsers(BrowserIdStrategy idStrategy) {
+    this(idStrategy, BrowserResponseQueue.UNBOUNDED, LogOverflow.BLOCK);
+  }
+
+  @Inject
+  public CapturedBrowsers(BrowserIdStrategy idStrategy,
+      @Named("browserQueueSize") int queueCapacity,
+      @Named("browserLogOverflow") LogOverflow logOverflow) {
     this.idStrategy = idStrategy;
+    this.queueCapacity = queueCapacity;
+    this.logOverflow = logOverflow;
+  }
+
+  /** Bounds the queues of a newly captured browser. */
+  public void configureQueues(SlaveBrowser slave) {
+    slave.setQueueCapacity(queueCapacity, logOverflow);
   }
 
   public SlaveBrowser getBrowser(String id) {
@@ -60,6 +77,12 @@ public class CapturedBrowsers extends Observable {
     notifyObservers(new BrowserCaptureEvent(Event.CONNECTED, slave));
   }
 
+  /** Tells the observers a browser has loaded its files and is ready. */
+  public void browserReady(SlaveBrowser slave) {
+    setChanged();
+    notifyObservers(new BrowserCaptureEvent(Event.READY, slave));
+  }
+
   public Collection<SlaveBrowser> getSlaveBrowsers() {
     return slaves.values();
   }
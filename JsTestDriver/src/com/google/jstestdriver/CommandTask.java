@@ -123,20 +123,18 @@ public class CommandTask {
     try {
       logger.debug("Starting {} for {}", params.get("data"), browserId);
       stopWatch.start("execution %s", params.get("data"));
-      StreamMessage streamMessage = null;
-      do {
-        String response = server.fetch(baseUrl + "/cmd?id=" + browserId);
-        try {
-          streamMessage = gson.fromJson(response, StreamMessage.class);
-        } catch (Exception e) {
-          throw new RuntimeException("Error deserializing: " + response, e);
-        }
-        Response resObj = streamMessage.getResponse();
-        if (ResponseType.BROWSER_PANIC.equals(resObj.getResponseType())) {
-          throw new BrowserPanicException(resObj.getBrowser(), resObj.getResponse());
-        }
-        stream.stream(resObj);
-      } while (!streamMessage.isLast());
+      StreamMessage streamMessage = new StreamMessageReader(server).read(baseUrl, browserId,
+          new StreamMessageReader.MessageHandler() {
+            @Override
+            public boolean handle(StreamMessage message) {
+              Response resObj = message.getResponse();
+              if (ResponseType.BROWSER_PANIC.equals(resObj.getResponseType())) {
+                throw new BrowserPanicException(resObj.getBrowser(), resObj.getResponse());
+              }
+              stream.stream(resObj);
+              return message.isLast();
+            }
+          });
       logger.debug("finished {} for {} with {}", new Object[] {params.get("data"), browserId, streamMessage.getResponse().getResponseType()});
     } finally {
       stopWatch.stop("execution %s", params.get("data"));
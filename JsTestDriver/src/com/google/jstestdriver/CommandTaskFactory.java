@@ -32,28 +32,46 @@ public class CommandTaskFactory {
 
   private final JsTestDriverFileFilter filter;
   private final FileLoader fileLoader;
+  private final FileReader fileReader;
   private final StopWatch stopWatch;
   private final Set<FileInfoScheme> schemes;
   private final HandlerPathPrefix pathPrefix;
+  private final FileStatCache statCache;
+
+  public CommandTaskFactory(JsTestDriverFileFilter filter,
+                            FileLoader fileLoader,
+                            FileReader fileReader,
+                            Provider<HeartBeatManager> heartBeatProvider,
+                            StopWatch stopWatch,
+                            Set<FileInfoScheme> schemes,
+                            HandlerPathPrefix pathPrefix) {
+    this(filter, fileLoader, fileReader, heartBeatProvider, stopWatch, schemes, pathPrefix,
+        new FileStatCache(null));
+  }
 
   @Inject
   public CommandTaskFactory(JsTestDriverFileFilter filter,
                             FileLoader fileLoader,
+                            FileReader fileReader,
                             Provider<HeartBeatManager> heartBeatProvider,
                             StopWatch stopWatch,
                             Set<FileInfoScheme> schemes,
-                            @Named("serverHandlerPrefix") HandlerPathPrefix pathPrefix
+                            @Named("serverHandlerPrefix") HandlerPathPrefix pathPrefix,
+                            FileStatCache statCache
                             ) {
     this.filter = filter;
     this.fileLoader = fileLoader;
+    this.fileReader = fileReader;
     this.stopWatch = stopWatch;
     this.schemes = schemes;
     this.pathPrefix = pathPrefix;
+    this.statCache = statCache;
   }
 
   public CommandTask getCommandTask(ResponseStream stream, String baseUrl, Server server,
       Map<String, String> params, boolean upload) {
     return new CommandTask(stream, baseUrl, server, params, upload, stopWatch,
-        new FileUploader(stopWatch, server, baseUrl, fileLoader, filter, schemes, pathPrefix));
+        new FileUploader(stopWatch, server, baseUrl, fileLoader, fileReader, filter, schemes,
+            pathPrefix, statCache));
   }
 }
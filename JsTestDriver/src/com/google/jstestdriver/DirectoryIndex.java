@@ -0,0 +1,256 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The directory trees under the paths of a configuration, listed once and
+ * shared by every glob and base path resolved against them. Wide levels of a
+ * tree are listed in parallel.
+ *
+ * The listings are kept for the life of the process. After a {@link #refresh()}
+ * each directory is checked once against its modification time, and only the
+ * changed ones are listed again.
+ */
+@Singleton
+public class DirectoryIndex {
+
+  /** Levels of a tree narrower than this are listed on the calling thread. */
+  static final int PARALLEL_THRESHOLD = 32;
+
+  /**
+   * A directory modified this recently may be modified again within the
+   * precision of its modification time. Its listing is not trusted after a refresh.
+   */
+  static final long RACY_MILLIS = 2000;
+
+  private final int threads;
+  private final ConcurrentMap<String, Listing> listings =
+      new ConcurrentHashMap<String, Listing>();
+  private final ConcurrentMap<String, List<String>> trees =
+      new ConcurrentHashMap<String, List<String>>();
+  private final AtomicInteger generation = new AtomicInteger();
+
+  @Inject
+  public DirectoryIndex() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  DirectoryIndex(int threads) {
+    this.threads = threads;
+  }
+
+  /** Checks the listings against the disk again on their next use. */
+  public void refresh() {
+    generation.incrementAndGet();
+    trees.clear();
+  }
+
+  /**
+   * @return The paths of every file and directory under the root, relative to
+   *     it and starting with a "/", or an empty list when the root is not a
+   *     directory.
+   */
+  public List<String> find(File root) {
+    String key = root.getAbsolutePath();
+    List<String> tree = trees.get(key);
+    if (tree == null) {
+      tree = Collections.unmodifiableList(walk(new File(key)));
+      trees.put(key, tree);
+    }
+    return tree;
+  }
+
+  /** Walks the tree a level at a time, so a wide level can be listed in parallel. */
+  private List<String> walk(File root) {
+    List<String> found = new ArrayList<String>();
+    if (!root.isDirectory()) {
+      return found;
+    }
+    List<File> level = Collections.singletonList(root);
+    List<String> levelPaths = Collections.singletonList("");
+    ExecutorService executor = null;
+    try {
+      while (!level.isEmpty()) {
+        List<Listing> listed;
+        if (threads > 1 && level.size() >= PARALLEL_THRESHOLD) {
+          if (executor == null) {
+            // a pool for this walk only, like the file loading.
+            executor = Executors.newFixedThreadPool(threads, new IndexThreads());
+          }
+          listed = listAll(executor, level);
+        } else {
+          listed = new ArrayList<Listing>(level.size());
+          for (File dir : level) {
+            listed.add(list(dir));
+          }
+        }
+        List<File> next = new ArrayList<File>();
+        List<String> nextPaths = new ArrayList<String>();
+        for (int i = 0; i < level.size(); i++) {
+          Listing listing = listed.get(i);
+          String path = levelPaths.get(i);
+          for (String name : listing.directories) {
+            found.add(path + "/" + name);
+            next.add(new File(level.get(i), name));
+            nextPaths.add(path + "/" + name);
+          }
+          for (String name : listing.files) {
+            found.add(path + "/" + name);
+          }
+        }
+        level = next;
+        levelPaths = nextPaths;
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+    return found;
+  }
+
+  /** Lists a level in one chunk per thread, keeping the order of the level. */
+  private List<Listing> listAll(ExecutorService executor, final List<File> level) {
+    int chunk = (level.size() + threads - 1) / threads;
+    List<Future<List<Listing>>> futures = new ArrayList<Future<List<Listing>>>(threads);
+    for (int start = 0; start < level.size(); start += chunk) {
+      final List<File> dirs = level.subList(start, Math.min(start + chunk, level.size()));
+      futures.add(executor.submit(new Callable<List<Listing>>() {
+        public List<Listing> call() {
+          List<Listing> listed = new ArrayList<Listing>(dirs.size());
+          for (File dir : dirs) {
+            listed.add(list(dir));
+          }
+          return listed;
+        }
+      }));
+    }
+    List<Listing> listed = new ArrayList<Listing>(level.size());
+    for (Future<List<Listing>> future : futures) {
+      listed.addAll(get(future));
+    }
+    return listed;
+  }
+
+  private List<Listing> get(Future<List<Listing>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private Listing list(File dir) {
+    String key = dir.getPath();
+    int current = generation.get();
+    Listing listing = listings.get(key);
+    if (listing != null && listing.generation == current) {
+      return listing;
+    }
+    long modified = dir.lastModified();
+    if (listing != null && listing.isCurrent(modified)) {
+      listing = listing.validated(current);
+    } else {
+      listing = read(dir, modified, current);
+    }
+    listings.put(key, listing);
+    return listing;
+  }
+
+  private Listing read(File dir, long modified, int current) {
+    long listedAt = System.currentTimeMillis();
+    File[] children = dir.listFiles();
+    if (children == null) {
+      // removed, or not readable, since its parent was listed.
+      return new Listing(new String[0], new String[0], 0, listedAt, current);
+    }
+    List<String> directories = new ArrayList<String>();
+    List<String> files = new ArrayList<String>(children.length);
+    for (File child : children) {
+      if (child.isDirectory()) {
+        directories.add(child.getName());
+      } else {
+        files.add(child.getName());
+      }
+    }
+    return new Listing(directories.toArray(new String[directories.size()]),
+        files.toArray(new String[files.size()]), modified, listedAt, current);
+  }
+
+  /** The names in a directory, split into subdirectories and the rest. */
+  private static class Listing {
+    final String[] directories;
+    final String[] files;
+    final long modified;
+    final long listedAt;
+    final int generation;
+
+    Listing(String[] directories, String[] files, long modified, long listedAt,
+        int generation) {
+      this.directories = directories;
+      this.files = files;
+      this.modified = modified;
+      this.listedAt = listedAt;
+      this.generation = generation;
+    }
+
+    boolean isCurrent(long modified) {
+      return modified != 0 && this.modified == modified
+          && listedAt - modified >= RACY_MILLIS;
+    }
+
+    Listing validated(int generation) {
+      return new Listing(directories, files, modified, listedAt, generation);
+    }
+  }
+
+  /** Daemon threads, so a failed run doesn't keep the client alive. */
+  private static class IndexThreads implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "directory-index-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
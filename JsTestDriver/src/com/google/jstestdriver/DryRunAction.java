@@ -57,7 +57,7 @@ public class DryRunAction implements BrowserAction {
       BrowserInfo browser = response.getBrowser();
       switch(response.getResponseType()) {
         case TEST_QUERY_RESULT:
-          DryRunInfo dryRunInfo = gson.fromJson(response.getResponse(), DryRunInfo.class);
+          DryRunInfo dryRunInfo = response.parseResponse(gson, DryRunInfo.class);
 
           for (TestCase testCase : dryRunInfo.getTestCases()) {
             listener.onTestRegistered(browser, testCase);
@@ -67,17 +67,16 @@ public class DryRunAction implements BrowserAction {
               .getVersion(), dryRunInfo.getNumTests(), dryRunInfo.getTestNames()));
           break;
         case FILE_LOAD_RESULT:
-          LoadedFiles files = gson.fromJson(response.getResponse(),
-                                            response.getGsonType());
+          LoadedFiles files = response.parseResponse(gson, response.getGsonType());
           for (FileResult result : files.getLoadedFiles()) {
             listener.onFileLoad(response.getBrowser(), result);
           }
           break;
         case BROWSER_PANIC:
-          BrowserPanic panic = gson.fromJson(response.getResponse(), response.getGsonType());
+          BrowserPanic panic = response.parseResponse(gson, response.getGsonType());
           throw new BrowserPanicException(panic.getBrowserInfo(), panic.getCause());
         case LOG:
-          BrowserLog log = gson.fromJson(response.getResponse(), response.getGsonType());
+          BrowserLog log = response.parseResponse(gson, response.getGsonType());
           LoggerFactory.getLogger(log.getSource()).debug(log.getMessage());
           break;
       }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps file contents as UTF-8 encoded bytes outside of the java heap, so a
+ * server holding a lot of source doesn't have to garbage collect it, and can
+ * serve it without encoding it again for every request.
+ */
+public interface EncodedContents {
+
+  /** @return A read only buffer of the encoded content. */
+  ByteBuffer store(String content);
+
+  /** Frees a buffer returned by {@link #store(String)}. */
+  void release(ByteBuffer encoded);
+}
@@ -21,9 +21,7 @@ import com.google.inject.Inject;
 import com.google.jstestdriver.model.RunData;
 import com.google.jstestdriver.output.TestResultHolder;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -44,13 +42,12 @@ public class FailureCheckerAction implements Action {
       throw new FailureException("Tests failed. See log for details.");
     }
     List<String> failures = Lists.newLinkedList();
-    Map<BrowserInfo, Collection<TestResult>> resultsCollections = holder.getResults().asMap();
-
-    if (holder.getResults().isEmpty()) {
+    if (holder.getResultCount() == 0) {
       throw new FailureException("No tests executed.");
     }
-    for (Entry<BrowserInfo, Collection<TestResult>> entry : resultsCollections.entrySet()) {
-      if (entry.getValue().isEmpty()) {
+    // counted whether or not the holder retains the results.
+    for (Entry<BrowserInfo, Integer> entry : holder.getResultCounts().entrySet()) {
+      if (entry.getValue() == 0) {
         failures.add(entry.getKey() + " had no tests executed.");
       }
     }
@@ -25,6 +25,7 @@ import com.google.jstestdriver.model.HandlerPathPrefix;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -36,23 +37,39 @@ import java.util.regex.Pattern;
  */
 public class FailureParser {
   private static final Logger logger = LoggerFactory.getLogger(FailureParser.class);
+  private static final Type EXCEPTIONS_TYPE = new TypeToken<Collection<JsException>>() {}.getType();
   private final Gson gson = new Gson();
-  private final HandlerPathPrefix pathPrefix;
+  /** Matches the stack lines of the test runner itself. */
+  private final Pattern stackStripPattern;
+  private BundleLineMapper bundleLineMapper;
 
   @Inject
   public FailureParser(@Named("serverHandlerPrefix") HandlerPathPrefix pathPrefix) {
-    this.pathPrefix = pathPrefix;
+    stackStripPattern = Pattern.compile("http://[^/]*/*" + pathPrefix.prefixPath("/static/"),
+        Pattern.CASE_INSENSITIVE);
+  }
+
+  /** Maps the stack lines of scripts loaded in a bundle back to their files. */
+  @Inject(optional = true)
+  public void setBundleLineMapper(BundleLineMapper bundleLineMapper) {
+    this.bundleLineMapper = bundleLineMapper;
+  }
+
+  /**
+   * Fetches what parsing the raw failures needs from the server, so that
+   * parsing them later doesn't wait on it.
+   */
+  public void prefetch(Iterable<String> failures) {
+    if (bundleLineMapper != null) {
+      bundleLineMapper.prefetch(failures);
+    }
   }
 
   public List<Failure> parse(String failure) {
     String message = "";
     List<Failure> failures;
-    String stackStripPrefix = pathPrefix.prefixPath("/static/");
-    Pattern stackStripPattern = Pattern.compile("http://[^/]*/*" + stackStripPrefix,
-        Pattern.CASE_INSENSITIVE);
     try {
-      Collection<JsException> exceptions =
-          gson.fromJson(failure, new TypeToken<Collection<JsException>>() {}.getType());
+      Collection<JsException> exceptions = gson.fromJson(failure, EXCEPTIONS_TYPE);
       failures = Lists.newArrayListWithExpectedSize(exceptions.size());
       for (JsException exception : exceptions) {
         if (exception.getName() != null && !exception.getName().isEmpty()) {
@@ -60,16 +77,7 @@ public class FailureParser {
         } else {
           message = exception.getMessage();
         }
-        String errorStack = exception.getStack();
-        String[] lines = errorStack.split("\n");
-
-        final List<String> stack = Lists.newLinkedList();
-        for (String l : lines) {
-          if (!stackStripPattern.matcher(l).find()) {
-            stack.add(l);
-          }
-        }
-        failures.add(new Failure(message, stack));
+        failures.add(new Failure(message, stripStack(exception.getStack())));
       }
     } catch (Exception e) {
       logger.error("Error converting JsExceptions[{}]", failure, e);
@@ -78,6 +86,18 @@ public class FailureParser {
     return failures;
   }
 
+  private List<String> stripStack(String errorStack) {
+    final List<String> stack = Lists.newArrayList();
+    Matcher matcher = stackStripPattern.matcher("");
+    // a single character split doesn't go through the regex engine.
+    for (String l : errorStack.split("\n")) {
+      if (!matcher.reset(l).find()) {
+        stack.add(bundleLineMapper == null ? l : bundleLineMapper.map(l));
+      }
+    }
+    return stack;
+  }
+
   public static class Failure {
     private final List<String> stack;
     private final String message;
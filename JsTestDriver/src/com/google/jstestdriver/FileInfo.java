@@ -22,6 +22,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -46,11 +49,19 @@ public class FileInfo implements Cloneable {
 
   private String displayPath;
 
+  /** Digest of the content of the file, null when unknown. */
+  private String digest;
+
   public FileInfo() {
   }
 
   public FileInfo(String filePath, long timestamp, long length,
       boolean isPatch, boolean serveOnly, String data, String displayPath) {
+    this(filePath, timestamp, length, isPatch, serveOnly, data, displayPath, null);
+  }
+
+  public FileInfo(String filePath, long timestamp, long length,
+      boolean isPatch, boolean serveOnly, String data, String displayPath, String digest) {
     this.filePath = filePath;
     this.timestamp = timestamp;
     this.length = length;
@@ -58,6 +69,7 @@ public class FileInfo implements Cloneable {
     this.serveOnly = serveOnly;
     this.data = data;
     this.displayPath = displayPath;
+    this.digest = digest;
   }
 
   public String getData() {
@@ -149,7 +161,57 @@ public class FileInfo implements Cloneable {
   }
 
   public FileInfo load(String data, long timestamp) {
-    return new FileInfo(filePath, timestamp, length, isPatch, serveOnly, data, displayPath);
+    return new FileInfo(filePath, timestamp, length, isPatch, serveOnly, data, displayPath,
+        digest);
+  }
+
+  /**
+   * Gets the digest of the content of the file, which identifies the content
+   * regardless of the path and timestamp. Null when unknown.
+   */
+  public String getDigest() {
+    return digest;
+  }
+
+  /** @return An updated FileInfo with the given content digest. */
+  public FileInfo withDigest(String digest) {
+    return new FileInfo(filePath, timestamp, length, isPatch, serveOnly, data, displayPath,
+        digest);
+  }
+
+  /**
+   * Reads the file, and its patches, to compute the digest of its content
+   * without keeping the content around.
+   */
+  public FileInfo digestFile(FileReader reader) {
+    if (!canLoad()) {
+      return this;
+    }
+    return withDigest(digest(loadFile(reader).getData()));
+  }
+
+  /** Computes the hex encoded SHA-1 of the UTF-8 encoded data. */
+  public static String digest(String data) {
+    try {
+      return digest(data.getBytes("UTF-8"));
+    } catch (UnsupportedEncodingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Computes the hex encoded SHA-1 of already encoded data. */
+  public static String digest(byte[] bytes) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-1").digest(bytes);
+      StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+        hex.append(Character.forDigit(b & 0xf, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   /** Translates the FileInfo into a lightweight FileSrc object. */
@@ -166,7 +228,7 @@ public class FileInfo implements Cloneable {
   public String toString() {
     if (logger.isDebugEnabled() || logger.isTraceEnabled()) {
       return "\n\tFileInfo [filePath=" + filePath + ", length=" + length + ", patches=" + patches
-          + ", serveOnly=" + serveOnly + ", timestamp=" + timestamp + "]";
+          + ", serveOnly=" + serveOnly + ", timestamp=" + timestamp + ", digest=" + digest + "]";
     }
     return "\n\tFileInfo[" + this.getDisplayPath() + "]";
   }
@@ -179,7 +241,7 @@ public class FileInfo implements Cloneable {
    */
   public FileInfo fromResolvedPath(String resolvedPath, String displayPath, long timestamp) {
     return new FileInfo(resolvedPath, timestamp,
-      length, isPatch, serveOnly, data, displayPath);
+      length, isPatch, serveOnly, data, displayPath, digest);
   }
 
   /**
@@ -212,11 +274,13 @@ public class FileInfo implements Cloneable {
 
   @Override
   protected Object clone() throws CloneNotSupportedException {
-    return new FileInfo(filePath, timestamp, length, isPatch, serveOnly, data, displayPath);
+    return new FileInfo(filePath, timestamp, length, isPatch, serveOnly, data, displayPath,
+        digest);
   }
 
   /**
-   * Tests to see if a file is a proper replacement: different timestamp, length.
+   * Tests to see if a file is a proper replacement: different content digest
+   * when both are known, different timestamp otherwise.
    * Also returns false if the paths don't match.
    */
   public boolean shouldReplaceWith(FileInfo file) {
@@ -224,6 +288,14 @@ public class FileInfo implements Cloneable {
       logger.trace("paths not equal {} {}", getDisplayPath(), file.getDisplayPath());
       return false;
     }
+    if (digest != null && file.getDigest() != null) {
+      if (!digest.equals(file.getDigest())) {
+        logger.trace("replace {} because {} != {}",
+            new Object[]{getDisplayPath(), digest, file.getDigest()});
+        return true;
+      }
+      return false;
+    }
     if (getTimestamp() != file.getTimestamp()) {
       logger.trace("replace {} because {} != {}", new Object[]{getDisplayPath(), getTimestamp(), file.getTimestamp()});
       return true;
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.common.collect.Maps;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The content digests of the files read by the client, with the modification
+ * time and length they were read at, kept between runs. A file that still has
+ * the same modification time and length isn't read again to tell the server
+ * whether it changed.
+ */
+@Singleton
+public class FileStatCache {
+  private static final Logger logger = LoggerFactory.getLogger(FileStatCache.class);
+
+  /**
+   * A file modified this recently may be modified again within the precision
+   * of its modification time, without the time changing. Its digest is not kept.
+   */
+  static final long RACY_MILLIS = 2000;
+
+  private final File file;
+  private final Map<String, Stat> stats = Maps.newHashMap();
+  private boolean loaded = false;
+  private boolean changed = false;
+
+  /**
+   * @param file The file the digests are kept in. When empty, they are only
+   *     kept for the life of the process.
+   */
+  @Inject
+  public FileStatCache(@Named("statCache") String file) {
+    this.file = file == null || file.length() == 0 ? null : new File(file);
+  }
+
+  /**
+   * @return The file with the digest of its content, when the file is known
+   *     with the same modification time and length, otherwise null.
+   */
+  public synchronized FileInfo getDigested(FileInfo fileInfo) {
+    if (!isCacheable(fileInfo)) {
+      return null;
+    }
+    load();
+    Stat stat = stats.get(fileInfo.getFilePath());
+    if (stat == null || stat.modified != fileInfo.getTimestamp()
+        || stat.length != fileInfo.getLength()) {
+      return null;
+    }
+    return fileInfo.withDigest(stat.digest);
+  }
+
+  /** Keeps the digest of a file read from disk. */
+  public synchronized void put(FileInfo fileInfo, String digest) {
+    if (!isCacheable(fileInfo) || digest == null
+        || System.currentTimeMillis() - fileInfo.getTimestamp() < RACY_MILLIS) {
+      return;
+    }
+    load();
+    Stat stat = new Stat(fileInfo.getTimestamp(), fileInfo.getLength(), digest);
+    if (!stat.equals(stats.put(fileInfo.getFilePath(), stat))) {
+      changed = true;
+    }
+  }
+
+  /** Only plain files are read as they are on disk. */
+  private boolean isCacheable(FileInfo fileInfo) {
+    return fileInfo.canLoad() && fileInfo.getTimestamp() > 0
+        && (fileInfo.getPatches() == null || fileInfo.getPatches().isEmpty());
+  }
+
+  /**
+   * Writes the digests kept since they were loaded, readable by the user only.
+   * The digests of files that no longer exist are dropped.
+   */
+  public synchronized void save() {
+    if (file == null || !changed) {
+      return;
+    }
+    Properties properties = new Properties();
+    for (Iterator<Map.Entry<String, Stat>> entries = stats.entrySet().iterator();
+        entries.hasNext();) {
+      Map.Entry<String, Stat> entry = entries.next();
+      if (!new File(entry.getKey()).isFile()) {
+        entries.remove();
+        continue;
+      }
+      properties.setProperty(entry.getKey(), entry.getValue().toString());
+    }
+    File temp = null;
+    try {
+      File directory = file.getAbsoluteFile().getParentFile();
+      createPrivate(directory);
+      // written aside then renamed, so a concurrent run never reads half a file.
+      temp = File.createTempFile(file.getName(), ".tmp", directory);
+      makePrivate(temp);
+      OutputStream out = new FileOutputStream(temp);
+      try {
+        properties.store(out, "JsTestDriver file digests: modified length digest");
+      } finally {
+        out.close();
+      }
+      if (!temp.renameTo(file)) {
+        // windows doesn't rename over an existing file.
+        file.delete();
+        if (!temp.renameTo(file)) {
+          throw new IOException("Could not rename " + temp + " to " + file);
+        }
+      }
+      changed = false;
+    } catch (IOException e) {
+      logger.warn("Could not save the file digests to {}", file, e);
+      if (temp != null) {
+        temp.delete();
+      }
+    }
+  }
+
+  private static void createPrivate(File directory) {
+    if (directory.isDirectory()) {
+      return;
+    }
+    if (directory.getParentFile() != null) {
+      directory.getParentFile().mkdirs();
+    }
+    if (directory.mkdir()) {
+      makePrivate(directory);
+      directory.setExecutable(false, false);
+      directory.setExecutable(true, true);
+    }
+  }
+
+  private static void makePrivate(File file) {
+    file.setReadable(false, false);
+    file.setReadable(true, true);
+    file.setWritable(false, false);
+    file.setWritable(true, true);
+  }
+
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+    if (file == null || !file.isFile()) {
+      return;
+    }
+    Properties properties = new Properties();
+    try {
+      InputStream in = new FileInputStream(file);
+      try {
+        properties.load(in);
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      logger.warn("Could not load the file digests from {}", file, e);
+      return;
+    }
+    for (String path : properties.stringPropertyNames()) {
+      Stat stat = Stat.parse(properties.getProperty(path));
+      if (stat != null) {
+        stats.put(path, stat);
+      } else {
+        logger.debug("Ignoring the digest of {}", path);
+      }
+    }
+  }
+
+  private static class Stat {
+    final long modified;
+    final long length;
+    final String digest;
+
+    Stat(long modified, long length, String digest) {
+      this.modified = modified;
+      this.length = length;
+      this.digest = digest;
+    }
+
+    static Stat parse(String value) {
+      String[] parts = value.split(" ");
+      if (parts.length != 3) {
+        return null;
+      }
+      try {
+        return new Stat(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Stat)) {
+        return false;
+      }
+      Stat other = (Stat) obj;
+      return modified == other.modified && length == other.length
+          && digest.equals(other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+      return digest.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return modified + " " + length + " " + digest;
+    }
+  }
+}
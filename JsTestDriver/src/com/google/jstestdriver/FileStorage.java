@@ -0,0 +1,46 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+/**
+ * Where the server keeps the content of the files it serves.
+ */
+public enum FileStorage {
+  /** As strings on the java heap. */
+  HEAP {
+    @Override
+    public EncodedContents createContents() {
+      return null;
+    }
+  },
+  /** As UTF-8 bytes in direct buffers. Bound by -XX:MaxDirectMemorySize. */
+  OFF_HEAP {
+    @Override
+    public EncodedContents createContents() {
+      return new DirectEncodedContents();
+    }
+  },
+  /** As UTF-8 bytes in memory mapped spill files, paged in by the OS. */
+  MAPPED {
+    @Override
+    public EncodedContents createContents() {
+      return new MappedEncodedContents();
+    }
+  };
+
+  /** @return The contents to encode files into, null to keep strings. */
+  public abstract EncodedContents createContents();
+}
@@ -18,6 +18,7 @@ package com.google.jstestdriver;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
@@ -60,26 +61,40 @@ public class FileUploader {
   private final Server server;
   private final String baseUrl;
   private final FileLoader fileLoader;
+  private final FileReader fileReader;
   private final JsTestDriverFileFilter filter;
   private final Set<FileInfoScheme> schemes;
 
   private static final Logger logger = LoggerFactory.getLogger(FileUploader.class);
 
   private final HandlerPathPrefix prefix;
+  private final FileStatCache statCache;
+
+  public FileUploader(StopWatch stopWatch, Server server,
+      String baseUrl, FileLoader fileLoader, FileReader fileReader,
+      JsTestDriverFileFilter filter,
+      Set<FileInfoScheme> schemes,
+      HandlerPathPrefix prefix) {
+    this(stopWatch, server, baseUrl, fileLoader, fileReader, filter, schemes, prefix,
+        new FileStatCache(null));
+  }
 
   @Inject
   public FileUploader(StopWatch stopWatch, Server server,
-      @Named("server") String baseUrl, FileLoader fileLoader,
+      @Named("server") String baseUrl, FileLoader fileLoader, FileReader fileReader,
       JsTestDriverFileFilter filter,
       Set<FileInfoScheme> schemes,
-      @Named("serverHandlerPrefix") HandlerPathPrefix prefix) {
+      @Named("serverHandlerPrefix") HandlerPathPrefix prefix,
+      FileStatCache statCache) {
     this.stopWatch = stopWatch;
     this.server = server;
     this.baseUrl = baseUrl;
     this.fileLoader = fileLoader;
+    this.fileReader = fileReader;
     this.filter = filter;
     this.schemes = schemes;
     this.prefix = prefix;
+    this.statCache = statCache;
   }
 
   /** Uploads the changed files to the server and the browser. */
@@ -107,16 +122,54 @@ public class FileUploader {
 
   /**
    * Uploads the {@link JstdTestCase}s to the server, and retrieves a list
-   * of {@link JstdTestCaseDelta}s of the files that are different.
+   * of {@link JstdTestCaseDelta}s of the files that are different. The files
+   * are sent with the digests of their content, so that the server only asks
+   * for content it doesn't already have.
    */
   public Collection<JstdTestCaseDelta> determineServerFileSet(Collection<JstdTestCase> testCases) {
     Map<String, String> fileSetParams = new LinkedHashMap<String, String>();
-    fileSetParams.put("data", gson.toJson(testCases));
+    stopWatch.start("digestFiles");
+    List<JstdTestCase> digested = digestFiles(testCases);
+    statCache.save();
+    stopWatch.stop("digestFiles");
+    fileSetParams.put("data", gson.toJson(digested));
     fileSetParams.put("action", TestCaseUpload.ACTION);
     String postResult = server.post(baseUrl + "/fileSet", fileSetParams);
     return gson.fromJson(postResult, new TypeToken<Collection<JstdTestCaseDelta>>() {}.getType());
   }
 
+  private List<JstdTestCase> digestFiles(Collection<JstdTestCase> testCases) {
+    // test cases share most of their files, so each file is only digested
+    // once. The files the server asks for are read again when loaded.
+    Map<String, FileInfo> digests = Maps.newHashMap();
+    List<JstdTestCase> digested = Lists.newArrayListWithCapacity(testCases.size());
+    for (JstdTestCase testCase : testCases) {
+      digested.add(new JstdTestCase(
+          digestFiles(testCase.getDependencies(), digests),
+          digestFiles(testCase.getTests(), digests),
+          digestFiles(testCase.getPlugins(), digests),
+          testCase.getId()));
+    }
+    return digested;
+  }
+
+  private List<FileInfo> digestFiles(List<FileInfo> files, Map<String, FileInfo> digests) {
+    List<FileInfo> digested = Lists.newArrayListWithCapacity(files.size());
+    for (FileInfo file : files) {
+      FileInfo digestedFile = digests.get(file.getFilePath());
+      if (digestedFile == null) {
+        digestedFile = statCache.getDigested(file);
+        if (digestedFile == null) {
+          digestedFile = file.digestFile(fileReader);
+          statCache.put(file, digestedFile.getDigest());
+        }
+        digests.put(file.getFilePath(), digestedFile);
+      }
+      digested.add(digestedFile);
+    }
+    return digested;
+  }
+
   /** Determines what files have been changed as compared to the server. */
   public List<FileInfo> determineBrowserFileSet(String browserId, JstdTestCase testCase,
       ResponseStream stream) {
@@ -162,7 +215,7 @@ public class FileUploader {
 
 
   /** Uploads files to the browser. */
-  public void uploadToTheBrowser(String browserId, ResponseStream stream,
+  public void uploadToTheBrowser(String browserId, final ResponseStream stream,
       List<FileInfo> loadedFiles, int chunkSize) {
     List<FileSource> filesSrc = Lists.newLinkedList(filterFilesToLoad(loadedFiles));
     int numberOfFilesToLoad = filesSrc.size();
@@ -195,17 +248,17 @@ public class FileUploader {
             }));
       }
       server.post(baseUrl + "/cmd", loadFileParams);
-      while (true) {
-        String jsonResponse = server.fetch(baseUrl + "/cmd?id=" + browserId);
-        StreamMessage message = gson.fromJson(jsonResponse, StreamMessage.class);
-        Response response = message.getResponse();
-        logger.trace("LOADTEST response for {}", response);
-        stream.stream(response);
-        if (message.isLast()) {
-          logger.debug("Finished LOADTEST on {} with {}", browserId, response.getResponseType());
-          break;
-        }
-      }
+      StreamMessage message = new StreamMessageReader(server).read(baseUrl, browserId,
+          new StreamMessageReader.MessageHandler() {
+            @Override
+            public boolean handle(StreamMessage message) {
+              logger.trace("LOADTEST response for {}", message.getResponse());
+              stream.stream(message.getResponse());
+              return message.isLast();
+            }
+          });
+      logger.debug("Finished LOADTEST on {} with {}", browserId,
+          message.getResponse().getResponseType());
     }
   }
 
@@ -225,7 +278,7 @@ public class FileUploader {
     }
   }
 
-  private void reset(String browserId, ResponseStream stream, JstdTestCase testCase) {
+  private void reset(String browserId, final ResponseStream stream, JstdTestCase testCase) {
     stopWatch.start("reset %s", browserId);
     JsonCommand cmd = new JsonCommand(CommandType.RESET,
         Lists.newArrayList("preload", testCase.getId()));
@@ -237,14 +290,16 @@ public class FileUploader {
     server.post(baseUrl + "/cmd", resetParams);
 
     logger.trace("starting reset for {}", browserId);
-    Response response;
-    StreamMessage message;
-    do {
-      String jsonResponse = server.fetch(baseUrl + "/cmd?id=" + browserId);
-      message = gson.fromJson(jsonResponse, StreamMessage.class);
-      response = message.getResponse();
-      stream.stream(response);
-    } while(!(ResponseType.RESET_RESULT.equals(response.getResponseType()) && message.isLast()));
+    new StreamMessageReader(server).read(baseUrl, browserId,
+        new StreamMessageReader.MessageHandler() {
+          @Override
+          public boolean handle(StreamMessage message) {
+            Response response = message.getResponse();
+            stream.stream(response);
+            return ResponseType.RESET_RESULT.equals(response.getResponseType())
+                && message.isLast();
+          }
+        });
     logger.trace("finished reset for {}", browserId);
     stopWatch.stop("reset %s", browserId);
   }
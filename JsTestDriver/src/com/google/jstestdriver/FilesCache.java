@@ -15,7 +15,10 @@
  */
 package com.google.jstestdriver;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,17 +26,41 @@ import java.util.Set;
  * @author jeremiele@google.com (Jeremie Lenfant-Engelmann)
  */
 public class FilesCache {
-
+  private static final Charset UTF8 = Charset.forName("UTF-8");
 
   // TODO(corysmith): replace this with a synchronized collection
   // When the map semantics are clean.
   private final Map<String, FileInfo> files;
 
+  /**
+   * The content of the files, stored once however many paths share the same
+   * digest, and counted so it goes away with the last of them. Without encoded
+   * contents only the files with a digest are tracked, the others keep their
+   * content.
+   */
+  private final Map<String, Content> contents = new HashMap<String, Content>();
+
+  /** The files as served, by path, built on the first request for each version. */
+  private final Map<String, ServedFile> served = new HashMap<String, ServedFile>();
+
+  /** Null to keep the contents as strings. */
+  private final EncodedContents encoded;
+
   /**
    * @param files Files is expected to be an ordered map. Seriously.
    */
   public FilesCache(Map<String, FileInfo> files) {
+    this(files, null);
+  }
+
+  /**
+   * @param files Files is expected to be an ordered map.
+   * @param encoded Where to keep the content of the files, instead of keeping
+   *        it as strings. The stored files then have an empty content.
+   */
+  public FilesCache(Map<String, FileInfo> files, EncodedContents encoded) {
     this.files = files;
+    this.encoded = encoded;
   }
 
   public synchronized String getFileContent(String fileName) {
@@ -41,15 +68,212 @@ public class FilesCache {
     if (info == null) {
       throw new MissingFileException();
     }
+    Content content = contents.get(contentKey(info));
+    if (content != null) {
+      return content.toString();
+    }
     return info.getData();
   }
 
+  /**
+   * Returns the content of a file, or null if the file is missing or its
+   * content hasn't been uploaded yet.
+   */
+  public synchronized String getLoadedFileContent(String fileName) {
+    FileInfo info = files.get(fileName);
+    if (info == null || !info.isLoaded()) {
+      return null;
+    }
+    return getFileContent(fileName);
+  }
+
+  /**
+   * Returns the UTF-8 encoded content of a file, or null if the content isn't
+   * kept encoded.
+   */
+  public synchronized ByteBuffer getFileBody(String fileName) {
+    FileInfo info = files.get(fileName);
+    if (info == null) {
+      throw new MissingFileException();
+    }
+    Content content = contents.get(contentKey(info));
+    if (content == null || content.bytes == null) {
+      return null;
+    }
+    // each reader gets its own position.
+    return content.bytes.duplicate();
+  }
+
+  /**
+   * Returns the current version of a file as served to the browsers. Its
+   * entity tag and gzipped content are computed once per version, outside of
+   * the lock, while the content is held so that it can't be freed.
+   */
+  public ServedFile getServedFile(String fileName) {
+    FileInfo info;
+    String key;
+    Content content;
+    synchronized (this) {
+      info = files.get(fileName);
+      if (info == null) {
+        throw new MissingFileException();
+      }
+      ServedFile servedFile = served.get(fileName);
+      if (servedFile != null) {
+        return servedFile;
+      }
+      key = contentKey(info);
+      content = key == null ? null : contents.get(key);
+      if (content != null) {
+        content.references++;
+      }
+    }
+    ServedFile servedFile;
+    try {
+      servedFile = content == null
+          ? new ServedFile(info.getDigest(), info.getTimestamp(), info.getData(), null)
+          : new ServedFile(info.getDigest(), info.getTimestamp(), content.data, content.bytes);
+    } finally {
+      synchronized (this) {
+        if (content != null) {
+          release(key, content);
+        }
+      }
+    }
+    synchronized (this) {
+      // a newer version may have been added meanwhile, it gets its own.
+      if (files.get(fileName) == info) {
+        served.put(fileName, servedFile);
+      }
+    }
+    return servedFile;
+  }
+
   public synchronized void clear() {
+    for (Content content : contents.values()) {
+      content.free();
+    }
     files.clear();
+    contents.clear();
+    served.clear();
+  }
+
+  /**
+   * Adds a file, replacing any file with the same path.
+   *
+   * @return The stored file, which shares its content with the other files of
+   *         the same digest.
+   */
+  public synchronized FileInfo addFile(FileInfo fileInfo) {
+    FileInfo old = files.get(fileInfo.getDisplayPath());
+    if (old != null && old.getDigest() == null) {
+      // content without a digest belongs to its path only.
+      release(old);
+      old = null;
+    }
+    FileInfo stored = retain(fileInfo);
+    served.remove(stored.getDisplayPath());
+    files.put(stored.getDisplayPath(), stored);
+    release(old);
+    return stored;
+  }
+
+  /** Returns true if the content with the given digest is held. */
+  public synchronized boolean hasContent(String digest) {
+    return digest != null && contents.containsKey(digest);
+  }
+
+  /**
+   * Adds an unloaded file, loading it from the content held for its digest.
+   *
+   * @return The stored file.
+   */
+  public synchronized FileInfo addFileFromContent(FileInfo fileInfo) {
+    Content content = contents.get(fileInfo.getDigest());
+    if (content == null) {
+      throw new MissingFileException();
+    }
+    String data = content.data == null ? "" : content.data;
+    return addFile(fileInfo.load(data, fileInfo.getTimestamp()));
+  }
+
+  /** Returns the number of distinct contents held. */
+  public synchronized int getContentsNumber() {
+    return contents.size();
   }
 
-  public synchronized void addFile(FileInfo fileInfo) {
-    files.put(fileInfo.getDisplayPath(), fileInfo);
+  private String contentKey(FileInfo fileInfo) {
+    if (fileInfo.getDigest() != null) {
+      return fileInfo.getDigest();
+    }
+    return encoded == null ? null : "path:" + fileInfo.getDisplayPath();
+  }
+
+  private FileInfo retain(FileInfo fileInfo) {
+    String key = contentKey(fileInfo);
+    if (key == null || !fileInfo.isLoaded()) {
+      return fileInfo;
+    }
+    Content content = contents.get(key);
+    if (content == null) {
+      content = encoded == null ? new Content(fileInfo.getData(), null)
+          : new Content(null, encoded.store(fileInfo.getData()));
+      contents.put(key, content);
+    }
+    content.references++;
+    if (encoded != null) {
+      return fileInfo.getData().length() == 0 ? fileInfo
+          : fileInfo.load("", fileInfo.getTimestamp());
+    }
+    return content.data == fileInfo.getData() ? fileInfo
+        : fileInfo.load(content.data, fileInfo.getTimestamp());
+  }
+
+  private void release(FileInfo fileInfo) {
+    if (fileInfo == null || !fileInfo.isLoaded()) {
+      return;
+    }
+    String key = contentKey(fileInfo);
+    Content content = key == null ? null : contents.get(key);
+    if (content == null) {
+      return;
+    }
+    release(key, content);
+  }
+
+  private void release(String key, Content content) {
+    if (--content.references <= 0) {
+      if (contents.get(key) == content) {
+        contents.remove(key);
+      }
+      content.free();
+    }
+  }
+
+  /** The content of one or more files, either as a string or encoded. */
+  private class Content {
+    private final String data;
+    private final ByteBuffer bytes;
+    private int references = 0;
+
+    Content(String data, ByteBuffer bytes) {
+      this.data = data;
+      this.bytes = bytes;
+    }
+
+    void free() {
+      if (bytes != null) {
+        encoded.release(bytes);
+      }
+    }
+
+    @Override
+    public String toString() {
+      if (data != null) {
+        return data;
+      }
+      return UTF8.decode(bytes.duplicate()).toString();
+    }
   }
 
   public int getFilesNumber() {
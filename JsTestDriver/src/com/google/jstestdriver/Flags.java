@@ -15,6 +15,7 @@
  */
 package com.google.jstestdriver;
 
+import com.google.jstestdriver.BrowserResponseQueue.LogOverflow;
 import com.google.jstestdriver.browser.BrowserRunner;
 import com.google.jstestdriver.config.ConfigurationSource;
 import com.google.jstestdriver.config.ExecutionType;
@@ -87,5 +88,50 @@ public interface Flags {
   @GuiceBinding(name="raiseOnFailure")
   public boolean getRaiseOnFailure();
 
+  @GuiceBinding(name="asyncQueries")
+  public boolean getAsyncQueries();
+
+  @GuiceBinding(name="keepAlive")
+  public boolean getKeepAlive();
+
+  @GuiceBinding(name="gzip")
+  public boolean getGzip();
+
+  @GuiceBinding(name="keepAliveConnections")
+  public int getKeepAliveConnections();
+
+  @GuiceBinding(name="bundleScripts")
+  public boolean getBundleScripts();
+
+  @GuiceBinding(name="fileStorage")
+  public FileStorage getFileStorage();
+
+  @GuiceBinding(name="loaderThreads")
+  public int getLoaderThreads();
+
+  @GuiceBinding(name="coverageCache")
+  public String getCoverageCache();
+
+  @GuiceBinding(name="coverageCacheSize")
+  public int getCoverageCacheSize();
+
+  @GuiceBinding(name="shard")
+  public boolean getShard();
+
+  @GuiceBinding(name="testDurations")
+  public String getTestDurations();
+
+  @GuiceBinding(name="streamTestOutput")
+  public boolean getStreamTestOutput();
+
+  @GuiceBinding(name="browserQueueSize")
+  public int getBrowserQueueSize();
+
+  @GuiceBinding(name="browserLogOverflow")
+  public LogOverflow getBrowserLogOverflow();
+
+  @GuiceBinding(name="statCache")
+  public String getStatCache();
+
   public boolean getDisplayHelp();
 }
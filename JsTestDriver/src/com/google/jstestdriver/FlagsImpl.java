@@ -16,6 +16,7 @@
 package com.google.jstestdriver;
 
 import com.google.common.collect.Sets;
+import com.google.jstestdriver.BrowserResponseQueue.LogOverflow;
 import com.google.jstestdriver.browser.BrowserRunner;
 import com.google.jstestdriver.browser.CommandLineBrowserRunner;
 import com.google.jstestdriver.config.ConfigurationSource;
@@ -69,6 +70,24 @@ public class FlagsImpl implements Flags {
   private HashSet<String> requiredBrowsers;
   private HandlerPathPrefix serverHandlerPrefix = new NullPathPrefix();
   private boolean raiseOnFailure = false;
+  private boolean asyncQueries = false;
+  private boolean keepAlive = false;
+  private boolean gzip = false;
+  private int keepAliveConnections = 64;
+  private boolean bundleScripts = false;
+  private FileStorage fileStorage = FileStorage.HEAP;
+  private int loaderThreads = 1;
+  private String coverageCache =
+      new File(System.getProperty("user.home"), ".jstestdriver").getPath();
+  private int coverageCacheSize = 64;
+  private boolean shard = false;
+  /** Null for a file of its own to each configuration. */
+  private String testDurations = null;
+  private boolean streamTestOutput = false;
+  private int browserQueueSize = 1000;
+  private LogOverflow browserLogOverflow = LogOverflow.BLOCK;
+  /** Null for a file of its own to each user and configuration. */
+  private String statCache = null;
 
   @Option(name="--port", usage="The port on which to start the JsTestDriver server")
   public void setPort(Integer port) {
@@ -281,6 +300,185 @@ public class FlagsImpl implements Flags {
     return raiseOnFailure;
   }
 
+  @Option(name="--asyncQueries",
+      usage="Park browser queries on a non-blocking connector while they wait for commands.")
+  public void setAsyncQueries(boolean asyncQueries) {
+    this.asyncQueries = asyncQueries;
+  }
+
+  @Override
+  public boolean getAsyncQueries() {
+    return asyncQueries;
+  }
+
+  @Option(name="--keepAlive",
+      usage="Talk to the server over a pool of persistent connections.")
+  public void setKeepAlive(boolean keepAlive) {
+    this.keepAlive = keepAlive;
+  }
+
+  @Override
+  public boolean getKeepAlive() {
+    return keepAlive;
+  }
+
+  @Option(name="--gzip",
+      usage="Compress large request bodies and accept compressed responses. Requires --keepAlive.")
+  public void setGzip(boolean gzip) {
+    this.gzip = gzip;
+  }
+
+  @Override
+  public boolean getGzip() {
+    return gzip;
+  }
+
+  @Option(name="--keepAliveConnections",
+      usage="The most connections kept open with --keepAlive. Each browser of a run can use two.")
+  public void setKeepAliveConnections(int keepAliveConnections) {
+    this.keepAliveConnections = keepAliveConnections;
+  }
+
+  @Override
+  public int getKeepAliveConnections() {
+    return keepAliveConnections;
+  }
+
+  @Option(name="--bundleScripts",
+      usage="Load the leading scripts of a test case as one bundle. A script that fails to"
+          + " parse or throws then stops the scripts after it.")
+  public void setBundleScripts(boolean bundleScripts) {
+    this.bundleScripts = bundleScripts;
+  }
+
+  @Override
+  public boolean getBundleScripts() {
+    return bundleScripts;
+  }
+
+  @Option(name="--fileStorage",
+      usage="Where the server keeps served files: HEAP, OFF_HEAP or MAPPED (spill files).")
+  public void setFileStorage(FileStorage fileStorage) {
+    this.fileStorage = fileStorage;
+  }
+
+  @Override
+  public FileStorage getFileStorage() {
+    return fileStorage;
+  }
+
+  @Option(name="--loaderThreads",
+      usage="The number of threads reading and processing files. Defaults to 1. More than 1"
+          + " requires every FileLoadPostProcessor plugin to be thread safe.")
+  public void setLoaderThreads(int loaderThreads) {
+    this.loaderThreads = loaderThreads;
+  }
+
+  @Override
+  public int getLoaderThreads() {
+    return loaderThreads;
+  }
+
+  @Option(name="--coverageCache",
+      usage="The directory under which coverage instrumented files are kept between runs. Defaults to .jstestdriver in the home directory.")
+  public void setCoverageCache(String coverageCache) {
+    this.coverageCache = coverageCache;
+  }
+
+  @Override
+  public String getCoverageCache() {
+    return coverageCache;
+  }
+
+  @Option(name="--coverageCacheSize",
+      usage="The size of the coverage instrumentation cache, in megabytes. 0 disables it.")
+  public void setCoverageCacheSize(int coverageCacheSize) {
+    this.coverageCacheSize = coverageCacheSize;
+  }
+
+  @Override
+  public int getCoverageCacheSize() {
+    return coverageCacheSize;
+  }
+
+  @Option(name="--shard",
+      usage="Splits the tests across captured browsers of the same name, version and os, instead of running all of them on each.")
+  public void setShard(boolean shard) {
+    this.shard = shard;
+  }
+
+  @Override
+  public boolean getShard() {
+    return shard;
+  }
+
+  @Option(name="--testDurations",
+      usage="The file keeping how long each test case ran between runs, so that sharded runs start the slowest first. Defaults to a file per configuration in the temporary directory.")
+  public void setTestDurations(String testDurations) {
+    this.testDurations = testDurations;
+  }
+
+  @Override
+  public String getTestDurations() {
+    if (testDurations == null) {
+      // test case ids repeat across projects, so each configuration keeps its own.
+      String configPath = new File(config.getParentFile(), config.getName()).getAbsolutePath();
+      return new File(System.getProperty("java.io.tmpdir"), "jstd-test-durations-"
+          + FileInfo.digest(configPath).substring(0, 12) + ".properties").getPath();
+    }
+    return testDurations;
+  }
+
+  @Option(name="--streamTestOutput",
+      usage="Writes the --testOutput xml reports as the results arrive, instead of holding all of them until the end of the run.")
+  public void setStreamTestOutput(boolean streamTestOutput) {
+    this.streamTestOutput = streamTestOutput;
+  }
+
+  @Override
+  public boolean getStreamTestOutput() {
+    return streamTestOutput;
+  }
+
+  @Option(name="--browserQueueSize",
+      usage="The most responses the server holds for each browser before the browser waits for the client to catch up, 0 for no bound.")
+  public void setBrowserQueueSize(int browserQueueSize) {
+    this.browserQueueSize = browserQueueSize;
+  }
+
+  @Override
+  public int getBrowserQueueSize() {
+    return browserQueueSize;
+  }
+
+  @Option(name="--browserLogOverflow",
+      usage="What to do with browser log messages while its response queue is full: BLOCK, COALESCE or DROP.")
+  public void setBrowserLogOverflow(LogOverflow browserLogOverflow) {
+    this.browserLogOverflow = browserLogOverflow;
+  }
+
+  @Override
+  public LogOverflow getBrowserLogOverflow() {
+    return browserLogOverflow;
+  }
+
+  @Option(name="--statCache",
+      usage="The file keeping the content digest of each file, with its modification time and length, so unchanged files aren't read again on the next run. Defaults to a file per configuration in ~/.jstestdriver. Empty to keep them for the run only.")
+  public void setStatCache(String statCache) {
+    this.statCache = statCache;
+  }
+
+  @Override
+  public String getStatCache() {
+    if (statCache == null) {
+      // private to the user, and apart for each configuration like the test durations.
+      String configPath = new File(config.getParentFile(), config.getName()).getAbsolutePath();
+      return new File(new File(System.getProperty("user.home"), ".jstestdriver"), "file-digests-"
+          + FileInfo.digest(configPath).substring(0, 12) + ".properties").getPath();
+    }
+    return statCache;
+  }
+
   @Override
   public String toString() {
     return "FlagsImpl [port=" + port + ",\n sslPort=" + sslPort + ",\n server=" + server
@@ -289,6 +487,15 @@ public class FlagsImpl implements Flags {
         + ",\n displayHelp=" + displayHelp + ",\n verbose=" + verbose + ",\n captureConsole="
         + captureConsole + ",\n preloadFiles=" + preloadFiles + ",\n dryRunFor=" + dryRunFor
         + ",\n arguments=" + arguments + ",\n runnerMode=" + runnerMode + ",\n requiredBrowsers="
-        + requiredBrowsers + ",\n serverHandlerPrefix=" + serverHandlerPrefix + "\n raiseOnFailure=" + raiseOnFailure + "]";
+        + requiredBrowsers + ",\n serverHandlerPrefix=" + serverHandlerPrefix + "\n raiseOnFailure=" + raiseOnFailure
+        + ",\n asyncQueries=" + asyncQueries + ",\n keepAlive=" + keepAlive
+        + ",\n gzip=" + gzip + ",\n keepAliveConnections=" + keepAliveConnections
+        + ",\n bundleScripts=" + bundleScripts + ",\n fileStorage=" + fileStorage
+        + ",\n loaderThreads=" + loaderThreads + ",\n coverageCache=" + coverageCache
+        + ",\n coverageCacheSize=" + coverageCacheSize + ",\n shard=" + shard
+        + ",\n testDurations=" + getTestDurations() + ",\n streamTestOutput=" + streamTestOutput
+        + ",\n browserQueueSize=" + browserQueueSize
+        + ",\n browserLogOverflow=" + browserLogOverflow
+        + ",\n statCache=" + getStatCache() + "]";
   }
 }
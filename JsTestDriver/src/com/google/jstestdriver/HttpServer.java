@@ -67,6 +67,39 @@ public class HttpServer implements Server {
     }
   }
 
+  @Override
+  public void fetchLines(String url, LineProcessor processor) {
+    stopWatch.start("fetchLines %s", url);
+    HttpURLConnection connection = null;
+    logger.trace("Fetching lines {}", url);
+
+    try {
+      connection = (HttpURLConnection) new URL(url).openConnection();
+      connection.connect();
+      BufferedReader reader = new BufferedReader(
+          new InputStreamReader(connection.getInputStream(), UTF8_ENCODING));
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (line.length() > 0 && !processor.processLine(line)) {
+            break;
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (MalformedURLException e) {
+      throw new RuntimeException(e);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      if (connection != null) {
+        connection.disconnect();
+      }
+      stopWatch.stop("fetchLines %s", url);
+    }
+  }
+
   public void ping(String url) {
     HttpURLConnection connection = null;
     logger.trace("Pinging {}", url);
@@ -93,10 +126,11 @@ public class HttpServer implements Server {
   private String toString(InputStream inputStream) throws IOException {
     StringBuilder sb = new StringBuilder();
     Reader reader = new InputStreamReader(inputStream, UTF8_ENCODING);
-    int ch;
+    char[] buffer = new char[8192];
+    int read;
 
-    while ((ch = reader.read()) != -1) {
-      sb.append((char) ch);
+    while ((read = reader.read(buffer)) != -1) {
+      sb.append(buffer, 0, read);
     }
     reader.close();
     return sb.toString();
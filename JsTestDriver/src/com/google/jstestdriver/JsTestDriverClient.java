@@ -47,6 +47,16 @@ public interface JsTestDriverClient {
   public void dryRunFor(String id, ResponseStream responseStream, List<String> expressions,
       JstdTestCase testCase);
 
+  /**
+   * Waits on the server for a browser to be captured and ready to run tests.
+   *
+   * @return true if the browser is ready, false if it wasn't within the
+   *         timeout. The server may return earlier than the timeout.
+   * @throws ServerCannotWaitException if the server predates the wait.
+   */
+  public boolean awaitBrowserReady(String browserId, long timeoutMillis)
+      throws ServerCannotWaitException;
+
   /** Asks the server for the next browser id. */
   public String getNextBrowserId();
 
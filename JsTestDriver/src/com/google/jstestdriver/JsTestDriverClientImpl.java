@@ -17,6 +17,9 @@ package com.google.jstestdriver;
 
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -25,6 +28,7 @@ import com.google.jstestdriver.JsonCommand.CommandType;
 import com.google.jstestdriver.model.JstdTestCase;
 import com.google.jstestdriver.util.StopWatch;
 
+import java.io.FileNotFoundException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -76,6 +80,39 @@ public class JsTestDriverClientImpl implements JsTestDriverClient {
     }
   }
 
+  @Override
+  public boolean awaitBrowserReady(String browserId, long timeoutMillis)
+      throws ServerCannotWaitException {
+    try {
+      watch.start("awaitBrowserReady %s", browserId);
+      String ready;
+      try {
+        ready = server.fetch(baseUrl + "/cmd?awaitBrowserReady=" + browserId
+            + "&timeout=" + timeoutMillis);
+      } catch (RuntimeException e) {
+        if (e.getCause() instanceof FileNotFoundException) {
+          // a 404, the server doesn't know the command.
+          throw new ServerCannotWaitException(
+              "The server can't wait for browser " + browserId, e);
+        }
+        throw e;
+      }
+      // Servers from before the wait fail the command without writing anything.
+      if (ready.trim().length() == 0) {
+        throw new ServerCannotWaitException(
+            "The server can't wait for browser " + browserId);
+      }
+      JsonElement json = new JsonParser().parse(ready);
+      if (!json.isJsonObject() || !json.getAsJsonObject().has("captured")) {
+        throw new JsonParseException(
+            "Unexpected answer waiting for browser " + browserId + ": " + ready);
+      }
+      return json.getAsJsonObject().get("captured").getAsBoolean();
+    } finally {
+      watch.stop("awaitBrowserReady %s", browserId);
+    }
+  }
+
   @Override
   public String getNextBrowserId() {
     try {
@@ -172,6 +172,11 @@ public class JsTestDriverModule extends AbstractModule {
 
     bind(Time.class).to(TimeImpl.class);
 
+    if (flags.getKeepAlive()) {
+      // one pool of connections for the whole client.
+      bind(Server.class).to(PooledHttpServer.class).in(Singleton.class);
+    }
+
     bind(new TypeLiteral<Set<FileInfo>>() {}).annotatedWith(Names.named("fileSet"))
        .toProvider(FileSetProvider.class).in(Singleton.class);
     bind(new TypeLiteral<List<FileInfo>>() {}).annotatedWith(Names.named("tests"))
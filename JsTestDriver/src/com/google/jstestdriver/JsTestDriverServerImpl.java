@@ -71,6 +71,24 @@ public class JsTestDriverServerImpl implements JsTestDriverServer, Observer {
 
   private final Boolean debug;
 
+  private final boolean asyncQueries;
+
+  private final boolean bundleScripts;
+
+  public JsTestDriverServerImpl(int port,
+                                int sslPort,
+                                JstdTestCaseStore testCaseStore,
+                                CapturedBrowsers capturedBrowsers,
+                                long browserTimeout,
+                                HandlerPathPrefix handlerPrefix,
+                                Set<ServerListener> listeners,
+                                Set<FileInfoScheme> schemes,
+                                ExecutionType executionType,
+                                Boolean debug) {
+    this(port, sslPort, testCaseStore, capturedBrowsers, browserTimeout, handlerPrefix, listeners,
+        schemes, executionType, debug, false, false);
+  }
+
   @Inject
   public JsTestDriverServerImpl(@Assisted("port") int port,
                                 @Assisted("sslPort") int sslPort,
@@ -81,7 +99,9 @@ public class JsTestDriverServerImpl implements JsTestDriverServer, Observer {
                                 Set<ServerListener> listeners,
                                 Set<FileInfoScheme> schemes,
                                 @Named("executionType") ExecutionType executionType,
-                                @Named("debug") Boolean debug) {
+                                @Named("debug") Boolean debug,
+                                @Named("asyncQueries") boolean asyncQueries,
+                                @Named("bundleScripts") boolean bundleScripts) {
     this.port = port;
     this.sslPort = sslPort;
     this.capturedBrowsers = capturedBrowsers;
@@ -92,6 +112,8 @@ public class JsTestDriverServerImpl implements JsTestDriverServer, Observer {
     this.schemes = schemes;
     this.executionType = executionType;
     this.debug = debug;
+    this.asyncQueries = asyncQueries;
+    this.bundleScripts = bundleScripts;
     initServer();
   }
 
@@ -103,14 +125,15 @@ public class JsTestDriverServerImpl implements JsTestDriverServer, Observer {
       capturedBrowsers.deleteObserver(this);
       capturedBrowsers.addObserver(this);
       server = Guice.createInjector(
-          new JettyModule(port, sslPort, handlerPrefix),
+          new JettyModule(port, sslPort, handlerPrefix, asyncQueries),
           new JstdHandlersModule(capturedBrowsers,
                                  testCaseStore,
                                  browserTimeout,
                                  handlerPrefix,
                                  schemes,
                                  executionType,
-                                 debug)).getInstance(Server.class);
+                                 debug,
+                                 bundleScripts)).getInstance(Server.class);
       server.addLifeCycleListener(new JettyLifeCycleLogger());
     }
   }
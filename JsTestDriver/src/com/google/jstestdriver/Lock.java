@@ -23,8 +23,8 @@ public class Lock {
 
   private final Object lock = new Object();
   private volatile boolean locked;
-  private String sessionId = "";
-  private long lastHeartBeat = 0;
+  private volatile String sessionId = "";
+  private volatile long lastHeartBeat = 0;
 
   public synchronized boolean tryLock(String sessionId) {
     if (locked) {
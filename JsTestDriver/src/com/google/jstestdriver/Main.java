@@ -23,6 +23,8 @@ import com.google.jstestdriver.config.CmdLineFlagsFactory;
 import com.google.jstestdriver.config.ConfigurationException;
 import com.google.jstestdriver.config.InvalidFlagException;
 import com.google.jstestdriver.config.UnreadableFilesException;
+import com.google.jstestdriver.daemon.ClientDaemon;
+import com.google.jstestdriver.daemon.DaemonClient;
 import com.google.jstestdriver.embedded.JsTestDriverBuilder;
 import com.google.jstestdriver.guice.TestResultPrintingModule.TestResultPrintingInitializer;
 import com.google.jstestdriver.util.RetryException;
@@ -30,6 +32,8 @@ import com.google.jstestdriver.util.RetryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.logging.LogManager;
 
@@ -43,61 +47,146 @@ public class Main {
   private static final Logger logger = LoggerFactory.getLogger(JsTestDriver.class);
 
   public static void main(String[] args) {
+    int status;
+    try {
+      CmdLineFlags cmdLineFlags = new CmdLineFlagsFactory().create(args);
+      if (cmdLineFlags.getDaemonPort() != -1) {
+        status = serveDaemon(cmdLineFlags.getDaemonPort());
+      } else if (cmdLineFlags.getUseDaemonPort() != -1) {
+        status = submitToDaemon(cmdLineFlags);
+      } else {
+        status = run(args, null, System.out, System.err);
+      }
+    } catch (ConfigurationException e) {
+      System.out.println("Configuration Error: \n" + e.getMessage());
+      logger.debug("Details: {}", e);
+      status = 1;
+    } catch (IOException e) {
+      System.out.println("Client daemon error: " + e.getMessage());
+      logger.debug("Details: {}", e);
+      status = 1;
+    }
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  /** Serves the runs submitted with --useDaemon, until the process is stopped. */
+  private static int serveDaemon(int port) throws IOException {
+    final ClientDaemon daemon = new ClientDaemon(port, new ClientDaemon.Runner() {
+      private WarmDriver warmDriver;
+
+      public int run(String[] args, Module warmState, PrintStream out, PrintStream err) {
+        if (warmDriver == null) {
+          warmDriver = new WarmDriver(warmState);
+        }
+        return Main.run(args, warmDriver, out, err);
+      }
+    });
+    daemon.start();
+    Runtime.getRuntime().addShutdownHook(new Thread() {
+      @Override
+      public void run() {
+        daemon.stop();
+      }
+    });
+    System.out.println("Client daemon listening on port " + port);
+    daemon.serve();
+    return 0;
+  }
+
+  /** Runs on the daemon on the port, or here when there is none. */
+  private static int submitToDaemon(CmdLineFlags cmdLineFlags) throws IOException {
+    String[] args = cmdLineFlags.getArgsWithout("--useDaemon");
+    Integer status = new DaemonClient(cmdLineFlags.getUseDaemonPort())
+        .submit(args, System.out, System.err);
+    if (status != null) {
+      return status;
+    }
+    logger.debug("Running without the daemon.");
+    return run(args, null, System.out, System.err);
+  }
+
+  /**
+   * Runs a command line.
+   * @param warmDriver The driver kept between the runs of a client daemon, or null.
+   * @param out The standard output of the run.
+   * @param err The standard error of the run.
+   * @return The exit status.
+   */
+  static int run(String[] args, WarmDriver warmDriver, PrintStream out, PrintStream err) {
     try {
       // pre-parse parsing... These are the flags
       // that must be dealt with before we parse the flags.
       CmdLineFlags cmdLineFlags = new CmdLineFlagsFactory().create(args);
-      List<Plugin> cmdLinePlugins = cmdLineFlags.getPlugins();
   
       // configure logging before we start seriously processing.
       LogManager.getLogManager().readConfiguration(cmdLineFlags.getRunnerMode().getLogConfig());
-  
-  
-      final PluginLoader pluginLoader = new PluginLoader();
-  
-      // load all the command line plugins.
-      final List<Module> pluginModules = pluginLoader.load(cmdLinePlugins);
-      logger.debug("loaded plugins %s", pluginModules);
-  
-      JsTestDriverBuilder builder = new JsTestDriverBuilder();
-      builder.addBasePaths(cmdLineFlags.getBasePath());
-      builder.setConfigurationSource(cmdLineFlags.getConfigurationSource());
-      builder.addPluginModules(pluginModules);
-      builder.withPluginInitializer(TestResultPrintingInitializer.class);
-      builder.setRunnerMode(cmdLineFlags.getRunnerMode());
-      builder.setFlags(cmdLineFlags.getUnusedFlagsAsArgs());
-      JsTestDriver jstd = builder.build();
-      jstd.runConfiguration();
+
+      if (warmDriver != null) {
+        warmDriver.run(args, cmdLineFlags, out);
+      } else {
+        build(cmdLineFlags, null, out).runConfiguration();
+      }
   
       logger.info("Finished action run.");
+      return 0;
     } catch (InvalidFlagException e) {
-      e.printErrorMessages(System.out);
-      CmdLineFlags.printUsage(System.out);
-      System.exit(1);
+      e.printErrorMessages(out);
+      CmdLineFlags.printUsage(out);
+      return 1;
     } catch (UnreadableFilesException e) {
-      System.out.println("Configuration Error: \n" + e.getMessage());
+      out.println("Configuration Error: \n" + e.getMessage());
       logger.debug("Details: {}", e);
-      System.exit(1);
+      return 1;
     } catch (ConfigurationException e) {
-      System.out.println("Configuration Error: \n" + e.getMessage());
+      out.println("Configuration Error: \n" + e.getMessage());
       logger.debug("Details: {}", e);
-      System.exit(1);
+      return 1;
     } catch (RetryException e) {
-      System.out.println("Tests failed due to unexpected environment issue: "
+      out.println("Tests failed due to unexpected environment issue: "
           + e.getCause().getMessage());
-      System.exit(1);
+      return 1;
     } catch (FailureException e) {
-      System.out.println("Tests failed: " + e.getMessage());
-      System.exit(1);
+      out.println("Tests failed: " + e.getMessage());
+      return 1;
     } catch (BrowserPanicException e) {
-      System.out.println("Test run failed due to unresponsive browser: " + e);
-      System.exit(1);
+      out.println("Test run failed due to unresponsive browser: " + e);
+      return 1;
     } catch (Exception e) {
       logger.debug("Error {}", e);
-      e.printStackTrace();
-      System.out.println("Unexpected Runner Condition: " + e.getMessage()
+      e.printStackTrace(err);
+      out.println("Unexpected Runner Condition: " + e.getMessage()
           + "\n Use --runnerMode DEBUG for more information.");
-      System.exit(1);
+      return 1;
     }
   }
+
+  /**
+   * Builds the JsTestDriver of a command line.
+   * @param warmState Bindings kept between runs, or null.
+   * @param out The stream the results are written to.
+   */
+  static JsTestDriver build(CmdLineFlags cmdLineFlags, Module warmState, PrintStream out)
+      throws IOException {
+    List<Plugin> cmdLinePlugins = cmdLineFlags.getPlugins();
+    final PluginLoader pluginLoader = new PluginLoader();
+
+    // load all the command line plugins.
+    final List<Module> pluginModules = pluginLoader.load(cmdLinePlugins);
+    if (warmState != null) {
+      pluginModules.add(warmState);
+    }
+    logger.debug("loaded plugins %s", pluginModules);
+
+    JsTestDriverBuilder builder = new JsTestDriverBuilder();
+    builder.addBasePaths(cmdLineFlags.getBasePath());
+    builder.setConfigurationSource(cmdLineFlags.getConfigurationSource());
+    builder.addPluginModules(pluginModules);
+    builder.withPluginInitializer(TestResultPrintingInitializer.class);
+    builder.setRunnerMode(cmdLineFlags.getRunnerMode());
+    builder.setFlags(cmdLineFlags.getUnusedFlagsAsArgs());
+    builder.setOutputStream(out);
+    return builder.build();
+  }
 }
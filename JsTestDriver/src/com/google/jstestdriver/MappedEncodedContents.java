@@ -0,0 +1,123 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Encodes contents into segments of memory mapped spill files. Contents are
+ * appended to the current segment, and a segment is deleted once none of its
+ * contents are in use anymore. The OS pages the contents in and out, so they
+ * count against neither the heap nor the direct memory.
+ */
+public class MappedEncodedContents implements EncodedContents {
+  private static final Logger logger = LoggerFactory.getLogger(MappedEncodedContents.class);
+
+  static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+
+  private final File directory;
+  private final int segmentSize;
+  private final Map<ByteBuffer, Segment> segments = new IdentityHashMap<ByteBuffer, Segment>();
+  private Segment current;
+
+  public MappedEncodedContents() {
+    this(new File(System.getProperty("java.io.tmpdir")), SEGMENT_SIZE);
+  }
+
+  public MappedEncodedContents(File directory, int segmentSize) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+  }
+
+  public synchronized ByteBuffer store(String content) {
+    try {
+      byte[] bytes = content.getBytes("UTF-8");
+      if (current == null || current.remaining() < bytes.length) {
+        if (current != null && current.live == 0) {
+          current.delete();
+        }
+        current = new Segment(Math.max(segmentSize, bytes.length));
+      }
+      ByteBuffer encoded = current.append(bytes);
+      segments.put(encoded, current);
+      return encoded;
+    } catch (IOException e) {
+      throw new RuntimeException("Could not spill content to " + directory, e);
+    }
+  }
+
+  public synchronized void release(ByteBuffer encoded) {
+    Segment segment = segments.remove(encoded);
+    if (segment == null) {
+      return;
+    }
+    segment.live--;
+    if (segment.live == 0 && segment != current) {
+      segment.delete();
+    }
+  }
+
+  /** A spill file, mapped once and filled from the start. */
+  private class Segment {
+    private final File file;
+    private final MappedByteBuffer buffer;
+    private int live = 0;
+
+    Segment(int size) throws IOException {
+      file = File.createTempFile("jstd-files", ".spill", directory);
+      file.deleteOnExit();
+      RandomAccessFile spill = new RandomAccessFile(file, "rw");
+      try {
+        buffer = spill.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+      } finally {
+        // the mapping stays valid after the channel is closed.
+        spill.close();
+      }
+      logger.debug("mapped spill file {} of {} bytes", file, size);
+    }
+
+    int remaining() {
+      return buffer.remaining();
+    }
+
+    ByteBuffer append(byte[] bytes) {
+      ByteBuffer slice = buffer.slice();
+      slice.limit(bytes.length);
+      slice.put(bytes);
+      slice.flip();
+      buffer.position(buffer.position() + bytes.length);
+      live++;
+      return slice.asReadOnlyBuffer();
+    }
+
+    void delete() {
+      // the pages are unmapped when the buffer is collected.
+      if (!file.delete()) {
+        logger.warn("could not delete spill file {}", file);
+      }
+    }
+  }
+}
@@ -24,19 +24,19 @@ import com.google.jstestdriver.hooks.FileParsePostProcessor;
 import com.google.jstestdriver.model.BasePaths;
 import com.google.jstestdriver.util.DisplayPathSanitizer;
 
-import org.apache.oro.io.GlobFilenameFilter;
 import org.apache.oro.text.GlobCompiler;
+import org.apache.oro.text.regex.MalformedPatternException;
+import org.apache.oro.text.regex.Perl5Matcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FilenameFilter;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 /**
@@ -45,17 +45,30 @@ import java.util.regex.Pattern;
  */
 public class PathResolver {
   private static final Logger logger = LoggerFactory.getLogger(PathResolver.class);
+  private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote(File.separator));
+  private static final int GLOB_MASK =
+      GlobCompiler.DEFAULT_MASK | GlobCompiler.CASE_INSENSITIVE_MASK;
+  /** The globs compiled for this resolver, which lives as long as one configuration. */
+  private final ConcurrentMap<String, org.apache.oro.text.regex.Pattern> globs =
+      new ConcurrentHashMap<String, org.apache.oro.text.regex.Pattern>();
 
   private final Set<FileParsePostProcessor> processors;
   private final BasePaths basePaths;
   private DisplayPathSanitizer sanitizer;
+  private final DirectoryIndex directoryIndex;
 
-  @Inject
   public PathResolver(BasePaths basePaths, Set<FileParsePostProcessor> processors,
       DisplayPathSanitizer sanitizer) {
+    this(basePaths, processors, sanitizer, new DirectoryIndex());
+  }
+
+  @Inject
+  public PathResolver(BasePaths basePaths, Set<FileParsePostProcessor> processors,
+      DisplayPathSanitizer sanitizer, DirectoryIndex directoryIndex) {
     this.basePaths = basePaths;
     this.processors = processors;
     this.sanitizer = sanitizer;
+    this.directoryIndex = directoryIndex;
   }
 
   private Set<FileInfo> consolidatePatches(Set<FileInfo> resolvedFilesLoad) {
@@ -105,6 +118,14 @@ public class PathResolver {
     return consolidatePatches(resolvedFiles);
   }
 
+  /**
+   * Checks the directories against the disk again on the next resolve, for
+   * files added or removed since the configuration was last loaded.
+   */
+  public void refresh() {
+    directoryIndex.refresh();
+  }
+
   private void expandFileInfosFromFileInfo(Set<FileInfo> resolvedFiles,
       List<UnreadableFile> unreadable, FileInfo fileInfo, String filePath) {
     List<String> unresolvedPaths = Lists.newArrayListWithCapacity(basePaths.size());
@@ -203,8 +224,10 @@ public class PathResolver {
    * may not match the users expectations.
    */
   private String resolveRelativePathReferences(String path) {
-    Pattern pattern = Pattern.compile(Pattern.quote(File.separator));
-    String[] elements = pattern.split(path);
+    if (path.indexOf("..") == -1) {
+      return path;
+    }
+    String[] elements = SEPARATOR.split(path);
     List<String> resolved = Lists.newArrayListWithExpectedSize(elements.length);
     for (String element : elements) {
       if ("..".equals(element)) {
@@ -216,37 +239,39 @@ public class PathResolver {
     return Joiner.on(File.separator).join(resolved);
   }
 
+  /**
+   * @return The paths, relative to the directory and starting with a "/", of
+   *     everything under it with a name matching the pattern, or null if none do.
+   */
   private String[] expandGlob(String filePath, String fileNamePattern, File dir) {
-	  FilenameFilter fileFilter = new GlobFilenameFilter(fileNamePattern,
-		        GlobCompiler.DEFAULT_MASK | GlobCompiler.CASE_INSENSITIVE_MASK);
-	  String[] filteredFiles = expandDeepDirectoryGlobPaths(dir, fileFilter, "").toArray(new String[0]);
-
-    if (filteredFiles == null || filteredFiles.length == 0) {
-        return null;
+    org.apache.oro.text.regex.Pattern glob = compileGlob(fileNamePattern);
+    Perl5Matcher matcher = new Perl5Matcher();
+    List<String> filteredFiles = Lists.newArrayList();
+    for (String path : directoryIndex.find(dir)) {
+      if (matcher.matches(path.substring(path.lastIndexOf('/') + 1), glob)) {
+        filteredFiles.add(path);
+      }
     }
-    Arrays.sort(filteredFiles, String.CASE_INSENSITIVE_ORDER);
-    return filteredFiles;
+    if (filteredFiles.isEmpty()) {
+      return null;
+    }
+    Collections.sort(filteredFiles, String.CASE_INSENSITIVE_ORDER);
+    return filteredFiles.toArray(new String[filteredFiles.size()]);
   }
-  
-  private Set<String> expandDeepDirectoryGlobPaths( File rootDir, FilenameFilter fileFilter, String basePath ) {
-	  Set<String> foundFiles = new LinkedHashSet<String>();
-	  
-	  if (!rootDir.isDirectory()) return foundFiles;
-	  
-	  File[] children = rootDir.listFiles();
-	  for (File child : children) {
-		  foundFiles.addAll( expandDeepDirectoryGlobPaths(child, fileFilter, basePath + "/" + child.getName()) );
-	  }
-	  
-	  String[] childFiles = rootDir.list(fileFilter);
-	  for (String childFilename : childFiles) {
-		foundFiles.add(basePath + "/" + childFilename);
-	  }
-	  
-	  return foundFiles;
+
+  /** Compiles each glob once, the compiled patterns are safe to share between matchers. */
+  private org.apache.oro.text.regex.Pattern compileGlob(String fileNamePattern) {
+    org.apache.oro.text.regex.Pattern glob = globs.get(fileNamePattern);
+    if (glob == null) {
+      try {
+        glob = new GlobCompiler().compile(fileNamePattern, GLOB_MASK);
+      } catch (MalformedPatternException e) {
+        throw new IllegalArgumentException(e.getMessage());
+      }
+      globs.put(fileNamePattern, glob);
+    }
+    return glob;
   }
-  
-  
 
   public List<Plugin> resolve(List<Plugin> plugins) {
     List<UnreadableFile> unreadable = Lists.newLinkedList();
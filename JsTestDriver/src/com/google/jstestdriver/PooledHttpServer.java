@@ -0,0 +1,255 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.gson.JsonElement;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.google.jstestdriver.util.StopWatch;
+
+import org.apache.commons.httpclient.ConnectionPoolTimeoutException;
+import org.apache.commons.httpclient.Header;
+import org.apache.commons.httpclient.HttpClient;
+import org.apache.commons.httpclient.HttpMethod;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.NameValuePair;
+import org.apache.commons.httpclient.methods.ByteArrayRequestEntity;
+import org.apache.commons.httpclient.methods.EntityEnclosingMethod;
+import org.apache.commons.httpclient.methods.GetMethod;
+import org.apache.commons.httpclient.methods.PostMethod;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.apache.commons.httpclient.util.EncodingUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link Server} that keeps its connections to the server open between
+ * requests, instead of opening a new one for every heartbeat, poll and upload.
+ * Optionally gzips large request bodies and accepts gzipped responses.
+ */
+public class PooledHttpServer implements Server {
+  private static final Logger logger = LoggerFactory.getLogger(PooledHttpServer.class);
+  private static final String UTF8_ENCODING = "UTF-8";
+  private static final String GZIP = "gzip";
+  /** Bodies smaller than this are not worth compressing. */
+  static final int GZIP_THRESHOLD = 1024;
+  /** Each browser of a run can hold two: its response stream, and a wait for it. */
+  static final int DEFAULT_CONNECTIONS = 64;
+  /** How long a request waits for a free connection before failing. */
+  static final long CONNECTION_WAIT = 30 * 1000;
+  private static final int BUFFER_SIZE = 8192;
+  /** Well below the idle time after which jetty closes a connection. */
+  private static final long IDLE_TIMEOUT = 30 * 1000;
+
+  private final StopWatch stopWatch;
+  private final boolean gzip;
+  private final long connectionWait;
+  private final MultiThreadedHttpConnectionManager manager;
+  private final HttpClient client;
+
+  public PooledHttpServer(StopWatch stopWatch, boolean gzip) {
+    this(stopWatch, gzip, DEFAULT_CONNECTIONS);
+  }
+
+  @Inject
+  public PooledHttpServer(StopWatch stopWatch, @Named("gzip") boolean gzip,
+      @Named("keepAliveConnections") int connections) {
+    this(stopWatch, gzip, connections, CONNECTION_WAIT);
+  }
+
+  PooledHttpServer(StopWatch stopWatch, boolean gzip, int connections, long connectionWait) {
+    this.stopWatch = stopWatch;
+    this.gzip = gzip;
+    this.connectionWait = connectionWait;
+    MultiThreadedHttpConnectionManager manager = new MultiThreadedHttpConnectionManager();
+    HttpConnectionManagerParams params = manager.getParams();
+    // every browser streams its responses, on top of the heartbeats and uploads.
+    params.setDefaultMaxConnectionsPerHost(Math.max(1, connections));
+    params.setMaxTotalConnections(Math.max(1, connections));
+    // the stale check costs a blocking read per request. Connections are closed
+    // before the server drops them instead, and a dropped one is retried.
+    params.setStaleCheckingEnabled(false);
+    this.manager = manager;
+    client = new HttpClient(manager);
+    // a request waiting on a full pool fails, rather than hanging the run.
+    client.getParams().setConnectionManagerTimeout(connectionWait);
+  }
+
+  /** Closes the connections of the pool. The server can't be used afterwards. */
+  public void shutdown() {
+    manager.shutdown();
+  }
+
+  @Override
+  public String fetch(String url) {
+    stopWatch.start("fetch %s", url);
+    logger.trace("Fetching {}", url);
+    GetMethod method = new GetMethod(url);
+    try {
+      String response = execute(method);
+      logger.trace("Fetch response {}", response);
+      return response;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      method.releaseConnection();
+      stopWatch.stop("fetch %s", url);
+    }
+  }
+
+  @Override
+  public void fetchLines(String url, LineProcessor processor) {
+    stopWatch.start("fetchLines %s", url);
+    logger.trace("Fetching lines {}", url);
+    GetMethod method = new GetMethod(url);
+    try {
+      BufferedReader reader = new BufferedReader(openResponse(method), BUFFER_SIZE);
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.length() > 0 && !processor.processLine(line)) {
+          // don't wait for the rest of the stream before giving the connection back.
+          method.abort();
+          break;
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      method.releaseConnection();
+      stopWatch.stop("fetchLines %s", url);
+    }
+  }
+
+  @Override
+  public String post(String url, Map<String, String> params) {
+    stopWatch.start("post %s", url);
+    PostMethod method = new PostMethod(url);
+    try {
+      logger.trace("Post url:{} \nParams:\n{} \n", url, params);
+      NameValuePair[] pairs = new NameValuePair[params.size()];
+      int i = 0;
+      for (Map.Entry<String, String> entry : params.entrySet()) {
+        pairs[i++] = new NameValuePair(entry.getKey(), entry.getValue());
+      }
+      setBody(method, EncodingUtil.formUrlEncode(pairs, UTF8_ENCODING),
+          "application/x-www-form-urlencoded; charset=" + UTF8_ENCODING);
+      String response = execute(method);
+      logger.trace("Post response:\n{}", response);
+      return response;
+    } catch (IOException e) {
+      throw new RuntimeException("Connection error", e);
+    } finally {
+      method.releaseConnection();
+      stopWatch.stop("post %s", url);
+    }
+  }
+
+  @Override
+  public String postJson(String url, JsonElement json) {
+    stopWatch.start("postJson %s", url);
+    PostMethod method = new PostMethod(url);
+    try {
+      logger.trace("Post url:{}\nJSON:\n{}\n", url, json);
+      setBody(method, json.toString(), "application/jsonrequest");
+      String response = execute(method);
+      logger.trace("Post response:\n{}\n", response);
+      return response;
+    } catch (IOException e) {
+      throw new RuntimeException("Connection error on: " + url, e);
+    } finally {
+      method.releaseConnection();
+      stopWatch.stop("postJson %s", url);
+    }
+  }
+
+  @Override
+  public String startSession(String baseUrl, String id) {
+    return fetch(baseUrl + "/fileSet?id=" + id + "&session=start");
+  }
+
+  @Override
+  public void stopSession(String baseUrl, String id, String sessionId) {
+    fetch(baseUrl + "/fileSet?id=" + id + "&session=stop" + "&sessionId=" + sessionId);
+  }
+
+  private void setBody(EntityEnclosingMethod method, String body, String contentType)
+      throws IOException {
+    byte[] bytes = body.getBytes(UTF8_ENCODING);
+    if (gzip && bytes.length >= GZIP_THRESHOLD) {
+      bytes = compress(bytes);
+      method.setRequestHeader("Content-Encoding", GZIP);
+    }
+    method.setRequestEntity(new ByteArrayRequestEntity(bytes, contentType));
+  }
+
+  private String execute(HttpMethod method) throws IOException {
+    Reader reader = openResponse(method);
+    StringBuilder sb = new StringBuilder();
+    char[] buffer = new char[BUFFER_SIZE];
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      sb.append(buffer, 0, read);
+    }
+    return sb.toString();
+  }
+
+  /** Executes the method, and opens its response, unzipping it when needed. */
+  private Reader openResponse(HttpMethod method) throws IOException {
+    if (gzip) {
+      method.setRequestHeader("Accept-Encoding", GZIP);
+    }
+    manager.closeIdleConnections(IDLE_TIMEOUT);
+    int status;
+    try {
+      status = client.executeMethod(method);
+    } catch (ConnectionPoolTimeoutException e) {
+      throw new IOException("No connection to the server was free within " + connectionWait
+          + "ms for " + method.getURI() + ", raise --keepAliveConnections.");
+    }
+    if (status >= 400) {
+      throw new IOException("Server returned HTTP response code: " + status + " for URL: "
+          + method.getURI());
+    }
+    InputStream body = method.getResponseBodyAsStream();
+    if (body == null) {
+      body = new ByteArrayInputStream(new byte[0]);
+    }
+    Header encoding = method.getResponseHeader("Content-Encoding");
+    if (encoding != null && GZIP.equalsIgnoreCase(encoding.getValue())) {
+      body = new GZIPInputStream(body);
+    }
+    return new InputStreamReader(body, UTF8_ENCODING);
+  }
+
+  static byte[] compress(byte[] bytes) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+    GZIPOutputStream gzipOut = new GZIPOutputStream(out);
+    gzipOut.write(bytes);
+    gzipOut.close();
+    return out.toByteArray();
+  }
+}
@@ -21,62 +21,136 @@ import com.google.inject.name.Named;
 import com.google.jstestdriver.hooks.FileLoadPostProcessor;
 import com.google.jstestdriver.util.StopWatch;
 
-import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * A simple loader for files.
+ * A simple loader for files. Files are read and post processed on a bounded
+ * pool of threads, one file per task, and returned in the order given. With
+ * one thread, the default, they are processed in turn on the calling thread,
+ * since the post processors of plugins need not be thread safe.
  * @author corysmith@google.com (Cory Smith)
  */
 public class ProcessingFileLoader implements FileLoader {
   private final FileReader reader;
   private final Set<FileLoadPostProcessor> postprocessors;
   private final StopWatch stopWatch;
+  private final int threads;
 
-  @Inject
   public ProcessingFileLoader(FileReader reader,
                               Set<FileLoadPostProcessor> postprocessors,
                               StopWatch stopWatch) {
+    this(reader, postprocessors, stopWatch, 1);
+  }
+
+  @Inject
+  public ProcessingFileLoader(FileReader reader,
+                              Set<FileLoadPostProcessor> postprocessors,
+                              StopWatch stopWatch,
+                              @Named("loaderThreads") int threads) {
     this.reader = reader;
     this.postprocessors = postprocessors;
     this.stopWatch = stopWatch;
+    this.threads = threads;
   }
 
   // TODO(corysmith): Remove shouldReset.
   @Override
   public List<FileInfo> loadFiles(
       Collection<FileInfo> filesToLoad, boolean shouldReset) {
-    List<FileInfo> processed = new LinkedList<FileInfo>();
-    List<FileInfo> loaded = new LinkedList<FileInfo>();
+    stopWatch.start("loadFiles");
     try {
-      stopWatch.start("preProcessFiles");
-      final List<FileInfo> preProcessedFiles = new LinkedList<FileInfo>(filesToLoad);
-      stopWatch.stop("preProcessFiles");
-
-      stopWatch.start("loadFile");
-      for (FileInfo file : preProcessedFiles) {
-        loaded.add(file.loadFile(reader));
+      int poolSize = Math.min(threads, filesToLoad.size());
+      if (poolSize <= 1) {
+        List<FileInfo> processed = new ArrayList<FileInfo>(filesToLoad.size());
+        for (FileInfo file : filesToLoad) {
+          processed.add(loadFile(file));
+        }
+        return processed;
       }
-      stopWatch.stop("loadFile");
-
-      stopWatch.start("postProcessFile");
-      for (FileInfo file : loaded) {
-        processed.add(postProcessFile(file));
+      // a pool for this call only: browser actions load files from the shared
+      // executor, so waiting on that executor here could starve it.
+      ExecutorService executor = Executors.newFixedThreadPool(poolSize, new LoaderThreads());
+      try {
+        List<Future<FileInfo>> futures = new ArrayList<Future<FileInfo>>(filesToLoad.size());
+        for (final FileInfo file : filesToLoad) {
+          futures.add(executor.submit(new Callable<FileInfo>() {
+            public FileInfo call() {
+              return loadFile(file);
+            }
+          }));
+        }
+        List<FileInfo> processed = new ArrayList<FileInfo>(futures.size());
+        for (Future<FileInfo> future : futures) {
+          processed.add(get(future));
+        }
+        return processed;
+      } finally {
+        executor.shutdownNow();
       }
-      stopWatch.stop("postProcessFile");
-    } catch (RuntimeException e) {
-      throw e;
+    } finally {
+      stopWatch.stop("loadFiles");
     }
+  }
+
+  private FileInfo loadFile(FileInfo file) {
+    stopWatch.start("loadFile %s", file.getFilePath());
+    FileInfo loaded = file.loadFile(reader);
+    stopWatch.stop("loadFile %s", file.getFilePath());
+
+    stopWatch.start("postProcessFile %s", file.getFilePath());
+    FileInfo processed = postProcessFile(loaded);
+    stopWatch.stop("postProcessFile %s", file.getFilePath());
     return processed;
   }
 
-  private FileInfo postProcessFile(FileInfo processed) {
+  /** Waits for a loaded file, rethrowing whatever failed the loading as is. */
+  private FileInfo get(Future<FileInfo> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private FileInfo postProcessFile(FileInfo loaded) {
+    FileInfo processed = loaded;
     for (FileLoadPostProcessor hook : postprocessors) {
       processed = hook.process(processed);
     }
+    if (processed.getDigest() != null && !processed.getData().equals(loaded.getData())) {
+      // the digest is of the file on disk, it doesn't identify rewritten content.
+      return processed.withDigest(null);
+    }
     return processed;
   }
+
+  /** Daemon threads, so a failed run doesn't keep the client alive. */
+  private static class LoaderThreads implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "file-loader-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
 }
@@ -15,6 +15,8 @@
  */
 package com.google.jstestdriver;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
 import com.google.jstestdriver.protocol.BrowserLog;
 import com.google.jstestdriver.protocol.Noop;
@@ -65,13 +67,58 @@ public class Response {
   private BrowserInfo browser = new BrowserInfo();
   private String error = "";
   private long executionTime = 0L;
-
+  /** The payload as a json tree, when it came over the wire as one. */
+  private transient JsonElement data;
+  /** The response as the browser encoded it, relayed to clients as is. */
+  private transient String encoded;
+
+  /**
+   * The serialized payload. A payload received as a json tree is only
+   * serialized when asked for, for the consumers that still parse the string.
+   */
   public String getResponse() {
+    if (response == null && data != null) {
+      response = data.toString();
+    }
     return response;
   }
 
+  /**
+   * Decodes the payload, straight from the json tree when it came over the
+   * wire as one.
+   */
+  public <T> T parseResponse(Gson gson, Type type) {
+    if (data != null) {
+      return gson.<T>fromJson(data, type);
+    }
+    return gson.<T>fromJson(response, type);
+  }
+
+  /** @see com.google.jstestdriver.protocol.WireProtocol */
+  public JsonElement getData() {
+    return data;
+  }
+
+  /** Sets the payload as a json tree, replacing the serialized one. */
+  public void setData(JsonElement data) {
+    this.data = data;
+    this.response = null;
+    this.encoded = null;
+  }
+
+  /** @see com.google.jstestdriver.protocol.WireProtocol */
+  public String getEncoded() {
+    return encoded;
+  }
+
+  public void setEncoded(String encoded) {
+    this.encoded = encoded;
+  }
+
   public void setResponse(String response) {
     this.response = response;
+    this.data = null;
+    this.encoded = null;
   }
 
   public BrowserInfo getBrowser() {
@@ -119,7 +166,7 @@ public class Response {
   @Override
   public String toString() {
     return "Response (\nbrowser=[" + browser + "], \nerror=[" + error + "], \nexecutionTime=[" + executionTime
-        + "], \nresponse=[" + response + "], \ntype=[" + type + "])";
+        + "], \nresponse=[" + getResponse() + "], \ntype=[" + type + "])";
   }
 
   @Override
@@ -129,7 +176,7 @@ public class Response {
     result = prime * result + ((browser == null) ? 0 : browser.hashCode());
     result = prime * result + ((error == null) ? 0 : error.hashCode());
     result = prime * result + (int) (executionTime ^ (executionTime >>> 32));
-    result = prime * result + ((response == null) ? 0 : response.hashCode());
+    result = prime * result + ((getResponse() == null) ? 0 : getResponse().hashCode());
     result = prime * result + ((type == null) ? 0 : type.hashCode());
     return result;
   }
@@ -145,9 +192,9 @@ public class Response {
       if (other.error != null) return false;
     } else if (!error.equals(other.error)) return false;
     if (executionTime != other.executionTime) return false;
-    if (response == null) {
-      if (other.response != null) return false;
-    } else if (!response.equals(other.response)) return false;
+    if (getResponse() == null) {
+      if (other.getResponse() != null) return false;
+    } else if (!getResponse().equals(other.getResponse())) return false;
     if (type == null) {
       if (other.type != null) return false;
     } else if (!type.equals(other.type)) return false;
@@ -34,17 +34,37 @@ public class RunTestsAction implements BrowserAction {
   private final Set<TestsPreProcessor> preProcessors;
   private final ResponseStreamFactory responseStreamFactory;
   private final StopWatch stopWatch;
+  private final BrowserInfo reportAs;
 
   public RunTestsAction(ResponseStreamFactory responseStreamFactory,
                         List<String> tests,
                         boolean captureConsole,
                         Set<TestsPreProcessor> preProcessors,
                         StopWatch stopWatch) {
+    this(responseStreamFactory, tests, captureConsole, preProcessors, stopWatch, null);
+  }
+
+  private RunTestsAction(ResponseStreamFactory responseStreamFactory,
+                         List<String> tests,
+                         boolean captureConsole,
+                         Set<TestsPreProcessor> preProcessors,
+                         StopWatch stopWatch,
+                         BrowserInfo reportAs) {
     this.responseStreamFactory = responseStreamFactory;
     this.tests = tests;
     this.captureConsole = captureConsole;
     this.preProcessors = preProcessors;
     this.stopWatch = stopWatch;
+    this.reportAs = reportAs;
+  }
+
+  /**
+   * Creates an action running a shard of the tests, which reports its results
+   * as coming from the reportAs browser.
+   */
+  public RunTestsAction shard(List<String> tests, BrowserInfo reportAs) {
+    return new RunTestsAction(
+        responseStreamFactory, tests, captureConsole, preProcessors, stopWatch, reportAs);
   }
 
   /**
@@ -61,8 +81,11 @@ public class RunTestsAction implements BrowserAction {
       testsToRun = preProcessor.process(id, testsToRun.iterator());
       stopWatch.stop("TestsPreProcessor: %s", preProcessor);
     }
-    final ResponseStream runTestsActionResponseStream =
-          responseStreamFactory.getRunTestsActionResponseStream(id);
+    ResponseStream responseStream = responseStreamFactory.getRunTestsActionResponseStream(id);
+    if (reportAs != null) {
+      responseStream = new ShardedResponseStream(responseStream, reportAs);
+    }
+    final ResponseStream runTestsActionResponseStream = responseStream;
 
     stopWatch.start("RunTests: %s", id);
     if (testsToRun.size() == 1 && testsToRun.get(0).equals("all")) {
@@ -57,8 +57,7 @@ public class RunTestsActionResponseStream implements ResponseStream {
         }
         break;
       case FILE_LOAD_RESULT:
-        LoadedFiles files = gson.fromJson(response.getResponse(),
-                                          response.getGsonType());
+        LoadedFiles files = response.parseResponse(gson, response.getGsonType());
         for (FileResult result : files.getLoadedFiles()) {
           listener.onFileLoad(response.getBrowser(), result);
           if (!result.isSuccess()) {
@@ -67,7 +66,7 @@ public class RunTestsActionResponseStream implements ResponseStream {
         }
         break;
       case BROWSER_PANIC:
-        BrowserPanic panic = gson.fromJson(response.getResponse(), response.getGsonType());
+        BrowserPanic panic = response.parseResponse(gson, response.getGsonType());
         throw new BrowserPanicException(panic.getBrowserInfo(), panic.getCause());
     }
   }
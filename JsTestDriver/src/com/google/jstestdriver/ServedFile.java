@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One version of a file as served to the browsers: its entity tag, its
+ * content, and the content gzipped once for all the browsers that accept it.
+ */
+public class ServedFile {
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  /** Contents smaller than this are not worth compressing. */
+  static final int GZIP_THRESHOLD = 1024;
+
+  private final String etag;
+  private final long lastModified;
+  private final String data;
+  private final ByteBuffer body;
+  private final byte[] gzipped;
+
+  /**
+   * @param digest The digest of the content, computed from the encoded
+   *        content when null.
+   * @param data The content, when it is kept as a string.
+   * @param body The UTF-8 encoded content, when it is kept encoded.
+   */
+  public ServedFile(String digest, long lastModified, String data, ByteBuffer body) {
+    this.lastModified = lastModified;
+    this.data = data;
+    this.body = body;
+    byte[] bytes = encode();
+    // the tag is weak, as it covers the gzipped and the plain content alike.
+    etag = "W/\"" + (digest == null ? FileInfo.digest(bytes) : digest) + "\"";
+    gzipped = bytes.length < GZIP_THRESHOLD ? null : compress(bytes);
+  }
+
+  private byte[] encode() {
+    if (body != null) {
+      byte[] bytes = new byte[body.remaining()];
+      body.duplicate().get(bytes);
+      return bytes;
+    }
+    return data == null ? new byte[0] : data.getBytes(UTF8);
+  }
+
+  private static byte[] compress(byte[] bytes) {
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+      GZIPOutputStream gzipOut = new GZIPOutputStream(out);
+      gzipOut.write(bytes);
+      gzipOut.close();
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public String getETag() {
+    return etag;
+  }
+
+  /** @return The time the file was last modified, or a negative value if unknown. */
+  public long getLastModified() {
+    return lastModified;
+  }
+
+  /** @return The content, or null when it is only kept encoded. */
+  public String getData() {
+    return body == null ? (data == null ? "" : data) : null;
+  }
+
+  /** @return The UTF-8 encoded content, or null when it is kept as a string. */
+  public ByteBuffer getBody() {
+    return body == null ? null : body.duplicate();
+  }
+
+  /**
+   * @return The gzipped UTF-8 content, or null when it is too small to be worth
+   *         it. The buffer is shared, and must not be written to.
+   */
+  public ByteBuffer getGzippedBody() {
+    return gzipped == null ? null : ByteBuffer.wrap(gzipped);
+  }
+
+  /**
+   * Returns true if the request holding the given If-None-Match header already
+   * has this version.
+   */
+  public boolean matches(String ifNoneMatch) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String tag = weak(etag);
+    for (String candidate : ifNoneMatch.split(",")) {
+      candidate = candidate.trim();
+      if ("*".equals(candidate) || tag.equals(weak(candidate))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String weak(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+}
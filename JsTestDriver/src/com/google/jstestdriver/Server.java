@@ -28,8 +28,20 @@ import java.util.Map;
 public interface Server {
 
   String fetch(String url);
+
+  /**
+   * Fetches a newline delimited response, handing each line to the processor
+   * as soon as it has been read.
+   */
+  void fetchLines(String url, LineProcessor processor);
   String post(String url, Map<String, String> params);
   String postJson(String url, JsonElement json);
   String startSession(String baseUrl, String id);
   void stopSession(String baseUrl, String id, String sessionId);
+
+  /** Receives the lines of a streamed response. */
+  public interface LineProcessor {
+    /** @return false to stop reading the response. */
+    boolean processLine(String line);
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+/**
+ * Thrown when the server predates the wait for a browser to be ready, so the
+ * caller has to poll for the browser instead.
+ */
+public class ServerCannotWaitException extends Exception {
+
+  private static final long serialVersionUID = -3107318253861702143L;
+
+  public ServerCannotWaitException(String message) {
+    super(message);
+  }
+
+  public ServerCannotWaitException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+/**
+ * Reports the responses of one shard of a run as coming from the browser all
+ * the shards of its type report as, so that listeners see a single browser per
+ * name, version and os.
+ *
+ * @see com.google.jstestdriver.browser.TestSharder
+ */
+class ShardedResponseStream implements ResponseStream {
+
+  private final ResponseStream delegate;
+  private final BrowserInfo reportAs;
+
+  ShardedResponseStream(ResponseStream delegate, BrowserInfo reportAs) {
+    this.delegate = delegate;
+    this.reportAs = reportAs;
+  }
+
+  @Override
+  public void stream(Response response) {
+    response.setBrowser(reportAs);
+    delegate.stream(response);
+  }
+
+  @Override
+  public void finish() {
+    delegate.finish();
+  }
+}
@@ -15,7 +15,6 @@
  */
 package com.google.jstestdriver;
 
-import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -31,17 +30,17 @@ public class SimpleFileReader implements FileReader {
   public String readFile(String file)  {
     InputStreamReader reader = null;
     try {
-      reader = new InputStreamReader(new BufferedInputStream(
-        new FileInputStream(file)), Charset.forName("UTF-8"));
+      reader = new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8"));
       StringBuilder sb = new StringBuilder();
 
+      char[] buffer = new char[8192];
+      int read = reader.read(buffer);
       // remove the UTF8 BOM if exists.
-      int c = reader.read();
-      if (c != UTF8_BOM && c != -1) {
-        sb.append((char) c);
-      }
-      for (c = reader.read(); c != -1; c = reader.read()) {
-        sb.append((char) c);
+      int offset = read > 0 && buffer[0] == UTF8_BOM ? 1 : 0;
+      while (read != -1) {
+        sb.append(buffer, offset, read - offset);
+        offset = 0;
+        read = reader.read(buffer);
       }
 
       String contents = sb.toString();
@@ -21,23 +21,33 @@ import static com.google.jstestdriver.runner.RunnerType.STANDALONE;
 import static com.google.jstestdriver.server.handlers.CaptureHandler.RUNNER_TYPE;
 import static java.lang.String.format;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.joda.time.Instant;
+import org.mortbay.util.ajax.Continuation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Objects;
+import com.google.jstestdriver.BrowserResponseQueue.LogOverflow;
 import com.google.jstestdriver.Response.ResponseType;
 import com.google.jstestdriver.commands.NoopCommand;
+import com.google.jstestdriver.metrics.Histogram;
 import com.google.jstestdriver.model.HandlerPathPrefix;
 import com.google.jstestdriver.runner.RunnerType;
 import com.google.jstestdriver.server.handlers.pages.PageType;
@@ -46,6 +56,13 @@ import com.google.jstestdriver.server.handlers.pages.SlavePageRequest;
 /**
  * Represents a captured browser, and brokers the interaction between the client
  * and browser.
+ *
+ * The state of the browser is kept in atomic references to values that are
+ * never changed once published: the browser state, the last heartbeat, the
+ * command running and the set of loaded files are each replaced as a whole,
+ * so a reader on any thread sees either the old or the new value, and can
+ * iterate it while it is being replaced. The only lock left is the one parked
+ * queries wait on.
  * 
  * @author jeremiele@google.com (Jeremie Lenfant-Engelmann)
  */
@@ -76,20 +93,28 @@ public class SlaveBrowser {
   public static final long TIMEOUT = 30000; // 30 seconds
   public static final long SESSION_TIMEOUT = 2000;
   private static final int POLL_RESPONSE_TIMEOUT = 2;
+  /** The longest a response from the browser waits for room in a full queue. */
+  static final long RESPONSE_QUEUE_WAIT = 5000;
 
   private final Time time;
   private final String id;
   private final BrowserInfo browserInfo;
-  private final BlockingQueue<Command> commandsToRun = new LinkedBlockingQueue<Command>();
-  private long dequeueTimeout = 10;
-  private TimeUnit timeUnit = TimeUnit.SECONDS;
-  private AtomicReference<Instant> lastHeartbeat;
-  private Set<FileInfo> fileSet = new LinkedHashSet<FileInfo>();
-  private final BlockingQueue<StreamMessage> responses = new LinkedBlockingQueue<StreamMessage>();
-  private AtomicReference<Command> commandRunning = new AtomicReference<Command>(null);
-  private AtomicReference<Command> lastCommandDequeued = new AtomicReference<Command>(null);
+  private volatile BlockingQueue<Command> commandsToRun = new LinkedBlockingQueue<Command>();
+  private final Queue<Continuation> parkedQueries = new ConcurrentLinkedQueue<Continuation>();
+  private volatile long dequeueTimeoutMillis = TimeUnit.SECONDS.toMillis(10);
+  private final AtomicReference<Instant> lastHeartbeat;
+  private final AtomicReference<LoadedFileSet> loadedFiles =
+      new AtomicReference<LoadedFileSet>(LoadedFileSet.EMPTY);
+  private volatile BrowserResponseQueue responses =
+      new BrowserResponseQueue(BrowserResponseQueue.UNBOUNDED, LogOverflow.BLOCK, TIMEOUT);
+  private final AtomicReference<Command> commandRunning = new AtomicReference<Command>(null);
+  private final AtomicReference<Command> lastCommandDequeued = new AtomicReference<Command>(null);
   private final long timeout;
   private final Lock lock = new Lock();
+  private volatile Histogram dequeueWait;
+  /** When the browser was captured, until it is first ready. */
+  private final AtomicLong capturedNanos = new AtomicLong(System.nanoTime());
+  private volatile Histogram captureToReady;
 
 
   private final HandlerPathPrefix prefix;
@@ -98,9 +123,7 @@ public class SlaveBrowser {
 
   private final RunnerType type;
 
-  private AtomicReference<BrowserState> state;
-
-  private ConcurrentMap<FileResult, Boolean> fileResults = new ConcurrentHashMap<FileResult, Boolean>();
+  private final AtomicReference<BrowserState> state;
 
   public SlaveBrowser(Time time, String id, BrowserInfo browserInfo, long timeout,
       HandlerPathPrefix prefix, String mode, RunnerType type, BrowserState state, Instant lastHeartbeat) {
@@ -147,25 +170,79 @@ public class SlaveBrowser {
     }
   }
 
+  /**
+   * Bounds the commands and responses queued for this browser, which are
+   * unbounded until then. Called before the browser is used.
+   *
+   * @param capacity the most commands, and the most responses, queued, or
+   *        {@link BrowserResponseQueue#UNBOUNDED}.
+   */
+  public void setQueueCapacity(int capacity, LogOverflow logOverflow) {
+    commandsToRun = capacity == BrowserResponseQueue.UNBOUNDED
+        ? new LinkedBlockingQueue<Command>() : new LinkedBlockingQueue<Command>(capacity);
+    responses = new BrowserResponseQueue(capacity, logOverflow, responseQueueWait());
+  }
+
+  /**
+   * How long a response waits for room. It holds a request of the browser,
+   * which doesn't heartbeat meanwhile, so it stays well under its timeout.
+   */
+  private long responseQueueWait() {
+    return Math.min(RESPONSE_QUEUE_WAIT, maxQueueWait() / 2);
+  }
+
+  /** How long a full queue holds back the browser, or the client. */
+  private long maxQueueWait() {
+    return timeout > 0 ? timeout : TIMEOUT;
+  }
+
   public void createCommand(String data) {
     try {
-      commandsToRun.put(new Command(data));
+      // waits outside of the lock, as a parked query takes it to dequeue.
+      if (!commandsToRun.offer(new Command(data), maxQueueWait(), TimeUnit.MILLISECONDS)) {
+        throw new IllegalStateException("The command queue of " + browserInfo + " is full.");
+      }
+      synchronized (this) {
+        resumeParkedQueries();
+      }
     } catch (InterruptedException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private void resumeParkedQueries() {
+    Continuation parked;
+    while ((parked = parkedQueries.poll()) != null) {
+      parked.resume();
+    }
+  }
+
+  /** Records how long each dequeue waits for a command. */
+  public void setDequeueWait(Histogram dequeueWait) {
+    this.dequeueWait = dequeueWait;
+  }
+
+  /** Records how long the browser takes from its capture to being ready. */
+  public void setCaptureToReady(Histogram captureToReady) {
+    this.captureToReady = captureToReady;
+  }
+
+  private void recordDequeueWait(long startNanos) {
+    Histogram histogram = dequeueWait;
+    if (histogram != null) {
+      histogram.observeSince(startNanos);
+    }
+  }
+
   public Command dequeueCommand() {
     try {
-      Command command = commandsToRun.poll(dequeueTimeout, timeUnit);
+      long start = System.nanoTime();
+      Command command = commandsToRun.poll(dequeueTimeoutMillis, TimeUnit.MILLISECONDS);
+      recordDequeueWait(start);
       LOGGER.trace("dequeue {}", command);
-
-      synchronized (this) {
-        if (command != null) {
-          commandRunning.set(command);
-          lastCommandDequeued.set(command);
-          return command;
-        }
+      if (command != null) {
+        startCommand(command);
+        return command;
       }
     } catch (InterruptedException e) {
       // The server was killed
@@ -173,6 +250,73 @@ public class SlaveBrowser {
     return new NoopCommand();
   }
 
+  /**
+   * Dequeues a command without holding the calling thread while the queue is
+   * empty. The query is parked on the continuation until
+   * {@link #createCommand(String)} resumes it or the dequeue timeout expires.
+   * On a retrying (nio) connector the first call throws a RetryRequest, and
+   * the re-dispatched request calls this method again to collect the command.
+   *
+   * The continuation must be created with this browser as its mutex, so that a
+   * waiting continuation releases the browser while it is parked.
+   */
+  public Command dequeueCommand(Continuation continuation) {
+    synchronized (this) {
+      long start = System.nanoTime();
+      boolean redispatched = continuation.isPending();
+      if (redispatched) {
+        // completes the earlier suspend, and never blocks.
+        continuation.suspend(0);
+        parkedQueries.remove(continuation);
+        if (continuation.getObject() instanceof Long) {
+          start = (Long) continuation.getObject();
+        }
+      }
+      Command command = commandsToRun.poll();
+      if (command == null && !redispatched) {
+        // the re-dispatched request measures its wait from here.
+        continuation.setObject(start);
+        parkedQueries.add(continuation);
+        // a zero timeout would park a waiting continuation forever.
+        continuation.suspend(Math.max(1, dequeueTimeoutMillis));
+        parkedQueries.remove(continuation);
+        command = commandsToRun.poll();
+      }
+      recordDequeueWait(start);
+      LOGGER.trace("dequeue {}", command);
+      if (command != null) {
+        startCommand(command);
+        return command;
+      }
+    }
+    return new NoopCommand();
+  }
+
+  private void startCommand(Command command) {
+    lastCommandDequeued.set(command);
+    commandRunning.set(command);
+  }
+
+  /** @return the number of commands waiting for the browser. */
+  public int getCommandQueueDepth() {
+    return commandsToRun.size();
+  }
+
+  /** @return the number of responses waiting for the client. */
+  public int getResponseQueueDepth() {
+    return responses.size();
+  }
+
+  /** @return the number of log messages given up while the response queue was full. */
+  public long getDroppedLogCount() {
+    return responses.getDroppedLogCount();
+  }
+
+  /** @return the number of browser queries parked waiting for a command. */
+  public int getParkedQueryCount() {
+    return parkedQueries.size();
+  }
+
   public Command getLastDequeuedCommand() {
     return lastCommandDequeued.get();
   }
@@ -182,13 +326,25 @@ public class SlaveBrowser {
   }
 
   public void setDequeueTimeout(long dequeueTimeout, TimeUnit timeUnit) {
-    this.dequeueTimeout = dequeueTimeout;
-    this.timeUnit = timeUnit;
+    this.dequeueTimeoutMillis = timeUnit.toMillis(dequeueTimeout);
   }
-  
-  public synchronized void heartBeat() {
+
+  public BrowserState getState() {
+    return state.get();
+  }
+
+  /**
+   * Records a heartbeat. A captured or dead browser moves to HEARTBEAT, a ready
+   * one stays ready. The heartbeat time is set first, so whoever sees the new
+   * state sees the new time as well.
+   */
+  public void heartBeat() {
     lastHeartbeat.set(time.now());
-    state.set(BrowserState.HEARTBEAT);
+    BrowserState current;
+    do {
+      current = state.get();
+    } while ((current == BrowserState.CAPTURED || current == BrowserState.DEAD)
+        && !state.compareAndSet(current, BrowserState.HEARTBEAT));
 
     browserInfo.setServerReceivedHeartbeat(true);
   }
@@ -203,9 +359,14 @@ public class SlaveBrowser {
   }
   
   /** Changes the BrowserState to ready */
-  public synchronized void ready() {
+  public void ready() {
     state.set(BrowserState.READY);
     browserInfo.setReady(true);
+    long captured = capturedNanos.getAndSet(0);
+    Histogram histogram = captureToReady;
+    if (captured != 0 && histogram != null) {
+      histogram.observeSince(captured);
+    }
   }
 
   /**
@@ -216,26 +377,47 @@ public class SlaveBrowser {
     return (time.now().getMillis() - lastHeartbeat.get().getMillis()) / 1000.0;
   }
 
-  public synchronized void addFiles(Collection<FileInfo> fileSet, LoadedFiles loadedFiles) {
-    this.fileSet.removeAll(fileSet);
-    this.fileSet.addAll(fileSet);
+  /** Adds files to the file set, replacing the files of the same paths. */
+  public void addFiles(Collection<FileInfo> fileSet, LoadedFiles loadedFiles) {
+    LoadedFileSet current;
+    do {
+      current = this.loadedFiles.get();
+    } while (!this.loadedFiles.compareAndSet(current, current.replace(fileSet, false)));
   }
 
+  /**
+   * @return a snapshot of the files loaded in the browser, which later changes
+   *         do not affect.
+   */
   public Set<FileInfo> getFileSet() {
-    return fileSet;
+    return loadedFiles.get().fileSet;
+  }
+
+  /**
+   * @return a snapshot of the files loaded in the browser, by file path, in
+   *         the order of {@link #getFileSet()}.
+   */
+  public Map<String, FileInfo> getFilesByPath() {
+    return loadedFiles.get().files;
   }
 
   public void resetFileSet() {
     LOGGER.debug("Resetting fileSet for {}", this);
-    synchronized (this) {
-      fileSet.clear();
-      fileResults.clear();
-    }
+    loadedFiles.set(LoadedFileSet.EMPTY);
+  }
+
+  /**
+   * Waits for the next response from the browser.
+   *
+   * @return the next message, or null if none arrived before the timeout.
+   */
+  public StreamMessage pollResponse(long timeout, TimeUnit unit) throws InterruptedException {
+    return responses.poll(timeout, unit);
   }
 
   public StreamMessage getResponse() {
     try {
-      StreamMessage message = responses.poll(POLL_RESPONSE_TIMEOUT, TimeUnit.SECONDS);
+      StreamMessage message = pollResponse(POLL_RESPONSE_TIMEOUT, TimeUnit.SECONDS);
       if (message == null) {
         LOGGER.trace("responses size {}", responses.size());
         message = new StreamMessage(false, new Response(ResponseType.UNKNOWN.name(), "{}", browserInfo, "", 0l));
@@ -249,12 +431,24 @@ public class SlaveBrowser {
     }
   }
 
-  public void addResponse(Response response, boolean isLast) {
+  /**
+   * Queues a response for the client, waiting a little for room while the
+   * queue is full. The last response of a stream is always queued.
+   *
+   * @return false if the response was refused, and the browser has to post it
+   *         again.
+   */
+  public boolean addResponse(Response response, boolean isLast) {
     if (isLast) {
       commandRunning.set(null);
     }
     LOGGER.debug("adding response type {} done: {}", response.getResponseType(), isLast);
-    responses.offer(new StreamMessage(isLast, response));
+    try {
+      return responses.offer(new StreamMessage(isLast, response));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 
   public void clearResponseQueue() {
@@ -274,17 +468,22 @@ public class SlaveBrowser {
   }
 
   public void clearCommandRunning() {
-    if (commandRunning != null) {
-      commandRunning.set(null);
-      commandsToRun.clear();
-      responses.clear();
-    }
+    commandRunning.set(null);
+    commandsToRun.clear();
+    responses.clear();
   }
 
   public boolean isAlive() {
-    boolean alive = (time.now().getMillis() - lastHeartbeat.get().getMillis() < timeout) || timeout == -1;
+    Instant heartbeat = lastHeartbeat.get();
+    boolean alive = (time.now().getMillis() - heartbeat.getMillis() < timeout) || timeout == -1;
     if (!alive) {
-      state.set(BrowserState.DEAD);
+      BrowserState current = state.get();
+      // a heartbeat since the one read here wins: either it finds the browser
+      // dead and moves it on, or it is seen here and the state is put back.
+      if (current != BrowserState.DEAD && state.compareAndSet(current, BrowserState.DEAD)
+          && lastHeartbeat.get() != heartbeat) {
+        state.compareAndSet(BrowserState.DEAD, current);
+      }
       LOGGER.debug("Browser dead: {}", toString());
     }
     return alive;
@@ -323,33 +522,33 @@ public class SlaveBrowser {
   /**
    * Clears all running commands and any queued commands.
    */
-  public synchronized void resetCommandQueue() {
+  public void resetCommandQueue() {
     LOGGER.debug("resetCommandQueue: queued[{}]\n running:[{}]", commandsToRun, commandRunning);
     clearCommandRunning();
-    commandsToRun.clear();
   }
 
   /**
    * @param allLoadedFiles
    */
   public void addFileResults(Collection<FileResult> allLoadedFiles) {
+    List<FileInfo> files = new ArrayList<FileInfo>(allLoadedFiles.size());
+    boolean loadErrors = false;
     for (FileResult fileResult : allLoadedFiles) {
       FileSource fileSource = fileResult.getFileSource();
-      fileSet.add(fileSource.toFileInfo(null));
-      fileResults.put(fileResult, true);
+      files.add(fileSource.toFileInfo(null));
+      loadErrors |= !fileResult.isSuccess();
     }
+    LoadedFileSet current;
+    do {
+      current = loadedFiles.get();
+    } while (!loadedFiles.compareAndSet(current, current.add(files, loadErrors)));
   }
 
   /**
-   * Checks to see if any of the files loaded contain errors.
+   * Checks to see if any of the files loaded since the last reset contain errors.
    */
   public boolean hasFileLoadErrors() {
-    for (FileResult result : fileResults.keySet()) {
-      if (!result.isSuccess()) {
-        return true;
-      }
-    }
-    return false;
+    return loadedFiles.get().loadErrors;
   }
   
   public RunnerType getRunnerType() {
@@ -359,4 +558,72 @@ public class SlaveBrowser {
   public String viewResponses() {
     return responses.toString();
   }
+
+  /**
+   * The files loaded in the browser, indexed by path, and whether any failed to
+   * load since the file set was reset. Never changed once created.
+   */
+  private static final class LoadedFileSet {
+    static final LoadedFileSet EMPTY =
+        new LoadedFileSet(new LinkedHashMap<String, FileInfo>(), false);
+
+    final Map<String, FileInfo> files;
+    final Set<FileInfo> fileSet;
+    final boolean loadErrors;
+
+    private LoadedFileSet(LinkedHashMap<String, FileInfo> files, boolean loadErrors) {
+      this.files = Collections.unmodifiableMap(files);
+      this.fileSet = new FileSetView(this.files);
+      this.loadErrors = loadErrors;
+    }
+
+    /** @return the files with the given ones in place of those of the same path. */
+    LoadedFileSet replace(Collection<FileInfo> replacements, boolean errors) {
+      LinkedHashMap<String, FileInfo> updated = new LinkedHashMap<String, FileInfo>(files);
+      for (FileInfo file : replacements) {
+        // moves the file to the end, as the set did.
+        updated.remove(file.getFilePath());
+        updated.put(file.getFilePath(), file);
+      }
+      return new LoadedFileSet(updated, loadErrors || errors);
+    }
+
+    /** @return the files with the given ones added where their path is missing. */
+    LoadedFileSet add(Collection<FileInfo> additions, boolean errors) {
+      LinkedHashMap<String, FileInfo> updated = new LinkedHashMap<String, FileInfo>(files);
+      for (FileInfo file : additions) {
+        if (!updated.containsKey(file.getFilePath())) {
+          updated.put(file.getFilePath(), file);
+        }
+      }
+      return new LoadedFileSet(updated, loadErrors || errors);
+    }
+  }
+
+  /**
+   * The loaded files as a set. Files are equal by path, so the set looks them
+   * up in the index instead of holding a second copy.
+   */
+  private static final class FileSetView extends AbstractSet<FileInfo> {
+    private final Map<String, FileInfo> files;
+
+    FileSetView(Map<String, FileInfo> files) {
+      this.files = files;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof FileInfo && files.containsKey(((FileInfo) o).getFilePath());
+    }
+
+    @Override
+    public Iterator<FileInfo> iterator() {
+      return files.values().iterator();
+    }
+
+    @Override
+    public int size() {
+      return files.size();
+    }
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.jstestdriver.Server.LineProcessor;
+import com.google.jstestdriver.protocol.WireProtocol;
+
+/**
+ * Reads the {@link StreamMessage}s of a command running on a browser over a
+ * single streamed /cmd connection, handing each one over as it arrives.
+ * Servers that do not stream answer with a single message, in which case the
+ * reader asks again until the command is done.
+ */
+public class StreamMessageReader {
+
+  /** Receives the messages of a command. */
+  public interface MessageHandler {
+    /** @return true if the message completes the command. */
+    boolean handle(StreamMessage message);
+  }
+
+  private final WireProtocol protocol = new WireProtocol();
+  private final Server server;
+
+  public StreamMessageReader(Server server) {
+    this.server = server;
+  }
+
+  /**
+   * Reads the messages for the browser until the handler reports the command
+   * as done.
+   *
+   * @return the final message.
+   */
+  public StreamMessage read(String baseUrl, String browserId, MessageHandler handler) {
+    MessageProcessor processor = new MessageProcessor(handler);
+    String url = baseUrl + "/cmd?id=" + browserId + "&stream=true&"
+        + WireProtocol.VERSION_PARAMETER + "=" + WireProtocol.VERSION;
+    while (!processor.done) {
+      server.fetchLines(url, processor);
+    }
+    return processor.message;
+  }
+
+  private class MessageProcessor implements LineProcessor {
+    private final MessageHandler handler;
+    private StreamMessage message;
+    private boolean done = false;
+
+    public MessageProcessor(MessageHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public boolean processLine(String line) {
+      try {
+        message = protocol.decodeMessage(line);
+      } catch (Exception e) {
+        throw new RuntimeException("Error deserializing: " + line, e);
+      }
+      done = handler.handle(message);
+      return !done;
+    }
+  }
+}
@@ -15,8 +15,13 @@
  */
 package com.google.jstestdriver;
 
+import com.google.common.base.Function;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.jstestdriver.FailureParser.Failure;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -26,6 +31,8 @@ import java.util.Map;
 // TODO(corysmith): factor out a parsed test result.
 public class TestResult {
 
+  private static final String NEW_LINE = System.getProperty("line.separator");
+
   public enum Result {
     passed, failed, error, started
   }
@@ -40,6 +47,8 @@ public class TestResult {
   private float time;
   private BrowserInfo browserInfo;
   private Map<String, String> data = Maps.newHashMap();
+  /** Parses the failure on demand, so results that are never printed are never parsed. */
+  private transient FailureParser failureParser;
 
   public Map<String, String> getData() {
     return data;
@@ -84,21 +93,56 @@ public class TestResult {
   }
 
   public void setParsedMessage(String parsedMessage) {
+    parseFailure();
     this.parsedMessage = parsedMessage;
   }
 
   public void setStack(String stack) {
+    parseFailure();
     this.stack = stack;
   }
 
+  /**
+   * Defers parsing the failure message into the parsed message and the stack
+   * until either is asked for.
+   */
+  public void setFailureParser(FailureParser failureParser) {
+    this.failureParser = failureParser;
+  }
+
   public String getParsedMessage() {
+    parseFailure();
     return parsedMessage;
   }
 
   public String getStack() {
+    parseFailure();
     return stack;
   }
 
+  private synchronized void parseFailure() {
+    if (failureParser == null) {
+      return;
+    }
+    final List<Failure> failures = failureParser.parse(message);
+    failureParser = null;
+    parsedMessage =
+        Joiner.on(NEW_LINE).join(Lists.transform(failures, new Function<Failure, String>() {
+          public String apply(Failure failure) {
+            return failure.getMessage();
+          }
+        }));
+    StringBuilder sb = new StringBuilder();
+    for (Failure failure : failures) {
+      for (String l : failure.getStack()) {
+        sb.append(l);
+        sb.append(NEW_LINE);
+      }
+      sb.append(NEW_LINE);
+    }
+    stack = sb.toString();
+  }
+
   public BrowserInfo getBrowserInfo() {
     return browserInfo;
   }
@@ -116,10 +160,10 @@ public class TestResult {
     result = prime * result + ((log == null) ? 0 : log.hashCode());
     result = prime * result + ((message == null) ? 0 : message.hashCode());
     result = prime * result
-      + ((parsedMessage == null) ? 0 : parsedMessage.hashCode());
+      + ((getParsedMessage() == null) ? 0 : getParsedMessage().hashCode());
     result = prime * result
       + ((this.result == null) ? 0 : this.result.hashCode());
-    result = prime * result + ((stack == null) ? 0 : stack.hashCode());
+    result = prime * result + ((getStack() == null) ? 0 : getStack().hashCode());
     result = prime * result
       + ((testCaseName == null) ? 0 : testCaseName.hashCode());
     result = prime * result + ((testName == null) ? 0 : testName.hashCode());
@@ -151,20 +195,20 @@ public class TestResult {
         return false;
     } else if (!message.equals(other.message))
       return false;
-    if (parsedMessage == null) {
-      if (other.parsedMessage != null)
+    if (getParsedMessage() == null) {
+      if (other.getParsedMessage() != null)
         return false;
-    } else if (!parsedMessage.equals(other.parsedMessage))
+    } else if (!getParsedMessage().equals(other.getParsedMessage()))
       return false;
     if (result == null) {
       if (other.result != null)
         return false;
     } else if (!result.equals(other.result))
       return false;
-    if (stack == null) {
-      if (other.stack != null)
+    if (getStack() == null) {
+      if (other.getStack() != null)
         return false;
-    } else if (!stack.equals(other.stack))
+    } else if (!getStack().equals(other.getStack()))
       return false;
     if (testCaseName == null) {
       if (other.testCaseName != null)
@@ -15,18 +15,16 @@
  */
 package com.google.jstestdriver;
 
-import com.google.common.base.Function;
-import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import com.google.inject.Inject;
-import com.google.jstestdriver.FailureParser.Failure;
 import com.google.jstestdriver.Response.ResponseType;
 import com.google.jstestdriver.TestResult.Result;
 import com.google.jstestdriver.model.NullPathPrefix;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -38,7 +36,7 @@ import java.util.List;
  */
 public class TestResultGenerator {
 
-  private static String NEW_LINE = System.getProperty("line.separator");
+  private static final Type RESULTS_TYPE = new TypeToken<Collection<TestResult>>() {}.getType();
 
   private final Gson gson = new Gson();
   
@@ -60,7 +58,7 @@ public class TestResultGenerator {
 
   /**
    * Loads the test results from the gson and response, sets the browser info on
-   * each result and returns it.
+   * each result and returns it. Failures are parsed when they are first read.
    *
    * @param response The response object
    * @return a {@link Collection} of {@link TestResult} with accurate
@@ -74,8 +72,8 @@ public class TestResultGenerator {
         return Collections.<TestResult> emptyList();
       }
 
-      Collection<TestResult> results = gson.fromJson(response.getResponse(),
-          new TypeToken<Collection<TestResult>>() {}.getType());
+      Collection<TestResult> results = response.parseResponse(gson, RESULTS_TYPE);
+      List<String> failures = Lists.newArrayList();
 
       for (TestResult result : results) {
         BrowserInfo browserInfo = response.getBrowser();
@@ -83,24 +81,13 @@ public class TestResultGenerator {
         result.setBrowserInfo(browserInfo);
 
         if (result.getResult() != Result.passed) {
-          final List<Failure> failures = failureParser.parse(result.getMessage());
-          result.setParsedMessage(
-              Joiner.on(NEW_LINE).join(Lists.transform(failures, new Function<Failure, String>() {
-                public String apply(Failure failure) {
-                  return failure.getMessage();
-                }
-              })));
-          StringBuilder sb = new StringBuilder();
-          for (Failure failure : failures) {
-            for (String l : failure.getStack()) {
-              sb.append(l);
-              sb.append(NEW_LINE);
-            }
-            sb.append(NEW_LINE);
-          }
-          result.setStack(sb.toString());
+          result.setFailureParser(failureParser);
+          failures.add(result.getMessage());
         }
       }
+      if (!failures.isEmpty()) {
+        failureParser.prefetch(failures);
+      }
       return results;
     } catch (JsonParseException e) {
       throw new RuntimeException(e);
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver;
+
+import com.google.inject.Module;
+import com.google.jstestdriver.config.CmdLineFlags;
+import com.google.jstestdriver.config.ConfigurationSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the {@link JsTestDriver} a client daemon built for its last command
+ * line, with its parsed configuration and initialization injector, while the
+ * command line is the same and the configuration file keeps its modification
+ * time and length. The results of a run are written to the stream of its
+ * client.
+ */
+class WarmDriver {
+  private final Module warmState;
+  private final RunOutputStream runOutput = new RunOutputStream();
+  private final PrintStream output = new PrintStream(runOutput, true);
+  private List<String> args;
+  private File configFile;
+  private long lastModified;
+  private long length;
+  private JsTestDriver jstd;
+
+  /**
+   * @param warmState The bindings kept between runs.
+   */
+  WarmDriver(Module warmState) {
+    this.warmState = warmState;
+  }
+
+  /** Runs the configuration of the command line, writing the results to out. */
+  void run(String[] args, CmdLineFlags cmdLineFlags, PrintStream out) throws IOException {
+    JsTestDriver driver = get(args, cmdLineFlags);
+    runOutput.target = out;
+    try {
+      driver.runConfiguration();
+    } finally {
+      output.flush();
+      runOutput.target = null;
+    }
+  }
+
+  /** The driver of the command line, built again when it or its configuration changed. */
+  JsTestDriver get(String[] args, CmdLineFlags cmdLineFlags) throws IOException {
+    ConfigurationSource source = cmdLineFlags.getConfigurationSource();
+    File file = new File(source.getParentFile(), source.getName());
+    List<String> argList = Arrays.asList(args);
+    if (jstd == null
+        || !argList.equals(this.args)
+        || !file.equals(configFile)
+        || file.lastModified() != lastModified
+        || file.length() != length) {
+      // read before parsing, an edit made meanwhile is picked up by the next run.
+      long fileModified = file.lastModified();
+      long fileLength = file.length();
+      jstd = Main.build(cmdLineFlags, warmState, output);
+      this.args = argList;
+      configFile = file;
+      lastModified = fileModified;
+      length = fileLength;
+    }
+    return jstd;
+  }
+
+  /** Writes to the stream of the run in progress, drops what is written between runs. */
+  private static class RunOutputStream extends OutputStream {
+    private volatile PrintStream target;
+
+    @Override
+    public void write(int b) {
+      PrintStream out = target;
+      if (out != null) {
+        out.write(b);
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      PrintStream out = target;
+      if (out != null) {
+        out.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() {
+      PrintStream out = target;
+      if (out != null) {
+        out.flush();
+      }
+    }
+  }
+}
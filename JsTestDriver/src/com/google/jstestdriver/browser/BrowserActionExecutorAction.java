@@ -26,6 +26,7 @@ import com.google.jstestdriver.ResponseStream;
 import com.google.jstestdriver.RunTestsAction;
 import com.google.jstestdriver.TestErrors;
 import com.google.jstestdriver.browser.BrowserControl.BrowserControlFactory;
+import com.google.jstestdriver.browser.TestSharder.Shard;
 import com.google.jstestdriver.model.RunData;
 import com.google.jstestdriver.util.RetryingCallable;
 import com.google.jstestdriver.util.StopWatch;
@@ -44,7 +45,8 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Executes each {@link BrowserAction} on each browser.
+ * Executes each {@link BrowserAction} on each browser. When sharding, the test
+ * cases or tests are split across the captured browsers of the same type.
  *
  * @author jeremiele@google.com (Jeremie Lenfant-Engelmann)
  */
@@ -64,6 +66,12 @@ public class BrowserActionExecutorAction implements Action {
 
   private final BrowserControlFactory browserControlFactory;
 
+  private final boolean shard;
+
+  private final TestCaseDurations durations;
+
+  private final TestSharder sharder;
+
   @Inject
   public BrowserActionExecutorAction(JsTestDriverClient client,
       List<BrowserAction> actions,
@@ -73,7 +81,9 @@ public class BrowserActionExecutorAction implements Action {
       @Named("testSuiteTimeout") long testTimeout,
       StopWatch stopWatch,
       BrowserSessionManager sessionManager,
-      BrowserControlFactory browserControlFactory) {
+      BrowserControlFactory browserControlFactory,
+      @Named("shard") boolean shard,
+      TestCaseDurations durations) {
     this.client = client;
     this.actions = actions;
     this.executor = executor;
@@ -83,6 +93,9 @@ public class BrowserActionExecutorAction implements Action {
     this.stopWatch = stopWatch;
     this.sessionManager = sessionManager;
     this.browserControlFactory = browserControlFactory;
+    this.shard = shard;
+    this.durations = durations;
+    this.sharder = new TestSharder(durations);
   }
 
   @Override
@@ -98,14 +111,29 @@ public class BrowserActionExecutorAction implements Action {
     // TODO(corysmith): Change the threaded action runner to
     // return useful information about a run.
     List<Callable<Collection<ResponseStream>>> runners = Lists.newLinkedList();
-    for (BrowserInfo browserInfo : browsers) {
-      runners.add(new BrowserActionRunner(browserInfo.getId().toString(),
-          client,
-          actions,
-          stopWatch,
-          runData.getTestCases(),
-          sessionManager));
-      logger.debug("Queueing BrowserActionRunner {} for {}.", actions, browserInfo);
+    if (shard) {
+      RunTestsAction runTestsAction = getRunTestsAction();
+      for (Shard browserShard : sharder.shard(browsers, runData.getTestCases(),
+          runTestsAction == null ? null : runTestsAction.getTests())) {
+        runners.add(new BrowserActionRunner(browserShard.getBrowser().getId().toString(),
+            client,
+            shardActions(runTestsAction, browserShard),
+            stopWatch,
+            browserShard.getTestCases(),
+            durations,
+            sessionManager));
+        logger.debug("Queueing BrowserActionRunner {} for {}.", actions, browserShard);
+      }
+    } else {
+      for (BrowserInfo browserInfo : browsers) {
+        runners.add(new BrowserActionRunner(browserInfo.getId().toString(),
+            client,
+            actions,
+            stopWatch,
+            runData.getTestCases(),
+            sessionManager));
+        logger.debug("Queueing BrowserActionRunner {} for {}.", actions, browserInfo);
+      }
     }
     for (BrowserRunner runner : browserRunners) {
       String browserId = client.getNextBrowserId();
@@ -145,6 +173,9 @@ public class BrowserActionExecutorAction implements Action {
     } finally {
       // something isn't working....
       executor.shutdownNow();
+      if (shard) {
+        durations.save();
+      }
     }
     logger.debug("Finished BrowserActions {}.", actions);
     // TODO(corysmith): Move this to the ActionRunner?
@@ -157,6 +188,20 @@ public class BrowserActionExecutorAction implements Action {
     return runData;
   }
 
+  /** Replaces the {@link RunTestsAction} with one running the tests of the shard. */
+  private List<BrowserAction> shardActions(RunTestsAction runTestsAction, Shard browserShard) {
+    List<BrowserAction> shardActions = Lists.newArrayListWithCapacity(actions.size());
+    for (BrowserAction action : actions) {
+      if (action == runTestsAction) {
+        shardActions.add(
+            runTestsAction.shard(browserShard.getTests(), browserShard.getReportAs()));
+      } else {
+        shardActions.add(action);
+      }
+    }
+    return shardActions;
+  }
+
   // TODO(corysmith): Pull this into a factory.
   private Callable<Collection<ResponseStream>> createBrowserManagedRunner(RunData runData, BrowserRunner runner,
       String browserId, BrowserActionRunner actionRunner) {
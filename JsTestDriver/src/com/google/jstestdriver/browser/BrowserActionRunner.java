@@ -43,18 +43,32 @@ public class BrowserActionRunner implements Callable<Collection<ResponseStream>>
 
   private final StopWatch stopWatch;
 
-  private final List<JstdTestCase> testCases;
+  private final TestCaseQueue testCases;
+
+  private final TestCaseDurations durations;
 
   // TODO(corysmith): enable session manager.
   private final BrowserSessionManager sessionManager;
 
   public BrowserActionRunner(String id, JsTestDriverClient client, List<BrowserAction> actions,
       StopWatch stopWatch, List<JstdTestCase> testCases, BrowserSessionManager sessionManager) {
+    this(id, client, actions, stopWatch, new TestCaseQueue(testCases), null, sessionManager);
+  }
+
+  /**
+   * @param testCases The test cases to run, which may be shared with the
+   *     runners of other browsers.
+   * @param durations Records how long each test case ran for, or null.
+   */
+  public BrowserActionRunner(String id, JsTestDriverClient client, List<BrowserAction> actions,
+      StopWatch stopWatch, TestCaseQueue testCases, TestCaseDurations durations,
+      BrowserSessionManager sessionManager) {
     this.id = id;
     this.client = client;
     this.actions = actions;
     this.stopWatch = stopWatch;
     this.testCases = testCases;
+    this.durations = durations;
     this.sessionManager = sessionManager;
   }
 
@@ -63,13 +77,18 @@ public class BrowserActionRunner implements Callable<Collection<ResponseStream>>
     Collection<ResponseStream> responses = Lists.newArrayList();
     String sessionId = sessionManager.startSession(id);
     logger.debug("start session on {} with id {}", id, sessionId);
-    for (JstdTestCase testCase : testCases) {
+    for (JstdTestCase testCase = testCases.next(); testCase != null;
+        testCase = testCases.next()) {
+      long start = System.currentTimeMillis();
       for (BrowserAction action : actions) {
         stopWatch.start("run %s", action);
         logger.info("Running BrowserAction {} with {}", action, testCase);
         responses.add(action.run(id, client, null, testCase));
         stopWatch.stop("run %s", action);
       }
+      if (durations != null) {
+        durations.record(testCase.getId(), System.currentTimeMillis() - start);
+      }
     }
     logger.debug("stopping session on {} with id {}", id, sessionId);
     sessionManager.stopSession(sessionId, id);
@@ -4,13 +4,14 @@ import com.google.jstestdriver.CapturedBrowsers;
 import com.google.jstestdriver.SlaveBrowser;
 
 /**
- * An event when a browser becomes captured or is no longer captured.
+ * An event when a browser becomes captured, becomes ready to run tests, or is
+ * no longer captured.
  * Observers of the {@link CapturedBrowsers} will recieve this event.
  *  
  * @author alexeagle@google.com (Alex Eagle)
 */
 public class BrowserCaptureEvent {
-  public enum Event { CONNECTED, DISCONNECTED }
+  public enum Event { CONNECTED, READY, DISCONNECTED }
   public final Event event;
   private final SlaveBrowser browser;
 
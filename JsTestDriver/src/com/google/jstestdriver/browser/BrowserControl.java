@@ -23,6 +23,7 @@ import com.google.inject.assistedinject.Assisted;
 import com.google.inject.name.Named;
 import com.google.jstestdriver.BrowserInfo;
 import com.google.jstestdriver.JsTestDriverClient;
+import com.google.jstestdriver.ServerCannotWaitException;
 import com.google.jstestdriver.model.JstdTestCase;
 import com.google.jstestdriver.server.handlers.pages.SlavePageRequest;
 import com.google.jstestdriver.util.StopWatch;
@@ -64,6 +65,8 @@ public class BrowserControl {
         SlavePageRequest.TESTCASE_ID);
 
   private static final Logger logger = LoggerFactory.getLogger(BrowserControl.class);
+  private static final long MIN_BACK_OFF = 50;
+  private static final long MAX_BACK_OFF = 1000;
   private final BrowserRunner runner;
   private final String serverAddress;
   private final StopWatch stopWatch;
@@ -121,17 +124,12 @@ public class BrowserControl {
           TimeUnit.MILLISECONDS.convert(Math.max(runner.getTimeout(), browserTimeout),
               TimeUnit.SECONDS);
       long start = System.currentTimeMillis();
-      // TODO(corysmith): replace this with a stream from the client on browser
-      // updates.
       try {
         logger.debug(String.format("Browser timeout %s for %s", timeOut, browserId));
         stopWatch.start("Capturing browser", browserId);
-        while (!isBrowserCaptured(browserId, client)) {
-          Thread.sleep(50);
-          if (System.currentTimeMillis() - start > timeOut) {
-            throw new RuntimeException("Could not start browser " + runner + " in "
-                + runner.getTimeout());
-          }
+        if (!awaitBrowserCaptured(browserId, start, timeOut)) {
+          throw new RuntimeException("Could not start browser " + runner + " in "
+              + runner.getTimeout());
         }
       } finally {
         stopWatch.stop("Capturing browser", browserId);
@@ -150,6 +148,39 @@ public class BrowserControl {
     stopWatch.stop("browser stop %s", runner);
   }
 
+  /**
+   * Waits on the server for the browser to be ready. A server without the wait
+   * is polled instead.
+   */
+  private boolean awaitBrowserCaptured(String browserId, long start, long timeOut)
+      throws InterruptedException {
+    long remaining;
+    long backOff = MIN_BACK_OFF;
+    try {
+      while ((remaining = timeOut - (System.currentTimeMillis() - start)) > 0) {
+        long asked = System.currentTimeMillis();
+        if (client.awaitBrowserReady(browserId, remaining)) {
+          return true;
+        }
+        // The server answered before the time was up, don't ask again right away.
+        if (System.currentTimeMillis() - asked < remaining) {
+          Thread.sleep(Math.min(backOff, remaining));
+          backOff = Math.min(backOff * 2, MAX_BACK_OFF);
+        }
+      }
+      return false;
+    } catch (ServerCannotWaitException e) {
+      logger.debug("The server can't wait, polling for browser {}", browserId, e);
+    }
+    while (!isBrowserCaptured(browserId, client)) {
+      Thread.sleep(MIN_BACK_OFF);
+      if (System.currentTimeMillis() - start > timeOut) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public boolean isBrowserCaptured(String browserId, JsTestDriverClient client) {
     for (BrowserInfo browserInfo : client.listBrowsers()) {
       if (browserId.equals(String.valueOf(browserInfo.getId())) 
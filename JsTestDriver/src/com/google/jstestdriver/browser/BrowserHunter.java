@@ -85,6 +85,7 @@ public class BrowserHunter {
     SlaveBrowser slave =
         new SlaveBrowser(time, id.toString(), browserInfo, computedBrowserTimeout, prefix, mode,
             type, BrowserState.CAPTURED, time.now());
+    capturedBrowsers.configureQueues(slave);
 
     capturedBrowsers.addSlave(slave);
     logger.debug("Browser Captured: {}", slave);
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.CapturedBrowsers;
+import com.google.jstestdriver.SlaveBrowser;
+
+import java.util.Observable;
+import java.util.Observer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets a client wait for a browser it started to be captured and ready,
+ * woken by the {@link BrowserCaptureEvent}s of the {@link CapturedBrowsers}
+ * instead of polling the list of browsers.
+ */
+@Singleton
+public class BrowserReadyWaiter implements Observer {
+
+  private final CapturedBrowsers capturedBrowsers;
+  private final Object lock = new Object();
+
+  @Inject
+  public BrowserReadyWaiter(CapturedBrowsers capturedBrowsers) {
+    this.capturedBrowsers = capturedBrowsers;
+    capturedBrowsers.addObserver(this);
+  }
+
+  /**
+   * Waits for the browser with the given id to be ready.
+   *
+   * @return true if the browser is ready, false if it wasn't within the timeout.
+   */
+  public boolean awaitReady(String id, long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (lock) {
+      while (!isReady(id)) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+      }
+      return true;
+    }
+  }
+
+  public void update(Observable o, Object arg) {
+    // the browser state is set before the event is sent, a waiter either sees
+    // it or is waiting for this.
+    synchronized (lock) {
+      lock.notifyAll();
+    }
+  }
+
+  private boolean isReady(String id) {
+    SlaveBrowser browser = capturedBrowsers.getBrowser(id);
+    if (browser == null) {
+      return false;
+    }
+    BrowserInfo info = browser.getBrowserInfo();
+    return info.serverReceivedHeartbeat() && info.browserReady();
+  }
+}
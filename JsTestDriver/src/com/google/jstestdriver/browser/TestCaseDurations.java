@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.jstestdriver.model.JstdTestCase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The time each {@link JstdTestCase} took to run in a browser, kept between
+ * runs so that the slowest test cases can be started first. Each run is
+ * averaged with the history, so that a single slow run doesn't reorder the
+ * next ones too much.
+ */
+@Singleton
+public class TestCaseDurations {
+  private static final Logger logger = LoggerFactory.getLogger(TestCaseDurations.class);
+
+  /** Test cases that never ran are started first, as they may be the slowest. */
+  static final long UNKNOWN = Long.MAX_VALUE;
+
+  private final File file;
+  private final Map<String, Long> durations = Maps.newHashMap();
+  private boolean loaded = false;
+  private boolean changed = false;
+
+  /**
+   * @param file The file the durations are kept in. When empty, they are only
+   *     kept for the life of the process.
+   */
+  @Inject
+  public TestCaseDurations(@Named("testDurations") String file) {
+    this.file = file == null || file.length() == 0 ? null : new File(file);
+  }
+
+  /** @return The duration of the test case in milliseconds, or {@link #UNKNOWN}. */
+  public synchronized long get(String id) {
+    load();
+    Long duration = durations.get(id);
+    return duration == null ? UNKNOWN : duration;
+  }
+
+  public synchronized void record(String id, long millis) {
+    load();
+    Long previous = durations.get(id);
+    durations.put(id, previous == null ? millis : (previous + millis) / 2);
+    changed = true;
+  }
+
+  /** @return The test cases, the slowest first. Ties keep their order. */
+  public synchronized List<JstdTestCase> longestFirst(List<JstdTestCase> testCases) {
+    final Map<JstdTestCase, Long> known = Maps.newHashMap();
+    for (JstdTestCase testCase : testCases) {
+      known.put(testCase, get(testCase.getId()));
+    }
+    List<JstdTestCase> sorted = Lists.newArrayList(testCases);
+    Collections.sort(sorted, new Comparator<JstdTestCase>() {
+      @Override
+      public int compare(JstdTestCase a, JstdTestCase b) {
+        return known.get(b).compareTo(known.get(a));
+      }
+    });
+    return sorted;
+  }
+
+  /** Writes the durations recorded since they were loaded. */
+  public synchronized void save() {
+    if (file == null || !changed) {
+      return;
+    }
+    Properties properties = new Properties();
+    for (Map.Entry<String, Long> entry : durations.entrySet()) {
+      properties.setProperty(entry.getKey(), String.valueOf(entry.getValue()));
+    }
+    // written aside then renamed, so a concurrent run never reads half a file.
+    File temp = new File(file.getPath() + "." + System.nanoTime() + ".tmp");
+    try {
+      if (file.getParentFile() != null) {
+        file.getParentFile().mkdirs();
+      }
+      OutputStream out = new FileOutputStream(temp);
+      try {
+        properties.store(out, "JsTestDriver test case durations, in milliseconds");
+      } finally {
+        out.close();
+      }
+      if (!temp.renameTo(file)) {
+        // windows doesn't rename over an existing file.
+        file.delete();
+        if (!temp.renameTo(file)) {
+          throw new IOException("Could not rename " + temp + " to " + file);
+        }
+      }
+      changed = false;
+    } catch (IOException e) {
+      logger.warn("Could not save the test case durations to {}", file, e);
+      temp.delete();
+    }
+  }
+
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+    if (file == null || !file.isFile()) {
+      return;
+    }
+    Properties properties = new Properties();
+    try {
+      InputStream in = new FileInputStream(file);
+      try {
+        properties.load(in);
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      logger.warn("Could not load the test case durations from {}", file, e);
+      return;
+    }
+    for (String id : properties.stringPropertyNames()) {
+      try {
+        durations.put(id, Long.valueOf(properties.getProperty(id)));
+      } catch (NumberFormatException e) {
+        logger.debug("Ignoring the duration of {}", id);
+      }
+    }
+  }
+}
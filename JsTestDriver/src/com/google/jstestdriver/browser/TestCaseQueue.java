@@ -0,0 +1,45 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import com.google.jstestdriver.model.JstdTestCase;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The test cases left to run. A queue shared by several browsers lets each of
+ * them take the next test case as soon as it is idle, instead of owning a
+ * fixed part of the run.
+ */
+public class TestCaseQueue {
+  private final Queue<JstdTestCase> pending;
+
+  public TestCaseQueue(List<JstdTestCase> testCases) {
+    pending = new ConcurrentLinkedQueue<JstdTestCase>(testCases);
+  }
+
+  /** @return The next test case to run, or null when none are left. */
+  public JstdTestCase next() {
+    return pending.poll();
+  }
+
+  @Override
+  public String toString() {
+    return "TestCaseQueue " + pending;
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.browser;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.model.JstdTestCase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits a run across the captured browsers of the same name, version and os,
+ * so that each test runs once per type of browser instead of once per browser.
+ *
+ * Test names given on the command line are split when there are several.
+ * Otherwise the browsers of a type share a queue of the {@link JstdTestCase}s,
+ * slowest first, and each takes the next one whenever it is idle. A single
+ * test case running all of its tests can't be split, and runs on one browser
+ * of each type. The test isolation plugin puts each test file in its own test
+ * case.
+ */
+public class TestSharder {
+  private static final Logger logger = LoggerFactory.getLogger(TestSharder.class);
+
+  private final TestCaseDurations durations;
+
+  private static final Comparator<BrowserInfo> BY_ID = new Comparator<BrowserInfo>() {
+    @Override
+    public int compare(BrowserInfo a, BrowserInfo b) {
+      return a.getId().compareTo(b.getId());
+    }
+  };
+
+  /** The part of a run given to a single browser. */
+  public static class Shard {
+    private final BrowserInfo browser;
+    private final BrowserInfo reportAs;
+    private final TestCaseQueue testCases;
+    private final List<String> tests;
+
+    public Shard(BrowserInfo browser, BrowserInfo reportAs, TestCaseQueue testCases,
+        List<String> tests) {
+      this.browser = browser;
+      this.reportAs = reportAs;
+      this.testCases = testCases;
+      this.tests = tests;
+    }
+
+    /** The browser running this shard. */
+    public BrowserInfo getBrowser() {
+      return browser;
+    }
+
+    /** The browser all the shards of this type of browser report their results as. */
+    public BrowserInfo getReportAs() {
+      return reportAs;
+    }
+
+    /** The test cases to run, shared with the other shards of the type when they are split. */
+    public TestCaseQueue getTestCases() {
+      return testCases;
+    }
+
+    /** The test names to run, or null when there is no test list. */
+    public List<String> getTests() {
+      return tests;
+    }
+
+    @Override
+    public String toString() {
+      return "Shard [browser=" + browser.toUniqueString() + ", tests=" + tests + "]";
+    }
+  }
+
+  public TestSharder(TestCaseDurations durations) {
+    this.durations = durations;
+  }
+
+  /**
+   * @param browsers The captured browsers.
+   * @param testCases The test cases of the run.
+   * @param tests The test names to run, or null when no tests are run.
+   * @return The shards to run, at most one per browser.
+   */
+  public List<Shard> shard(Collection<BrowserInfo> browsers, List<JstdTestCase> testCases,
+      List<String> tests) {
+    List<Shard> shards = Lists.newArrayList();
+    for (List<BrowserInfo> group : groupByType(browsers).values()) {
+      Collections.sort(group, BY_ID);
+      BrowserInfo reportAs = group.get(0);
+      if (tests != null && tests.size() > 1 && !runsAll(tests)) {
+        List<List<String>> split = split(tests, group.size());
+        for (int i = 0; i < split.size(); i++) {
+          shards.add(new Shard(
+              group.get(i), reportAs, new TestCaseQueue(testCases), split.get(i)));
+        }
+      } else {
+        if (group.size() > 1 && testCases.size() < 2) {
+          logger.info("Only one test case to run on {} browsers of {}, not sharding.",
+              group.size(), reportAs);
+        }
+        TestCaseQueue queue = new TestCaseQueue(durations.longestFirst(testCases));
+        // a browser without a test case to take would only start a session.
+        int count = Math.max(1, Math.min(group.size(), testCases.size()));
+        for (int i = 0; i < count; i++) {
+          shards.add(new Shard(group.get(i), reportAs, queue, tests));
+        }
+      }
+    }
+    logger.debug("Sharded run {}", shards);
+    return shards;
+  }
+
+  /** Groups the browsers by name, version and os, in the order they are first seen. */
+  static Map<String, List<BrowserInfo>> groupByType(Collection<BrowserInfo> browsers) {
+    Map<String, List<BrowserInfo>> groups = Maps.newLinkedHashMap();
+    for (BrowserInfo browser : browsers) {
+      String type = browser.toString();
+      List<BrowserInfo> group = groups.get(type);
+      if (group == null) {
+        group = Lists.newArrayList();
+        groups.put(type, group);
+      }
+      group.add(browser);
+    }
+    return groups;
+  }
+
+  private boolean runsAll(List<String> tests) {
+    return tests.size() == 1 && "all".equals(tests.get(0));
+  }
+
+  /**
+   * Deals the tests round robin into as many lists as there are browsers, or
+   * tests when there are fewer.
+   */
+  private List<List<String>> split(List<String> tests, int browsers) {
+    int count = Math.min(browsers, tests.size());
+    List<List<String>> split = Lists.newArrayListWithCapacity(count);
+    for (int i = 0; i < count; i++) {
+      split.add(Lists.<String>newArrayList());
+    }
+    for (int i = 0; i < tests.size(); i++) {
+      split.get(i % count).add(tests.get(i));
+    }
+    return split;
+  }
+}
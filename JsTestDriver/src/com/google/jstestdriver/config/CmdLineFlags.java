@@ -38,7 +38,15 @@ public class CmdLineFlags {
           "--runnerMode",
           new CmdLineFlagMetaData("--runnerMode", "VAL", "The configuration of the "
               + "logging and frequency that the runner reports actions: DEBUG, "
-              + "DEBUG_NO_TRACE, DEBUG_OBSERVE, PROFILE, QUIET (default), INFO")).build();
+              + "DEBUG_NO_TRACE, DEBUG_OBSERVE, PROFILE, QUIET (default), INFO"))
+      .put(
+          "--daemon",
+          new CmdLineFlagMetaData("--daemon", "N", "Keeps a client running on the local "
+              + "port, warm between the runs submitted to it with --useDaemon."))
+      .put(
+          "--useDaemon",
+          new CmdLineFlagMetaData("--useDaemon", "N", "Submits the run to the client daemon "
+              + "on the local port. Runs here when there is none.")).build();
   private final List<CmdLineFlag> flags;
 
   public CmdLineFlags(List<CmdLineFlag> flags) {
@@ -106,6 +114,41 @@ public class CmdLineFlags {
     return RunnerMode.QUIET;
   }
 
+  /** @return The port of the --daemon flag, or -1 when it isn't set. */
+  public int getDaemonPort() {
+    return getPort("--daemon");
+  }
+
+  /** @return The port of the --useDaemon flag, or -1 when it isn't set. */
+  public int getUseDaemonPort() {
+    return getPort("--useDaemon");
+  }
+
+  private int getPort(String flag) {
+    for (CmdLineFlag cmdLineFlag : flags) {
+      if (flag.equals(cmdLineFlag.flag)) {
+        try {
+          return Integer.parseInt(cmdLineFlag.safeValue());
+        } catch (NumberFormatException e) {
+          throw new ConfigurationException(flag + " requires a port, not '"
+              + cmdLineFlag.safeValue() + "'");
+        }
+      }
+    }
+    return -1;
+  }
+
+  /** @return All the flags as args, without the given one. */
+  public String[] getArgsWithout(String flag) {
+    final ArrayList<String> args = Lists.newArrayList();
+    for (CmdLineFlag cmdLineFlag : flags) {
+      if (!flag.equals(cmdLineFlag.flag)) {
+        cmdLineFlag.addToArgs(args);
+      }
+    }
+    return args.toArray(new String[args.size()]);
+  }
+
   public String[] getUnusedFlagsAsArgs() {
     final ArrayList<String> args = Lists.newArrayList();
     for (CmdLineFlag flag : flags) {
@@ -45,13 +45,23 @@ final public class InitializeModule implements Module {
   private final BasePaths basePaths;
   private final FlagsParser flagsParser;
   private final RunnerMode runnerMode;
+  private final PrintStream outputStream;
 
   public InitializeModule(PluginLoader pluginLoader, BasePaths basePaths, FlagsParser flagsParser,
       RunnerMode runnerMode) {
+    this(pluginLoader, basePaths, flagsParser, runnerMode, System.out);
+  }
+
+  /**
+   * @param outputStream The stream the results of the runs are written to.
+   */
+  public InitializeModule(PluginLoader pluginLoader, BasePaths basePaths, FlagsParser flagsParser,
+      RunnerMode runnerMode, PrintStream outputStream) {
     this.pluginLoader = pluginLoader;
     this.basePaths = basePaths;
     this.flagsParser = flagsParser;
     this.runnerMode = runnerMode;
+    this.outputStream = outputStream;
   }
 
   public void configure(Binder binder) {
@@ -61,7 +71,7 @@ final public class InitializeModule implements Module {
     binder.bind(RunnerMode.class).toInstance(runnerMode);
     binder.bind(FlagsParser.class).toInstance(flagsParser);
     binder.bind(PrintStream.class).annotatedWith(Names.named("outputStream"))
-        .toInstance(System.out);
+        .toInstance(outputStream);
     binder.bind(PluginLoader.class).toInstance(pluginLoader);
     binder.bind(BasePaths.class).toInstance(basePaths);
   }
@@ -83,6 +83,8 @@ public class Initializer {
     Flags flags = flagsParser.parseArgument(args);
 
     final List<Module> modules = Lists.newLinkedList();
+    // once per load, the directory index may outlive it in a client daemon.
+    pathResolver.refresh();
     Configuration resolvedConfiguration =
         configuration.resolvePaths(pathResolver, flags);
 
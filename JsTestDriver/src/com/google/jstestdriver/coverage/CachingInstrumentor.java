@@ -0,0 +1,66 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.coverage;
+
+import com.google.inject.Inject;
+import com.google.jstestdriver.FileInfo;
+
+/**
+ * Instruments code through the {@link InstrumentationCache}, parsing only the
+ * sources it doesn't hold yet.
+ */
+public class CachingInstrumentor implements Instrumentor {
+  private final CodeInstrumentor instrumentor;
+  private final CoverageNameMapper mapper;
+  private final InstrumentationCache cache;
+
+  @Inject
+  public CachingInstrumentor(CodeInstrumentor instrumentor,
+                             CoverageNameMapper mapper,
+                             InstrumentationCache cache) {
+    this.instrumentor = instrumentor;
+    this.mapper = mapper;
+    this.cache = cache;
+  }
+
+  public InstrumentedCode instrument(Code code) {
+    String digest = FileInfo.digest(code.getSourceCode());
+    InstrumentedCode cached = cache.get(digest, code.getFilePath());
+    if (cached == null) {
+      InstrumentedCode instrumented = instrumentor.instrument(code);
+      cache.put(digest, instrumented);
+      return instrumented;
+    }
+    return remap(cached, mapper.map(code.getFilePath()));
+  }
+
+  /**
+   * The instrumented code names its file by id, the ids of a run depend on the
+   * order the files are loaded in.
+   */
+  static InstrumentedCode remap(InstrumentedCode code, Integer fileId) {
+    if (code.getFileId().equals(fileId)) {
+      return code;
+    }
+    String from = CodeInstrumentor.lcovVariable(code.getFileId());
+    String to = CodeInstrumentor.lcovVariable(fileId);
+    String instrumented = code.getInstrumentedCode()
+        .replace(from + "=LCOV.initNoop(" + code.getFileId() + ",",
+            to + "=LCOV.initNoop(" + fileId + ",")
+        .replace(from + "[", to + "[");
+    return new InstrumentedCode(fileId, code.getPath(), code.getExecutableLines(), instrumented);
+  }
+}
@@ -17,6 +17,7 @@
 package com.google.jstestdriver.coverage;
 
 import com.google.inject.Inject;
+import com.google.jstestdriver.FileInfo;
 import com.google.jstestdriver.coverage.es3.ES3InstrumentLexer;
 import com.google.jstestdriver.coverage.es3.ES3InstrumentParser;
 
@@ -24,7 +25,10 @@ import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.TokenRewriteStream;
 import org.antlr.stringtemplate.StringTemplateGroup;
 
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 
@@ -50,6 +54,41 @@ public class CodeInstrumentor implements Instrumentor {
         "LCOV.initNoop(<name>,0,<lines>);<stmt>\"" +
      "instrument(stmt, hash, ln) ::= \"LCOV_<hash>[<ln>]++; <stmt>\"" +
      "pass(stmt) ::= \"<stmt>\"").toCharArray();
+
+  /**
+   * Identifies the instrumentation this produces, for the instrumentation
+   * cache: the digest of the template and of the classes of the instrumentor
+   * and of its grammar, so that changing any of them drops the cached code.
+   */
+  public static final String VERSION = version(
+      CodeInstrumentor.class, ES3InstrumentLexer.class, ES3InstrumentParser.class);
+
+  private static String version(Class<?>... instrumentor) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      bytes.write(new String(TEMPLATE).getBytes("UTF-8"));
+      for (Class<?> type : instrumentor) {
+        InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class");
+        if (in == null) {
+          // without the class the version can't be told, nothing is reused.
+          return "unknown-" + System.nanoTime();
+        }
+        try {
+          byte[] buffer = new byte[8192];
+          int read;
+          while ((read = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+          }
+        } finally {
+          in.close();
+        }
+      }
+    } catch (IOException e) {
+      return "unknown-" + System.nanoTime();
+    }
+    return "2-" + FileInfo.digest(bytes.toByteArray()).substring(0, 16);
+  }
+
   private final CoverageNameMapper mapper;
 
   @Inject
@@ -80,4 +119,10 @@ public class CodeInstrumentor implements Instrumentor {
                                     Collections.<Integer>emptyList() : executableLines,
                                 tokens.toString());
   }
+
+  /** The name of the coverage variable of a file, as ES3Instrument.g makes it. */
+  static String lcovVariable(Integer fileId) {
+    return "LCOV_" + Integer.toString(Math.abs(String.valueOf(fileId).hashCode()),
+        Character.MAX_RADIX);
+  }
 }
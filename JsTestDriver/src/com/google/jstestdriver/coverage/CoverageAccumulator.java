@@ -15,60 +15,118 @@
  */
 package com.google.jstestdriver.coverage;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Singleton;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Accumulates all the lines recorded during a test run.
+ * Accumulates all the lines recorded during a test run. The counts are merged
+ * as they arrive, into an array of counts by line number for each file, the
+ * files indexed by their {@link CoverageNameMapper} id.
  * @author corysmith@google.com (Cory Smith)
  */
 @Singleton
 public class CoverageAccumulator {
-  private ConcurrentLinkedQueue<FileCoverage> fileCoverages =
-      new ConcurrentLinkedQueue<FileCoverage>();
+  private static final Logger logger = LoggerFactory.getLogger(CoverageAccumulator.class);
+
+  /** Replaced by a larger copy, under the lock, when an id doesn't fit. */
+  private volatile AtomicReferenceArray<FileLines> files =
+      new AtomicReferenceArray<FileLines>(64);
 
   // TODO(corysmith): Track which browsers cover what.
   public void add(String browserId, Collection<FileCoverage> rawCoverage) {
     for (FileCoverage fileCoverage : rawCoverage) {
-      fileCoverages.offer(fileCoverage);
+      Integer fileId = fileCoverage.getFileId();
+      if (fileId == null || fileId < 0) {
+        logger.debug("ignoring coverage of unknown file {} from {}", fileId, browserId);
+        continue;
+      }
+      lines(fileId).add(fileCoverage.getLines());
     }
   }
 
-  @Override
-  public int hashCode() {
-    final int prime = 31;
-    int result = 1;
-    result = prime * result + ((fileCoverages == null) ? 0 : fileCoverages.hashCode());
-    return result;
+  /**
+   * Adds the coverage of one file, given as the first length line numbers and
+   * executed counts of the arrays. The arrays are not kept.
+   */
+  public void add(String browserId, int fileId, int[] lineNumbers, int[] executedNumbers,
+      int length) {
+    if (fileId < 0) {
+      logger.debug("ignoring coverage of unknown file {} from {}", fileId, browserId);
+      return;
+    }
+    lines(fileId).add(lineNumbers, executedNumbers, length);
   }
 
-  /** Writes all non-duplicate accumulated data to the coverage writer in the natural order. */
-  public void write(CoverageWriter coverageWriter) {
-    if (!fileCoverages.isEmpty()) {
-      List<FileCoverage> rawCoverage = new LinkedList<FileCoverage>(fileCoverages);
-      Collections.sort(rawCoverage);
-      FileCoverage last = rawCoverage.get(0);
-      for (FileCoverage fileCoverage : rawCoverage.subList(1, rawCoverage.size())) {
-        FileCoverage aggregate = last.aggegrate(fileCoverage);
-        if (aggregate == null) {
-          last.write(coverageWriter);
-          last = fileCoverage;
-        } else {
-          last = aggregate;
+  private FileLines lines(int fileId) {
+    AtomicReferenceArray<FileLines> current = files;
+    if (fileId < current.length()) {
+      FileLines lines = current.get(fileId);
+      if (lines != null) {
+        return lines;
+      }
+    }
+    synchronized (this) {
+      current = files;
+      if (fileId >= current.length()) {
+        AtomicReferenceArray<FileLines> grown =
+            new AtomicReferenceArray<FileLines>(Math.max(fileId + 1, current.length() * 2));
+        for (int i = 0; i < current.length(); i++) {
+          grown.set(i, current.get(i));
         }
+        files = current = grown;
       }
-      last.write(coverageWriter);
-    } else {
+      FileLines lines = current.get(fileId);
+      if (lines == null) {
+        lines = new FileLines();
+        current.set(fileId, lines);
+      }
+      return lines;
+    }
+  }
+
+  /** Writes all accumulated data to the coverage writer, by file id and line number. */
+  public void write(CoverageWriter coverageWriter) {
+    AtomicReferenceArray<FileLines> current = files;
+    boolean written = false;
+    for (int fileId = 0; fileId < current.length(); fileId++) {
+      FileLines lines = current.get(fileId);
+      if (lines != null) {
+        written |= lines.write(fileId, coverageWriter);
+      }
+    }
+    if (!written) {
       System.out.println("No lines of coverage found.");
     }
   }
 
+  /** Returns the merged coverage of every file, in file id order. */
+  private List<FileCoverage> snapshot() {
+    AtomicReferenceArray<FileLines> current = files;
+    List<FileCoverage> coverages = Lists.newArrayList();
+    for (int fileId = 0; fileId < current.length(); fileId++) {
+      FileLines lines = current.get(fileId);
+      if (lines != null) {
+        List<CoveredLine> covered = lines.toCoveredLines();
+        if (!covered.isEmpty()) {
+          coverages.add(new FileCoverage(fileId, covered));
+        }
+      }
+    }
+    return coverages;
+  }
+
+  @Override
+  public int hashCode() {
+    return snapshot().hashCode();
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj)
@@ -77,28 +135,86 @@ public class CoverageAccumulator {
       return false;
     if (getClass() != obj.getClass())
       return false;
-    CoverageAccumulator other = (CoverageAccumulator) obj;
-    if (fileCoverages == null) {
-      if (other.fileCoverages != null)
-        return false;
-    } else {
-      synchronized (CoverageAccumulator.class) {
-        Iterator<FileCoverage> ours = fileCoverages.iterator();
-        Iterator<FileCoverage> theirs = other.fileCoverages.iterator();
-        while(ours.hasNext() && theirs.hasNext()) {
-          if (!ours.next().equals(theirs.next())) {
-            return false;
+    return snapshot().equals(((CoverageAccumulator) obj).snapshot());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(%s)", getClass().getSimpleName(), snapshot());
+  }
+
+  /**
+   * The execution counts of the lines of a file, by line number. Lines that
+   * were never reported count -1. Browsers report the same file concurrently,
+   * so the counts are only touched under the lock.
+   */
+  private static class FileLines {
+    private static final long[] NO_COUNTS = new long[0];
+
+    private long[] counts = NO_COUNTS;
+
+    synchronized void add(List<CoveredLine> lines) {
+      for (CoveredLine line : lines) {
+        int lineNumber = line.getLineNumber();
+        if (lineNumber < 0) {
+          continue;
+        }
+        if (lineNumber >= counts.length) {
+          grow(lineNumber);
+        }
+        counts[lineNumber] = Math.max(counts[lineNumber], 0) + line.getExecutedNumber();
+      }
+    }
+
+    synchronized void add(int[] lineNumbers, int[] executedNumbers, int length) {
+      for (int i = 0; i < length; i++) {
+        int lineNumber = lineNumbers[i];
+        if (lineNumber < 0) {
+          continue;
+        }
+        if (lineNumber >= counts.length) {
+          grow(lineNumber);
+        }
+        counts[lineNumber] = Math.max(counts[lineNumber], 0) + executedNumbers[i];
+      }
+    }
+
+    private void grow(int lineNumber) {
+      long[] grown = new long[Math.max(lineNumber + 1, counts.length + counts.length / 2)];
+      System.arraycopy(counts, 0, grown, 0, counts.length);
+      for (int i = counts.length; i < grown.length; i++) {
+        grown[i] = -1;
+      }
+      counts = grown;
+    }
+
+    /** @return false if there were no lines to write. */
+    synchronized boolean write(int fileId, CoverageWriter writer) {
+      boolean started = false;
+      for (int lineNumber = 0; lineNumber < counts.length; lineNumber++) {
+        if (counts[lineNumber] >= 0) {
+          if (!started) {
+            writer.writeRecordStart(fileId);
+            started = true;
           }
+          writer.writeCoverage(lineNumber, (int) Math.min(counts[lineNumber], Integer.MAX_VALUE));
         }
-        if (ours.hasNext() || theirs.hasNext()) {
-          return false;
+      }
+      if (started) {
+        writer.writeRecordEnd();
+      }
+      return started;
+    }
+
+    synchronized List<CoveredLine> toCoveredLines() {
+      List<CoveredLine> lines = Lists.newArrayList();
+      for (int lineNumber = 0; lineNumber < counts.length; lineNumber++) {
+        if (counts[lineNumber] >= 0) {
+          lines.add(new CoveredLine(lineNumber,
+              (int) Math.min(counts[lineNumber], Integer.MAX_VALUE)));
         }
       }
+      return lines;
     }
-    return true;
-  }
-  @Override
-  public String toString() {
-    return String.format("%s(%s)", getClass().getSimpleName(), fileCoverages);
   }
 }
@@ -19,6 +19,7 @@ import com.google.common.collect.Sets;
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
 import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Named;
@@ -62,6 +63,7 @@ public class CoverageModule extends AbstractModule {
         .addBinding().to(CoverageActionDecorator.class);
     bind(new TypeLiteral<Set<String>>(){})
       .annotatedWith(new CoverageImpl("coverageExcludes")).toInstance(Sets.newHashSet(excludes));
+    bind(Instrumentor.class).to(CachingInstrumentor.class);
     // TODO(corysmith): Remove this when there is a correct separation of phases.
     bind(BrowserActionProvider.class).to(CoverageThreadedActionProvider.class);
   }
@@ -107,6 +109,14 @@ public class CoverageModule extends AbstractModule {
     }
   }
 
+  @Provides @Singleton @Inject
+  public InstrumentationCache createInstrumentationCache(
+      @Named("coverageCache") String directory,
+      @Named("coverageCacheSize") int megabytes) {
+    return new InstrumentationCache(new File(directory), CodeInstrumentor.VERSION,
+        megabytes * 1024L * 1024L);
+  }
+
   // TODO(corysmith): figure out if there is a better way for plugins to configure themselves.
   // no point in requiring bad practice to integrate. (unlike some frameworks...)
   @Provides @Inject
@@ -31,13 +31,21 @@ public class CoverageNameMapper {
     new ConcurrentHashMap<String, Integer>();
 
   public Integer map(String filePath) {
-    if (nameToIdMap.containsKey(filePath)) {
-      return nameToIdMap.get(filePath);
+    Integer mapped = nameToIdMap.get(filePath);
+    if (mapped != null) {
+      return mapped;
+    }
+    // files are instrumented concurrently: only one id may win for a path.
+    synchronized (nameToIdMap) {
+      mapped = nameToIdMap.get(filePath);
+      if (mapped != null) {
+        return mapped;
+      }
+      Integer pathId = id.getAndIncrement();
+      idToNameMap.put(pathId, filePath);
+      nameToIdMap.put(filePath, pathId);
+      return pathId;
     }
-    Integer pathId = id.getAndIncrement();
-    idToNameMap.put(pathId, filePath);
-    nameToIdMap.put(filePath, pathId);
-    return pathId;
   }
 
   public String unmap(Integer fileId) {
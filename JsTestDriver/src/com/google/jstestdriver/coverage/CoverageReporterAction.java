@@ -45,7 +45,7 @@ public class CoverageReporterAction implements Action {
   }
 
   public RunData run(RunData runData) {
-    if (!holder.getResults().isEmpty()) {
+    if (holder.getResultCount() > 0) {
       logger.debug("Writing coverage to {}", writer);
       accumulator.write(writer);
       writer.flush();
@@ -21,9 +21,6 @@ import com.google.jstestdriver.ResponseStream;
 import com.google.jstestdriver.TestResult;
 import com.google.jstestdriver.TestResultGenerator;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Collection;
 
 /**
@@ -52,21 +49,13 @@ public class CoverageTestResponseStream implements ResponseStream {
     if (response.getResponseType() != ResponseType.TEST_RESULT) {
       return;
     }
-    try {
-      Collection<TestResult> testResults = generator.getTestResults(response);
-      for (TestResult testResult : testResults) {
-        final String coveredLines =
-            testResult.getData().get(COVERAGE_DATA_KEY);
-        if (coveredLines != null) {
-          InputStream inputStream = new ByteArrayInputStream(coveredLines.getBytes("UTF-8"));
-          Collection<FileCoverage> lines = deserializer.deserializeCoverages(inputStream);
-          accumulator.add(browserId, lines);
-        }
+    Collection<TestResult> testResults = generator.getTestResults(response);
+    for (TestResult testResult : testResults) {
+      final String coveredLines =
+          testResult.getData().get(COVERAGE_DATA_KEY);
+      if (coveredLines != null) {
+        deserializer.deserializeCoverages(coveredLines, browserId, accumulator);
       }
-    } catch (RuntimeException e) {
-      throw e;
-    } catch (IOException e) {
-      throw new RuntimeException(e);
     }
   }
 }
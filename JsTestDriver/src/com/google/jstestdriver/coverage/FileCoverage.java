@@ -37,6 +37,14 @@ public class FileCoverage implements Comparable<FileCoverage>{
     this.lines = lines;
   }
   
+  public Integer getFileId() {
+    return fileId;
+  }
+
+  public List<CoveredLine> getLines() {
+    return lines;
+  }
+
   public FileCoverage aggegrate(FileCoverage other) {
     if (fileId.equals(other.fileId)) {
       List<CoveredLine> rawLines = Lists.newLinkedList();
@@ -12,6 +12,108 @@ import java.util.List;
  * @author corysmith@google.com (Cory Smith)
  */
 public class FileCoverageDeserializer {
+  private int[] lineNumbers = new int[256];
+  private int[] executedNumbers = new int[256];
+
+  /**
+   * Parses the coverage of a test, [[fileId,[[line,executed],...]],...],
+   * straight from the characters into the accumulator, one file at a time. The
+   * line buffers are reused between calls, so a deserializer is not thread
+   * safe.
+   */
+  public void deserializeCoverages(CharSequence coverage, String browserId,
+      CoverageAccumulator accumulator) {
+    Cursor cursor = new Cursor(coverage);
+    cursor.expect('[');
+    if (cursor.consumeIf(']')) {
+      return;
+    }
+    do {
+      cursor.expect('[');
+      int fileId = cursor.parseInt();
+      cursor.expect(',');
+      cursor.expect('[');
+      int length = 0;
+      if (!cursor.consumeIf(']')) {
+        do {
+          cursor.expect('[');
+          if (length == lineNumbers.length) {
+            lineNumbers = grow(lineNumbers);
+            executedNumbers = grow(executedNumbers);
+          }
+          lineNumbers[length] = cursor.parseInt();
+          cursor.expect(',');
+          executedNumbers[length] = cursor.parseInt();
+          cursor.expect(']');
+          length++;
+        } while (cursor.consumeIf(','));
+        cursor.expect(']');
+      }
+      cursor.expect(']');
+      accumulator.add(browserId, fileId, lineNumbers, executedNumbers, length);
+    } while (cursor.consumeIf(','));
+    cursor.expect(']');
+  }
+
+  private static int[] grow(int[] buffer) {
+    int[] grown = new int[buffer.length * 2];
+    System.arraycopy(buffer, 0, grown, 0, buffer.length);
+    return grown;
+  }
+
+  /** Reads tokens and numbers from characters, skipping spaces. */
+  private static class Cursor {
+    private final CharSequence chars;
+    private int position = 0;
+
+    Cursor(CharSequence chars) {
+      this.chars = chars;
+    }
+
+    private char peek() {
+      while (position < chars.length() && Character.isWhitespace(chars.charAt(position))) {
+        position++;
+      }
+      return position < chars.length() ? chars.charAt(position) : (char) -1;
+    }
+
+    boolean consumeIf(char token) {
+      if (peek() == token) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    void expect(char token) {
+      if (!consumeIf(token)) {
+        throw new RuntimeException(
+            String.format("unrecognized format, expected %s  was %s at %s",
+                token, peek(), position));
+      }
+    }
+
+    int parseInt() {
+      boolean negative = consumeIf('-');
+      int start = position;
+      int value = 0;
+      while (position < chars.length()) {
+        int digit = chars.charAt(position) - '0';
+        if (digit < 0 || digit > 9) {
+          break;
+        }
+        value = value * 10 + digit;
+        position++;
+      }
+      if (position == start) {
+        throw new RuntimeException(
+            String.format("unrecognized format, expected a number was %s at %s",
+                peek(), position));
+      }
+      return negative ? -value : value;
+    }
+  }
+
 
   // TODO(corysmith): clean this up into a good oo structure...
   public FileCoverage deserializeCoverage(InputStream in) throws IOException {
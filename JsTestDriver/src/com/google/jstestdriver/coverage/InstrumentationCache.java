@@ -0,0 +1,240 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.coverage;
+
+import com.google.common.collect.Lists;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps instrumented code on disk between runs, by the digest of the source.
+ * The entries of each instrumentor version live in their own directory under
+ * {@link #DIRECTORY}, only accessible to the user that created it. Once the
+ * entries outgrow the size cap, the least recently used ones are evicted. The
+ * directories of other versions are left alone, as a run with another jar may
+ * be using them.
+ */
+public class InstrumentationCache {
+  private static final Logger logger = LoggerFactory.getLogger(InstrumentationCache.class);
+  /** The directory the cache owns under its root. */
+  static final String DIRECTORY = "jstd-instrumentation";
+  private static final String UTF8 = "UTF-8";
+  private static final String SUFFIX = ".lcov";
+  /** Eviction frees a little more than needed, so it doesn't run on every put. */
+  private static final double EVICT_TO = 0.8;
+
+  private final File directory;
+  private final long maxBytes;
+  private final AtomicLong size = new AtomicLong(-1);
+
+  /**
+   * @param root The directory to keep the cache in.
+   * @param version The version of the instrumentor.
+   * @param maxBytes The size cap. The cache is disabled when it isn't positive.
+   */
+  public InstrumentationCache(File root, String version, long maxBytes) {
+    this.directory = new File(new File(root, DIRECTORY), version);
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns the code instrumented from the source with the given digest, or
+   * null if there is none. The code is instrumented for the file id it was
+   * first stored with.
+   */
+  public InstrumentedCode get(String digest, String path) {
+    if (!isEnabled()) {
+      return null;
+    }
+    File entry = new File(directory, digest + SUFFIX);
+    if (!entry.isFile()) {
+      return null;
+    }
+    try {
+      BufferedReader reader =
+          new BufferedReader(new InputStreamReader(new FileInputStream(entry), UTF8));
+      try {
+        Integer fileId = Integer.valueOf(reader.readLine());
+        List<Integer> lines = parseLines(reader.readLine());
+        StringBuilder code = new StringBuilder((int) entry.length());
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+          code.append(buffer, 0, read);
+        }
+        entry.setLastModified(System.currentTimeMillis());
+        return new InstrumentedCode(fileId, path, lines, code.toString());
+      } finally {
+        reader.close();
+      }
+    } catch (IOException e) {
+      logger.debug("could not read {}: {}", entry, e);
+    } catch (RuntimeException e) {
+      // a truncated or foreign entry, it will be replaced.
+      logger.debug("could not read {}: {}", entry, e);
+    }
+    return null;
+  }
+
+  /** Stores the code instrumented from the source with the given digest. */
+  public void put(String digest, InstrumentedCode code) {
+    if (!isEnabled()) {
+      return;
+    }
+    initialize();
+    File entry = new File(directory, digest + SUFFIX);
+    File temp = null;
+    try {
+      // written aside then renamed, so a concurrent run never reads half an entry.
+      temp = File.createTempFile(digest, ".tmp", directory);
+      Writer writer = new OutputStreamWriter(new FileOutputStream(temp), UTF8);
+      try {
+        writer.write(String.valueOf(code.getFileId()));
+        writer.write('\n');
+        writer.write(formatLines(code.getExecutableLines()));
+        writer.write('\n');
+        writer.write(code.getInstrumentedCode());
+      } finally {
+        writer.close();
+      }
+      long previous = entry.length();
+      if (!temp.renameTo(entry)) {
+        entry.delete();
+        if (!temp.renameTo(entry)) {
+          temp.delete();
+          return;
+        }
+      }
+      if (size.addAndGet(entry.length() - previous) > maxBytes) {
+        evict();
+      }
+    } catch (IOException e) {
+      logger.debug("could not write {}: {}", entry, e);
+      if (temp != null) {
+        temp.delete();
+      }
+    }
+  }
+
+  private boolean isEnabled() {
+    return maxBytes > 0;
+  }
+
+  /** Creates the directory, and measures it once. */
+  private synchronized void initialize() {
+    if (size.get() >= 0) {
+      return;
+    }
+    createPrivate(directory.getParentFile());
+    createPrivate(directory);
+    long total = 0;
+    for (File entry : entries()) {
+      total += entry.length();
+    }
+    size.set(total);
+  }
+
+  private synchronized void evict() {
+    if (size.get() <= maxBytes) {
+      return;
+    }
+    File[] entries = entries();
+    Arrays.sort(entries, new Comparator<File>() {
+      public int compare(File one, File other) {
+        long difference = one.lastModified() - other.lastModified();
+        return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+      }
+    });
+    long total = 0;
+    for (File entry : entries) {
+      total += entry.length();
+    }
+    long target = (long) (maxBytes * EVICT_TO);
+    for (int i = 0; i < entries.length && total > target; i++) {
+      long length = entries[i].length();
+      if (entries[i].delete()) {
+        total -= length;
+      }
+    }
+    logger.debug("evicted the instrumentation cache down to {} bytes", total);
+    size.set(total);
+  }
+
+  private File[] entries() {
+    File[] entries = directory.listFiles();
+    if (entries == null) {
+      return new File[0];
+    }
+    List<File> files = Lists.newArrayListWithCapacity(entries.length);
+    for (File entry : entries) {
+      if (entry.getName().endsWith(SUFFIX)) {
+        files.add(entry);
+      }
+    }
+    return files.toArray(new File[files.size()]);
+  }
+
+  /**
+   * Creates a directory only the user can read or write, as the browsers run
+   * the code kept in it.
+   */
+  private static void createPrivate(File directory) {
+    directory.getParentFile().mkdirs();
+    if (directory.mkdir()) {
+      directory.setReadable(false, false);
+      directory.setReadable(true, true);
+      directory.setWritable(false, false);
+      directory.setWritable(true, true);
+      directory.setExecutable(false, false);
+      directory.setExecutable(true, true);
+    }
+  }
+
+  private static String formatLines(List<Integer> lines) {
+    StringBuilder formatted = new StringBuilder();
+    for (Integer line : lines) {
+      if (formatted.length() > 0) {
+        formatted.append(',');
+      }
+      formatted.append(line);
+    }
+    return formatted.toString();
+  }
+
+  private static List<Integer> parseLines(String formatted) {
+    List<Integer> lines = Lists.newArrayList();
+    if (formatted.length() > 0) {
+      for (String line : formatted.split(",")) {
+        lines.add(Integer.valueOf(line));
+      }
+    }
+    return lines;
+  }
+}
@@ -44,6 +44,14 @@ public class InstrumentedCode {
     return path;
   }
 
+  public Integer getFileId() {
+    return fileId;
+  }
+
+  public List<Integer> getExecutableLines() {
+    return executableLines;
+  }
+
   public void writeInitialLines(CoverageAccumulator accumulator) {
     List<CoveredLine> initialLines = Lists.newLinkedList();
     for (Integer lineNumber : executableLines) {
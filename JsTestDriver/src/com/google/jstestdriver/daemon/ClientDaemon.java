@@ -0,0 +1,272 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.daemon;
+
+import com.google.inject.Module;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the command lines submitted by {@link DaemonClient}s in a client kept
+ * running between them, so a run doesn't pay for starting the JVM, and finds
+ * the directories and files it reads warm. The output of a run is streamed
+ * back to the client that submitted it.
+ *
+ * Runs are made one at a time, each writing to the streams of its client that
+ * it is handed, the standard streams of the process stay the daemon's own. The
+ * daemon only listens on the loopback
+ * interface, and only accepts runs from clients that can read the token it
+ * writes for its owner, from the directory it was started in. A client has
+ * {@link #HANDSHAKE_TIMEOUT} milliseconds to submit its run, so an idle
+ * connection doesn't hold up the runs queued behind it. A run keeps going when
+ * its client goes away, its output is dropped.
+ */
+public class ClientDaemon {
+  private static final Logger logger = LoggerFactory.getLogger(ClientDaemon.class);
+
+  /** Runs one command line, returning its exit status. */
+  public interface Runner {
+    /**
+     * @param warmState The bindings kept between runs, to install in the run.
+     * @param out The standard output of the client of the run.
+     * @param err The standard error of the client of the run.
+     */
+    int run(String[] args, Module warmState, PrintStream out, PrintStream err);
+  }
+
+  static final int OUT = 'o';
+  static final int ERR = 'e';
+  static final int EXIT = 'x';
+  static final int REFUSED = 'r';
+
+  /** Milliseconds a client has to send its token and command line. */
+  static final int HANDSHAKE_TIMEOUT = 5000;
+
+  private final int port;
+  private final File tokenFile;
+  private final Runner runner;
+  private final int handshakeTimeout;
+  private final Module warmState = new WarmStateModule();
+  private String token;
+  private String directory;
+  private volatile ServerSocket serverSocket;
+
+  public ClientDaemon(int port, Runner runner) {
+    this(port, tokenFile(port), runner);
+  }
+
+  ClientDaemon(int port, File tokenFile, Runner runner) {
+    this(port, tokenFile, runner, HANDSHAKE_TIMEOUT);
+  }
+
+  ClientDaemon(int port, File tokenFile, Runner runner, int handshakeTimeout) {
+    this.port = port;
+    this.tokenFile = tokenFile;
+    this.runner = runner;
+    this.handshakeTimeout = handshakeTimeout;
+  }
+
+  /** The file the daemon on a port keeps the token of its clients in. */
+  static File tokenFile(int port) {
+    return new File(System.getProperty("user.home"), ".jstestdriver-daemon-" + port);
+  }
+
+  /** Listens on the port, and writes the token its clients authenticate with. */
+  public void start() throws IOException {
+    directory = new File("").getCanonicalPath();
+    byte[] bytes = new byte[16];
+    new SecureRandom().nextBytes(bytes);
+    StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(Integer.toHexString((b & 0xff) | 0x100).substring(1));
+    }
+    token = hex.toString();
+    serverSocket = new ServerSocket(port, 50, InetAddress.getByName(null));
+    writeToken();
+  }
+
+  private void writeToken() throws IOException {
+    tokenFile.delete();
+    tokenFile.createNewFile();
+    // only readable by the owner, before the token is in it.
+    tokenFile.setReadable(false, false);
+    tokenFile.setReadable(true, true);
+    tokenFile.setWritable(false, false);
+    tokenFile.setWritable(true, true);
+    tokenFile.deleteOnExit();
+    OutputStream out = new FileOutputStream(tokenFile);
+    try {
+      out.write(token.getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+  }
+
+  /** Serves runs until the daemon is stopped. */
+  public void serve() {
+    while (serverSocket != null && !serverSocket.isClosed()) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+      } catch (SocketException e) {
+        break; // stopped.
+      } catch (IOException e) {
+        logger.warn("Could not accept a run", e);
+        continue;
+      }
+      try {
+        handle(socket);
+      } catch (SocketTimeoutException e) {
+        logger.warn("A client didn't submit its run within {}ms", handshakeTimeout);
+      } catch (IOException e) {
+        logger.warn("Lost the client of a run", e);
+      } finally {
+        close(socket);
+      }
+    }
+  }
+
+  public void stop() {
+    ServerSocket socket = serverSocket;
+    serverSocket = null;
+    if (socket != null) {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        logger.debug("Could not close the daemon socket", e);
+      }
+    }
+    tokenFile.delete();
+  }
+
+  private void handle(Socket socket) throws IOException {
+    socket.setSoTimeout(handshakeTimeout);
+    DataInputStream in =
+        new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    if (!token.equals(in.readUTF())) {
+      refuse(out, "The token doesn't match the one of the daemon on port " + port + ".");
+      return;
+    }
+    String clientDirectory = in.readUTF();
+    String[] args = new String[in.readInt()];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = in.readUTF();
+    }
+    if (!directory.equals(clientDirectory)) {
+      // relative paths in the flags and configuration resolve against it.
+      refuse(out, "The daemon on port " + port + " runs in " + directory + ".");
+      return;
+    }
+    // runs take as long as they take.
+    socket.setSoTimeout(0);
+    int status = run(args, out);
+    synchronized (out) {
+      out.writeByte(EXIT);
+      out.writeInt(status);
+      out.flush();
+    }
+  }
+
+  private int run(String[] args, DataOutputStream out) {
+    AtomicBoolean lost = new AtomicBoolean();
+    PrintStream runOut = new PrintStream(new FrameOutputStream(out, OUT, lost), true);
+    PrintStream runErr = new PrintStream(new FrameOutputStream(out, ERR, lost), true);
+    try {
+      return runner.run(args, warmState, runOut, runErr);
+    } catch (RuntimeException e) {
+      e.printStackTrace(runErr);
+      return 1;
+    } finally {
+      runOut.flush();
+      runErr.flush();
+    }
+  }
+
+  private void refuse(DataOutputStream out, String reason) throws IOException {
+    logger.info("Refused a run: {}", reason);
+    out.writeByte(REFUSED);
+    out.writeUTF(reason);
+    out.flush();
+  }
+
+  private void close(Socket socket) {
+    try {
+      socket.close();
+    } catch (IOException e) {
+      logger.debug("Could not close a run", e);
+    }
+  }
+
+  /** Writes each write as a frame of one of the output streams of a run. */
+  private static class FrameOutputStream extends OutputStream {
+    private final DataOutputStream out;
+    private final int stream;
+    private final AtomicBoolean lost;
+
+    FrameOutputStream(DataOutputStream out, int stream, AtomicBoolean lost) {
+      this.out = out;
+      this.stream = stream;
+      this.lost = lost;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return;
+      }
+      // both streams of a run write to the same connection.
+      synchronized (out) {
+        try {
+          out.writeByte(stream);
+          out.writeInt(len);
+          out.write(b, off, len);
+          out.flush();
+        } catch (IOException e) {
+          if (lost.compareAndSet(false, true)) {
+            // the runner can't be cancelled, the runs queued behind wait for it.
+            logger.warn("Lost the client of a run, it runs to the end without its output");
+          }
+          throw e;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.daemon;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * Submits a command line to the {@link ClientDaemon} on a local port, and
+ * writes the output of the run as it arrives.
+ */
+public class DaemonClient {
+  private static final Logger logger = LoggerFactory.getLogger(DaemonClient.class);
+
+  private final int port;
+  private final File tokenFile;
+
+  public DaemonClient(int port) {
+    this(port, ClientDaemon.tokenFile(port));
+  }
+
+  DaemonClient(int port, File tokenFile) {
+    this.port = port;
+    this.tokenFile = tokenFile;
+  }
+
+  /**
+   * @return The exit status of the run, or null when there is no daemon on the
+   *     port, or it refused the run.
+   * @throws IOException If the daemon was lost during the run.
+   */
+  public Integer submit(String[] args, PrintStream out, PrintStream err) throws IOException {
+    String token = readToken();
+    if (token == null) {
+      logger.debug("No daemon token in {}", tokenFile);
+      return null;
+    }
+    Socket socket;
+    try {
+      socket = new Socket(InetAddress.getByName(null), port);
+    } catch (ConnectException e) {
+      logger.debug("No daemon on port {}", port);
+      return null;
+    }
+    try {
+      DataOutputStream request =
+          new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      request.writeUTF(token);
+      request.writeUTF(new File("").getCanonicalPath());
+      request.writeInt(args.length);
+      for (String arg : args) {
+        request.writeUTF(arg);
+      }
+      request.flush();
+
+      DataInputStream response =
+          new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      byte[] buffer = new byte[8192];
+      while (true) {
+        int frame = response.readByte();
+        if (frame == ClientDaemon.EXIT) {
+          return response.readInt();
+        }
+        if (frame == ClientDaemon.REFUSED) {
+          err.println(response.readUTF());
+          return null;
+        }
+        PrintStream stream = frame == ClientDaemon.ERR ? err : out;
+        int length = response.readInt();
+        while (length > 0) {
+          int read = response.read(buffer, 0, Math.min(length, buffer.length));
+          if (read == -1) {
+            throw new IOException("Lost the daemon on port " + port);
+          }
+          stream.write(buffer, 0, read);
+          length -= read;
+        }
+        stream.flush();
+      }
+    } finally {
+      socket.close();
+    }
+  }
+
+  private String readToken() throws IOException {
+    if (!tokenFile.canRead()) {
+      return null;
+    }
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(new FileInputStream(tokenFile), "UTF-8"));
+    try {
+      return reader.readLine();
+    } finally {
+      reader.close();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.daemon;
+
+import com.google.inject.Binder;
+import com.google.inject.Module;
+import com.google.jstestdriver.CachingFileReader;
+import com.google.jstestdriver.DirectoryIndex;
+import com.google.jstestdriver.FileReader;
+import com.google.jstestdriver.SimpleFileReader;
+
+/**
+ * Binds the state a {@link ClientDaemon} keeps between runs: the listings of
+ * the directories the configurations are resolved against, and the content of
+ * the files read.
+ */
+class WarmStateModule implements Module {
+  private final DirectoryIndex directoryIndex = new DirectoryIndex();
+  private final FileReader fileReader = new CachingFileReader(new SimpleFileReader());
+
+  public void configure(Binder binder) {
+    binder.bind(DirectoryIndex.class).toInstance(directoryIndex);
+    binder.bind(FileReader.class).toInstance(fileReader);
+  }
+}
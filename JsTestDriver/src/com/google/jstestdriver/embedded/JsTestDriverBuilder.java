@@ -45,6 +45,7 @@ import com.google.jstestdriver.model.BasePaths;
 import com.google.jstestdriver.runner.RunnerMode;
 
 import java.io.File;
+import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -85,6 +86,7 @@ public class JsTestDriverBuilder {
   private final List<Class<? extends PluginInitializer>> pluginInitializers =  Lists.newArrayList();
   private final List<PluginInitializer> pluginInitializersInstances =  Lists.newArrayList();
   private FlagsParser flagsParser = new Args4jFlagsParser();
+  private PrintStream outputStream = System.out;
 
 
   /**
@@ -150,6 +152,16 @@ public class JsTestDriverBuilder {
     return this;
   }
 
+  /**
+   * @param outputStream The stream the results of the runs are written to,
+   *     standard output by default.
+   * @return The builder.
+   */
+  public JsTestDriverBuilder setOutputStream(PrintStream outputStream) {
+    this.outputStream = outputStream;
+    return this;
+  }
+
   public JsTestDriverBuilder raiseExceptionOnTestFailure(boolean raiseOnFailure) {
     this.raiseOnFailure = raiseOnFailure;
     return this;
@@ -186,7 +198,8 @@ public class JsTestDriverBuilder {
         serverAddress,
         raiseOnFailure,
         preload,
-        flagsParser);
+        flagsParser,
+        outputStream);
     if (!validators.isEmpty()) {
       jsTestDriver.validate(
           validators.toArray(new JsTestDriverValidator[validators.size()]));
@@ -30,6 +30,8 @@ import com.google.jstestdriver.FlagsParser;
 import com.google.jstestdriver.HttpServer;
 import com.google.jstestdriver.JsTestDriver;
 import com.google.jstestdriver.PluginLoader;
+import com.google.jstestdriver.PooledHttpServer;
+import com.google.jstestdriver.Server;
 import com.google.jstestdriver.TestCase;
 import com.google.jstestdriver.TestResult;
 import com.google.jstestdriver.config.CmdLineFlag;
@@ -50,6 +52,7 @@ import com.google.jstestdriver.util.NullStopWatch;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.logging.LogManager;
 
@@ -147,6 +150,9 @@ public class JsTestDriverImpl implements JsTestDriver {
   private boolean raiseOnFailure;
   private boolean preload;
   private FlagsParser flagsParser;
+  private PrintStream outputStream;
+  private Configuration initializedConfiguration;
+  private Injector initializeInjector;
 
   /**
    * @param configuration
@@ -173,6 +179,27 @@ public class JsTestDriverImpl implements JsTestDriver {
       boolean raiseOnFailure,
       boolean preload,
       FlagsParser flagsParser) {
+    this(configuration, pluginLoader, runnerMode, flags, port, pluginModules, initializerModules,
+        basePaths, serverAddress, raiseOnFailure, preload, flagsParser, System.out);
+  }
+
+  /**
+   * @param outputStream The stream the results of the runs are written to.
+   */
+  public JsTestDriverImpl(
+      Configuration configuration,
+      PluginLoader pluginLoader,
+      RunnerMode runnerMode,
+      String[] flags,
+      int port,
+      List<Module> pluginModules,
+      List<Module> initializerModules,
+      BasePaths basePaths,
+      String serverAddress,
+      boolean raiseOnFailure,
+      boolean preload,
+      FlagsParser flagsParser,
+      PrintStream outputStream) {
     this.defaultConfiguration = configuration;
     this.pluginLoader = pluginLoader;
     this.initializerModules = initializerModules;
@@ -185,6 +212,7 @@ public class JsTestDriverImpl implements JsTestDriver {
     this.raiseOnFailure = raiseOnFailure;
     this.preload = preload;
     this.flagsParser = flagsParser;
+    this.outputStream = outputStream;
   }
 
   /* (non-Javadoc)
@@ -339,10 +367,16 @@ public class JsTestDriverImpl implements JsTestDriver {
   private void runConfigurationWithFlags(Configuration config,
                                          String[] flags,
                                          Module... additionalRunTimeModules) {
-    createRunnerInjector(
-        config,
-        flags,
-        additionalRunTimeModules).getInstance(ActionRunner.class).runActions();
+    Injector injector = createRunnerInjector(config, flags, additionalRunTimeModules);
+    try {
+      injector.getInstance(ActionRunner.class).runActions();
+    } finally {
+      // the pool of a run is not reused by the next one, close its connections.
+      Server server = injector.getInstance(Server.class);
+      if (server instanceof PooledHttpServer) {
+        ((PooledHttpServer) server).shutdown();
+      }
+    }
   }
 
   private Injector createRunnerInjector(
@@ -350,29 +384,39 @@ public class JsTestDriverImpl implements JsTestDriver {
     if (config == null) {
       throw new ConfigurationException("Configuration cannot be null.");
     }
-    List<Module> initializeModules = Lists.newArrayList(initializerModules);
-    BasePaths basePaths;
     try {
       // configure logging before we start seriously processing.
       LogManager.getLogManager().readConfiguration(runnerMode.getLogConfig());
-      System.out.println("setting runnermode " + runnerMode);
-      basePaths = getPathResolver(config);
-      initializeModules.add(new InitializeModule(pluginLoader, basePaths, flagsParser,
-          runnerMode));
+      outputStream.println("setting runnermode " + runnerMode);
     } catch (IOException e) {
       throw new ConfigurationException("Could not find " + config.getBasePaths(), e);
     }
-    Injector initializeInjector = Guice.createInjector(initializeModules);
 
     List<Module> actionRunnerModules;
     actionRunnerModules =
-        initializeInjector.getInstance(Initializer.class).initialize(pluginModules,
+        getInitializeInjector(config).getInstance(Initializer.class).initialize(pluginModules,
             config, runnerMode, flags);
     actionRunnerModules.addAll(Lists.newArrayList(additionalRunTimeModules));
     Injector injector = Guice.createInjector(actionRunnerModules);
     return injector;
   }
 
+  /**
+   * The injector the runs of a configuration are initialized with, kept for the
+   * last configuration run. The injector of a run is made anew, it holds the
+   * state of the run.
+   */
+  private synchronized Injector getInitializeInjector(Configuration config) {
+    if (config != initializedConfiguration) {
+      List<Module> initializeModules = Lists.newArrayList(initializerModules);
+      initializeModules.add(new InitializeModule(pluginLoader, getPathResolver(config),
+          flagsParser, runnerMode, outputStream));
+      initializeInjector = Guice.createInjector(initializeModules);
+      initializedConfiguration = config;
+    }
+    return initializeInjector;
+  }
+
   /**
    * Validates the current configuration.
    * @param validators A list of validations with direct access to the runtime
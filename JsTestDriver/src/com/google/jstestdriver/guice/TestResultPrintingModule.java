@@ -26,13 +26,16 @@ import com.google.jstestdriver.config.Configuration;
 import com.google.jstestdriver.hooks.PluginInitializer;
 import com.google.jstestdriver.hooks.TestListener;
 import com.google.jstestdriver.output.DefaultListener;
+import com.google.jstestdriver.output.StreamingXmlPrinter;
 import com.google.jstestdriver.output.TestResultHolder;
+import com.google.jstestdriver.output.XmlPrinter;
 
 
 /**
  * Configuration for outputting test results. If a testOutput flag was
  * provided, then XML result files will be written to that directory.
- * A text report is always written to the provided PrintStream.
+ * A text report is always written to the provided PrintStream. When the XML
+ * reports are streamed, they are written as the results arrive.
  *
  * @author alexeagle@google.com (Alex Eagle)
  */
@@ -40,15 +43,23 @@ public class TestResultPrintingModule extends AbstractModule {
 
   public static class TestResultPrintingInitializer implements PluginInitializer {
     public Module initializeModule(Flags flags, Configuration config) {
-      return new TestResultPrintingModule();
+      return new TestResultPrintingModule(flags.getStreamTestOutput());
     }
   }
 
+  private final boolean streamTestOutput;
+
   @Deprecated
   public TestResultPrintingModule(String testOutput) {
+    this();
   }
 
   public TestResultPrintingModule() {
+    this(false);
+  }
+
+  public TestResultPrintingModule(boolean streamTestOutput) {
+    this.streamTestOutput = streamTestOutput;
   }
 
   @Override
@@ -56,6 +67,11 @@ public class TestResultPrintingModule extends AbstractModule {
     Multibinder<TestListener> testResultListeners =
         newSetBinder(binder(), TestListener.class);
 
+    if (streamTestOutput) {
+      bind(TestResultHolder.class).toInstance(new TestResultHolder(false));
+      bind(XmlPrinter.class).to(StreamingXmlPrinter.class);
+      testResultListeners.addBinding().to(StreamingXmlPrinter.class);
+    }
     testResultListeners.addBinding().to(TestResultHolder.class);
     testResultListeners.addBinding().to(DefaultListener.class).in(Singleton.class);
   }
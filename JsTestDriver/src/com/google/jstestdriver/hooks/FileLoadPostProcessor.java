@@ -24,6 +24,8 @@ import com.google.jstestdriver.FileInfo;
 public interface FileLoadPostProcessor {
   /**
    * Called after a file is read from disk, but before it is sent to the server.
+   * With --loaderThreads above 1, it is called for several files at once from
+   * different threads, so an implementation must then be thread safe.
    */
   FileInfo process(FileInfo file);
 }
@@ -109,11 +109,10 @@ jstestdriver.CommandExecutor.prototype.executeCommand = function(jsonCommand) {
         '\n' + e.fileName + '(' + e.lineNumber +
         '):\n' + e.stack;
     var response = new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.LOG,
-      jstestdriver.JSON.stringify(
-          new jstestdriver.BrowserLog(1000,
-              'jstestdriver.CommandExecutor',
-              message,
-              this.getBrowserInfo())),
+      new jstestdriver.BrowserLog(1000,
+          'jstestdriver.CommandExecutor',
+          message,
+          this.getBrowserInfo()),
       this.getBrowserInfo());
     if (top.console && top.console.log) {
       top.console.log(message);
@@ -208,7 +207,7 @@ jstestdriver.CommandExecutor.prototype.listen = function(loadResults) {
   if (window.location.href.search('refresh') != -1) {
     response =
         new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.RESET_RESULT,
-                                  '{"loadedFiles":' + JSON.stringify(loadResults) + '}',
+                                  {'loadedFiles': loadResults},
                                   this.getBrowserInfo(),
                                   true);
     jstestdriver.log('Runner reset: ' + window.location.href);
@@ -216,7 +215,7 @@ jstestdriver.CommandExecutor.prototype.listen = function(loadResults) {
     jstestdriver.log('Listen: ' + window.location.href);
     response =
         new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.BROWSER_READY,
-                                  '{"loadedFiles":' + JSON.stringify(loadResults) + '}',
+                                  {'loadedFiles': loadResults},
                                   this.getBrowserInfo(),
                                   true);
 
@@ -45,7 +45,7 @@ jstestdriver.LoadTestsCommand.prototype.loadTest = function(args) {
 jstestdriver.LoadTestsCommand.prototype.onFileLoaded = function(status) {
   var response = new jstestdriver.Response(
       jstestdriver.RESPONSE_TYPES.FILE_LOAD_RESULT,
-      JSON.stringify(status),
+      status,
       this.getBrowserInfo());
   this.onLoadComplete_(response);
 };
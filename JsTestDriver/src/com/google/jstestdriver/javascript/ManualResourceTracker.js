@@ -28,6 +28,7 @@ jstestdriver.ManualResourceTracker = function(
   this.boundOnComplete_ = jstestdriver.bind(this, this.onComplete_);
   this.results_ = [];
   this.resultsIndexMap_ = {};
+  this.bundle_ = null;
 };
 
 /**
@@ -35,9 +36,9 @@ jstestdriver.ManualResourceTracker = function(
  * @param {String} jsonFile A serialized jstestdriver.FileSrc
  */
 jstestdriver.ManualResourceTracker.prototype.startResourceLoad =
-    function(jsonFile) {
+    function(jsonFile, opt_firstLine) {
   var file = this.parse_(jsonFile);
-  this.manualScriptLoader_.beginLoad(file, this.boundOnComplete_);
+  this.manualScriptLoader_.beginLoad(file, this.boundOnComplete_, opt_firstLine);
 };
 
 /**
@@ -66,6 +67,53 @@ jstestdriver.ManualResourceTracker.prototype.finishResourceLoad = function(jsonF
   this.manualScriptLoader_.endLoad(file);
 };
 
+/**
+ * Called before a bundle of files, to catch a bundle that fails to parse.
+ * @param {String} jsonFiles The serialized jstestdriver.FileSrc of the bundled files.
+ * @param {String} jsonFirstLines The line of the bundle each file starts on.
+ */
+jstestdriver.ManualResourceTracker.prototype.startBundle = function(jsonFiles, jsonFirstLines) {
+  var bundle = this.bundle_ = {
+    files : this.parse_(jsonFiles),
+    firstLines : this.parse_(jsonFirstLines),
+    error : null
+  };
+  this.manualScriptLoader_.beginBundle(function(msg, line) {
+    bundle.error = {msg : msg, line : line};
+  });
+};
+
+
+/**
+ * Called after a bundle of files. A bundle that failed to parse is reported
+ * against the file holding the failing line. The files a failing bundle did
+ * not get to are reported as not loaded, naming the file that stopped it.
+ */
+jstestdriver.ManualResourceTracker.prototype.finishBundle = function() {
+  var bundle = this.bundle_, files = bundle.files, failed = null, index = 0, i, idx;
+  this.bundle_ = null;
+  if (bundle.error) {
+    while (index + 1 < files.length && bundle.firstLines[index + 1] <= bundle.error.line) {
+      index++;
+    }
+    failed = files[index];
+    this.onComplete_(new jstestdriver.FileResult(failed, false,
+        'error loading file: ' + failed.fileSrc + ':' +
+        (bundle.error.line - bundle.firstLines[index] + 1) + ': ' + bundle.error.msg, 0));
+  }
+  for (i = 0; i < files.length; i++) {
+    idx = this.resultsIndexMap_[files[i].fileSrc];
+    if (idx == null) {
+      this.onComplete_(new jstestdriver.FileResult(files[i], false,
+          'error loading file: ' + files[i].fileSrc + ': not loaded, the bundle stopped' +
+          (failed ? ' at ' + failed.fileSrc : ''), 0));
+    } else if (!failed && !this.results_[idx].success) {
+      failed = files[i];
+    }
+  }
+};
+
+
 /**
  * Returns the collected results from loading.
  * @return {Array.<jstestdriver.FileLoadResult>}
@@ -24,12 +24,20 @@ jstestdriver.ManualScriptLoader = function(win, testCaseManager, now) {
   this.started_ = -1;
   this.file_ = null;
   this.fileMap_ = {};
+  this.firstLine_ = null;
   this.errorHandler_ = this.createErrorHandler();
 };
 
 
-jstestdriver.ManualScriptLoader.prototype.beginLoad = function(file, onFileLoaded) {
+/**
+ * @param {jstestdriver.FileSource} file
+ * @param {Function} onFileLoaded
+ * @param {number} opt_firstLine The line of the bundle the file starts on, when
+ *     it is loaded as part of a bundle.
+ */
+jstestdriver.ManualScriptLoader.prototype.beginLoad = function(file, onFileLoaded, opt_firstLine) {
   this.fileMap_[file.fileSrc] = file;
+  this.firstLine_ = opt_firstLine || null;
   this.testCaseManager_.removeTestCaseForFilename(file.fileSrc);
   this.file_ = file;
   this.win_.onerror = this.errorHandler_;
@@ -39,6 +47,20 @@ jstestdriver.ManualScriptLoader.prototype.beginLoad = function(file, onFileLoade
 };
 
 
+/**
+ * Catches the error of a bundle that fails before any of its files starts,
+ * as it does when it fails to parse.
+ * @param {Function} onError Called with the message and the line of the bundle.
+ */
+jstestdriver.ManualScriptLoader.prototype.beginBundle = function(onError) {
+  var self = this;
+  this.win_.onerror = function(msg, url, line) {
+    self.win_.onerror = jstestdriver.EMPTY_FUNC;
+    onError(msg, line);
+  };
+};
+
+
 jstestdriver.ManualScriptLoader.prototype.endLoad = function(file) {
   var elapsed = this.now_() - this.started_;
   if (elapsed > 50) {
@@ -59,6 +81,14 @@ jstestdriver.ManualScriptLoader.prototype.createErrorHandler = function() {
     var offset = url.indexOf('/test/')
     var fileSrc = offset > -1 ? url.substr(offset, url.length - offset) : url;
     var loadingFile = self.fileMap_[fileSrc];
+    if (!loadingFile && self.firstLine_ != null && self.file_) {
+      // an error in a bundle, thrown by the file it was running.
+      loadingFile = self.file_;
+      fileSrc = loadingFile.fileSrc;
+      if (line != undefined && line != null) {
+        line = line - self.firstLine_ + 1;
+      }
+    }
     jstestdriver.log('failed load ' + fileSrc + ' in ' +
         (self.now_() - self.started_));
     var started = self.started_;
@@ -41,16 +41,24 @@ jstestdriver.RESPONSE_TYPES = {
 /**
  * Contains the state of a response.
  * This is the javascript twin to com.google.jstestdriver.Response.
+ *
+ * Contents given as an object are sent as json under "data", and serialized
+ * once with the response (see com.google.jstestdriver.protocol.WireProtocol).
+ * Serialized contents are sent as a string under "response".
  * 
  * @param {jstestdriver.RESPONSE_TYPES} type The type of the response.
- * @param {String} response The serialized contents of the response.
+ * @param {String|Object} response The contents of the response.
  * @param {jstestdriver.BrowserInfo} browser The browser information. 
  * @param {Boolean} start Is this the first response from the browser.
  * @constructor
  */
 jstestdriver.Response = function(type, response, browser, start) {
   this.type = type;
-  this.response = response;
+  if (response !== null && typeof response == 'object') {
+    this.data = response;
+  } else {
+    this.response = response;
+  }
   this.browser = browser;
   if (start) {
     this.start = true;
@@ -59,7 +67,7 @@ jstestdriver.Response = function(type, response, browser, start) {
 
 
 jstestdriver.Response.prototype.toString = function() {
-  return 'Response(\nresponse=' + this.response + ',\ntype' + this.type + ',\n browser=' + this.browser + ')';
+  return 'Response(\nresponse=' + (this.data ? JSON.stringify(this.data) : this.response) + ',\ntype' + this.type + ',\n browser=' + this.browser + ')';
 };
 
 
@@ -69,7 +69,7 @@ jstestdriver.RunTestsCommand.prototype.sendTestResults = function() {
   if (this.testsDone_.length > 0) {
     var response = new jstestdriver.Response(
             jstestdriver.RESPONSE_TYPES.TEST_RESULT,
-            JSON.stringify(this.testsDone_),
+            this.testsDone_,
             this.getBrowserInfo_());
 
     this.testsDone_ = [];
@@ -102,7 +102,7 @@ jstestdriver.RunTestsCommand.prototype.addTestResult = function(testResult) {
 jstestdriver.RunTestsCommand.prototype.sendTestResultsOnComplete_ = function() {
   var response = new jstestdriver.Response(
       jstestdriver.RESPONSE_TYPES.TEST_RESULT,
-      JSON.stringify(this.testsDone_),
+      this.testsDone_,
       this.getBrowserInfo_());
   this.testsDone_ = [];
   this.streamStop_(response);
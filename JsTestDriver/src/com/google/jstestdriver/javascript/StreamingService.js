@@ -35,18 +35,111 @@ jstestdriver.StreamingService = function(url, now, post, synchPost, setTimeout,
   this.synchPost_ = synchPost;
   this.setTimeout_ = setTimeout;
   this.unloadSignal_ = unloadSignal;
+  this.lastResponseId_ = 0;
+  this.pendingResponses_ = [];
+  this.pendingCallback_ = null;
+  this.streamCallback_ = null;
+  this.flushScheduled_ = false;
+  this.batchSize_ = jstestdriver.StreamingService.BATCH_SIZE;
+  this.batchWindow_ = jstestdriver.StreamingService.BATCH_WINDOW;
 };
 
 
+/**
+ * The most test results posted to the server in one request.
+ * @type {Number}
+ */
+jstestdriver.StreamingService.BATCH_SIZE = 50;
+
+
+/**
+ * How long, in ms, test results wait for others to be posted with them.
+ * @type {Number}
+ */
+jstestdriver.StreamingService.BATCH_WINDOW = 20;
+
+
 jstestdriver.StreamingService.prototype.synchClose = function(response) {
+  if (this.pendingResponses_.length) {
+    this.synchPost_(this.url_, this.takePending_());
+  }
   var data = new jstestdriver.CommandResponse(true, response);
   this.synchPost_(this.url_, data);
   this.unloadSignal_.set(true);
 };
 
 
+/**
+ * Streams a response to the server. Test results are held back for a short
+ * while, and posted together with the ones that follow them. Any other
+ * response is posted at once, along with the test results before it.
+ * @param {jstestdriver.Response} response The response to stream.
+ * @param {Function} callback Called with the server's acknowledgement.
+ */
 jstestdriver.StreamingService.prototype.stream = function(response, callback) {
-  this.streamResponse(response, false, callback);
+  var data = new jstestdriver.CommandResponse(false, response);
+  data.responseId = this.nextResponseId_();
+  this.activeResponses_[data.responseId] = data;
+  this.pendingResponses_.push(data);
+  this.pendingCallback_ = callback;
+  this.streamCallback_ = callback;
+  if (response.type != jstestdriver.RESPONSE_TYPES.TEST_RESULT ||
+      this.pendingResponses_.length >= this.batchSize_) {
+    this.flush_();
+  } else if (!this.flushScheduled_) {
+    this.flushScheduled_ = true;
+    var context = this;
+    this.setTimeout_(function() {
+      context.flushScheduled_ = false;
+      context.flush_();
+    }, this.batchWindow_);
+  }
+};
+
+
+/**
+ * Posts the responses waiting for a batch: on their own when there is one, or
+ * in a single request when there are several.
+ * @private
+ */
+jstestdriver.StreamingService.prototype.flush_ = function() {
+  if (!this.pendingResponses_.length) {
+    return;
+  }
+  var data = this.takePending_();
+  var callback = this.pendingCallback_;
+  this.pendingCallback_ = null;
+  var context = this;
+  this.setTimeout_(function() {
+    context.post_(context.url_, data, callback, 'text/plain');
+  }, 1);
+};
+
+
+/**
+ * @return {Object} The post data for the pending responses, which are cleared.
+ * @private
+ */
+jstestdriver.StreamingService.prototype.takePending_ = function() {
+  var pending = this.pendingResponses_;
+  this.pendingResponses_ = [];
+  return pending.length == 1 ? pending[0] : {'responses' : pending};
+};
+
+
+/**
+ * Response ids come from the clock, but responses batched together are
+ * often streamed within the same ms.
+ * @return {Number} An id no other response of this session has.
+ * @private
+ */
+jstestdriver.StreamingService.prototype.nextResponseId_ = function() {
+  var id = this.now_();
+  if (id <= this.lastResponseId_) {
+    id = this.lastResponseId_ + 1;
+  }
+  this.lastResponseId_ = id;
+  return id;
 };
 
 
@@ -55,9 +148,10 @@ jstestdriver.StreamingService.prototype.streamResponse = function(response,
                                                                   callback) {
   var data = new jstestdriver.CommandResponse(done, response);
   if (!done && response != null) {
-    data.responseId = this.now_();
+    data.responseId = this.nextResponseId_();
     // no ack expected after the final response, and no ack expected on no response
     this.activeResponses_[data.responseId] = data;
+    this.streamCallback_ = callback;
   }
   var context = this;
   this.setTimeout_(function() {
@@ -89,6 +183,31 @@ jstestdriver.StreamingService.prototype.streamAcknowledged = function(received)
 };
 
 
+/**
+ * Callback command for streamed responses the server had no room for. The
+ * server waited for room before refusing them, so they are posted again at
+ * once.
+ * @param {Array.<string>} refused A list of the refused response ids.
+ */
+jstestdriver.StreamingService.prototype.streamRefused = function(refused) {
+  var responses = [];
+  for (var i = 0; refused && refused[i]; i++) {
+    if (this.activeResponses_[refused[i]]) {
+      responses.push(this.activeResponses_[refused[i]]);
+    }
+  }
+  if (!responses.length) {
+    return;
+  }
+  var data = responses.length == 1 ? responses[0] : {'responses' : responses};
+  var callback = this.streamCallback_;
+  var context = this;
+  this.setTimeout_(function() {
+    context.post_(context.url_, data, callback, 'text/plain');
+  }, 1);
+};
+
+
 /**
  * Closes the current streaming session, sending the final response after all
  * other Responses are finished.
@@ -97,6 +216,7 @@ jstestdriver.StreamingService.prototype.streamAcknowledged = function(received)
  */
 jstestdriver.StreamingService.prototype.close =
     function(finalResponse, callback) {
+  this.flush_();
   var context = this;
   this.completeFinalResponse = function() {
     if (context.hasOpenResponses()) {
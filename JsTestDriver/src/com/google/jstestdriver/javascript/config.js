@@ -210,6 +210,9 @@ jstestdriver.config = (function(module) {
     executor.registerCommand('streamAcknowledged',
                               streamingService,
                               streamingService.streamAcknowledged);
+    executor.registerCommand('streamRefused',
+                              streamingService,
+                              streamingService.streamRefused);
 
 
     function getCommand() {
@@ -386,6 +389,9 @@ jstestdriver.config = (function(module) {
     executor.registerCommand('streamAcknowledged',
             streamingService,
             streamingService.streamAcknowledged);
+    executor.registerCommand('streamRefused',
+            streamingService,
+            streamingService.streamRefused);
     executor.registerCommand('unknownBrowser', null, function() {
       // TODO(corysmith): handle this better.
     });
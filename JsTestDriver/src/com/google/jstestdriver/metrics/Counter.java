@@ -0,0 +1,58 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** A count that only goes up, such as the number of requests served. */
+public class Counter extends Metric {
+
+  private final AtomicLong count = new AtomicLong();
+
+  Counter(String name, String[] labels) {
+    super(name, labels);
+  }
+
+  public void increment() {
+    count.incrementAndGet();
+  }
+
+  public void add(long delta) {
+    count.addAndGet(delta);
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  @Override
+  public String getType() {
+    return "counter";
+  }
+
+  @Override
+  void writeText(Appendable out) throws IOException {
+    writeSample(out, "", null, count.get());
+  }
+
+  @Override
+  void addValues(JsonObject json) {
+    json.addProperty("value", count.get());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The distribution of durations, in milliseconds, over fixed buckets. Recording
+ * takes no lock: a report taken while values are recorded may be off by the
+ * values in flight.
+ */
+public class Histogram extends Metric {
+
+  /** The upper bounds of the buckets, the last bucket has none. */
+  static final long[] BOUNDS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+
+  Histogram(String name, String[] labels) {
+    super(name, labels);
+  }
+
+  public void observe(long millis) {
+    int bucket = 0;
+    while (bucket < BOUNDS.length && millis > BOUNDS[bucket]) {
+      bucket++;
+    }
+    buckets.incrementAndGet(bucket);
+    count.incrementAndGet();
+    sum.addAndGet(millis);
+  }
+
+  /** Records the time since a {@link System#nanoTime()} reading. */
+  public void observeSince(long startNanos) {
+    observe(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getSum() {
+    return sum.get();
+  }
+
+  @Override
+  public String getType() {
+    return "histogram";
+  }
+
+  @Override
+  void writeText(Appendable out) throws IOException {
+    long cumulative = 0;
+    for (int i = 0; i <= BOUNDS.length; i++) {
+      cumulative += buckets.get(i);
+      String bound = i < BOUNDS.length ? String.valueOf(BOUNDS[i]) : "+Inf";
+      writeSample(out, "_bucket", "le=\"" + bound + "\"", cumulative);
+    }
+    writeSample(out, "_sum", null, sum.get());
+    writeSample(out, "_count", null, count.get());
+  }
+
+  @Override
+  void addValues(JsonObject json) {
+    json.addProperty("count", count.get());
+    json.addProperty("sum", sum.get());
+    JsonObject bucketsJson = new JsonObject();
+    long cumulative = 0;
+    for (int i = 0; i <= BOUNDS.length; i++) {
+      cumulative += buckets.get(i);
+      bucketsJson.addProperty(i < BOUNDS.length ? String.valueOf(BOUNDS[i]) : "+Inf", cumulative);
+    }
+    json.add("buckets", bucketsJson);
+  }
+}
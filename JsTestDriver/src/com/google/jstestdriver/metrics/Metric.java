@@ -0,0 +1,115 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A named value of the {@link MetricsRegistry}, told apart from the others of
+ * the same name by its labels.
+ */
+public abstract class Metric {
+
+  private final String name;
+  private final String[] labels;
+  private final String labelText;
+
+  Metric(String name, String[] labels) {
+    this.name = name;
+    this.labels = labels.clone();
+    this.labelText = labelText(labels);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Map<String, String> getLabels() {
+    Map<String, String> map = new LinkedHashMap<String, String>();
+    for (int i = 0; i < labels.length; i += 2) {
+      map.put(labels[i], labels[i + 1]);
+    }
+    return map;
+  }
+
+  /** @return the type, as named by the text format. */
+  public abstract String getType();
+
+  /** Writes the sample lines of the text format. */
+  abstract void writeText(Appendable out) throws IOException;
+
+  /** Adds the values to the JSON description of the metric. */
+  abstract void addValues(JsonObject json);
+
+  JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    json.addProperty("name", name);
+    json.addProperty("type", getType());
+    JsonObject labelsJson = new JsonObject();
+    for (int i = 0; i < labels.length; i += 2) {
+      labelsJson.addProperty(labels[i], labels[i + 1]);
+    }
+    json.add("labels", labelsJson);
+    addValues(json);
+    return json;
+  }
+
+  /** Writes one sample line, with an extra label when one is given. */
+  void writeSample(Appendable out, String suffix, String extraLabel, long value)
+      throws IOException {
+    out.append(name).append(suffix);
+    if (labelText.length() > 0 || extraLabel != null) {
+      out.append('{').append(labelText);
+      if (extraLabel != null) {
+        out.append(labelText.length() > 0 ? "," : "").append(extraLabel);
+      }
+      out.append('}');
+    }
+    out.append(' ').append(String.valueOf(value)).append('\n');
+  }
+
+  /** @return the labels as the text format writes them, without the braces. */
+  static String labelText(String[] labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("Labels are name and value pairs, got "
+          + labels.length + " strings.");
+    }
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < labels.length; i += 2) {
+      if (i > 0) {
+        text.append(',');
+      }
+      text.append(labels[i]).append("=\"");
+      String value = labels[i + 1];
+      for (int j = 0; j < value.length(); j++) {
+        char c = value.charAt(j);
+        if (c == '\\' || c == '"') {
+          text.append('\\').append(c);
+        } else if (c == '\n') {
+          text.append("\\n");
+        } else {
+          text.append(c);
+        }
+      }
+      text.append('"');
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.inject.Singleton;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Holds the counters, gauges and histograms of the server, and writes them
+ * either as JSON or in the Prometheus text format.
+ *
+ * Metrics are created on first use and kept by name and labels, so the hot
+ * paths may look them up on every call; holding on to the returned metric
+ * saves building its key.
+ */
+@Singleton
+public class MetricsRegistry {
+
+  private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+  /** Sorted, so the metrics of the same name are written together. */
+  private final ConcurrentMap<String, Metric> metrics = new ConcurrentSkipListMap<String, Metric>();
+
+  /**
+   * @param labels label names and values, in pairs.
+   * @return the counter of that name and labels, created when missing.
+   */
+  public Counter counter(String name, String... labels) {
+    String key = key(name, labels);
+    Metric metric = metrics.get(key);
+    if (metric == null) {
+      metric = register(key, new Counter(checkName(name), labels));
+    }
+    return cast(key, metric, Counter.class);
+  }
+
+  /**
+   * @param labels label names and values, in pairs.
+   * @return the histogram of that name and labels, created when missing.
+   */
+  public Histogram histogram(String name, String... labels) {
+    String key = key(name, labels);
+    Metric metric = metrics.get(key);
+    if (metric == null) {
+      metric = register(key, new Histogram(checkName(name), labels));
+    }
+    return cast(key, metric, Histogram.class);
+  }
+
+  /**
+   * Registers a gauge, replacing any gauge of the same name and labels.
+   *
+   * @param labels label names and values, in pairs.
+   */
+  public void gauge(String name, Gauge gauge, String... labels) {
+    String key = key(name, labels);
+    Metric old = metrics.get(key);
+    if (old != null && !(old instanceof GaugeMetric)) {
+      throw new IllegalStateException(key + " is already a " + old.getType());
+    }
+    metrics.put(key, new GaugeMetric(checkName(name), labels, gauge));
+  }
+
+  /** Removes a metric, such as the gauges of a browser that went away. */
+  public void remove(String name, String... labels) {
+    metrics.remove(key(name, labels));
+  }
+
+  public Collection<Metric> getMetrics() {
+    return metrics.values();
+  }
+
+  /** Writes the metrics in the Prometheus text exposition format. */
+  public void writeText(Appendable out) throws IOException {
+    String lastName = null;
+    for (Metric metric : metrics.values()) {
+      if (!metric.getName().equals(lastName)) {
+        lastName = metric.getName();
+        out.append("# TYPE ").append(lastName).append(' ').append(metric.getType()).append('\n');
+      }
+      metric.writeText(out);
+    }
+  }
+
+  public JsonObject toJson() {
+    JsonArray array = new JsonArray();
+    for (Metric metric : metrics.values()) {
+      array.add(metric.toJson());
+    }
+    JsonObject json = new JsonObject();
+    json.add("metrics", array);
+    return json;
+  }
+
+  private Metric register(String key, Metric metric) {
+    Metric registered = metrics.putIfAbsent(key, metric);
+    return registered == null ? metric : registered;
+  }
+
+  private <T extends Metric> T cast(String key, Metric metric, Class<T> type) {
+    if (!type.isInstance(metric)) {
+      throw new IllegalStateException(key + " is already a " + metric.getType());
+    }
+    return type.cast(metric);
+  }
+
+  /** Always braced, so that no other name sorts between two keys of one name. */
+  private static String key(String name, String[] labels) {
+    return name + '{' + Metric.labelText(labels) + '}';
+  }
+
+  private static String checkName(String name) {
+    if (!NAME.matcher(name).matches()) {
+      throw new IllegalArgumentException("Invalid metric name: " + name);
+    }
+    return name;
+  }
+
+  private static class GaugeMetric extends Metric {
+    private final Gauge gauge;
+
+    GaugeMetric(String name, String[] labels, Gauge gauge) {
+      super(name, labels);
+      this.gauge = gauge;
+    }
+
+    @Override
+    public String getType() {
+      return "gauge";
+    }
+
+    @Override
+    void writeText(Appendable out) throws IOException {
+      writeSample(out, "", null, gauge.getValue());
+    }
+
+    @Override
+    void addValues(JsonObject json) {
+      json.addProperty("value", gauge.getValue());
+    }
+  }
+}
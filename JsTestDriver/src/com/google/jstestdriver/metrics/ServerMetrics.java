@@ -0,0 +1,125 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.metrics;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.jstestdriver.CapturedBrowsers;
+import com.google.jstestdriver.SlaveBrowser;
+import com.google.jstestdriver.browser.BrowserCaptureEvent;
+import com.google.jstestdriver.browser.BrowserCaptureEvent.Event;
+import com.google.jstestdriver.server.JstdTestCaseStore;
+
+import java.util.Observable;
+import java.util.Observer;
+
+/**
+ * Registers the gauges of the file store, the gauges and dequeue wait
+ * histogram of each browser while it is captured, and the time browsers take
+ * from their capture to being ready.
+ */
+@Singleton
+public class ServerMetrics implements Observer {
+
+  static final String COMMAND_QUEUE_DEPTH = "jstd_browser_command_queue_depth";
+  static final String RESPONSE_QUEUE_DEPTH = "jstd_browser_response_queue_depth";
+  static final String DROPPED_LOGS = "jstd_browser_dropped_logs";
+  static final String PARKED_QUERIES = "jstd_browser_parked_queries";
+  static final String DEQUEUE_WAIT = "jstd_browser_dequeue_wait_millis";
+  static final String CAPTURE_TO_READY = "jstd_browser_capture_to_ready_millis";
+  private static final String BROWSER = "browser";
+
+  private final MetricsRegistry registry;
+  private final Histogram captureToReady;
+
+  @Inject
+  public ServerMetrics(MetricsRegistry registry, final CapturedBrowsers capturedBrowsers,
+      final JstdTestCaseStore store) {
+    this.registry = registry;
+    captureToReady = registry.histogram(CAPTURE_TO_READY);
+    registry.gauge("jstd_captured_browsers", new Gauge() {
+      public long getValue() {
+        return capturedBrowsers.getSlaveBrowsers().size();
+      }
+    });
+    registry.gauge("jstd_store_test_cases", new Gauge() {
+      public long getValue() {
+        return store.getCases().size();
+      }
+    });
+    registry.gauge("jstd_store_files", new Gauge() {
+      public long getValue() {
+        return store.getFileCount();
+      }
+    });
+    registry.gauge("jstd_store_contents", new Gauge() {
+      public long getValue() {
+        return store.getContentCount();
+      }
+    });
+    capturedBrowsers.addObserver(this);
+    for (SlaveBrowser browser : capturedBrowsers.getSlaveBrowsers()) {
+      register(browser);
+    }
+  }
+
+  public void update(Observable o, Object arg) {
+    BrowserCaptureEvent event = (BrowserCaptureEvent) arg;
+    if (event.getBrowser() == null) {
+      return;
+    }
+    if (event.event == Event.CONNECTED) {
+      register(event.getBrowser());
+    } else if (event.event == Event.DISCONNECTED) {
+      unregister(event.getBrowser());
+    }
+  }
+
+  private void register(final SlaveBrowser browser) {
+    String id = browser.getId();
+    registry.gauge(COMMAND_QUEUE_DEPTH, new Gauge() {
+      public long getValue() {
+        return browser.getCommandQueueDepth();
+      }
+    }, BROWSER, id);
+    registry.gauge(RESPONSE_QUEUE_DEPTH, new Gauge() {
+      public long getValue() {
+        return browser.getResponseQueueDepth();
+      }
+    }, BROWSER, id);
+    registry.gauge(DROPPED_LOGS, new Gauge() {
+      public long getValue() {
+        return browser.getDroppedLogCount();
+      }
+    }, BROWSER, id);
+    registry.gauge(PARKED_QUERIES, new Gauge() {
+      public long getValue() {
+        return browser.getParkedQueryCount();
+      }
+    }, BROWSER, id);
+    browser.setDequeueWait(registry.histogram(DEQUEUE_WAIT, BROWSER, id));
+    browser.setCaptureToReady(captureToReady);
+  }
+
+  private void unregister(SlaveBrowser browser) {
+    String id = browser.getId();
+    registry.remove(COMMAND_QUEUE_DEPTH, BROWSER, id);
+    registry.remove(RESPONSE_QUEUE_DEPTH, BROWSER, id);
+    registry.remove(DROPPED_LOGS, BROWSER, id);
+    registry.remove(PARKED_QUERIES, BROWSER, id);
+    registry.remove(DEQUEUE_WAIT, BROWSER, id);
+  }
+}
@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,6 +57,12 @@ public class DefaultListener implements TestListener {
 
   private int lineLength = 70;
 
+  /** The time of each test, for the tail of the run. */
+  private float[] testTimes = new float[64];
+  private int testCount = 0;
+  private float slowestTime;
+  private String slowestTest;
+
   @Inject
   public DefaultListener(@Named("outputStream") PrintStream out,
                          @Named("verbose") boolean verbose) {
@@ -95,6 +102,40 @@ public class DefaultListener implements TestListener {
     out.println(String.format("Total %d tests (Passed: %d; Fails: %d; Errors: %d) (%.2f ms)",
         (totalPasses.get() + totalFails.get() + totalErrors.get()), totalPasses.get(),
         totalFails.get(), totalErrors.get(), findMaxTime()));
+    printTestTimes(out);
+  }
+
+  /** Prints the tail of the test times, where the wall clock time of a run is lost. */
+  private synchronized void printTestTimes(PrintStream out) {
+    if (testCount == 0) {
+      return;
+    }
+    float[] sorted = new float[testCount];
+    System.arraycopy(testTimes, 0, sorted, 0, testCount);
+    Arrays.sort(sorted);
+    out.println(String.format("  Test times: p50 %.2f ms; p90 %.2f ms; p99 %.2f ms; max %.2f ms (%s)",
+        percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+        slowestTime, slowestTest));
+  }
+
+  /** The nearest rank percentile of sorted times. */
+  private static float percentile(float[] sorted, int percent) {
+    int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  private synchronized void addTestTime(TestResult testResult) {
+    if (testCount == testTimes.length) {
+      float[] grown = new float[testCount * 2];
+      System.arraycopy(testTimes, 0, grown, 0, testCount);
+      testTimes = grown;
+    }
+    float time = testResult.getTime();
+    if (testCount == 0 || time > slowestTime) {
+      slowestTime = time;
+      slowestTest = testResult.getTestCaseName() + "." + testResult.getTestName();
+    }
+    testTimes[testCount++] = time;
   }
 
   private void printBrowserSummary(PrintStream out, String browser, TestRunResult data) {
@@ -120,6 +161,7 @@ public class DefaultListener implements TestListener {
     String log = testResult.getLog();
 
     runData.addTime(testResult.getTime());
+    addTestTime(testResult);
     if (result == TestResult.Result.passed) {
       if (!verbose) {
         out.print('.');
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.output;
+
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.FileResult;
+import com.google.jstestdriver.TestCase;
+import com.google.jstestdriver.TestResult;
+import com.google.jstestdriver.TestResult.Result;
+import com.google.jstestdriver.hooks.TestListener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the same per suite report files as the {@link XmlPrinterImpl}, but
+ * appends each result to its suite's file as it arrives, instead of holding
+ * all of them until the end of the run.
+ *
+ * A report file is well formed after every result: the closing tag is
+ * written after each test case, and overwritten by the next one. The totals
+ * of a suite are kept in a fixed width slot of its opening tag, and written
+ * when its file is closed, at each {@link #finish()}. A crashed run leaves
+ * every result reported so far, with the totals of the last finish.
+ */
+@Singleton
+public class StreamingXmlPrinter implements XmlPrinter, TestListener {
+  private static final Logger logger = LoggerFactory.getLogger(StreamingXmlPrinter.class);
+  private static final String UTF8 = "UTF-8";
+  private static final String FILE_NAME_FORMAT = "TEST-%s.xml";
+  private static final String CLOSE = "</testsuite>\n";
+  /** Room for the totals attributes, padded with spaces, which xml allows in a tag. */
+  private static final int TOTALS_WIDTH = 100;
+  private static final int MAX_OPEN_FILES = 16;
+
+  private final Gson gson = new Gson();
+  private final String xmlOutputDir;
+  private final FileNameFormatter formatter;
+  private final Map<BrowserInfo, String> browserNames = Maps.newHashMap();
+  private final Map<String, Suite> suites = Maps.newLinkedHashMap();
+  private final Map<String, Suite> open =
+      new LinkedHashMap<String, Suite>(MAX_OPEN_FILES, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Suite> eldest) {
+          if (size() > MAX_OPEN_FILES) {
+            eldest.getValue().close();
+            return true;
+          }
+          return false;
+        }
+      };
+
+  @Inject
+  public StreamingXmlPrinter(@Named("testOutput") String xmlOutputDir,
+      FileNameFormatter formatter) {
+    this.xmlOutputDir = xmlOutputDir;
+    this.formatter = formatter;
+  }
+
+  public synchronized void onTestComplete(TestResult testResult) {
+    if (xmlOutputDir.length() == 0) {
+      return;
+    }
+    String suiteName = formatSuiteName(browserName(testResult.getBrowserInfo()),
+        testResult.getTestCaseName());
+    File xmlOutputFile = new File(xmlOutputDir, formatter.format(suiteName, FILE_NAME_FORMAT));
+    try {
+      Suite suite = suites.get(suiteName);
+      if (suite == null) {
+        suite = new Suite(suiteName, xmlOutputFile);
+        suites.put(suiteName, suite);
+      }
+      open.put(suiteName, suite);
+      suite.append(testResult);
+    } catch (IOException e) {
+      logger.error("Could not write to file: {}", xmlOutputFile.getAbsolutePath(), e);
+    }
+  }
+
+  /** Writes the totals of every suite, and closes their files. */
+  public synchronized void finish() {
+    for (Iterator<Suite> suite = open.values().iterator(); suite.hasNext();) {
+      suite.next().close();
+      suite.remove();
+    }
+  }
+
+  public void writeXmlReportFiles() {
+    finish();
+  }
+
+  public void onFileLoad(BrowserInfo browser, FileResult fileResult) {
+  }
+
+  public void onTestRegistered(BrowserInfo browser, TestCase testCase) {
+  }
+
+  /**
+   * Names browsers as {@link XmlPrinterImpl#createUniqueBrowserNames} does,
+   * as they are first seen.
+   */
+  private String browserName(BrowserInfo browser) {
+    String name = browserNames.get(browser);
+    if (name == null) {
+      name = browserNames.containsValue(browser.toString())
+          ? browser.toUniqueString() : browser.toString();
+      browserNames.put(browser, name);
+    }
+    return name;
+  }
+
+  private String formatSuiteName(String browser, String testCaseName) {
+    return String.format("%s.%s",
+        browser.replaceAll("\\s", "_").replaceAll("\\.", ""), testCaseName);
+  }
+
+  /** The report file of a suite, and its running totals. */
+  private class Suite {
+    final String name;
+    final File file;
+    int tests = 0;
+    int failed = 0;
+    int error = 0;
+    float elapsedTime = 0;
+    long totalsStart;
+    long end;
+    RandomAccessFile out;
+
+    Suite(String name, File file) throws IOException {
+      this.name = name;
+      this.file = file;
+      out = new RandomAccessFile(file, "rw");
+      out.setLength(0);
+      out.write(bytes("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\""
+          + escape(name) + "\" "));
+      totalsStart = out.getFilePointer();
+      out.write(bytes(totals()));
+      out.write(bytes(">\n"));
+      end = out.getFilePointer();
+      out.write(bytes(CLOSE));
+    }
+
+    void append(TestResult testResult) throws IOException {
+      if (out == null) {
+        out = new RandomAccessFile(file, "rw");
+      }
+      tests++;
+      failed += testResult.getResult() == Result.failed ? 1 : 0;
+      error += testResult.getResult() == Result.error ? 1 : 0;
+      elapsedTime += testResult.getTime() / 1000;
+      out.seek(end);
+      out.write(bytes(testCase(testResult)));
+      end = out.getFilePointer();
+      out.write(bytes(CLOSE));
+      out.setLength(out.getFilePointer());
+    }
+
+    void close() {
+      if (out == null) {
+        return;
+      }
+      try {
+        out.seek(totalsStart);
+        out.write(bytes(totals()));
+        out.close();
+      } catch (IOException e) {
+        logger.error("Could not write to file: {}", file.getAbsolutePath(), e);
+      }
+      out = null;
+    }
+
+    private String totals() {
+      StringBuilder totals = new StringBuilder()
+          .append("errors=\"").append(error)
+          .append("\" failures=\"").append(failed)
+          .append("\" tests=\"").append(tests)
+          .append("\" time=\"").append(elapsedTime).append('"');
+      while (totals.length() < TOTALS_WIDTH) {
+        totals.append(' ');
+      }
+      return totals.toString();
+    }
+
+    private String testCase(TestResult testResult) {
+      StringBuilder xml = new StringBuilder()
+          .append("<testcase classname=\"").append(escape(name))
+          .append("\" name=\"").append(escape(testResult.getTestName()))
+          .append("\" time=\"").append(Float.toString(testResult.getTime() / 1000f))
+          .append("\">\n");
+      if (testResult.getResult() == Result.failed) {
+        xml.append("<failure type=\"failed\" message=\"")
+            .append(escape(TestXmlSerializer.failureMessage(gson, testResult))).append("\">")
+            .append(escape(testResult.getStack())).append("</failure>\n");
+      } else if (testResult.getResult() == Result.error) {
+        xml.append("<error type=\"error\">")
+            .append(escape(TestXmlSerializer.failureMessage(gson, testResult)))
+            .append("</error>\n");
+      }
+      String log = testResult.getLog();
+      if (log != null && log.length() > 0) {
+        xml.append("<system-out><![CDATA[")
+            .append(log.replace("]]>", "]]]]><![CDATA[>"))
+            .append("]]></system-out>\n");
+      }
+      return xml.append("</testcase>\n").toString();
+    }
+  }
+
+  private static byte[] bytes(String xml) throws IOException {
+    return xml.getBytes(UTF8);
+  }
+
+  /** Escapes text for an attribute or an element, dropping characters xml can't hold. */
+  static String escape(String text) {
+    if (text == null) {
+      return "";
+    }
+    StringBuilder escaped = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '&':
+          escaped.append("&amp;");
+          break;
+        case '<':
+          escaped.append("&lt;");
+          break;
+        case '>':
+          escaped.append("&gt;");
+          break;
+        case '"':
+          escaped.append("&quot;");
+          break;
+        default:
+          if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+            escaped.append(c);
+          }
+      }
+    }
+    return escaped.toString();
+  }
+}
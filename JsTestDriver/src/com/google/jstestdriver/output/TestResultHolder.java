@@ -5,7 +5,9 @@ import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.common.collect.Multimaps.synchronizedMultimap;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.base.Supplier;
 import com.google.common.collect.Maps;
@@ -23,6 +25,8 @@ import com.google.jstestdriver.hooks.TestListener;
  * on multiple threads. Then the XmlPrinter can use it to find the test results, so it can
  * produce our XML output files.
  * It should be bound as a Singleton to be sure the data is shared between these classes.
+ * When the reports are streamed as the results arrive, it only counts them,
+ * per browser.
  * @author alexeagle@google.com (Alex Eagle)
  */
 @Singleton
@@ -37,8 +41,25 @@ public class TestResultHolder implements TestListener {
   private final Multimap<BrowserInfo, TestResult> results;
   private final Multimap<BrowserInfo, TestCase> testCases;
   private Multimap<BrowserInfo, FileResult> fileResults;
+  private final boolean retainResults;
+  private final AtomicInteger resultCount = new AtomicInteger();
+  /**
+   * The number of results of each browser that sent results, and when the
+   * results are not retained, of each browser that loaded files.
+   */
+  private final Map<BrowserInfo, AtomicInteger> browserResultCounts =
+      Collections.synchronizedMap(Maps.<BrowserInfo, AtomicInteger>newLinkedHashMap());
 
   public TestResultHolder() {
+    this(true);
+  }
+
+  /**
+   * @param retainResults false to only count the results, for runs whose
+   *        reports are written as the results arrive.
+   */
+  public TestResultHolder(boolean retainResults) {
+    this.retainResults = retainResults;
     results = synchronizedMultimap(createMultiMap(Maps.<BrowserInfo, Collection<TestResult>>newLinkedHashMap()));
     testCases = synchronizedMultimap(createMultiMap(Maps.<BrowserInfo, Collection<TestCase>>newLinkedHashMap()));
     fileResults = synchronizedMultimap(createMultiMap(Maps.<BrowserInfo, Collection<FileResult>>newLinkedHashMap()));
@@ -73,15 +94,56 @@ public class TestResultHolder implements TestListener {
     return fileResults;
   }
 
+  /**
+   * @return the number of test results received, retained or not.
+   */
+  public int getResultCount() {
+    return resultCount.get();
+  }
+
+  /**
+   * @return the number of test results received from each browser that sent
+   *         results, or that loaded files when the results are not retained.
+   */
+  public Map<BrowserInfo, Integer> getResultCounts() {
+    Map<BrowserInfo, Integer> counts = newLinkedHashMap();
+    synchronized (browserResultCounts) {
+      for (Map.Entry<BrowserInfo, AtomicInteger> entry : browserResultCounts.entrySet()) {
+        counts.put(entry.getKey(), entry.getValue().get());
+      }
+    }
+    return counts;
+  }
+
+  private AtomicInteger countOf(BrowserInfo browser) {
+    synchronized (browserResultCounts) {
+      AtomicInteger count = browserResultCounts.get(browser);
+      if (count == null) {
+        count = new AtomicInteger();
+        browserResultCounts.put(browser, count);
+      }
+      return count;
+    }
+  }
+
   public void onTestComplete(TestResult testResult) {
-    results.put(testResult.getBrowserInfo(), testResult);
+    resultCount.incrementAndGet();
+    countOf(testResult.getBrowserInfo()).incrementAndGet();
+    if (retainResults) {
+      results.put(testResult.getBrowserInfo(), testResult);
+    }
   }
 
   public void finish() {
   }
 
   public void onFileLoad(BrowserInfo browser, FileResult fileResult) {
-    
+    // a streamed run keeps no results to tell which browsers ran nothing, so
+    // there a browser that loads files is expected to run tests. A retained
+    // run only tracks the browsers that sent results, as it always has.
+    if (!retainResults) {
+      countOf(browser);
+    }
   }
 
   @Override
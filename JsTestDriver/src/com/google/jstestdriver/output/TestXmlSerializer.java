@@ -170,15 +170,7 @@ public class TestXmlSerializer {
     for (TestResult testResult : testResults) {
       startTestCase(testCaseName, testResult.getTestName(), testResult.getTime());
       if (testResult.getResult() != Result.passed) {
-        String message;
-
-        try {
-          JsException exception = gson.fromJson(testResult.getMessage(), JsException.class);
-
-          message = exception.getMessage();
-        } catch (Exception e) {
-          message = testResult.getMessage();
-        }
+        String message = failureMessage(gson, testResult);
         if (testResult.getResult() == TestResult.Result.failed) {
           addFailure(testResult.getStack(), message);
         } else if (testResult.getResult() == TestResult.Result.error) {
@@ -194,6 +186,17 @@ public class TestXmlSerializer {
     endTestSuite();
   }
 
+  /** The message of a failed test, unwrapped from the serialized exception. */
+  static String failureMessage(Gson gson, TestResult testResult) {
+    try {
+      JsException exception = gson.fromJson(testResult.getMessage(), JsException.class);
+
+      return exception.getMessage();
+    } catch (Exception e) {
+      return testResult.getMessage();
+    }
+  }
+
   private class SuiteAggregator {
     int tests = 0;
     int failed = 0;
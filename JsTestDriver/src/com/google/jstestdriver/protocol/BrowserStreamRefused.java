@@ -0,0 +1,40 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.protocol;
+
+import java.util.List;
+
+/**
+ * The response command to streamed responses the server had no room for, in
+ * place of a {@link BrowserStreamAcknowledged}. The browser posts them again.
+ */
+public class BrowserStreamRefused {
+
+  private final List<String> parameters;
+  private final String command = "streamRefused";
+
+  public BrowserStreamRefused(List<String> refusedResponseIds) {
+    this.parameters = refusedResponseIds;
+  }
+
+  public List<String> getParameters() {
+    return parameters;
+  }
+
+  public String getCommand() {
+    return command;
+  }
+}
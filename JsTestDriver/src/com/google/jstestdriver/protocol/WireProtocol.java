@@ -0,0 +1,175 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.protocol;
+
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.jstestdriver.BrowserInfo;
+import com.google.jstestdriver.Response;
+import com.google.jstestdriver.StreamMessage;
+
+import java.util.Map;
+
+/**
+ * Encodes the {@link Response}s relayed from the browsers to the clients.
+ *
+ * In the legacy encoding the payload of a response is a json document
+ * serialized as a string, in a response serialized again in a
+ * {@link StreamMessage}, so each hop parses and serializes it several times.
+ * From version 2 the browser sends the payload as json under "data", which is
+ * parsed once into a tree. The server relays the response as the browser
+ * encoded it, in an envelope with the server's {@link BrowserInfo}:
+ *
+ * <pre>{"v":2,"last":true,"browser":{...},"response":{"type":"TEST_RESULT","data":[...]}}</pre>
+ *
+ * A browser streaming many small responses may post them together, as an
+ * array of <code>{"responseId":..,"response":{...}}</code> entries.
+ *
+ * Clients ask for version 2 with the {@link #VERSION_PARAMETER}, and read
+ * either encoding, so that old clients and servers keep working.
+ */
+public class WireProtocol {
+  public static final int VERSION = 2;
+  public static final String VERSION_PARAMETER = "protocol";
+
+  private final Gson gson = new Gson();
+  private final JsonParser parser = new JsonParser();
+
+  /** The version asked for by a client, 1 when it didn't. */
+  public static int version(String parameter) {
+    if (parameter == null) {
+      return 1;
+    }
+    try {
+      return Integer.parseInt(parameter);
+    } catch (NumberFormatException e) {
+      return 1;
+    }
+  }
+
+  /** Decodes a response posted by a browser, in either encoding. */
+  public Response decodeResponse(String json) {
+    Response response = decodeResponse(parser.parse(json).getAsJsonObject());
+    if (response.getData() != null) {
+      response.setEncoded(json);
+    }
+    return response;
+  }
+
+  /**
+   * Decodes a batch of streamed responses posted by a browser.
+   * @return the responses by their response ids, in the order they were posted.
+   */
+  public Map<String, Response> decodeResponses(String json) {
+    JsonArray entries = parser.parse(json).getAsJsonArray();
+    Map<String, Response> responses = Maps.newLinkedHashMap();
+    for (JsonElement entry : entries) {
+      JsonObject object = entry.getAsJsonObject();
+      JsonObject encoded = object.getAsJsonObject("response");
+      Response response = decodeResponse(encoded);
+      if (response.getData() != null) {
+        response.setEncoded(encoded.toString());
+      }
+      responses.put(object.get("responseId").getAsString(), response);
+    }
+    return responses;
+  }
+
+  /** Encodes a message in the version asked for by the client. */
+  public String encodeMessage(StreamMessage message, int version) {
+    Response response = message.getResponse();
+    if (version < VERSION) {
+      // the payload is serialized on demand.
+      response.getResponse();
+      return gson.toJson(message);
+    }
+    StringBuilder json = new StringBuilder("{\"v\":").append(VERSION)
+        .append(",\"last\":").append(message.isLast())
+        .append(",\"browser\":").append(gson.toJson(response.getBrowser()))
+        .append(",\"response\":");
+    if (response.getEncoded() != null) {
+      json.append(response.getEncoded());
+    } else {
+      json.append(encodeResponse(response).toString());
+    }
+    return json.append('}').toString();
+  }
+
+  /** Decodes a message from the server, in either encoding. */
+  public StreamMessage decodeMessage(String json) {
+    JsonObject message = parser.parse(json).getAsJsonObject();
+    if (!message.has("v")) {
+      return gson.fromJson(message, StreamMessage.class);
+    }
+    Response response = decodeResponse(message.getAsJsonObject("response"));
+    if (isPresent(message.get("browser"))) {
+      response.setBrowser(gson.fromJson(message.get("browser"), BrowserInfo.class));
+    }
+    return new StreamMessage(message.get("last").getAsBoolean(), response);
+  }
+
+  private Response decodeResponse(JsonObject object) {
+    Response response = new Response();
+    if (isPresent(object.get("type"))) {
+      response.setType(object.get("type").getAsString());
+    }
+    JsonElement data = object.get("data");
+    JsonElement legacy = object.get("response");
+    if (isPresent(data)) {
+      response.setData(data);
+    } else if (isPresent(legacy)) {
+      if (legacy.isJsonPrimitive()) {
+        response.setResponse(legacy.getAsString());
+      } else {
+        response.setData(legacy);
+      }
+    }
+    if (isPresent(object.get("browser"))) {
+      response.setBrowser(gson.fromJson(object.get("browser"), BrowserInfo.class));
+    }
+    if (isPresent(object.get("error"))) {
+      response.setError(object.get("error").getAsString());
+    }
+    if (isPresent(object.get("executionTime"))) {
+      response.setExecutionTime(object.get("executionTime").getAsLong());
+    }
+    return response;
+  }
+
+  private JsonObject encodeResponse(Response response) {
+    JsonObject object = new JsonObject();
+    object.addProperty("type", response.getResponseType().name());
+    if (response.getData() != null) {
+      object.add("data", response.getData());
+    } else if (response.getResponse() != null) {
+      object.add("response", new JsonPrimitive(response.getResponse()));
+    }
+    if (response.getError() != null) {
+      object.addProperty("error", response.getError());
+    }
+    object.addProperty("executionTime", response.getExecutionTime());
+    return object;
+  }
+
+  private boolean isPresent(JsonElement element) {
+    return element != null && !element.isJsonNull();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.requesthandlers;
+
+import org.mortbay.util.MultiMap;
+import org.mortbay.util.UrlEncoded;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Presents a request with a gzipped body as if it had been sent uncompressed.
+ * Jetty parses form parameters straight from the raw body, so the parameters
+ * of a gzipped form are decoded here as well.
+ *
+ * @see com.google.jstestdriver.PooledHttpServer
+ */
+class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+  private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+  private final byte[] body;
+  private final MultiMap parameters = new MultiMap();
+
+  GzipRequestWrapper(HttpServletRequest request) throws IOException {
+    super(request);
+    body = inflate(request.getInputStream());
+    String encoding = getCharacterEncoding() == null ? "UTF-8" : getCharacterEncoding();
+    if (request.getQueryString() != null) {
+      UrlEncoded.decodeTo(request.getQueryString(), parameters, encoding);
+    }
+    String contentType = request.getContentType();
+    if (contentType != null && contentType.startsWith(FORM_CONTENT_TYPE)) {
+      UrlEncoded.decodeTo(new String(body, encoding), parameters, encoding);
+    }
+  }
+
+  static boolean isGzipped(HttpServletRequest request) {
+    return "gzip".equalsIgnoreCase(request.getHeader("Content-Encoding"));
+  }
+
+  private static byte[] inflate(InputStream in) throws IOException {
+    InputStream gzipIn = new GZIPInputStream(in);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = gzipIn.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public int getContentLength() {
+    return body.length;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+    final InputStream in = new ByteArrayInputStream(body);
+    return new ServletInputStream() {
+      @Override
+      public int read() throws IOException {
+        return in.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return in.read(b, off, len);
+      }
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() throws IOException {
+    String encoding = getCharacterEncoding() == null ? "UTF-8" : getCharacterEncoding();
+    return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+  }
+
+  @Override
+  public String getParameter(String name) {
+    return (String) parameters.getValue(name, 0);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<String, String[]> getParameterMap() {
+    return parameters.toStringArrayMap();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Enumeration<String> getParameterNames() {
+    return Collections.enumeration(parameters.keySet());
+  }
+
+  @Override
+  public String[] getParameterValues(String name) {
+    if (!parameters.containsKey(name)) {
+      return null;
+    }
+    @SuppressWarnings("unchecked")
+    List<String> values = parameters.getValues(name);
+    return values.toArray(new String[values.size()]);
+  }
+}
@@ -17,7 +17,9 @@ package com.google.jstestdriver.requesthandlers;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.jstestdriver.metrics.MetricsRegistry;
 
+import org.mortbay.jetty.RetryRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +40,16 @@ class RequestDispatcher {
   private static final Logger logger =
       LoggerFactory.getLogger(RequestDispatcher.class);
 
+  /** The request attribute holding the start of a suspended request. */
+  static final String START_ATTRIBUTE = RequestDispatcher.class.getName() + ".start";
+
   private final HttpServletRequest request;
   private final HttpServletResponse response;
   private final List<RequestMatcher> matchers;
   private final Map<RequestMatcher, Provider<RequestHandler>> handlerProviders;
   private GatewayConfiguration gatewayConfiguration;
   private final UnsupportedMethodErrorSender errorSender;
+  private final MetricsRegistry metrics;
 
   @Inject
   public RequestDispatcher(
@@ -52,13 +58,15 @@ class RequestDispatcher {
       List<RequestMatcher> matchers,
       Map<RequestMatcher, Provider<RequestHandler>> handlerProviders,
       GatewayConfiguration gatewayConfiguration,
-      UnsupportedMethodErrorSender errorSender) {
+      UnsupportedMethodErrorSender errorSender,
+      MetricsRegistry metrics) {
     this.request = request;
     this.response = response;
     this.matchers = matchers;
     this.handlerProviders = handlerProviders;
     this.gatewayConfiguration = gatewayConfiguration;
     this.errorSender = errorSender;
+    this.metrics = metrics;
   }
 
   /**
@@ -79,7 +87,7 @@ class RequestDispatcher {
           pathMatched = true;
           if (matcher.methodMatches(method)) {
             logger.trace("handling {} {}", uri, request);
-            handlerProviders.get(matcher).get().handleIt();
+            handle(handlerProviders.get(matcher).get());
             return;
           }
         }
@@ -89,7 +97,7 @@ class RequestDispatcher {
           pathMatched = true;
           if (matcher.methodMatches(method)) {
             logger.trace("gatewaying {} {}", uri, request);
-            gatewayConfiguration.getRequestHandler(matcher).handleIt();
+            handle(gatewayConfiguration.getRequestHandler(matcher));
             return;
           }
         }
@@ -102,8 +110,38 @@ class RequestDispatcher {
     } catch (IllegalArgumentException e) {
       logger.error("Error in request {}", e);
       errorSender.methodNotAllowed();
+    } catch (RetryRequest e) {
+      // a suspended continuation, the request will be re-dispatched by jetty.
+      throw e;
     } catch (Exception e) {
       logger.error("Error in request {}", e);
     }
   }
+
+  /**
+   * Counts the request and records how long it took once the handler
+   * completes. A suspended request is re-dispatched by jetty, so the start of
+   * the first dispatch is kept on the request and the request is only recorded
+   * on the dispatch that does not suspend it again.
+   */
+  private void handle(RequestHandler handler) throws IOException {
+    Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+    if (start == null) {
+      start = System.nanoTime();
+    }
+    boolean suspended = false;
+    try {
+      handler.handleIt();
+    } catch (RetryRequest e) {
+      suspended = true;
+      request.setAttribute(START_ATTRIBUTE, start);
+      throw e;
+    } finally {
+      if (!suspended) {
+        String name = handler.getClass().getSimpleName();
+        metrics.counter("jstd_requests_total", "handler", name).increment();
+        metrics.histogram("jstd_request_millis", "handler", name).observeSince(start);
+      }
+    }
+  }
 }
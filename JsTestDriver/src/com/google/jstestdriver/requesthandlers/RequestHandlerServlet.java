@@ -38,6 +38,9 @@ class RequestHandlerServlet extends HttpServlet {
 
   private static final long serialVersionUID = -186242854065156745L;
 
+  private static final String GZIP_REQUEST_ATTRIBUTE =
+      GzipRequestWrapper.class.getName();
+
   private static ThreadLocal<Context> localContext = new ThreadLocal<Context>();
 
   private final RequestScope requestScope;
@@ -56,6 +59,7 @@ class RequestHandlerServlet extends HttpServlet {
       throws ServletException, IOException {
     // TODO(rdionne): Wrap request in an HttpServletRequestWrapper that corrects
     // #getPathInfo() before we clean up JsTestDriverServer.
+    request = unzip(request);
     localContext.set(new Context(request, response));
     requestScope.enter();
     try {
@@ -68,6 +72,23 @@ class RequestHandlerServlet extends HttpServlet {
     }
   }
 
+  /**
+   * Wraps requests with a gzipped body. The wrapper is kept on the request, as
+   * the body can only be read once and parked queries are dispatched again.
+   */
+  private HttpServletRequest unzip(HttpServletRequest request) throws IOException {
+    if (!GzipRequestWrapper.isGzipped(request)) {
+      return request;
+    }
+    GzipRequestWrapper wrapper =
+        (GzipRequestWrapper) request.getAttribute(GZIP_REQUEST_ATTRIBUTE);
+    if (wrapper == null) {
+      wrapper = new GzipRequestWrapper(request);
+      request.setAttribute(GZIP_REQUEST_ATTRIBUTE, wrapper);
+    }
+    return wrapper;
+  }
+
   static HttpServletRequest getRequest() {
     return getContext().request;
   }
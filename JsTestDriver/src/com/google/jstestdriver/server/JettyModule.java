@@ -20,8 +20,11 @@ import java.util.Random;
 
 import javax.servlet.Servlet;
 
+import org.mortbay.jetty.AbstractConnector;
+import org.mortbay.jetty.Connector;
 import org.mortbay.jetty.Server;
 import org.mortbay.jetty.bio.SocketConnector;
+import org.mortbay.jetty.nio.SelectChannelConnector;
 import org.mortbay.jetty.security.SslSocketConnector;
 import org.mortbay.jetty.servlet.Context;
 import org.mortbay.jetty.servlet.HashSessionIdManager;
@@ -49,11 +52,22 @@ public class JettyModule extends AbstractModule {
   private final int port;
   private final int sslPort;
   private final HandlerPathPrefix handlerPrefix;
+  private final boolean asyncQueries;
 
   public JettyModule(int port, int sslPort, HandlerPathPrefix handlerPrefix) {
+    this(port, sslPort, handlerPrefix, false);
+  }
+
+  /**
+   * @param asyncQueries Serves plain http from a non-blocking connector, so
+   *        that browser queries waiting for a command do not hold a thread.
+   */
+  public JettyModule(int port, int sslPort, HandlerPathPrefix handlerPrefix,
+      boolean asyncQueries) {
     this.port = port;
     this.sslPort = sslPort;
     this.handlerPrefix = handlerPrefix;
+    this.asyncQueries = asyncQueries;
   }
 
   @Override
@@ -76,8 +90,9 @@ public class JettyModule extends AbstractModule {
 
   @Provides
   @Singleton
-  SocketConnector provideSocketConnector(@Port Integer port) {
-    SocketConnector connector = new SocketConnector();
+  Connector provideConnector(@Port Integer port) {
+    AbstractConnector connector =
+        asyncQueries ? new SelectChannelConnector() : new SocketConnector();
     connector.setPort(port);
     return connector;
   }
@@ -90,7 +105,7 @@ public class JettyModule extends AbstractModule {
 
   @Provides
   @Singleton
-  Server provideJettyServer(SocketConnector connector, SslSocketConnector sslConnector,
+  Server provideJettyServer(Connector connector, SslSocketConnector sslConnector,
       @MaxFormContentSize Integer maxFormContentSize, ServletHolder servletHolder) {
     Server server = new Server();
     server.setGracefulShutdown(1);
@@ -101,7 +116,8 @@ public class JettyModule extends AbstractModule {
     Context context = new Context(server, "/", Context.SESSIONS);
     context.setMaxFormContentSize(maxFormContentSize);
 
-    //context.addFilter(GzipFilter.class, handlerPrefix.prefixPath("/test/*"), Handler.ALL);
+    // /test/* is gzipped by TestResourceHandler, once per file version, rather
+    // than by a GzipFilter on every request.
     // TODO(rdionne): Fix HttpServletRequest#getPathInfo() provided by
     // RequestHandlerServlet.
     context.addServlet(servletHolder, handlerPrefix.prefixPath("/"));
@@ -18,21 +18,27 @@ package com.google.jstestdriver.server;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import com.google.jstestdriver.FileInfo;
+import com.google.jstestdriver.FileStorage;
 import com.google.jstestdriver.FilesCache;
+import com.google.jstestdriver.ServedFile;
 import com.google.jstestdriver.model.JstdTestCase;
 import com.google.jstestdriver.model.JstdTestCaseDelta;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A store for JstdTestCases.
@@ -44,7 +50,20 @@ public class JstdTestCaseStore {
   private static final Logger logger = LoggerFactory.getLogger(JstdTestCaseStore.class);
   private final ConcurrentMap<String, JstdTestCase> cases =
       new ConcurrentHashMap<String, JstdTestCase>();
-  private final FilesCache files = new FilesCache(Maps.<String, FileInfo>newHashMap());
+  private final FilesCache files;
+  /** Changes whenever a test case or a file does, so bundles can tell they are stale. */
+  private final AtomicLong version = new AtomicLong();
+  private final ConcurrentMap<String, TestCaseBundle> bundles =
+      new ConcurrentHashMap<String, TestCaseBundle>();
+
+  public JstdTestCaseStore() {
+    this(FileStorage.HEAP);
+  }
+
+  @Inject
+  public JstdTestCaseStore(@Named("fileStorage") FileStorage storage) {
+    files = new FilesCache(Maps.<String, FileInfo>newHashMap(), storage.createContents());
+  }
 
   /**
    * Adds a testcase to the store, returning a delta of files that need to be
@@ -60,26 +79,32 @@ public class JstdTestCaseStore {
     }
     logger.info("adding TestCase {} to {}", testCase.getId(), this);
     cases.put(testCase.getId(), updatedTestCase);
+    invalidateBundles();
     return updatedTestCase.createUnloadedDelta();
   }
 
   /**
-   * Updates the files cache with files and returns ones that are already to
-   * update the testcase with.
+   * Updates the files cache with files and returns the files, as stored, to
+   * update the testcase with. Files that come with the digest of content the
+   * cache already holds are loaded from the cache, whatever their path.
    */
   private List<FileInfo> updateCache(List<FileInfo> newFiles) {
     List<FileInfo> replace = Lists.newArrayList();
     for (FileInfo file : newFiles) {
       FileInfo oldFile = files.getFile(file.getDisplayPath());
-      if (oldFile == null) {
-        files.addFile(file);
+      if (!file.isLoaded() && files.hasContent(file.getDigest())
+          && (oldFile == null || !oldFile.isLoaded() || oldFile.shouldReplaceWith(file))) {
+        logger.debug("loading {} from content {}", file.getDisplayPath(), file.getDigest());
+        replace.add(files.addFileFromContent(file));
+      } else if (oldFile == null) {
+        replace.add(files.addFile(file));
         logger.debug("adding {}", file.getDisplayPath());
       } else if (oldFile.shouldReplaceWith(file)) {
         logger.debug("replacing {}", oldFile.getDisplayPath());
-        files.addFile(file);
+        replace.add(files.addFile(file));
       } else if (file.isLoaded()) {
         logger.debug("updating {} (loaded)", file.getDisplayPath());
-        files.addFile(file);
+        replace.add(files.addFile(file));
       } else if (oldFile.isLoaded() && !file.isLoaded()){
         logger.debug("not replacing {}", file.getDisplayPath());
         // the old file the same as the new, except the old is loaded.
@@ -108,6 +133,16 @@ public class JstdTestCaseStore {
     return cases.get(testCaseId);
   }
 
+  /** Returns the number of files stored. */
+  public int getFileCount() {
+    return files.getFilesNumber();
+  }
+
+  /** Returns the number of distinct contents stored for the files. */
+  public int getContentCount() {
+    return files.getContentsNumber();
+  }
+
   /**
    * Returns the contents of a given filename.
    */
@@ -117,21 +152,99 @@ public class JstdTestCaseStore {
     return files.getFileContent(path);
   }
 
+  /** Returns the content of a file, or null if it isn't loaded. */
+  public String getLoadedFileContent(String path) {
+    return files.getLoadedFileContent(path);
+  }
+
+  /**
+   * Returns the UTF-8 encoded contents of a given filename, or null when the
+   * store keeps contents as strings.
+   */
+  public ByteBuffer getFileBody(String path) {
+    return files.getFileBody(path);
+  }
+
+  /**
+   * Returns the current version of a file as served, with its entity tag and
+   * gzipped content.
+   */
+  public ServedFile getServedFile(String path) {
+    if (path.startsWith(TestCaseBundle.DIRECTORY)) {
+      ServedFile bundleFile = getBundleFile(path);
+      if (bundleFile == null) {
+        throw new FilesCache.MissingFileException();
+      }
+      return bundleFile;
+    }
+    return files.getServedFile(path);
+  }
+
   /**
    * Applies a JstdTestCaseDelta to the file cache and all test cases.
    */
   public void applyDelta(JstdTestCaseDelta delta) {
+    JstdTestCaseDelta stored;
     synchronized (files) {
-      updateCache(delta.getDependencies());
-      updateCache(delta.getTests());
-      updateCache(delta.getPlugins());
+      // the cases take the files as stored, which may not hold their content.
+      stored = new JstdTestCaseDelta(
+          updateCache(delta.getDependencies()),
+          updateCache(delta.getTests()),
+          updateCache(delta.getPlugins()));
     }
     synchronized (cases) {
       Map<String, JstdTestCase> applied = Maps.newHashMap();
       for (Entry<String, JstdTestCase> entry : cases.entrySet()) {
-        applied.put(entry.getKey(), entry.getValue().applyDelta(delta));
+        applied.put(entry.getKey(), entry.getValue().applyDelta(stored));
       }
       cases.putAll(applied);
     }
+    invalidateBundles();
+  }
+
+  /**
+   * Returns the version of the test cases and files stored. Read it before
+   * reading the contents for a bundle.
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  /** Returns the bundle of a test case, unless the store changed since it was built. */
+  public TestCaseBundle getBundle(String testCaseId) {
+    TestCaseBundle bundle = bundles.get(testCaseId);
+    return bundle != null && bundle.getVersion() == version.get() ? bundle : null;
+  }
+
+  /** Keeps a bundle until the test case or its files change. */
+  public void putBundle(TestCaseBundle bundle) {
+    if (bundle.getVersion() == version.get()) {
+      bundles.put(bundle.getTestCaseId(), bundle);
+    }
+  }
+
+  private void invalidateBundles() {
+    version.incrementAndGet();
+    bundles.clear();
+  }
+
+  /**
+   * Returns the script or line map of a bundle, by path, or null when it is no
+   * longer held.
+   */
+  private ServedFile getBundleFile(String path) {
+    int slash = path.lastIndexOf('/');
+    int dot = path.lastIndexOf('.');
+    if (slash <= TestCaseBundle.DIRECTORY.length() || dot < slash) {
+      return null;
+    }
+    TestCaseBundle bundle = bundles.get(path.substring(TestCaseBundle.DIRECTORY.length(), slash));
+    if (bundle == null) {
+      return null;
+    }
+    if (path.equals(bundle.getPath())) {
+      return bundle.getScript();
+    }
+    return path.equals(bundle.getMapPath()) ? bundle.getMap() : null;
   }
 }
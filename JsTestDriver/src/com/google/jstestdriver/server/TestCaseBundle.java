@@ -0,0 +1,174 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.server;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.jstestdriver.ServedFile;
+
+import java.util.List;
+
+/**
+ * The files of one version of a test case, concatenated into a single script
+ * so that a browser loads them with one request instead of one per file. Each
+ * file is wrapped in the resource tracker calls the runner page used to write
+ * around its script tag.
+ *
+ * The line map tells which lines of the bundle came from which file, so that
+ * stack traces through the bundle can be mapped back to the original files.
+ */
+public class TestCaseBundle {
+
+  /** Where the bundles are served, under the test resources. */
+  public static final String DIRECTORY = ".bundle/";
+  static final String SCRIPT_EXTENSION = ".js";
+  static final String MAP_EXTENSION = ".json";
+
+  private final String testCaseId;
+  private final long version;
+  private final ServedFile script;
+  private final ServedFile map;
+  private final List<Integer> firstLines;
+
+  private TestCaseBundle(String testCaseId, long version, String script, String map,
+      List<Integer> firstLines) {
+    this.testCaseId = testCaseId;
+    this.version = version;
+    this.script = new ServedFile(null, -1, script, null);
+    this.map = new ServedFile(null, -1, map, null);
+    this.firstLines = ImmutableList.copyOf(firstLines);
+  }
+
+  public String getTestCaseId() {
+    return testCaseId;
+  }
+
+  /** @return the version of the test case store the bundle was built from. */
+  public long getVersion() {
+    return version;
+  }
+
+  /** @return the path of the script, relative to the test resources. */
+  public String getPath() {
+    return path(testCaseId, version) + SCRIPT_EXTENSION;
+  }
+
+  /** @return the path of the line map, relative to the test resources. */
+  public String getMapPath() {
+    return path(testCaseId, version) + MAP_EXTENSION;
+  }
+
+  /** @return the number of files bundled. */
+  public int getFileCount() {
+    return firstLines.size();
+  }
+
+  /** @return the line of the bundle the content of each file starts on. */
+  public List<Integer> getFirstLines() {
+    return firstLines;
+  }
+
+  ServedFile getScript() {
+    return script;
+  }
+
+  ServedFile getMap() {
+    return map;
+  }
+
+  static String path(String testCaseId, long version) {
+    return DIRECTORY + testCaseId + "/" + version;
+  }
+
+  /**
+   * Adds the files one at a time, counting the lines as they are added.
+   */
+  public static class Builder {
+    private final String testCaseId;
+    private final long version;
+    private final StringBuilder script = new StringBuilder();
+    private final JsonArray files = new JsonArray();
+    private final List<Integer> firstLines = Lists.newArrayList();
+    private int lines = 0;
+
+    /**
+     * @param version the version of the store, from
+     *        {@link JstdTestCaseStore#getVersion()}, read before the contents.
+     */
+    public Builder(String testCaseId, long version) {
+      this.testCaseId = testCaseId;
+      this.version = version;
+    }
+
+    /**
+     * @param fileSrc the path the file is served from.
+     * @param start the tracker call made before the file, on a single line.
+     * @param content the content of the file.
+     * @param finish the tracker call made after the file, on a single line.
+     */
+    public Builder add(String fileSrc, String start, String content, String finish) {
+      line(start);
+      int first = lines + 1;
+      script.append(content);
+      lines += count(content);
+      if (content.length() > 0 && content.charAt(content.length() - 1) != '\n') {
+        // keeps a trailing line comment from swallowing the tracker call.
+        script.append('\n');
+        lines++;
+      }
+      JsonObject file = new JsonObject();
+      file.addProperty("fileSrc", fileSrc);
+      file.addProperty("start", first);
+      file.addProperty("lines", lines - first + 1);
+      files.add(file);
+      firstLines.add(first);
+      line(finish);
+      return this;
+    }
+
+    /** @return the line of the bundle the content of the next file starts on. */
+    public int getNextContentLine() {
+      return lines + 2;
+    }
+
+    /** @return the number of files added. */
+    public int size() {
+      return files.size();
+    }
+
+    public TestCaseBundle build() {
+      JsonObject map = new JsonObject();
+      map.add("files", files);
+      return new TestCaseBundle(testCaseId, version, script.toString(), map.toString(),
+          firstLines);
+    }
+
+    private void line(String line) {
+      script.append(line).append('\n');
+      lines++;
+    }
+
+    private static int count(String content) {
+      int count = 0;
+      for (int i = content.indexOf('\n'); i != -1; i = content.indexOf('\n', i + 1)) {
+        count++;
+      }
+      return count;
+    }
+  }
+}
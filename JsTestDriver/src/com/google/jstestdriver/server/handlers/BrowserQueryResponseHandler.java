@@ -31,9 +31,13 @@ import com.google.jstestdriver.Response.ResponseType;
 import com.google.jstestdriver.SlaveBrowser;
 import com.google.jstestdriver.protocol.BrowserLog;
 import com.google.jstestdriver.protocol.BrowserStreamAcknowledged;
+import com.google.jstestdriver.protocol.BrowserStreamRefused;
+import com.google.jstestdriver.protocol.WireProtocol;
 import com.google.jstestdriver.requesthandlers.RequestHandler;
 
 import org.mortbay.jetty.MimeTypes;
+import org.mortbay.util.ajax.Continuation;
+import org.mortbay.util.ajax.ContinuationSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +46,7 @@ import java.io.PrintWriter;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -57,6 +62,7 @@ class BrowserQueryResponseHandler implements RequestHandler {
       LoggerFactory.getLogger(BrowserQueryResponseHandler.class);
 
   private final Gson gson = new Gson();
+  private final WireProtocol protocol = new WireProtocol();
 
   private final HttpServletRequest request;
   private final HttpServletResponse response;
@@ -87,11 +93,32 @@ class BrowserQueryResponseHandler implements RequestHandler {
         });
 
     response.setContentType(MimeTypes.TEXT_JSON_UTF_8);
-    service(request.getPathInfo().substring(1),
+    String id = request.getPathInfo().substring(1);
+    SlaveBrowser browser = browsers.getBrowser(id);
+    Continuation continuation = null;
+    if (browser != null) {
+      continuation = ContinuationSupport.getContinuation(request, browser);
+      if (continuation.isPending()) {
+        // Re-dispatched after being parked for a command. The posted response
+        // was already handled on the first pass.
+        PrintWriter writer = response.getWriter();
+        writer.print(browser.dequeueCommand(continuation).getCommand());
+        browser.heartBeat();
+        writer.flush();
+        return;
+      }
+    }
+    String responses = request.getParameter("responses");
+    if (responses != null) {
+      serviceBatch(id, responses, response.getWriter());
+      return;
+    }
+    service(id,
             request.getParameter("response"),
             request.getParameter("done"),
             request.getParameter("responseId"),
-            response.getWriter());
+            response.getWriter(),
+            continuation);
   }
 
   public void service(String id,
@@ -99,86 +126,90 @@ class BrowserQueryResponseHandler implements RequestHandler {
                       String done,
                       String responseId,
                       PrintWriter writer) {
+    service(id, response, done, responseId, writer, null);
+  }
+
+  /**
+   * @param continuation parks the query while waiting for a command, or null to
+   *        block the request thread until a command is queued.
+   */
+  public void service(String id,
+                      String response,
+                      String done,
+                      String responseId,
+                      PrintWriter writer,
+                      Continuation continuation) {
     SlaveBrowser browser = browsers.getBrowser(id);
 
     if (browser != null) {
       boolean isLast = Boolean.parseBoolean(done);
       try {
-        serviceBrowser(response, isLast, responseId, writer, browser);
+        serviceBrowser(response, isLast, responseId, writer, browser, continuation);
       } catch (JsonParseException e) {
         writer.print(gson.toJson(new JsonCommand(JsonCommand.CommandType.STOP, null)));
         writer.flush();
         throw new RuntimeException("Unable to parse: " + response, e);
       }
     } else {
-      // TODO(corysmith): handle this better.
-      logger.error("Unknown browser {} with response {}.\n Known {}", new Object[]{id, response, browsers.getSlaveBrowsers()});
-      writer.print(gson.toJson(new JsonCommand(JsonCommand.CommandType.STOP, Lists.newArrayList("Stopping due to missing browser."))));
+      unknownBrowser(id, response, writer);
+    }
+    writer.flush();
+  }
+
+  /**
+   * Handles a batch of responses streamed by the browser in one request, with
+   * a single heartbeat and a single acknowledgement for all of them. A batch
+   * never holds the last response of a stream.
+   */
+  public void serviceBatch(String id, String responses, PrintWriter writer) {
+    SlaveBrowser browser = browsers.getBrowser(id);
+
+    if (browser != null) {
       try {
-        Thread.sleep(1000); // pause to make sure the browser doesn't spin.
-      } catch (InterruptedException e) {
-        
+        Map<String, Response> decoded = protocol.decodeResponses(responses);
+        browser.heartBeat();
+        List<String> refused = Lists.newArrayList();
+        for (Map.Entry<String, Response> entry : decoded.entrySet()) {
+          if (!handleOnce(entry.getKey(), entry.getValue(), false, browser)) {
+            refused.add(entry.getKey());
+          }
+        }
+        if (refused.isEmpty()) {
+          acknowledge(browser, writer);
+        } else {
+          refuse(refused, writer);
+        }
+      } catch (JsonParseException e) {
+        writer.print(gson.toJson(new JsonCommand(JsonCommand.CommandType.STOP, null)));
+        writer.flush();
+        throw new RuntimeException("Unable to parse: " + responses, e);
       }
+    } else {
+      unknownBrowser(id, responses, writer);
     }
     writer.flush();
   }
 
+  private void unknownBrowser(String id, String response, PrintWriter writer) {
+    // TODO(corysmith): handle this better.
+    logger.error("Unknown browser {} with response {}.\n Known {}", new Object[]{id, response, browsers.getSlaveBrowsers()});
+    writer.print(gson.toJson(new JsonCommand(JsonCommand.CommandType.STOP, Lists.newArrayList("Stopping due to missing browser."))));
+    try {
+      Thread.sleep(1000); // pause to make sure the browser doesn't spin.
+    } catch (InterruptedException e) {
+      
+    }
+  }
+
   private void serviceBrowser(String response, Boolean done, String responseId, PrintWriter writer,
-      SlaveBrowser browser) throws JsonParseException {
-    addResponseId(responseId, browser);
+      SlaveBrowser browser, Continuation continuation) throws JsonParseException {
+    receivedResponseIds(browser);
     browser.heartBeat();
     Command command = null;
+    boolean refused = false;
     if (isResponseValid(response)) {
-      Response res = gson.fromJson(response, Response.class);
-      logger.trace("response type: " +  res.getResponseType());
-      // TODO (corysmith): Replace this with polymorphism,
-      // using the response type to create disposable actions.
-      switch (res.getResponseType()) {
-        case BROWSER_READY:
-          handleFileLoadResult(browser, res);
-          // TODO(corysmith): Move the loading of files to a browser into the
-          // server
-          browser.addResponse(
-              new Response(ResponseType.FILE_LOAD_RESULT.toString(), res.getResponse(), browser
-                  .getBrowserInfo(), "", res.getExecutionTime()), false);
-          browser.ready();
-          break;
-        case FILE_LOAD_RESULT:
-          handleFileLoadResult(browser, res);
-          browser.addResponse(res, done);
-          break;
-        case NOOP:
-          break;
-        case LOG:
-          BrowserLog log = gson.fromJson(res.getResponse(), res.getGsonType());
-          if (log.getLevel() == 1000) {
-            logger.info("Error in browser: " + res.toString());
-          } else {
-            logger.info("Message from the browser: " + res.toString());
-          }
-          browser.addResponse(res, done);
-          break;
-        // reset the browsers fileset.
-        case RESET_RESULT:
-          browser.resetFileSet();
-          logger.debug("Clearing fileset for {}", browser);
-          handleFileLoadResult(browser, res);
-          // queue the load results for the next command to be run.
-          browser.addResponse(
-              new Response(ResponseType.FILE_LOAD_RESULT.toString(), res.getResponse(), browser
-                  .getBrowserInfo(), "", res.getExecutionTime()), false);
-          browser.addResponse(res, done);
-          break;
-        case UNKNOWN:
-          logger.error("Recieved Unknown: " + response);
-          browser.addResponse(res, done);
-          break;
-        case BROWSER_PANIC:
-          logger.debug("Browser panic for {}", res.toString());
-        default:
-          browser.addResponse(res, done);
-          break;
-      }
+      Response res = protocol.decodeResponse(response);
+      refused = !handleOnce(responseId, res, done, browser);
       logger.trace("Received:\n done: {} \n res:\n {}\n", new Object[] {done, res});
     }
     if (isResponseIdValid(responseId) && !done && !isResponseValid(response)) {
@@ -194,16 +225,18 @@ class BrowserQueryResponseHandler implements RequestHandler {
     if (!done) { // we are still streaming, so we respond with the streaming
                  // acknowledge.
       // this is independent of receiving an actual response.
-      final String jsonResponse = gson.toJson(new BrowserStreamAcknowledged(streamedResponses.get(browser)));
-      logger.trace("sending jsonResponse {}", jsonResponse);
-      writer.print(jsonResponse);
-      writer.flush();
+      if (refused) {
+        refuse(Lists.newArrayList(responseId), writer);
+      } else {
+        acknowledge(browser, writer);
+      }
       return;
     } else {
       streamedResponses.get(browser).clear();
     }
     if(command == null) {
-     command = browser.dequeueCommand();
+     command = continuation == null
+         ? browser.dequeueCommand() : browser.dequeueCommand(continuation);
      browser.heartBeat();
     }
 
@@ -211,12 +244,119 @@ class BrowserQueryResponseHandler implements RequestHandler {
     writer.print(command.getCommand());
   }
 
+  /**
+   * Handles a response once, however many times the browser posts it. The id
+   * of a refused response is not acknowledged, so the browser posts it again.
+   *
+   * @return false if the response was refused.
+   */
+  private boolean handleOnce(String responseId, Response res, boolean done,
+      SlaveBrowser browser) {
+    if (!isResponseIdValid(responseId)) {
+      return handleResponse(res, done, browser);
+    }
+    List<String> received = receivedResponseIds(browser);
+    synchronized (received) {
+      if (received.contains(responseId)) {
+        logger.debug("Response {} from {} was already received", responseId, browser);
+        return true;
+      }
+      received.add(responseId);
+    }
+    if (!handleResponse(res, done, browser)) {
+      logger.debug("Withholding the acknowledgement of response {} from {}", responseId, browser);
+      received.remove(responseId);
+      return false;
+    }
+    return true;
+  }
+
+  /** @return false if the browser has to post the response again. */
+  private boolean handleResponse(Response res, boolean done, SlaveBrowser browser) {
+    logger.trace("response type: " +  res.getResponseType());
+    // TODO (corysmith): Replace this with polymorphism,
+    // using the response type to create disposable actions.
+    boolean queued = true;
+    switch (res.getResponseType()) {
+      case BROWSER_READY:
+        handleFileLoadResult(browser, res);
+        // TODO(corysmith): Move the loading of files to a browser into the
+        // server
+        queued = browser.addResponse(fileLoadResult(browser, res), false);
+        browser.ready();
+        browsers.browserReady(browser);
+        break;
+      case FILE_LOAD_RESULT:
+        handleFileLoadResult(browser, res);
+        queued = browser.addResponse(res, done);
+        break;
+      case NOOP:
+        break;
+      case LOG:
+        BrowserLog log = res.parseResponse(gson, res.getGsonType());
+        if (log.getLevel() == 1000) {
+          logger.info("Error in browser: " + res.toString());
+        } else {
+          logger.info("Message from the browser: " + res.toString());
+        }
+        queued = browser.addResponse(res, done);
+        break;
+      // reset the browsers fileset.
+      case RESET_RESULT:
+        browser.resetFileSet();
+        logger.debug("Clearing fileset for {}", browser);
+        handleFileLoadResult(browser, res);
+        // queue the load results for the next command to be run.
+        queued = browser.addResponse(fileLoadResult(browser, res), false)
+            && browser.addResponse(res, done);
+        break;
+      case UNKNOWN:
+        logger.error("Recieved Unknown: " + res);
+        queued = browser.addResponse(res, done);
+        break;
+      case BROWSER_PANIC:
+        logger.debug("Browser panic for {}", res.toString());
+      default:
+        queued = browser.addResponse(res, done);
+        break;
+    }
+    return queued;
+  }
+
+  private void acknowledge(SlaveBrowser browser, PrintWriter writer) {
+    final String jsonResponse =
+        gson.toJson(new BrowserStreamAcknowledged(receivedResponseIds(browser)));
+    logger.trace("sending jsonResponse {}", jsonResponse);
+    writer.print(jsonResponse);
+    writer.flush();
+  }
+
+  /** Asks the browser to post the responses again, instead of acknowledging them. */
+  private void refuse(List<String> refused, PrintWriter writer) {
+    final String jsonResponse = gson.toJson(new BrowserStreamRefused(refused));
+    logger.trace("sending jsonResponse {}", jsonResponse);
+    writer.print(jsonResponse);
+    writer.flush();
+  }
+
+  /** Relays the files loaded by a reset or a capture, without serializing them again. */
+  private Response fileLoadResult(SlaveBrowser browser, Response res) {
+    Response result = new Response(ResponseType.FILE_LOAD_RESULT.toString(), "",
+        browser.getBrowserInfo(), "", res.getExecutionTime());
+    if (res.getData() != null) {
+      result.setData(res.getData());
+    } else {
+      result.setResponse(res.getResponse());
+    }
+    return result;
+  }
+
   /**
    * @param browser
    * @param res
    */
   private void handleFileLoadResult(SlaveBrowser browser, Response res) {
-    LoadedFiles loadedFiles = gson.fromJson(res.getResponse(), res.getGsonType());
+    LoadedFiles loadedFiles = res.parseResponse(gson, res.getGsonType());
     Collection<FileResult> allLoadedFiles = loadedFiles.getLoadedFiles();
     logger.info("loaded {} files", allLoadedFiles.size());
     browser.addFileResults(allLoadedFiles);
@@ -226,14 +366,14 @@ class BrowserQueryResponseHandler implements RequestHandler {
     return response != null && !"null".equals(response) && !"undefined".equals(response) && response.length() > 0;
   }
 
-  private void addResponseId(String responseId, SlaveBrowser browser) {
-    if (!streamedResponses.containsKey(browser)) {
-      streamedResponses.put(browser, new CopyOnWriteArrayList<String>());
-    }
-    if (!isResponseIdValid(responseId)) {
-      return;
+  /** @return the ids of the responses received in the stream of the browser. */
+  private List<String> receivedResponseIds(SlaveBrowser browser) {
+    List<String> received = streamedResponses.get(browser);
+    if (received == null) {
+      streamedResponses.putIfAbsent(browser, new CopyOnWriteArrayList<String>());
+      received = streamedResponses.get(browser);
     }
-    streamedResponses.get(browser).add(responseId);
+    return received;
   }
 
   private boolean isResponseIdValid(String responseId) {
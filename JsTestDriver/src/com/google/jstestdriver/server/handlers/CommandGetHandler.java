@@ -17,6 +17,7 @@ package com.google.jstestdriver.server.handlers;
 
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
 import com.google.inject.Inject;
 import com.google.jstestdriver.BrowserInfo;
 import com.google.jstestdriver.BrowserPanic;
@@ -24,6 +25,8 @@ import com.google.jstestdriver.CapturedBrowsers;
 import com.google.jstestdriver.Response;
 import com.google.jstestdriver.SlaveBrowser;
 import com.google.jstestdriver.StreamMessage;
+import com.google.jstestdriver.browser.BrowserReadyWaiter;
+import com.google.jstestdriver.protocol.WireProtocol;
 import com.google.jstestdriver.requesthandlers.RequestHandler;
 import com.google.jstestdriver.runner.RunnerType;
 
@@ -33,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -42,22 +46,29 @@ import javax.servlet.http.HttpServletResponse;
  */
 class CommandGetHandler implements RequestHandler {
   private static Logger logger = LoggerFactory.getLogger(CommandGetHandler.class);
+  private static final int POLL_RESPONSE_TIMEOUT = 2;
+  /** Clients wait longer by asking again, a request never hangs for long. */
+  static final long MAX_READY_WAIT = TimeUnit.SECONDS.toMillis(30);
 
   private final HttpServletRequest request;
   private final HttpServletResponse response;
   private final Gson gson;
   private final CapturedBrowsers capturedBrowsers;
+  private final BrowserReadyWaiter readyWaiter;
+  private final WireProtocol protocol = new WireProtocol();
 
   @Inject
   public CommandGetHandler(
       HttpServletRequest request,
       HttpServletResponse response,
       Gson gson,
-      CapturedBrowsers capturedBrowsers) {
+      CapturedBrowsers capturedBrowsers,
+      BrowserReadyWaiter readyWaiter) {
     this.request = request;
     this.response = response;
     this.gson = gson;
     this.capturedBrowsers = capturedBrowsers;
+    this.readyWaiter = readyWaiter;
   }
 
   public void handleIt() throws IOException {
@@ -66,9 +77,17 @@ class CommandGetHandler implements RequestHandler {
       response.getWriter().write(listBrowsers());
     } else if (request.getParameter("nextBrowserId") != null) {
       response.getWriter().write(capturedBrowsers.getUniqueId());
+    } else if (request.getParameter("awaitBrowserReady") != null) {
+      JsonObject ready = new JsonObject();
+      ready.addProperty("captured", awaitBrowserReady(
+          request.getParameter("awaitBrowserReady"), request.getParameter("timeout")));
+      response.getWriter().write(ready.toString());
+    } else if (request.getParameter("stream") != null) {
+      response.setCharacterEncoding("UTF-8");
+      streamResponses(request.getParameter("id"), version(), response.getWriter());
     } else {
       response.setCharacterEncoding("UTF-8");
-      streamResponse(request.getParameter("id"), response.getWriter());
+      streamResponse(request.getParameter("id"), version(), response.getWriter());
     }
     response.getWriter().flush();
   }
@@ -83,9 +102,69 @@ class CommandGetHandler implements RequestHandler {
     return gson.toJson(browsers);
   }
 
-  private void streamResponse(String id, PrintWriter writer) {
+  /**
+   * Blocks until the browser is ready, for at most the given number of
+   * milliseconds.
+   */
+  public boolean awaitBrowserReady(String id, String timeout) {
+    long millis = MAX_READY_WAIT;
+    if (timeout != null) {
+      try {
+        millis = Math.min(Long.parseLong(timeout), MAX_READY_WAIT);
+      } catch (NumberFormatException e) {
+        logger.warn("Invalid timeout {} waiting for browser {}", timeout, id);
+      }
+    }
+    try {
+      return readyWaiter.awaitReady(id, millis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** The version of the wire protocol the client reads. */
+  private int version() {
+    return WireProtocol.version(request.getParameter(WireProtocol.VERSION_PARAMETER));
+  }
+
+  private void streamResponse(String id, int version, PrintWriter writer) {
+    SlaveBrowser browser = capturedBrowsers.getBrowser(id);
+    writer.write(protocol.encodeMessage(getResponse(browser), version));
+  }
+
+  /**
+   * Writes each response from the browser as a line of json as soon as it
+   * arrives, until the last response of the running command. Blank lines keep
+   * the connection alive while the browser is busy.
+   */
+  private void streamResponses(String id, int version, PrintWriter writer) {
     SlaveBrowser browser = capturedBrowsers.getBrowser(id);
-    writer.write(gson.toJson(getResponse(browser)));
+    StreamMessage message;
+    try {
+      do {
+        message = pollResponse(browser);
+        if (message != null) {
+          writer.write(protocol.encodeMessage(message, version));
+        }
+        writer.write("\n");
+        writer.flush();
+        if (writer.checkError()) {
+          logger.debug("Client stopped reading responses from {}", id);
+          return;
+        }
+      } while (message == null || !message.isLast());
+    } catch (InterruptedException e) {
+      logger.debug("Interrupted while streaming responses from {}", id);
+    }
+  }
+
+  private StreamMessage pollResponse(SlaveBrowser browser) throws InterruptedException {
+    if (!browser.isAlive()) {
+      return browserPanic(browser);
+    }
+    StreamMessage message = browser.pollResponse(POLL_RESPONSE_TIMEOUT, TimeUnit.SECONDS);
+    return message == null ? null : substituteBrowserInfo(message);
   }
 
   private StreamMessage getResponse(SlaveBrowser browser) {
@@ -93,26 +172,30 @@ class CommandGetHandler implements RequestHandler {
 
     while (cmdResponse == null) {
       if (!browser.isAlive()) {
-        SlaveBrowser deadBrowser = capturedBrowsers.getBrowser(browser.getId());
-        capturedBrowsers.removeSlave(browser.getId());
-        Response response = new Response();
-
-        BrowserInfo browserInfo = deadBrowser.getBrowserInfo();
-        response.setBrowser(browserInfo);
-        response.setResponse(
-            gson.toJson(
-                new BrowserPanic(browserInfo,
-                    String.format("Browser unresponsive since %s during %s",
-                        browser.getLastHeartbeat(),
-                        browser.getCommandRunning()))));
-        response.setType(BrowserPanic.TYPE_NAME);
-        return new StreamMessage(true, response);
+        return browserPanic(browser);
       }
       cmdResponse = substituteBrowserInfo(browser.getResponse());
     }
     return cmdResponse;
   }
 
+  private StreamMessage browserPanic(SlaveBrowser browser) {
+    SlaveBrowser deadBrowser = capturedBrowsers.getBrowser(browser.getId());
+    capturedBrowsers.removeSlave(browser.getId());
+    Response response = new Response();
+
+    BrowserInfo browserInfo = deadBrowser.getBrowserInfo();
+    response.setBrowser(browserInfo);
+    response.setResponse(
+        gson.toJson(
+            new BrowserPanic(browserInfo,
+                String.format("Browser unresponsive since %s during %s",
+                    browser.getLastHeartbeat(),
+                    browser.getCommandRunning()))));
+    response.setType(BrowserPanic.TYPE_NAME);
+    return new StreamMessage(true, response);
+  }
+
   private StreamMessage substituteBrowserInfo(StreamMessage cmdResponse) {
     Response response = cmdResponse.getResponse();
 
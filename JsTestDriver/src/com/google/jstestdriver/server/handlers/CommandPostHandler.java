@@ -15,12 +15,8 @@
  */
 package com.google.jstestdriver.server.handlers;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.google.inject.Inject;
 import com.google.jstestdriver.CapturedBrowsers;
-import com.google.jstestdriver.FileSource;
-import com.google.jstestdriver.JsonCommand;
 import com.google.jstestdriver.SlaveBrowser;
 import com.google.jstestdriver.requesthandlers.RequestHandler;
 
@@ -28,7 +24,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -41,14 +36,12 @@ class CommandPostHandler implements RequestHandler {
       .getLogger(CommandPostHandler.class);
 
   private final HttpServletRequest request;
-  private final Gson gson;
   private final CapturedBrowsers capturedBrowsers;
 
   @Inject
-  public CommandPostHandler(HttpServletRequest request, Gson gson,
+  public CommandPostHandler(HttpServletRequest request,
       CapturedBrowsers capturedBrowsers) {
     this.request = request;
-    this.gson = gson;
     this.capturedBrowsers = capturedBrowsers;
   }
 
@@ -56,30 +49,14 @@ class CommandPostHandler implements RequestHandler {
     service(request.getParameter("id"), request.getParameter("data"));
   }
 
+  /**
+   * Queues the command for the browser as the client serialized it. The
+   * browser is the only one parsing it.
+   */
   public void service(String id, String data) {
     SlaveBrowser browser = capturedBrowsers.getBrowser(id);
 
-    data = translateUrls(data);
     logger.trace("Adding command to browser queue: {}", data);
     browser.createCommand(data);
   }
-
-  // TODO(corysmith): figure out what this does.
-  private String translateUrls(String data) {
-    JsonCommand command = gson.fromJson(data, JsonCommand.class);
-
-    if (command.getCommand().equals(
-        JsonCommand.CommandType.LOADTEST.getCommand())) {
-      List<String> parameters = command.getParameters();
-      String fileSourcesList = parameters.get(0);
-      List<FileSource> fileSources = gson.fromJson(fileSourcesList,
-          new TypeToken<List<FileSource>>() {
-          }.getType());
-      parameters.remove(0);
-      parameters.add(0, gson.toJson(fileSources));
-      return gson.toJson(command);
-    }
-    return data;
-  }
-
 }
\ No newline at end of file
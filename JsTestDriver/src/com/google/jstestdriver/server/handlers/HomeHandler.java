@@ -83,6 +83,9 @@ class HomeHandler implements RequestHandler {
       } else {
         writer.write("Currently waiting...<br/>");
       }
+      writer.write(String.format("Queued: %s commands, %s responses; %s logs dropped<br/>",
+          browser.getCommandQueueDepth(), browser.getResponseQueueDepth(),
+          browser.getDroppedLogCount()));
       writer.write("<input type='button' value='List Files' onclick=\"toggle('f" + browser.getId() + "')\"/>");
       writer.write("<ul style='display:none' id='f" + browser.getId() + "'>");
       for (FileInfo fileInfo : browser.getFileSet()) {
@@ -60,8 +60,10 @@ import com.google.jstestdriver.TimeImpl;
 import com.google.jstestdriver.annotations.BaseResourceLocation;
 import com.google.jstestdriver.annotations.BrowserTimeout;
 import com.google.jstestdriver.annotations.Port;
+import com.google.jstestdriver.browser.BrowserReadyWaiter;
 import com.google.jstestdriver.config.ExecutionType;
 import com.google.jstestdriver.hooks.FileInfoScheme;
+import com.google.jstestdriver.metrics.ServerMetrics;
 import com.google.jstestdriver.model.HandlerPathPrefix;
 import com.google.jstestdriver.requesthandlers.HttpMethod;
 import com.google.jstestdriver.requesthandlers.RequestHandler;
@@ -110,6 +112,7 @@ public class JstdHandlersModule extends RequestHandlersModule {
   private final ExecutionType executionType;
 
   private final Boolean debug;
+  private final boolean bundleScripts;
 
   /**
    * TODO(rdionne): Refactor so we don't depend upon manually instantiated
@@ -117,6 +120,7 @@ public class JstdHandlersModule extends RequestHandlersModule {
    * @param handlerPrefix TODO
    * @param schemes 
    * @param debug 
+   * @param bundleScripts loads the leading scripts of a test case as one bundle.
    */
   public JstdHandlersModule(
       CapturedBrowsers capturedBrowsers,
@@ -125,7 +129,8 @@ public class JstdHandlersModule extends RequestHandlersModule {
       HandlerPathPrefix handlerPrefix,
       Set<FileInfoScheme> schemes,
       ExecutionType executionType,
-      Boolean debug) {
+      Boolean debug,
+      boolean bundleScripts) {
     super();
     this.capturedBrowsers = capturedBrowsers;
     this.testCaseStore = testCaseStore;
@@ -134,6 +139,7 @@ public class JstdHandlersModule extends RequestHandlersModule {
     this.schemes = schemes;
     this.executionType = executionType;
     this.debug = debug;
+    this.bundleScripts = bundleScripts;
   }
   
   @Override
@@ -162,6 +168,7 @@ public class JstdHandlersModule extends RequestHandlersModule {
 
     serve( GET, handlerPrefix.prefixPath("/hello"), HelloHandler.class);
     serve(POST, handlerPrefix.prefixPath("/log"), BrowserLoggingHandler.class);
+    serve( GET, handlerPrefix.prefixPath("/metrics"), MetricsHandler.class);
     serve(POST, handlerPrefix.prefixPath("/query/*"), BrowserQueryResponseHandler.class);
     serve( GET, handlerPrefix.prefixPath("/runner/*"), StandaloneRunnerHandler.class);
     serve( GET, handlerPrefix.prefixPath("/slave/*"), SlaveResourceHandler.class);
@@ -194,9 +201,12 @@ public class JstdHandlersModule extends RequestHandlersModule {
     bind(HandlerPathPrefix.class).toInstance(handlerPrefix);
     bind(Time.class).to(TimeImpl.class);
     bind(Boolean.class).annotatedWith(Names.named("debug")).toInstance(debug);
+    bindConstant().annotatedWith(Names.named("bundleScripts")).to(bundleScripts);
     bind(new TypeLiteral<Set<FileInfoScheme>>(){}).toInstance(schemes);
     
     bind(ExecutionType.class).toInstance(executionType);
+    bind(ServerMetrics.class).asEagerSingleton();
+    bind(BrowserReadyWaiter.class).asEagerSingleton();
 
     MapBinder<PageType, Page> pageBinder = newMapBinder(binder(), PageType.class, Page.class);
     pageBinder.addBinding(CONSOLE).to(ConsolePage.class).in(RequestScoped.class);
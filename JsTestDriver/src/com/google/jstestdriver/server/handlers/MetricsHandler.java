@@ -0,0 +1,65 @@
+/*
+ * Copyright 2011 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.jstestdriver.server.handlers;
+
+import com.google.inject.Inject;
+import com.google.jstestdriver.annotations.ResponseWriter;
+import com.google.jstestdriver.metrics.MetricsRegistry;
+import com.google.jstestdriver.requesthandlers.RequestHandler;
+
+import org.mortbay.jetty.MimeTypes;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Serves the metrics of the server in the Prometheus text format, or as JSON
+ * with format=json.
+ */
+class MetricsHandler implements RequestHandler {
+
+  static final String FORMAT = "format";
+  static final String JSON = "json";
+
+  private final HttpServletRequest request;
+  private final HttpServletResponse response;
+  private final PrintWriter writer;
+  private final MetricsRegistry metrics;
+
+  @Inject
+  public MetricsHandler(HttpServletRequest request, HttpServletResponse response,
+      @ResponseWriter PrintWriter writer, MetricsRegistry metrics) {
+    this.request = request;
+    this.response = response;
+    this.writer = writer;
+    this.metrics = metrics;
+  }
+
+  public void handleIt() throws IOException {
+    response.setHeader("Cache-Control", "no-cache");
+    if (JSON.equals(request.getParameter(FORMAT))) {
+      response.setContentType(MimeTypes.TEXT_JSON_UTF_8);
+      writer.write(metrics.toJson().toString());
+    } else {
+      response.setContentType("text/plain; version=0.0.4; charset=utf-8");
+      metrics.writeText(writer);
+    }
+    writer.flush();
+  }
+}
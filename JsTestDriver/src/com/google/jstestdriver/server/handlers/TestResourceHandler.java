@@ -17,14 +17,19 @@ package com.google.jstestdriver.server.handlers;
 
 import com.google.inject.Inject;
 import com.google.jstestdriver.FilesCache;
+import com.google.jstestdriver.ServedFile;
 import com.google.jstestdriver.requesthandlers.RequestHandler;
 import com.google.jstestdriver.server.JstdTestCaseStore;
 
+import org.mortbay.io.nio.DirectNIOBuffer;
+import org.mortbay.jetty.HttpConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -53,15 +58,87 @@ class TestResourceHandler implements RequestHandler {
   public void handleIt() throws IOException {
     String fileName = request.getPathInfo().substring(1); /* remove the first / */
     response.setCharacterEncoding("UTF-8");
-    service(fileName, response.getWriter());
+    ServedFile file;
+    try {
+      file = store.getServedFile(fileName);
+    } catch (FilesCache.MissingFileException e) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+    response.setHeader("ETag", file.getETag());
+    response.setHeader("Vary", "Accept-Encoding");
+    if (file.getLastModified() > 0) {
+      response.setDateHeader("Last-Modified", file.getLastModified());
+    }
+    if (isNotModified(file)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+    ByteBuffer gzipped = file.getGzippedBody();
+    if (gzipped != null && acceptsGzip()) {
+      response.setHeader("Content-Encoding", "gzip");
+      serviceEncoded(fileName, gzipped);
+    } else if (file.getBody() != null) {
+      serviceEncoded(fileName, file.getBody());
+    } else {
+      response.setContentType(mimeType(fileName));
+      PrintWriter writer = response.getWriter();
+      writer.write(file.getData());
+      writer.flush();
+    }
+  }
+
+  /** If-None-Match takes precedence over If-Modified-Since, as in RFC 2616. */
+  private boolean isNotModified(ServedFile file) {
+    String ifNoneMatch = request.getHeader("If-None-Match");
+    if (ifNoneMatch != null) {
+      return file.matches(ifNoneMatch);
+    }
+    long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+    // the header has a precision of a second.
+    return ifModifiedSince > 0 && file.getLastModified() > 0
+        && file.getLastModified() / 1000 <= ifModifiedSince / 1000;
+  }
+
+  private boolean acceptsGzip() {
+    String acceptEncoding = request.getHeader("Accept-Encoding");
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+        return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Serves content that is already encoded. Jetty writes a direct buffer to
+   * the connection as is, without copying it onto the heap when the connector
+   * is non-blocking.
+   */
+  private void serviceEncoded(String fileName, ByteBuffer body) throws IOException {
+    response.setContentType(mimeType(fileName));
+    response.setContentLength(body.remaining());
+    OutputStream out = response.getOutputStream();
+    if (body.isDirect() && out instanceof HttpConnection.Output) {
+      ((HttpConnection.Output) out).sendContent(new DirectNIOBuffer(body, true));
+    } else if (body.hasArray()) {
+      out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+    } else {
+      byte[] bytes = new byte[body.remaining()];
+      body.get(bytes);
+      out.write(bytes);
+    }
+    out.flush();
   }
 
   public void service(String fileName, PrintWriter writer) throws IOException {
     try {
       String fileContent = store.getFileContent(fileName);
-      String parsedMimeType = parseMimeType(fileName);
-      String mimeType = parsedMimeType == null ? "text/plain" : parsedMimeType;
-      response.setContentType(mimeType);
+      response.setContentType(mimeType(fileName));
       writer.write(fileContent);
       writer.flush();
     } catch (FilesCache.MissingFileException e) {
@@ -69,6 +146,11 @@ class TestResourceHandler implements RequestHandler {
     }
   }
 
+  private String mimeType(String fileName) {
+    String parsedMimeType = parseMimeType(fileName);
+    return parsedMimeType == null ? "text/plain" : parsedMimeType;
+  }
+
   private String parseMimeType(String fileName) {
     int extension = fileName.lastIndexOf(".");
     if (extension == -1) {
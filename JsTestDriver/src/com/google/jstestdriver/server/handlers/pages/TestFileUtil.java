@@ -19,17 +19,21 @@ import static java.lang.String.format;
 
 import com.google.gson.Gson;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.google.jstestdriver.FileInfo;
 import com.google.jstestdriver.FileSource;
 import com.google.jstestdriver.hooks.FileInfoScheme;
 import com.google.jstestdriver.model.HandlerPathPrefix;
 import com.google.jstestdriver.model.JstdTestCase;
 import com.google.jstestdriver.server.JstdTestCaseStore;
+import com.google.jstestdriver.server.TestCaseBundle;
 import com.google.jstestdriver.util.HtmlWriter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -41,21 +45,30 @@ import java.util.regex.Pattern;
 // TODO(corysmith): Probably, horribly, misnamed. Fix.
 public class TestFileUtil {
   private static final Logger logger = LoggerFactory.getLogger(TestFileUtil.class);
+  /** A single script is loaded as fast on its own. */
+  private static final int MIN_BUNDLED_FILES = 2;
+  /** A "use strict" directive, after any comments. */
+  private static final Pattern USE_STRICT =
+      Pattern.compile("(?:\\s|//[^\\n]*|/\\*.*?\\*/)*(['\"])use strict\\1", Pattern.DOTALL);
   private final HandlerPathPrefix prefix;
   private final Set<FileInfoScheme> schemes;
   private final Gson gson;
   private final JstdTestCaseStore store;
+  private final boolean bundleScripts;
 
   /**
    * Creates a new TestFileUtil from the dependencies.
+   * @param bundleScripts Loads the leading scripts as one bundle. A script
+   *        that fails to parse or throws then stops the scripts after it.
    */
   @Inject
    TestFileUtil(JstdTestCaseStore store, HandlerPathPrefix prefix, Set<FileInfoScheme> schemes,
-      Gson gson) {
+      Gson gson, @Named("bundleScripts") boolean bundleScripts) {
     this.store = store;
     this.prefix = prefix;
     this.schemes = schemes;
     this.gson = gson;
+    this.bundleScripts = bundleScripts;
   }
 
   /**
@@ -81,6 +94,8 @@ public class TestFileUtil {
     }
 
     logger.info("preloading {}", testCase.getId());
+    List<FileInfo> files = new ArrayList<FileInfo>();
+    List<FileSource> sources = new ArrayList<FileSource>();
     for (FileInfo file : testCase) {
       if (file.isServeOnly()) {
         continue;
@@ -95,8 +110,14 @@ public class TestFileUtil {
         // better safe than sorry.
         break;
       }
+      files.add(file);
+      sources.add(fileSource);
+    }
+
+    int bundled = bundleScripts ? writeBundle(writer, testCase.getId(), files, sources) : 0;
+    for (FileSource fileSource : sources.subList(bundled, sources.size())) {
       logger.trace("Writing " + fileSource.getFileSrc());
-      String fileJson = gson.toJson(fileSource).replace("\\", "\\\\");
+      String fileJson = toJson(fileSource);
       writer.writeScript(format("jstestdriver.manualResourceTracker.startResourceLoad('%s')",
           fileJson));
       if (fileSource.getFileSrc().endsWith(".css")) {
@@ -108,4 +129,73 @@ public class TestFileUtil {
           fileJson));
     }
   }
+
+  /**
+   * Writes the leading scripts served from the store as a single bundle, built
+   * once per version of the store.
+   * @return The number of files in the bundle, 0 when there is none.
+   */
+  private int writeBundle(HtmlWriter writer, String testCaseId, List<FileInfo> files,
+      List<FileSource> sources) {
+    TestCaseBundle bundle = store.getBundle(testCaseId);
+    if (bundle == null) {
+      bundle = buildBundle(testCaseId, files, sources);
+      if (bundle == null) {
+        return 0;
+      }
+      store.putBundle(bundle);
+    }
+    logger.debug("Writing bundle {} of {} files", bundle.getPath(), bundle.getFileCount());
+    writer.writeScript(format("jstestdriver.manualResourceTracker.startBundle('%s', '%s')",
+        toJson(sources.subList(0, bundle.getFileCount())), toJson(bundle.getFirstLines())));
+    writer.writeExternalScript(prefix.prefixPath("/test/" + bundle.getPath()));
+    writer.writeScript("jstestdriver.manualResourceTracker.finishBundle()");
+    return bundle.getFileCount();
+  }
+
+  /**
+   * Concatenates the scripts, up to the first one that cannot be bundled.
+   * @return The bundle, or null when there are too few scripts to bother.
+   */
+  private TestCaseBundle buildBundle(String testCaseId, List<FileInfo> files,
+      List<FileSource> sources) {
+    // read before the contents, a change while building then discards the bundle.
+    TestCaseBundle.Builder builder = new TestCaseBundle.Builder(testCaseId, store.getVersion());
+    for (int i = 0; i < files.size(); i++) {
+      FileSource fileSource = sources.get(i);
+      String content = getBundlableContent(files.get(i), fileSource);
+      if (content == null) {
+        break;
+      }
+      String fileJson = toJson(fileSource);
+      builder.add(fileSource.getFileSrc(),
+          format("jstestdriver.manualResourceTracker.startResourceLoad('%s', %d);", fileJson,
+              builder.getNextContentLine()),
+          content,
+          format("jstestdriver.manualResourceTracker.finishResourceLoad('%s');", fileJson));
+    }
+    return builder.size() < MIN_BUNDLED_FILES ? null : builder.build();
+  }
+
+  /**
+   * Returns the content of a script served from the store, or null when it
+   * has to be loaded on its own: style sheets, remote scripts, scripts not
+   * uploaded yet, and strict mode scripts, which would make every script after
+   * them strict.
+   */
+  private String getBundlableContent(FileInfo file, FileSource fileSource) {
+    if (fileSource.getFileSrc().endsWith(".css")
+        || !fileSource.getFileSrc().equals(prefix.prefixPath("/test/" + file.getDisplayPath()))) {
+      return null;
+    }
+    String content = store.getLoadedFileContent(file.getDisplayPath());
+    if (content == null || USE_STRICT.matcher(content).lookingAt()) {
+      return null;
+    }
+    return content;
+  }
+
+  private String toJson(Object src) {
+    return gson.toJson(src).replace("\\", "\\\\");
+  }
 }
@@ -1,6 +1,7 @@
 package com.google.jstestdriver.servlet.fileset;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.gson.Gson;
 import com.google.inject.Inject;
 import com.google.jstestdriver.FileInfo;
@@ -13,6 +14,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author corbinrsmith@gmail.com (Cory Smith)
@@ -45,23 +48,28 @@ public class BrowserFileCheck implements FileSetRequestHandler<BrowserFileSet> {
           Lists.<FileInfo>newLinkedList(), true);
     }
 
-    final List<FileInfo> filesToUpdate = Lists.newLinkedList();
-    final List<FileInfo> extraFiles = Lists.newLinkedList();
-    boolean reset = false;
-    logger.debug("Determing files to update {}, {}", testCase.toFileSet(), browser.getFileSet());
-    for (FileInfo newFile : testCase.getServable()) {
-      if (browser.getFileSet().contains(newFile)) {
-        for (FileInfo oldFile : browser.getFileSet()) {
-          if (oldFile.shouldReplaceWith(newFile)) {
-            filesToUpdate.add(newFile);
-          }
-        }
-      } else {
+    // a snapshot, which the browser's own updates leave as it is.
+    Map<String, FileInfo> browserFiles = browser.getFilesByPath();
+    List<FileInfo> servable = testCase.getServable();
+    logger.debug("Determing files to update {}, {}", servable, browserFiles.keySet());
+    final List<FileInfo> filesToUpdate = Lists.newArrayList();
+    for (FileInfo newFile : servable) {
+      FileInfo oldFile = browserFiles.get(newFile.getFilePath());
+      if (oldFile == null || oldFile.shouldReplaceWith(newFile)) {
         filesToUpdate.add(newFile);
       }
     }
-    extraFiles.addAll(browser.getFileSet());
-    extraFiles.removeAll(testCase.toFileSet());
+    Set<String> testCasePaths = Sets.newHashSet();
+    for (FileInfo file : testCase) {
+      testCasePaths.add(file.getFilePath());
+    }
+    final List<FileInfo> extraFiles = Lists.newArrayList();
+    for (FileInfo oldFile : browserFiles.values()) {
+      if (!testCasePaths.contains(oldFile.getFilePath())) {
+        extraFiles.add(oldFile);
+      }
+    }
+    boolean reset = false;
 
     if (!(filesToUpdate.isEmpty() && extraFiles.isEmpty())
         && (browser.getBrowserInfo().getName().contains("Safari")
@@ -26,6 +26,6 @@ public class DisplayPathSanitizer {
   public String sanitize(String absolutePath, File basePath) {
     return (absolutePath.startsWith(basePath.getAbsolutePath())
         ? absolutePath.substring(basePath.getAbsolutePath().length() + 1)
-        : absolutePath).replaceAll("\\\\", "/");
+        : absolutePath).replace('\\', '/');
   }
 }
\ No newline at end of file
@@ -0,0 +1 @@
+jstestdriver.FileSource=function(b,a,c){this.fileSrc=b;this.timestamp=a;this.basePath=c};
\ No newline at end of file
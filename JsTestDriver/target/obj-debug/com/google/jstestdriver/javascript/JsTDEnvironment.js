@@ -0,0 +1 @@
+goog.provide("jstestdriver");goog.provide("jstestdriver.setTimeout");goog.require("jstestdriver.Console");goog.require("jstestdriver.runConfig");jstestdriver.global=this;jstestdriver.console=null;jstestdriver.console=new jstestdriver.Console();jstestdriver.SERVER_URL="/query/";jstestdriver.HEARTBEAT_URL="/heartbeat";if(!window["console"]){window["console"]={}}if(typeof window["console"]["log"]=="undefined"){window["console"]["log"]=function(a){}}if(typeof window["console"]["debug"]=="undefined"){window["console"]["debug"]=function(a){}}if(typeof["console"]["info"]=="undefined"){window["console"]["info"]=function(a){}}if(typeof["console"]["warn"]=="undefined"){window["console"]["warn"]=function(a){}}if(typeof["console"]["error"]=="undefined"){window["console"]["error"]=function(a){}}jstestdriver.globalSetTimeout=window.setTimeout;jstestdriver.setTimeout=function(){if(jstestdriver.globalSetTimeout.apply){return jstestdriver.globalSetTimeout.apply(window,arguments)}return jstestdriver.globalSetTimeout(arguments[0],arguments[1])};jstestdriver.globalClearTimeout=clearTimeout;jstestdriver.clearTimeout=function(){if(jstestdriver.globalClearTimeout.apply){return jstestdriver.globalClearTimeout.apply(window,arguments)}return jstestdriver.globalClearTimeout(arguments[0])};jstestdriver.globalSetInterval=setInterval;jstestdriver.setInterval=function(){if(jstestdriver.globalSetInterval.apply){return jstestdriver.globalSetInterval.apply(window,arguments)}return jstestdriver.globalSetInterval(arguments[0],arguments[1])};jstestdriver.globalClearInterval=clearInterval;jstestdriver.clearInterval=function(){if(jstestdriver.globalClearInterval.apply){return jstestdriver.globalClearInterval.apply(window,arguments)}return jstestdriver.globalClearInterval(arguments[0])};jstestdriver.browserLogger={log:function(c,a,b){},debug:function(b,a){},info:function(b,a){},warn:function(b,a){},error:function(b,a){}};jstestdriver.log=function(a){if(jstestdriver.runConfig&&jstestdriver.runConfig.debug){jstestdriver.browserLogger.debug("log",a)}};document.write=function(a){};var noop=jstestdriver.EMPTY_FUNC=function(){};jstestdriver.BrowserLog=function(e,f,c,b,a,d){this.source=e;this.level=f;this.message=c;this.browser=b;this.stack=a;this.timestamp=d};
\ No newline at end of file
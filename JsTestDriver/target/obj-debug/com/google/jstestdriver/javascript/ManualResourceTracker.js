@@ -0,0 +1 @@
+jstestdriver.ManualResourceTracker=function(e,d,b,c,a){this.parse_=e;this.serialize_=d;this.getBrowserInfo_=c;this.manualScriptLoader_=a;this.boundOnComplete_=jstestdriver.bind(this,this.onComplete_);this.results_=[];this.resultsIndexMap_={};this.bundle_=null};jstestdriver.ManualResourceTracker.prototype.startResourceLoad=function(b,a){var c=this.parse_(b);this.manualScriptLoader_.beginLoad(c,this.boundOnComplete_,a)};jstestdriver.ManualResourceTracker.prototype.onComplete_=function(b){var c=b.file.fileSrc;var a=this.resultsIndexMap_[c];if(a!=null){if(!b.success){this.results_[a]=b}}else{this.resultsIndexMap_[c]=this.results_.push(b)-1}};jstestdriver.ManualResourceTracker.prototype.finishResourceLoad=function(a){var b=this.parse_(a);this.manualScriptLoader_.endLoad(b)};jstestdriver.ManualResourceTracker.prototype.startBundle=function(c,b){var a=this.bundle_={files:this.parse_(c),firstLines:this.parse_(b),error:null};this.manualScriptLoader_.beginBundle(function(e,d){a.error={msg:e,line:d}})};jstestdriver.ManualResourceTracker.prototype.finishBundle=function(){var c=this.bundle_,f=c.files,b=null,d=0,e,a;this.bundle_=null;if(c.error){while(d+1<f.length&&c.firstLines[d+1]<=c.error.line){d++}b=f[d];this.onComplete_(new jstestdriver.FileResult(b,false,"error loading file: "+b.fileSrc+":"+(c.error.line-c.firstLines[d]+1)+": "+c.error.msg,0))}for(e=0;e<f.length;e++){a=this.resultsIndexMap_[f[e].fileSrc];if(a==null){this.onComplete_(new jstestdriver.FileResult(f[e],false,"error loading file: "+f[e].fileSrc+": not loaded, the bundle stopped"+(b?" at "+b.fileSrc:""),0))}else{if(!b&&!this.results_[a].success){b=f[e]}}}};jstestdriver.ManualResourceTracker.prototype.getResults=function(){return this.results_};
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2011 Google Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+var ManualResourceTrackerTest = TestCase("ManualResourceTrackerTest");
+
+
+ManualResourceTrackerTest.prototype.setUp = function() {
+  var written = this.written_ = [];
+  var loads = this.loads_ = [];
+  this.loader_ = {
+    beginLoad : function(file, onFileLoaded, opt_firstLine) {
+      loads.push(['begin', file.fileSrc, opt_firstLine]);
+      this.onFileLoaded = onFileLoaded;
+      this.file = file;
+    },
+    endLoad : function(file) {
+      loads.push(['end', file.fileSrc]);
+      this.onFileLoaded(new jstestdriver.FileResult(file, true, '', 0));
+    }
+  };
+  this.tracker_ = new jstestdriver.ManualResourceTracker(
+      function(json) { return eval('(' + json + ')'); },
+      null,
+      null,
+      null,
+      this.loader_,
+      function(html) { written.push(html); });
+};
+
+
+ManualResourceTrackerTest.prototype.testStartResourceLoadPassesFirstLine = function() {
+  this.tracker_.startResourceLoad('{"fileSrc":"/test/a.js"}', 2);
+  this.tracker_.finishResourceLoad('{"fileSrc":"/test/a.js"}');
+
+  assertEquals('/test/a.js', this.loads_[0][1]);
+  assertEquals(2, this.loads_[0][2]);
+  assertEquals(1, this.tracker_.getResults().length);
+};
+
+
+ManualResourceTrackerTest.prototype.testFinishBundleLoadsFilesTheBundleDidNotReach = function() {
+  this.tracker_.startResourceLoad('{"fileSrc":"/test/a.js"}', 2);
+  this.tracker_.finishResourceLoad('{"fileSrc":"/test/a.js"}');
+  this.tracker_.startResourceLoad('{"fileSrc":"/test/b.js"}', 5);
+  // b.js throws, and the rest of the bundle doesn't run.
+  this.loader_.onFileLoaded(
+      new jstestdriver.FileResult(this.loader_.file, false, 'error', 0));
+
+  this.tracker_.finishBundle('[{"fileSrc":"/test/a.js"},{"fileSrc":"/test/b.js"},' +
+      '{"fileSrc":"/test/c.js"}]');
+
+  assertEquals(1, this.written_.length);
+  assertTrue(this.written_[0].indexOf('<script src="/test/c.js"') != -1);
+  assertTrue(this.written_[0].indexOf('startUnbundledLoad(0)') != -1);
+
+  this.tracker_.startUnbundledLoad(0);
+  this.tracker_.finishUnbundledLoad(0);
+
+  var results = this.tracker_.getResults();
+  assertEquals(3, results.length);
+  assertFalse(results[1].success);
+  assertEquals('/test/c.js', results[2].file.fileSrc);
+  assertTrue(results[2].success);
+};
@@ -0,0 +1 @@
+var jstestdriver={};jstestdriver.plugins={};jstestdriver.plugins.async={};var goog=window.goog||{provide:function(a){},require:function(a){}};
\ No newline at end of file
@@ -0,0 +1 @@
+jstestdriver.PageUnloadHandler=function(b,c,d,a){this.streamingService_=b;this.getBrowserInfo_=c;this.getCommand_=d;this.unloadSignal_=a};jstestdriver.PageUnloadHandler.prototype.onUnload=function(b){if(!this.unloadSignal_.get()){var a;try{a=b.type}catch(b){a="[error while trying to get event type: "+b+"]"}this.streamingService_.synchClose(new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.BROWSER_PANIC,"Page reloaded unexpectedly during or after "+this.getCommand_()+" triggered by "+a,this.getBrowserInfo_(),false))}};
\ No newline at end of file
@@ -0,0 +1 @@
+jstestdriver.ResetCommand=function(a,c,b){this.location_=a;this.signal_=c;this.now_=b};jstestdriver.ResetCommand.prototype.reset=function(j){this.signal_.set(true);var k=j[0]?j[0]:"preload";var l=j[1];if(!l){k="load"}var e=this.now_();var b=this.location_.href.match(/^(.*)\/(slave|runner|bcr)\/(.*)/);var c=b[1];var h=b[2];var d=b[3].split("/");var f=[c,h];for(var g=0;d[g];g++){if(d[g]=="testcase_id"||d[g]=="refresh"||d[g]=="load_type"){g++;continue}f.push(d[g])}f.push("refresh");f.push(e);f.push("load_type");f.push(k);if(l){f.push("testcase_id");f.push(l)}var a=f.join("/");jstestdriver.log("Replacing "+a);this.location_.replace(a)};
\ No newline at end of file
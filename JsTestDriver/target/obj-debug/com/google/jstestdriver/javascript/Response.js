@@ -0,0 +1 @@
+jstestdriver.RESPONSE_TYPES={FILE_LOAD_RESULT:"FILE_LOAD_RESULT",REGISTER_RESULT:"REGISTER_RESULT",TEST_RESULT:"TEST_RESULT",TEST_QUERY_RESULT:"TEST_QUERY_RESULT",RESET_RESULT:"RESET_RESULT",COMMAND_RESULT:"COMMAND_RESULT",BROWSER_READY:"BROWSER_READY",BROWSER_PANIC:"BROWSER_PANIC",NOOP:"NOOP",LOG:"LOG"};jstestdriver.Response=function(c,a,b,d){this.type=c;if(a!==null&&typeof a=="object"){this.data=a}else{this.response=a}this.browser=b;if(d){this.start=true}};jstestdriver.Response.prototype.toString=function(){return"Response(\nresponse="+(this.data?JSON.stringify(this.data):this.response)+",\ntype"+this.type+",\n browser="+this.browser+")"};jstestdriver.CommandResponse=function(a,b){this.done=a;this.response=b};jstestdriver.BrowserInfo=function(a){this.id=a};
\ No newline at end of file
@@ -0,0 +1 @@
+goog.provide("jstestdriver.runConfig");jstestdriver.runConfig={debug:false};
\ No newline at end of file
@@ -0,0 +1 @@
+jstestdriver.StandAloneRunTestsCommand=function(g,f,h,i,e,c,d,a,b){this.testCaseManager_=g;this.testRunner_=f;this.pluginRegistrar_=h;this.jsonParse_=d;this.now_=c;this.boundOnTestDone_=jstestdriver.bind(this,this.onTestDone_);this.boundOnComplete_=jstestdriver.bind(this,this.onComplete);this.testsDone_=[];this.getBrowserInfo_=i;this.reporter_=e;this.streamContinue_=a;this.streamStop_=b};jstestdriver.StandAloneRunTestsCommand.prototype.createLog_=function(a){return new jstestdriver.BrowserLog(0,"jstestdriver.StandAloneRunTestsCommand",a,this.getBrowserInfo_())};jstestdriver.StandAloneRunTestsCommand.prototype.runAllTests=function(b){this.streamContinue_(new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.LOG,jstestdriver.JSON.stringify(this.createLog_("all tests started.")),this.getBrowserInfo_()));var a=b[0];this.debug_=Boolean(b[2]);this.runTestCases_(this.testCaseManager_.getDefaultTestRunsConfiguration(),a=="true"?true:false)};jstestdriver.StandAloneRunTestsCommand.prototype.runTests=function(b){this.streamContinue_(new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.LOG,jstestdriver.JSON.stringify(this.createLog_("started tests.")),this.getBrowserInfo_()));var c=jsonParse('{"expressions":'+b[0]+"}").expressions;var a=b[1];this.debug_=Boolean(b[2]);this.runTestCases_(this.testCaseManager_.getTestRunsConfigurationFor(c),a=="true"?true:false,false)};jstestdriver.StandAloneRunTestsCommand.prototype.runTestCases_=function(a,b){this.reporter_.startTests(this.now_());this.totaltestruns_=a.length;this.testRunner_.runTests(a,this.boundOnTestDone_,this.boundOnComplete_,b)};jstestdriver.StandAloneRunTestsCommand.prototype.onTestDone_=function(a){this.reporter_.updateIsSuccess(a.result==jstestdriver.TestResult.RESULT.PASSED);this.addTestResult(a)};jstestdriver.StandAloneRunTestsCommand.prototype.onComplete=function(){var a=jstestdriver.JSON.stringify(this.testsDone_);this.streamContinue_(new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.TEST_RESULT,a,this.getBrowserInfo_()));this.reporter_.setReport(a);this.testsDone_=[];this.reporter_.finishTests(this.now_());this.reporter_.setIsFinished(true);this.streamStop_(new jstestdriver.Response(jstestdriver.RESPONSE_TYPES.LOG,jstestdriver.JSON.stringify(this.createLog_("testing complete, isSuccess:"+this.reporter_.isSuccess()+", isFinished:"+this.reporter_.isFinished())),this.getBrowserInfo_()))};jstestdriver.StandAloneRunTestsCommand.prototype.addTestResult=function(a){this.reporter_.addTestResult(a);this.pluginRegistrar_.processTestResult(a);this.testsDone_.push(a)};
\ No newline at end of file
@@ -0,0 +1 @@
+jstestdriver.StandAloneTestReporter=function(){this.finished_=false;this.success_=1;this.report_="";this.filesLoaded_=0;this.lastTestResult_="none"};jstestdriver.StandAloneTestReporter.prototype.isFinished=function(){return this.finished_};jstestdriver.StandAloneTestReporter.prototype.startTests=function(a){};jstestdriver.StandAloneTestReporter.prototype.finishTests=function(a){};jstestdriver.StandAloneTestReporter.prototype.startLoading=function(a){};jstestdriver.StandAloneTestReporter.prototype.finishLoading=function(a){};jstestdriver.StandAloneTestReporter.prototype.getReport=function(){return this.report_};jstestdriver.StandAloneTestReporter.prototype.getNumFilesLoaded=function(){return this.filesLoaded_};jstestdriver.StandAloneTestReporter.prototype.setIsFinished=function(a){this.log("finished: "+a+": success"+this.success_);this.finished_=a};jstestdriver.StandAloneTestReporter.prototype.log=function(a){};jstestdriver.StandAloneTestReporter.prototype.setIsSuccess=function(a){this.log("success"+this.success_);this.success_=a};jstestdriver.StandAloneTestReporter.prototype.addTestResult=function(a){this.lastTestResult_=a.testCaseName+"."+a.testName+" "+a.result;this.log("testresult: "+this.lastTestResult_)};jstestdriver.StandAloneTestReporter.prototype.isSuccess=function(){return !!this.success_};jstestdriver.StandAloneTestReporter.prototype.updateIsSuccess=function(a){if(this!=window.top.G_testRunner){window.top.G_testRunner=this}this.success_=a&this.success_;this.log("success"+this.success_)};jstestdriver.StandAloneTestReporter.prototype.setReport=function(a){this.report_=a};jstestdriver.StandAloneTestReporter.prototype.addLoadedFileResults=function(a){var b=a.length;this.log("files loaded: "+b);if(this!=window.top.G_testRunner){window.top.G_testRunner=this}this.filesLoaded_+=b};jstestdriver.StandAloneTestReporter.prototype.toString=function(){return"StandAloneTestReporter(success=["+this.success_+"], finished=["+this.finished_+"], lastTestResult=["+this.lastTestResult_+"], filesLoaded=["+this.filesLoaded_+"] report=["+this.report_+"])"};
\ No newline at end of file
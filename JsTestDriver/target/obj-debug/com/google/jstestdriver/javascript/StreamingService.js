@@ -0,0 +1 @@
+jstestdriver.StreamingService=function(d,c,e,b,f,a){this.url_=d;this.now_=c;this.post_=e;this.activeResponses_={};this.finishedResponses_={};this.completeFinalResponse=null;this.synchPost_=b;this.setTimeout_=f;this.unloadSignal_=a;this.lastResponseId_=0;this.pendingResponses_=[];this.pendingCallback_=null;this.streamCallback_=null;this.flushScheduled_=false;this.batchSize_=jstestdriver.StreamingService.BATCH_SIZE;this.batchWindow_=jstestdriver.StreamingService.BATCH_WINDOW};jstestdriver.StreamingService.BATCH_SIZE=50;jstestdriver.StreamingService.BATCH_WINDOW=20;jstestdriver.StreamingService.prototype.synchClose=function(a){if(this.pendingResponses_.length){this.synchPost_(this.url_,this.takePending_())}var b=new jstestdriver.CommandResponse(true,a);this.synchPost_(this.url_,b);this.unloadSignal_.set(true)};jstestdriver.StreamingService.prototype.stream=function(a,d){var c=new jstestdriver.CommandResponse(false,a);c.responseId=this.nextResponseId_();this.activeResponses_[c.responseId]=c;this.pendingResponses_.push(c);this.pendingCallback_=d;this.streamCallback_=d;if(a.type!=jstestdriver.RESPONSE_TYPES.TEST_RESULT||this.pendingResponses_.length>=this.batchSize_){this.flush_()}else{if(!this.flushScheduled_){this.flushScheduled_=true;var b=this;this.setTimeout_(function(){b.flushScheduled_=false;b.flush_()},this.batchWindow_)}}};jstestdriver.StreamingService.prototype.flush_=function(){if(!this.pendingResponses_.length){return}var b=this.takePending_();var c=this.pendingCallback_;this.pendingCallback_=null;var a=this;this.setTimeout_(function(){a.post_(a.url_,b,c,"text/plain")},1)};jstestdriver.StreamingService.prototype.takePending_=function(){var a=this.pendingResponses_;this.pendingResponses_=[];return a.length==1?a[0]:{"responses":a}};jstestdriver.StreamingService.prototype.nextResponseId_=function(){var a=this.now_();if(a<=this.lastResponseId_){a=this.lastResponseId_+1}this.lastResponseId_=a;return a};jstestdriver.StreamingService.prototype.streamResponse=function(b,a,e){var d=new jstestdriver.CommandResponse(a,b);if(!a&&b!=null){d.responseId=this.nextResponseId_();this.activeResponses_[d.responseId]=d;this.streamCallback_=e}var c=this;this.setTimeout_(function(){c.post_(c.url_,d,e,"text/plain")},1)};jstestdriver.StreamingService.prototype.streamAcknowledged=function(b){for(var a=0;b&&b[a];a++){if(this.activeResponses_[b[a]]){this.activeResponses_[b[a]]=null;delete this.activeResponses_[b[a]];this.finishedResponses_[b[a]]=true}}if(this.completeFinalResponse){this.completeFinalResponse()}};jstestdriver.StreamingService.prototype.streamRefused=function(c){var e=[];for(var b=0;c&&c[b];b++){if(this.activeResponses_[c[b]]){e.push(this.activeResponses_[c[b]])}}if(!e.length){return}var d=e.length==1?e[0]:{"responses":e};var f=this.streamCallback_;var a=this;this.setTimeout_(function(){a.post_(a.url_,d,f,"text/plain")},1)};jstestdriver.StreamingService.prototype.close=function(b,c){this.flush_();var a=this;this.completeFinalResponse=function(){if(a.hasOpenResponses()){a.streamResponse(null,false,c)}else{a.completeFinalResponse=null;a.activeResponses_={};a.finishedResponses_={};a.streamResponse(b,true,c);this.unloadSignal_.set(true)}};this.completeFinalResponse()};jstestdriver.StreamingService.prototype.hasOpenResponses=function(){for(var a in this.activeResponses_){if(this.activeResponses_.hasOwnProperty(a)){return true}}return false};
\ No newline at end of file
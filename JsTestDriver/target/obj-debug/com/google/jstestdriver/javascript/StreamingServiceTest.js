@@ -0,0 +1,222 @@
+/*
+ * Copyright 2010 Google Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+var StreamingServiceTest = TestCase('StreamingServiceTest');
+
+
+StreamingServiceTest.prototype.setUp = function() {
+  var posts = this.posts = [];
+  this.now = 1;
+  var testCase = this;
+  this.unloadSignal = new jstestdriver.Signal(false);
+  this.streamingService = new jstestdriver.StreamingService(
+    "/Q/1",
+    function(){ return testCase.now++; },
+    function (url, data, callback, type){
+      posts.push({
+        url : url,
+        data : data,
+        callback : callback,
+        type : type
+      });
+    },
+    null,
+    function(func, timeout) {
+      func();
+    }, this.unloadSignal);
+};
+
+
+StreamingServiceTest.prototype.testStreamAndClose = function() {
+  function callback() {}
+  var response = new jstestdriver.Response('test', '1', {}, null);
+  var finalResponse = new jstestdriver.Response('test', '2', {}, null);
+
+  this.streamingService.stream(response, callback);
+
+  var streamPost = this.posts.pop();
+  assertNotNull(streamPost);
+  assertEquals(callback, streamPost.callback);
+  assertFalse("Streaming should not be a final reponse.", streamPost.data.done);
+  assertEquals(response, streamPost.data.response);
+  assertEquals(this.now - 1, streamPost.data.responseId);
+
+  var streamQuery = this.posts.pop();
+  assertNotNull("Didn't ask the server for a list of responseIds", streamQuery);
+  // first callback from the server, for the stream
+  this.streamingService.streamAcknowledged([streamPost.data.responseId]);
+
+  this.streamingService.close(finalResponse, callback);
+  var finalResponsePost = this.posts.pop();
+  assertNotNull("Final response should be sent when the server confirms resposneId",
+                finalResponsePost);
+  assertTrue("Final response should be done.", finalResponsePost.data.done);
+  assertEquals(finalResponse, finalResponsePost.data.response);
+  assertEquals("finalResponses do not have responseIds",
+               null, finalResponsePost.data.responseId);
+
+  // second callback from the server for the query
+  this.streamingService.streamAcknowledged([streamPost.data.responseId]);
+  assertEquals("Shouldn't be any posts after the final response.",
+               0, this.posts.length);
+};
+
+
+StreamingServiceTest.prototype.testStreamOutOfOrderAndClose = function() {
+  function callback() {}
+  var responseOne = new jstestdriver.Response('test', '1', {}, null);
+  var responseTwo = new jstestdriver.Response('test', '2', {}, null);
+  var finalResponse = new jstestdriver.Response('test', '3', {}, null);
+
+  this.streamingService.stream(responseTwo, callback);
+  var streamTwoPost = this.posts.pop();
+
+  this.streamingService.stream(responseOne, callback);
+  var streamOnePost = this.posts.pop();
+
+  this.streamingService.close(finalResponse, callback);
+  var streamQueryOnClose = this.posts.pop();
+
+  // first ack, no responses on the server
+  this.streamingService.streamAcknowledged([]);
+  streamQueryOnClose = this.posts.pop();
+  assertEquals("Should be a query", null, streamQueryOnClose.data.response);
+  assertEquals("Should not be done", false, streamQueryOnClose.data.done);
+
+  // second ack, one response  on the server
+  this.streamingService.streamAcknowledged([streamTwoPost.data.responseId]);
+  streamQueryOnClose = this.posts.pop();
+  assertEquals("Should be a query", null, streamQueryOnClose.data.response);
+  assertEquals("Should not be done", false, streamQueryOnClose.data.done);
+  assertEquals("Final response should not be sent", 0, this.posts.length);
+
+  // third ack, two responses on the server
+  this.streamingService.streamAcknowledged([streamTwoPost.data.responseId,
+                                            streamOnePost.data.responseId]);
+  var finalPost = this.posts.pop();
+  assertNotNull("Final response should be sent", finalPost);
+  assertEquals("Should contain final response", finalResponse, finalPost.data.response);
+  assertEquals("Should be done", true, finalPost.data.done);
+};
+
+
+StreamingServiceTest.prototype.testPostsRefusedResponsesAgain = function() {
+  function callback() {}
+  var response = new jstestdriver.Response('test', '1', {}, null);
+
+  this.streamingService.stream(response, callback);
+  var streamPost = this.posts.pop();
+
+  this.streamingService.streamRefused([streamPost.data.responseId]);
+  var retryPost = this.posts.pop();
+  assertNotNull("A refused response should be posted again", retryPost);
+  assertEquals(callback, retryPost.callback);
+  assertEquals(response, retryPost.data.response);
+  assertEquals(streamPost.data.responseId, retryPost.data.responseId);
+  assertTrue(this.streamingService.hasOpenResponses());
+
+  this.streamingService.streamAcknowledged([streamPost.data.responseId]);
+  assertFalse(this.streamingService.hasOpenResponses());
+  this.streamingService.streamRefused([streamPost.data.responseId]);
+  assertEquals("Acknowledged responses are not posted again", 0, this.posts.length);
+};
+
+
+StreamingServiceTest.prototype.testClose = function() {
+  function callback() {}
+  var finalResponse = new jstestdriver.Response('test', '3', {}, null);
+  this.streamingService.close(finalResponse, callback);
+  var closePost = this.posts.pop();
+  assertNotNull('final response should be sent immediately', closePost);
+};
+
+
+StreamingServiceTest.prototype.testBatchesTestResults = function() {
+  var timeouts = [];
+  this.streamingService.setTimeout_ = function(func, timeout) {
+    timeouts.push(func);
+  };
+  function callback() {}
+  var resultOne = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.TEST_RESULT, '1', {}, null);
+  var resultTwo = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.TEST_RESULT, '2', {}, null);
+
+  this.streamingService.stream(resultOne, callback);
+  this.streamingService.stream(resultTwo, callback);
+  assertEquals("Only the batch window should be waiting", 1, timeouts.length);
+
+  timeouts.shift()();
+  timeouts.shift()();
+  assertEquals(1, this.posts.length);
+  var batch = this.posts.pop().data.responses;
+  assertEquals(2, batch.length);
+  assertEquals(resultOne, batch[0].response);
+  assertEquals(resultTwo, batch[1].response);
+  assertFalse(batch[0].done);
+  assertNotEquals("Every response needs its own id",
+                  batch[0].responseId, batch[1].responseId);
+  assertTrue(this.streamingService.hasOpenResponses());
+
+  this.streamingService.streamAcknowledged(
+      [batch[0].responseId, batch[1].responseId]);
+  assertFalse(this.streamingService.hasOpenResponses());
+};
+
+
+StreamingServiceTest.prototype.testOtherResponsesFlushTheBatch = function() {
+  var timeouts = [];
+  this.streamingService.setTimeout_ = function(func, timeout) {
+    timeouts.push(func);
+  };
+  function callback() {}
+  var result = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.TEST_RESULT, '1', {}, null);
+  var log = new jstestdriver.Response(
+      jstestdriver.RESPONSE_TYPES.LOG, '2', {}, null);
+
+  this.streamingService.stream(result, callback);
+  this.streamingService.stream(log, callback);
+  timeouts.pop()();
+
+  var batch = this.posts.pop().data.responses;
+  assertEquals(2, batch.length);
+  assertEquals(result, batch[0].response);
+  assertEquals(log, batch[1].response);
+};
+
+
+StreamingServiceTest.prototype.testFullBatchIsPostedAtOnce = function() {
+  this.streamingService.batchSize_ = 2;
+  this.streamingService.setTimeout_ = function(func, timeout) {
+    if (timeout == 1) {
+      func();
+    }
+  };
+  function callback() {}
+  for (var i = 0; i < 3; i++) {
+    this.streamingService.stream(new jstestdriver.Response(
+        jstestdriver.RESPONSE_TYPES.TEST_RESULT, String(i), {}, null), callback);
+  }
+
+  assertEquals(1, this.posts.length);
+  assertEquals(2, this.posts.pop().data.responses.length);
+
+  this.streamingService.close(
+      new jstestdriver.Response('test', '3', {}, null), callback);
+  assertEquals("Closing posts the rest of the batch first",
+               '2', this.posts.shift().data.response.response);
+};
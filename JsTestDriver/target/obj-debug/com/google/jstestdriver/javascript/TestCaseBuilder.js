@@ -0,0 +1 @@
+goog.require("jstestdriver");goog.require("jstestdriver.TestCaseInfo");goog.provide("jstestdriver.TestCaseBuilder");jstestdriver.TestCaseBuilder=function(a){this.testCaseManager_=a};jstestdriver.TestCaseBuilder.prototype.TestCase=function(d,a,c){this.checkNotBeginsWith_(d,"-");this.checkNotContains_(d,",");this.checkNotContains_(d,"#");var b=function(){};if(a){b.prototype=a}if(typeof b.prototype.setUp=="undefined"){b.prototype.setUp=function(){}}if(!b.prototype.hasOwnProperty("toString")){b.prototype.toString=function(){return"TestCase("+d+")"}}if(typeof b.prototype.tearDown=="undefined"){b.prototype.tearDown=function(){}}this.testCaseManager_.add(new jstestdriver.TestCaseInfo(d,b,c));return b};jstestdriver.TestCaseBuilder.prototype.checkNotBeginsWith_=function(b,a){if(b.indexOf(a)==0){throw new Error("Test case names must not begin with '"+a+"'")}};jstestdriver.TestCaseBuilder.prototype.checkNotContains_=function(b,a){if(b.indexOf(a)>-1){throw new Error("Test case names must not contain '"+a+"'")}};jstestdriver.TestCaseBuilder.prototype.AsyncTestCase=function(b,a){return this.TestCase(b,a,jstestdriver.TestCaseInfo.ASYNC_TYPE)};jstestdriver.TestCaseBuilder.prototype.ConditionalTestCase=function(c,d,a,b){if(d()){return this.TestCase(c,a,b)}this.testCaseManager_.add(new jstestdriver.TestCaseInfo(c,jstestdriver.TestCaseBuilder.PlaceHolderCase,b));return function(){}};jstestdriver.TestCaseBuilder.prototype.ConditionalAsyncTestCase=function(b,c,a){return this.ConditionalTestCase(b,c,a,jstestdriver.TestCaseInfo.ASYNC_TYPE)};jstestdriver.TestCaseBuilder.PlaceHolderCase=function(){};jstestdriver.TestCaseBuilder.PlaceHolderCase.prototype.testExcludedByCondition=jstestdriver.EMPTY_FUNC;
\ No newline at end of file
@@ -0,0 +1 @@
+goog.provide("jstestdriver.TestCaseInfo");goog.require("jstestdriver");goog.require("jstestdriver.TestRunFilter");jstestdriver.TestCaseInfo=function(d,b,c,a){this.testCaseName_=d;this.template_=b;this.type_=c||jstestdriver.TestCaseInfo.DEFAULT_TYPE;this.fileName_=a||""};jstestdriver.TestCaseInfo.DEFAULT_TYPE="default";jstestdriver.TestCaseInfo.ASYNC_TYPE="async";jstestdriver.TestCaseInfo.prototype.testCaseName_;jstestdriver.TestCaseInfo.prototype.template_;jstestdriver.TestCaseInfo.prototype.type_;jstestdriver.TestCaseInfo.prototype.fileName_;jstestdriver.TestCaseInfo.prototype.getType=function(){return this.type_};jstestdriver.TestCaseInfo.prototype.getFileName=function(){return this.fileName_};jstestdriver.TestCaseInfo.prototype.setFileName=function(a){this.fileName_=a};jstestdriver.TestCaseInfo.prototype.getTestCaseName=function(){return this.testCaseName_};jstestdriver.TestCaseInfo.prototype.getTemplate=function(){return this.template_};jstestdriver.TestCaseInfo.prototype.getTestNames=function(){var b=[];for(var a in this.template_.prototype){if(a.indexOf("test")==0){b.push(a)}}return b};jstestdriver.TestCaseInfo.prototype.getDefaultTestRunConfiguration=function(){return new jstestdriver.TestRunFilter(this).getDefaultTestRunConfiguration()};jstestdriver.TestCaseInfo.prototype.getTestRunConfigurationFor=function(a){return new jstestdriver.TestRunFilter(this).getTestRunConfigurationFor(a)};jstestdriver.TestCaseInfo.prototype.equals=function(a){return(!!a)&&typeof a.getTestCaseName!="undefined"&&a.getTestCaseName()==this.testCaseName_};jstestdriver.TestCaseInfo.prototype.toString=function(){return"TestCaseInfo("+this.testCaseName_+","+this.template_+","+this.type_+")"};
\ No newline at end of file
@@ -0,0 +1 @@
+goog.provide("jstestdriver.TestRunConfiguration");goog.require("jstestdriver");goog.require("jstestdriver.TestCaseInfo");jstestdriver.TestRunConfiguration=function(a,b,c){this.testCaseInfo_=a;this.tests_=b;this.arguments_=c?c:null};jstestdriver.TestRunConfiguration.prototype.getTestCaseInfo=function(){return this.testCaseInfo_};jstestdriver.TestRunConfiguration.prototype.getTests=function(){return this.tests_};jstestdriver.TestRunConfiguration.prototype.getArguments=function(){return this.arguments_};
\ No newline at end of file
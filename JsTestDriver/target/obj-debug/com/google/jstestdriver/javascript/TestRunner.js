@@ -0,0 +1 @@
+goog.provide("jstestdriver.TestRunner.TestCaseMap");goog.provide("jstestdriver.TestRunner");jstestdriver.TestRunner=function(a){this.pluginRegistrar_=a;this.boundRunNextConfiguration_=jstestdriver.bind(this,this.runNextConfiguration_)};jstestdriver.TestRunner.prototype.runTests=function(a,c,d,b){this.pluginRegistrar_.onTestsStart();this.testRunsConfiguration_=a;this.onTestDone_=c;this.onComplete_=d;this.captureConsole_=b;this.runNextConfiguration_()};jstestdriver.TestRunner.prototype.finish_=function(){var a=this.onComplete_;this.pluginRegistrar_.onTestsFinish();this.testRunsConfiguration_=null;this.onTestDone_=null;this.onComplete_=null;this.captureConsole_=false;a()};jstestdriver.TestRunner.prototype.runNextConfiguration_=function(){if(this.testRunsConfiguration_.length==0){this.finish_();return}this.runConfiguration(this.testRunsConfiguration_.shift(),this.onTestDone_,this.boundRunNextConfiguration_)};jstestdriver.TestRunner.prototype.runConfiguration=function(c,b,d){var a=this;if(a.captureConsole_){a.overrideConsole_()}jstestdriver.log("running configuration "+c);this.pluginRegistrar_.runTestConfiguration(c,b,function(){if(a.captureConsole_){a.resetConsole_()}d.apply(this,arguments)})};jstestdriver.TestRunner.prototype.overrideConsole_=function(){this.logMethod_=window.console.log;this.logDebug_=window.console.debug;this.logInfo_=window.console.info;this.logWarn_=window.console.warn;this.logError_=window.console.error;window.console.log=function(){jstestdriver.console.log.apply(jstestdriver.console,arguments)};window.console.debug=function(){jstestdriver.console.debug.apply(jstestdriver.console,arguments)};window.console.info=function(){jstestdriver.console.info.apply(jstestdriver.console,arguments)};window.console.warn=function(){jstestdriver.console.warn.apply(jstestdriver.console,arguments)};window.console.error=function(){jstestdriver.console.error.apply(jstestdriver.console,arguments)}};jstestdriver.TestRunner.prototype.resetConsole_=function(){window.console.log=this.logMethod_;window.console.debug=this.logDebug_;window.console.info=this.logInfo_;window.console.warn=this.logWarn_;window.console.error=this.logError_};jstestdriver.TestRunner.TestCaseMap=function(){this.testCases_={}};jstestdriver.TestRunner.TestCaseMap.prototype.startCase=function(a){this.testCases_[a]=true};jstestdriver.TestRunner.TestCaseMap.prototype.stopCase=function(a){this.testCases_[a]=false};jstestdriver.TestRunner.TestCaseMap.prototype.hasActiveCases=function(){for(var a in this.testCases_){if(this.testCases_.hasOwnProperty(a)&&this.testCases_[a]){return true}}return false};
\ No newline at end of file
@@ -0,0 +1 @@
+var jstestdriver={};jstestdriver.plugins={};jstestdriver.plugins.async={};var goog=window.goog||{provide:function(a){},require:function(a){}};goog.provide("jstestdriver.utils");jstestdriver.convertToJson=function(b){var a=jstestdriver.parameterSerialize;return function(c,e,f,d){b(c,a(e),f,d)}};jstestdriver.parameterSerialize=function(c){var b={};for(var a in c){b[a]=JSON.stringify(c[a])}return b};jstestdriver.bind=function(a,c){function b(){return c.apply(a,arguments)}b.toString=function(){return"bound: "+a+" to: "+c};return b};jstestdriver.extractId=function(a){return a.match(/\/id\/(\d+)\//)[1]};jstestdriver.createPath=function(c,b){var a=c.match(/^(.*)\/(slave|runner|bcr)\//)[1];return a+b};jstestdriver.getBrowserFriendlyName=function(){if(jstestdriver.jQuery.browser.safari){if(navigator.userAgent.indexOf("Chrome")!=-1){return"Chrome"}return"Safari"}else{if(jstestdriver.jQuery.browser.opera){return"Opera"}else{if(jstestdriver.jQuery.browser.msie){return"Internet Explorer"}else{if(jstestdriver.jQuery.browser.mozilla){if(navigator.userAgent.indexOf("Firefox")!=-1){return"Firefox"}return"Mozilla"}}}}};jstestdriver.getBrowserFriendlyVersion=function(){if(jstestdriver.jQuery.browser.msie){if(typeof XDomainRequest!="undefined"){return"8.0"}}else{if(jstestdriver.jQuery.browser.safari){if(navigator.appVersion.indexOf("Chrome/")!=-1){return navigator.appVersion.match(/Chrome\/(.*)\s/)[1]}}}return jstestdriver.jQuery.browser.version};jstestdriver.trim=function(a){return a.replace(/(^\s*)|(\s*$)/g,"")};jstestdriver.toHtml=function(c,e){var b=e.createDocumentFragment();var d=e.createElement("div");d.innerHTML=jstestdriver.trim(jstestdriver.stripHtmlComments(c));while(d.firstChild){b.appendChild(d.firstChild)}var a=b.childNodes.length>1?b:b.firstChild;return a};jstestdriver.stripHtmlComments=function(b){var d=[];function a(h){var i=b.indexOf("<!--",h);var g=b.indexOf("-->",h)+"-->".length;if(i==-1){return null}return{"start":i,"stop":g}}var c=0;while(true){var f=a(c);if(!f){d.push(b.slice(c));break}var e=b.slice(c,f.start);d.push(e);c=f.stop}return d.join("")};jstestdriver.appendHtml=function(b,c){var a=jstestdriver.toHtml(b,c);jstestdriver.jQuery(c.body).append(a)};jstestdriver.now=function(){return new Date().getTime()};jstestdriver.createSynchPost=function(a){return jstestdriver.convertToJson(function(b,c){return a.ajax({"async":false,"data":c,"type":"POST","url":b,"contentType":"application/x-www-form-urlencoded; charset=UTF-8"})})};jstestdriver.createAsynchPost=function(a){return jstestdriver.convertToJson(function(b,d,e,c){return a.ajax({"data":d,"type":"POST","url":b,"success":e,"dataType":c,"contentType":"application/x-www-form-urlencoded; charset=UTF-8"})})};jstestdriver.utils={};jstestdriver.utils.isNative=function(a,d){try{var b=String(Object.prototype.toString.apply(a));return b.toLowerCase().indexOf(d.toLowerCase())!=-1}catch(c){return false}};jstestdriver.utils.serializeErrors=function(c){var a=[];a.push("[");for(var b=0;b<c.length;++b){jstestdriver.utils.serializeErrorToArray(c[b],a);if(b<c.length-1){a.push(",")}}a.push("]");return a.join("")};jstestdriver.utils.serializeErrorToArray=function(b,a){if(jstestdriver.utils.isNative(b,"Error")){a.push("{");a.push('"message":');jstestdriver.utils.serializeObjectToArray(b.message,a);jstestdriver.utils.serializePropertyOnObject("name",b,a);jstestdriver.utils.serializePropertyOnObject("description",b,a);jstestdriver.utils.serializePropertyOnObject("fileName",b,a);jstestdriver.utils.serializePropertyOnObject("lineNumber",b,a);jstestdriver.utils.serializePropertyOnObject("number",b,a);jstestdriver.utils.serializePropertyOnObject("stack",b,a);a.push("}")}else{a.push(jstestdriver.utils.serializeObject(b))}};jstestdriver.utils.serializeObject=function(b){var a=[];jstestdriver.utils.serializeObjectToArray(b,a);return a.join("")};jstestdriver.utils.serializeObjectToArray=function(e,b){var c=b||c;if(jstestdriver.utils.isNative(e,"Array")){c.push("[");var a=(e);for(var d=0;d<a.length;d++){jstestdriver.utils.serializeObjectToArray(a[d],c);if(d<a.length-1){c.push(",")}}c.push("]")}else{jstestdriver.utils.toJsonArray(c,e,false,[])}return c};jstestdriver.utils.serializePropertyOnObject=function(b,c,a){if(b in c){a.push(",");a.push('"'+b+'":');jstestdriver.utils.serializeObjectToArray(c[b],a)}};jstestdriver.utils.quote=function(a){return'"'+a.replace(/\\/g,"\\\\").replace(/"/g,'\\"').replace(/\n/g,"\\n").replace(/\f/g,"\\f").replace(/\r/g,"\\r").replace(/\t/g,"\\t").replace(/\v/g,"\\v")+'"'};jstestdriver.utils.quoteUnicode=function(a){var f=jstestdriver.utils.quote(a);var e=[];for(var b=0;b<f.length;b++){var c=f.charCodeAt(b);if(c<128){e.push(f.charAt(b))}else{var d="000"+c.toString(16);e.push("\\u"+d.substring(d.length-4))}}return e.join("")};jstestdriver.utils.includes=function(b,c){for(var a=0;a<b.length;a++){if(b[a]===c){return true}}return false};jstestdriver.utils.toJsonArray=function(b,d,g,h){if(jstestdriver.utils.isNative(d,"object")){if(d===window){b.push(jstestdriver.utils.quote("WINDOW"));return}if(d===document){b.push(jstestdriver.utils.quote("DOCUMENT"));return}if(jstestdriver.utils.includes(h,d)){b.push(jstestdriver.utils.quote("RECURSION"));return}h.push(d)}if(d===null){b.push("null")}else{if(d instanceof RegExp){b.push(jstestdriver.utils.quoteUnicode(d.toString()))}else{if(jstestdriver.utils.isNative(d,"function")){return}else{if(jstestdriver.utils.isNative(d,"boolean")){b.push(""+d)}else{if(jstestdriver.utils.isNative(d,"number")){if(isNaN(d)){b.push("null")}else{b.push(""+d)}}else{if(jstestdriver.utils.isNative(d,"string")){return b.push(jstestdriver.utils.quoteUnicode(d))}else{if(jstestdriver.utils.isNative(d,"object")){if(jstestdriver.utils.isNative(d,"array")){b.push("[");var f=d.length;var q=false;for(var e=0;e<f;e++){var n=d[e];if(q){b.push(",")}if(!(n instanceof RegExp)&&(jstestdriver.utils.isNative(n,"function")||jstestdriver.utils.isNative(n,"undefined"))){b.push("null")}else{jstestdriver.utils.toJsonArray(b,n,g,h)}q=true}b.push("]")}else{if(jstestdriver.utils.isNative(d,"date")){b.push(jstestdriver.utils.quoteUnicode(d.toString()))}else{b.push("{");if(g){b.push(g)}var p=false;var o=g?g+"  ":false;var m=[];for(var c in d){if(d[c]===undefined){continue}m.push(c)}m.sort();for(var a=0;a<m.length;a++){var l=m[a];var j=d[l];if(typeof j!="function"){if(p){b.push(",");if(g){b.push(g)}}b.push(jstestdriver.utils.quote(l));b.push(":");jstestdriver.utils.toJsonArray(b,j,o,h);p=true}}b.push("}")}}}}}}}}}if(jstestdriver.utils.isNative(d,"object")){h.pop()}};jstestdriver.angular={};jstestdriver.angular.toJson=function(b){var a=[];jstestdriver.utils.toJsonArray(a,b,false,[]);return" ".join(a)};goog.provide("jstestdriver.Console");goog.provide("jstestdriver.JSON");jstestdriver.JSON=window["JSON"]||{};jstestdriver.JSON.stringify=window["JSON"]?window["JSON"]["stringify"]:function(b,a){};jstestdriver.FORMAT_MAPPINGS={"s":function(a){if(a==undefined){return""}return String(a)},"d":Number,"i":parseInt,"f":parseFloat,"o":jstestdriver.JSON.stringify};jstestdriver.formatString=function(e){var c=arguments;var a=1;var d=String(e).replace(/%([sdifo])/g,function(f,g){var h=c[a++];if(!jstestdriver.FORMAT_MAPPINGS[g]){throw new Error(g+"is not a proper format.")}if(h===undefined||h===null){return h}return jstestdriver.FORMAT_MAPPINGS[g](h)});while(a<c.length){var b=c[a++];if(typeof b=="object"){b=jstestdriver.JSON.stringify(b)}d+=" "+b}return d};jstestdriver.Console=function(){this.log_=[]};jstestdriver.Console.prototype.log=function(){this.logStatement("[LOG]",jstestdriver.formatString.apply(this,arguments))};jstestdriver.Console.prototype.debug=function(){this.logStatement("[DEBUG]",jstestdriver.formatString.apply(this,arguments))};jstestdriver.Console.prototype.info=function(){this.logStatement("[INFO]",jstestdriver.formatString.apply(this,arguments))};jstestdriver.Console.prototype.warn=function(){this.logStatement("[WARN]",jstestdriver.formatString.apply(this,arguments))};jstestdriver.Console.prototype.error=function(){this.logStatement("[ERROR]",jstestdriver.formatString.apply(this,arguments))};jstestdriver.Console.prototype.logStatement=function(b,a){this.log_.push(b+" "+a)};jstestdriver.Console.prototype.getLog=function(){var a=this.log_;return a.join("\n")};jstestdriver.Console.prototype.getAndResetLog=function(){var a=this.getLog();this.log_=[];return a};goog.provide("jstestdriver");goog.provide("jstestdriver.setTimeout");goog.require("jstestdriver.Console");goog.require("jstestdriver.runConfig");jstestdriver.global=this;jstestdriver.console=null;jstestdriver.console=new jstestdriver.Console();jstestdriver.SERVER_URL="/query/";jstestdriver.HEARTBEAT_URL="/heartbeat";if(!window["console"]){window["console"]={}}if(typeof window["console"]["log"]=="undefined"){window["console"]["log"]=function(a){}}if(typeof window["console"]["debug"]=="undefined"){window["console"]["debug"]=function(a){}}if(typeof["console"]["info"]=="undefined"){window["console"]["info"]=function(a){}}if(typeof["console"]["warn"]=="undefined"){window["console"]["warn"]=function(a){}}if(typeof["console"]["error"]=="undefined"){window["console"]["error"]=function(a){}}jstestdriver.globalSetTimeout=window.setTimeout;jstestdriver.setTimeout=function(){if(jstestdriver.globalSetTimeout.apply){return jstestdriver.globalSetTimeout.apply(window,arguments)}return jstestdriver.globalSetTimeout(arguments[0],arguments[1])};jstestdriver.globalClearTimeout=clearTimeout;jstestdriver.clearTimeout=function(){if(jstestdriver.globalClearTimeout.apply){return jstestdriver.globalClearTimeout.apply(window,arguments)}return jstestdriver.globalClearTimeout(arguments[0])};jstestdriver.globalSetInterval=setInterval;jstestdriver.setInterval=function(){if(jstestdriver.globalSetInterval.apply){return jstestdriver.globalSetInterval.apply(window,arguments)}return jstestdriver.globalSetInterval(arguments[0],arguments[1])};jstestdriver.globalClearInterval=clearInterval;jstestdriver.clearInterval=function(){if(jstestdriver.globalClearInterval.apply){return jstestdriver.globalClearInterval.apply(window,arguments)}return jstestdriver.globalClearInterval(arguments[0])};jstestdriver.browserLogger={log:function(c,a,b){},debug:function(b,a){},info:function(b,a){},warn:function(b,a){},error:function(b,a){}};jstestdriver.log=function(a){if(jstestdriver.runConfig&&jstestdriver.runConfig.debug){jstestdriver.browserLogger.debug("log",a)}};document.write=function(a){};var noop=jstestdriver.EMPTY_FUNC=function(){};jstestdriver.BrowserLog=function(e,f,c,b,a,d){this.source=e;this.level=f;this.message=c;this.browser=b;this.stack=a;this.timestamp=d};jstestdriver.BrowserLogger=function(a,b){this.sendToServer_=a;this.id_=b};jstestdriver.BrowserLogger.create=function(a,d){var e=parseInt(jstestdriver.extractId(a));var c=a.match(/^(.*)\/(slave|runner|bcr)\//)[1];var b=c+"/log";return new jstestdriver.BrowserLogger(function(f){d({"async":true,"data":"logs="+JSON.stringify(f),"type":"POST","url":b})},e)};jstestdriver.BrowserLogger.prototype.isEnabled_=function(){var a=jstestdriver.runConfig&&jstestdriver.runConfig.debug;this.isEnabled_=function(){return a};return a};jstestdriver.BrowserLogger.prototype.log=function(g,h,f){if(this.isEnabled_()){var e=new Error();var a=e.stack?e.stack.split("\n"):[];var c=[];for(var d=0;a[d];d++){var b=a[d].indexOf("(");if(b>-1){c.push(a[d].substr(0,b).trim())}}c=c.length?c:["No stack available"];this.sendToServer_([new jstestdriver.BrowserLog(g,h,encodeURI(f),{"id":this.id_},encodeURI(c.toString()),new Date())])}};jstestdriver.BrowserLogger.prototype.debug=function(b,a){this.log(b,jstestdriver.BrowserLogger.LEVEL.DEBUG,a)};jstestdriver.BrowserLogger.prototype.info=function(b,a){this.log(b,jstestdriver.BrowserLogger.LEVEL.INFO,a)};jstestdriver.BrowserLogger.prototype.warn=function(b,a){this.log(b,jstestdriver.BrowserLogger.LEVEL.WARN,a)};jstestdriver.BrowserLogger.prototype.error=function(b,a){this.log(b,jstestdriver.BrowserLogger.LEVEL.ERROR,a)};jstestdriver.BrowserLogger.LEVEL={TRACE:1,DEBUG:2,INFO:3,WARN:4,ERROR:5};jstestdriver.browserLogger=jstestdriver.BrowserLogger.create(window.top.location.toString(),function(){jstestdriver.jQuery.ajax.apply(jstestdriver.jQuery,arguments)});
\ No newline at end of file
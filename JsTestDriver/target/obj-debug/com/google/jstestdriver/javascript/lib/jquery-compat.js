@@ -0,0 +1 @@
+jstestdriver.jQuery = jQuery.noConflict(true);
\ No newline at end of file